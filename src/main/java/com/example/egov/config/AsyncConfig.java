@@ -0,0 +1,23 @@
+package com.example.egov.config;
+
+import com.example.egov.config.multitenancy.TenantAwareTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Async execution configuration.
+ * - Enables @Async on the auto-configured applicationTaskExecutor
+ *   (virtual threads when spring.threads.virtual.enabled=true)
+ * - Registers the tenant-propagating TaskDecorator, which Spring Boot applies to that executor
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator tenantAwareTaskDecorator() {
+        return new TenantAwareTaskDecorator();
+    }
+}
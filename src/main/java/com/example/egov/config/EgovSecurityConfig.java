@@ -5,6 +5,7 @@ import com.example.egov.config.security.JwtAuthenticationFilter;
 import com.example.egov.config.security.JwtTokenProvider;
 import com.example.egov.service.auth.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
@@ -41,6 +42,9 @@ public class EgovSecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final CustomPermissionEvaluator customPermissionEvaluator;
 
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -51,6 +55,8 @@ public class EgovSecurityConfig {
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
+                // Reference cache stats and eviction span all tenants
+                .requestMatchers("/actuator/referencecache", "/actuator/referencecache/**").hasRole("SUPER_ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 .anyRequest().authenticated()
             )
@@ -79,9 +85,12 @@ public class EgovSecurityConfig {
         return provider;
     }
 
+    /**
+     * BCrypt cost is configurable; hashes below the configured cost are upgraded on next login
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -0,0 +1,40 @@
+package com.example.egov.config;
+
+import com.example.egov.domain.common.IdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+/**
+ * IdGenerator on its own small connection pool.
+ * - ID blocks are reserved while the caller's transaction still holds a pooled connection;
+ *   from the main pool, callers holding every connection would all wait for one more
+ * - The reserve pool (app.id.pool-size) is not a DataSource bean, so it does not replace
+ *   the auto-configured one; it is closed with the context
+ */
+@Configuration
+public class IdGeneratorConfig implements DisposableBean {
+
+    private HikariDataSource reservePool;
+
+    @Bean
+    public IdGenerator idGenerator(DataSourceProperties properties, @Value("${app.id.pool-size:2}") int poolSize) {
+        reservePool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        reservePool.setPoolName("id-blocks");
+        reservePool.setMaximumPoolSize(poolSize);
+        reservePool.setMinimumIdle(1);
+        return new IdGenerator(new NamedParameterJdbcTemplate(reservePool), new DataSourceTransactionManager(reservePool));
+    }
+
+    @Override
+    public void destroy() {
+        if (reservePool != null) {
+            reservePool.close();
+        }
+    }
+}
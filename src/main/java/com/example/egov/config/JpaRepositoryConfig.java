@@ -0,0 +1,19 @@
+package com.example.egov.config;
+
+import com.example.egov.domain.common.TenantScopedRepositoryImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Spring Data JPA repository configuration.
+ *
+ * - Scans repositories under com.example.egov.domain
+ * - TenantScopedRepositoryImpl as base class for tenant-scoped primary-key lookups
+ */
+@Configuration
+@EnableJpaRepositories(
+        basePackages = "com.example.egov.domain",
+        repositoryBaseClass = TenantScopedRepositoryImpl.class
+)
+public class JpaRepositoryConfig {
+}
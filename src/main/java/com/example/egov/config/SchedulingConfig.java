@@ -0,0 +1,14 @@
+package com.example.egov.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduled job configuration.
+ * - Enables @Scheduled on the auto-configured taskScheduler
+ * - Jobs run without a TenantContext and must scope their own queries
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
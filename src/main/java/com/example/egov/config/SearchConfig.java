@@ -0,0 +1,48 @@
+package com.example.egov.config;
+
+import com.example.egov.service.search.InMemorySearchBackend;
+import com.example.egov.service.search.SearchBackend;
+import com.example.egov.service.search.TrigramSearchBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Search backend selection (app.search.backend)
+ * - trigram: pg_trgm indexes, requires PostgreSQL and the vendor V9 migration
+ * - memory: in-process inverted index, rebuilt per tenant after app.search.refresh-interval
+ * - auto (default): trigram on PostgreSQL, memory otherwise
+ */
+@Slf4j
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public SearchBackend searchBackend(DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate,
+                                       @Value("${app.search.backend:auto}") String backend,
+                                       @Value("${app.search.refresh-interval:5m}") Duration refreshInterval) {
+        String resolved = "auto".equalsIgnoreCase(backend) ? detect(dataSource) : backend.toLowerCase();
+        log.info("Search backend: {}", resolved);
+        return switch (resolved) {
+            case "trigram" -> new TrigramSearchBackend(jdbcTemplate);
+            case "memory" -> new InMemorySearchBackend(jdbcTemplate, refreshInterval);
+            default -> throw new IllegalStateException("Unsupported app.search.backend: " + backend);
+        };
+    }
+
+    private static String detect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            return "PostgreSQL".equalsIgnoreCase(product) ? "trigram" : "memory";
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot detect the database for the search backend", e);
+        }
+    }
+}
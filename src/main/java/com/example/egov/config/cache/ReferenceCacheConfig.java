@@ -0,0 +1,75 @@
+package com.example.egov.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Reference Entity Cache Configuration
+ * - Hibernate second-level cache backed by Caffeine (JCache) for reference entities
+ *   read on most write paths: stages, products, org structure, roles, permissions, menus, codes
+ * - Entity regions are keyed by primary key; IDs are unique across tenants and a row is
+ *   cached for exactly one owner, so tenants cannot observe each other's entries
+ * - Query cache entries carry the tenant filter parameter and the tenantId bind of
+ *   findByIdScoped, so cached query results are partitioned per tenant
+ * - Regions are bounded by size and TTL; Hibernate updates or evicts entries when
+ *   services write through JPA, and bulk statements invalidate the affected region
+ */
+@Slf4j
+@Configuration
+public class ReferenceCacheConfig {
+
+    @Value("${cache.reference.maximum-size:5000}")
+    private long maximumSize;
+
+    @Value("${cache.reference.expire-after-write:30m}")
+    private Duration expireAfterWrite;
+
+    @Value("${cache.reference.query-maximum-size:10000}")
+    private long queryMaximumSize;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceCacheManager() {
+        // Own manager per application context: the provider's default one is shared JVM-wide,
+        // so a second context (e.g. in tests) would find the regions taken and close them on exit
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create(provider.getDefaultURI() + "/reference-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        for (String region : ReferenceCacheRegions.ENTITY_REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(maximumSize, expireAfterWrite));
+        }
+        cacheManager.createCache(ReferenceCacheRegions.QUERY_RESULTS,
+                regionConfiguration(queryMaximumSize, expireAfterWrite));
+        // Timestamps must outlive every cached query result, so this region is never bounded
+        cacheManager.createCache(ReferenceCacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+
+        log.info("Reference cache regions created: maximumSize={}, expireAfterWrite={}", maximumSize, expireAfterWrite);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheHibernateCustomizer(CacheManager referenceCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", referenceCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long size, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(size));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
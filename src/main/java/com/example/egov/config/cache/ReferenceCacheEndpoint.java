@@ -0,0 +1,68 @@
+package com.example.egov.config.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the reference entity cache.
+ * - GET /actuator/referencecache: hit/miss/put counts and size per region
+ * - DELETE /actuator/referencecache/{region}: evict one region
+ * - Both require ROLE_SUPER_ADMIN (see EgovSecurityConfig); the cache is shared by all tenants
+ */
+@Component
+@Endpoint(id = "referencecache")
+@RequiredArgsConstructor
+public class ReferenceCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, RegionStats> regions() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Map<String, RegionStats> regions = new LinkedHashMap<>();
+        for (String region : ReferenceCacheRegions.ENTITY_REGIONS) {
+            regions.put(region, RegionStats.of(statistics.getDomainDataRegionStatistics(region)));
+        }
+        regions.put(ReferenceCacheRegions.QUERY_RESULTS,
+                RegionStats.of(statistics.getQueryRegionStatistics(ReferenceCacheRegions.QUERY_RESULTS)));
+        return regions;
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String region) {
+        if (!ReferenceCacheRegions.ENTITY_REGIONS.contains(region)
+                && !ReferenceCacheRegions.QUERY_RESULTS.equals(region)) {
+            throw new IllegalArgumentException("Unknown cache region: " + region);
+        }
+        sessionFactory().getCache().evictRegion(region);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public record RegionStats(long hits, long misses, long puts, long size, double hitRatio) {
+
+        static RegionStats of(CacheRegionStatistics statistics) {
+            if (statistics == null) {
+                return new RegionStats(0, 0, 0, 0, 0.0);
+            }
+            long hits = statistics.getHitCount();
+            long misses = statistics.getMissCount();
+            long lookups = hits + misses;
+            return new RegionStats(hits, misses, statistics.getPutCount(),
+                    Math.max(statistics.getElementCountInMemory(), -1), lookups == 0 ? 0.0 : (double) hits / lookups);
+        }
+    }
+}
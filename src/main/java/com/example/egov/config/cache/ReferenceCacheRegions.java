@@ -0,0 +1,33 @@
+package com.example.egov.config.cache;
+
+import java.util.List;
+
+/**
+ * Second-level cache region names for reference entities.
+ *
+ * Referenced from the entities' @Cache annotations and used by ReferenceCacheConfig
+ * to create each region with its size and TTL limits up front.
+ */
+public final class ReferenceCacheRegions {
+
+    public static final String PIPELINE_STAGE = "reference.pipeline-stage";
+    public static final String PRODUCT = "reference.product";
+    public static final String BRANCH = "reference.branch";
+    public static final String GROUP = "reference.group";
+    public static final String POSITION = "reference.position";
+    public static final String ROLE = "reference.role";
+    public static final String PERMISSION = "reference.permission";
+    public static final String MENU = "reference.menu";
+    public static final String COMMON_CODE = "reference.common-code";
+
+    /** Hibernate's default query cache regions */
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+            PIPELINE_STAGE, PRODUCT, BRANCH, GROUP, POSITION, ROLE, PERMISSION, MENU, COMMON_CODE);
+
+    private ReferenceCacheRegions() {
+        // Constants class - prevent instantiation
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.egov.config.multitenancy;
+
+/**
+ * Implemented by principals (and other objects) that know which tenant they belong to.
+ * Lets TenantInterceptor resolve the tenant with an instanceof check instead of reflection.
+ */
+public interface TenantAware {
+
+    String getTenantId();
+}
@@ -0,0 +1,24 @@
+package com.example.egov.config.multitenancy;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * HibernateJpaDialect that applies the tenant filter once when a transaction begins,
+ * using the tenant ID from TenantContext.
+ *
+ * Registered on the EntityManagerFactory by TenantFilterConfig.
+ */
+public class TenantAwareHibernateJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        TenantFilterSupport.ensureApplied(entityManager, TenantContext.getCurrentTenantId());
+        return transactionData;
+    }
+}
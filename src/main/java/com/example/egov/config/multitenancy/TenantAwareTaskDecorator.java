@@ -0,0 +1,17 @@
+package com.example.egov.config.multitenancy;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * TaskDecorator that propagates TenantContext to Spring-managed executors.
+ *
+ * Picked up automatically by Spring Boot's applicationTaskExecutor (platform or
+ * virtual threads) and therefore by @Async methods.
+ */
+public class TenantAwareTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TenantPropagation.wrap(runnable);
+    }
+}
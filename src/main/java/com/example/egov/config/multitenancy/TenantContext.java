@@ -21,6 +21,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TenantContext {
 
+    /**
+     * Tenant ID of the platform operator; it may read and modify rows of every tenant.
+     */
+    public static final String SYSTEM_TENANT_ID = "SYSTEM";
+
     private static final ThreadLocal<String> currentTenant = new ThreadLocal<>();
 
     /**
@@ -61,4 +66,13 @@ public class TenantContext {
     public static boolean isSet() {
         return currentTenant.get() != null;
     }
+
+    /**
+     * Checks if the current thread runs as the SYSTEM tenant.
+     *
+     * @return true if the current tenant ID is SYSTEM, false otherwise
+     */
+    public static boolean isSystemTenant() {
+        return SYSTEM_TENANT_ID.equals(currentTenant.get());
+    }
 }
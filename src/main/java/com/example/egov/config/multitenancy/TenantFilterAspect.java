@@ -1,34 +1,34 @@
 package com.example.egov.config.multitenancy;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.hibernate.Filter;
 import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * AOP Aspect for automatically enabling Hibernate tenant filter on all
- * repository operations.
+ * AOP Aspect that keeps the Hibernate tenant filter in line with TenantContext
+ * for repository operations.
  *
- * This aspect intercepts all method calls to JPA repositories and automatically
- * enables
- * the "tenantFilter" Hibernate filter with the current tenant ID from
- * TenantContext.
+ * The filter itself is applied once per transaction by TenantAwareHibernateJpaDialect.
+ * This aspect only guards the cases a transaction-begin hook cannot see:
+ * 1. TenantContext changed inside a running transaction → filter re-applied
+ * 2. Session bound without a transaction (open-in-view) → applied on first use
+ * 3. No session bound at all → applied to the shared EntityManager on every call
  *
- * How it works:
- * 1. Intercepts all repository method calls (via @Around advice)
- * 2. Unwraps Hibernate Session from JPA EntityManager
- * 3. Enables the "tenantFilter" with current tenant ID
- * 4. Proceeds with repository method execution
- * 5. Hibernate automatically adds "WHERE TENANT_ID = :tenantId" to queries
+ * In the common case (same session, same tenant) a repository call costs one
+ * ThreadLocal read and one resource lookup; the Session is not unwrapped.
  *
  * Filter Definition:
  * Must be defined on entity classes using:
- * 
+ *
  * @FilterDef(name = "tenantFilter", parameters = @ParamDef(name = "tenantId",
  *                 type = String.class))
  * @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
@@ -38,11 +38,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class TenantFilterAspect {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
-
     @PersistenceContext
     private EntityManager entityManager;
 
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
     /**
      * Around advice that wraps all repository method calls.
      *
@@ -60,55 +61,31 @@ public class TenantFilterAspect {
      */
     @Around("execution(* com.example.egov.domain..*Repository+.*(..))")
     public Object enableTenantFilter(ProceedingJoinPoint joinPoint) throws Throwable {
-        try {
-            // Get Hibernate Session from JPA EntityManager
-            Session session = entityManager.unwrap(Session.class);
-
-            // Get current tenant ID from context
-            String tenantId = TenantContext.getCurrentTenantId();
-
-            if (tenantId != null) {
-                // SYSTEM tenant can access all data - disable filter
-                if (SYSTEM_TENANT_ID.equals(tenantId)) {
-                    session.disableFilter("tenantFilter");
-                    log.trace("Tenant filter disabled for SYSTEM tenant: {}",
-                            joinPoint.getSignature().toShortString());
-                } else {
-                    // Enable tenant filter for non-SYSTEM tenants
-                    Filter filter = session.enableFilter("tenantFilter");
-                    filter.setParameter("tenantId", tenantId);
-
-                    log.trace("Tenant filter enabled for repository call: {} with tenantId: {}",
-                            joinPoint.getSignature().toShortString(), tenantId);
-                }
-            } else {
-                // Explicitly disable filter if no tenant ID is present
-                session.disableFilter("tenantFilter");
+        String tenantId = TenantContext.getCurrentTenantId();
 
-                log.warn("No tenant ID found in context for repository call: {}. " +
-                        "Filter disabled - this may expose cross-tenant data!",
-                        joinPoint.getSignature().toShortString());
-            }
-
-            // Proceed with repository method execution
-            return joinPoint.proceed();
-
-        } catch (Exception e) {
-            log.error("Error enabling tenant filter for repository call: {}",
-                    joinPoint.getSignature().toShortString(), e);
-            throw e;
+        if (applyFilter(tenantId) && tenantId == null) {
+            log.warn("No tenant ID found in context for repository call: {}. " +
+                    "Filter disabled - this may expose cross-tenant data!",
+                    joinPoint.getSignature().toShortString());
         }
+
+        return joinPoint.proceed();
     }
 
     /**
-     * Alternative pointcut for custom query methods.
-     * Use this if you have custom @Query annotations that need tenant filtering.
+     * Make sure the filter of the session used by the next repository call matches the tenant.
      *
-     * Note: Currently commented out. Uncomment if needed.
+     * @return true if the filter had to be (re)applied
      */
-    // @Around("@annotation(org.springframework.data.jpa.repository.Query)")
-    // public Object enableTenantFilterForCustomQuery(ProceedingJoinPoint joinPoint)
-    // throws Throwable {
-    // return enableTenantFilter(joinPoint);
-    // }
+    boolean applyFilter(String tenantId) {
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder != null) {
+            return TenantFilterSupport.ensureApplied(holder.getEntityManager(), tenantId);
+        }
+
+        // No bound session: the repository will use a short-lived one, nothing to reuse
+        TenantFilterSupport.apply(entityManager.unwrap(Session.class), tenantId);
+        return true;
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.egov.config.multitenancy;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Installs TenantAwareHibernateJpaDialect on the auto-configured EntityManagerFactory,
+ * so every JPA transaction starts with the tenant filter already applied.
+ */
+@Configuration
+public class TenantFilterConfig {
+
+    @Bean
+    public static BeanPostProcessor tenantAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setJpaDialect(new TenantAwareHibernateJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
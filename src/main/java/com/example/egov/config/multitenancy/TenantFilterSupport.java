@@ -0,0 +1,80 @@
+package com.example.egov.config.multitenancy;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Filter;
+import org.hibernate.Session;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+/**
+ * Applies the Hibernate "tenantFilter" to a session and remembers, per thread,
+ * which session/tenant pair it was last applied to.
+ *
+ * Enabling a filter on every repository call means unwrapping the Session and
+ * re-creating the filter each time. Instead the filter is applied when a transaction
+ * begins (TenantAwareHibernateJpaDialect) and repository calls only verify that
+ * the applied tenant still matches TenantContext.
+ *
+ * SYSTEM tenant and missing tenant both run with the filter disabled.
+ */
+public final class TenantFilterSupport {
+
+    public static final String FILTER_NAME = "tenantFilter";
+
+    /** Weak so a closed session is not kept alive by an idle pool thread */
+    private static final ThreadLocal<Applied> lastApplied = new ThreadLocal<>();
+
+    private TenantFilterSupport() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Apply the filter for the tenant unless it is already applied to this EntityManager.
+     *
+     * @return true if the filter was (re)applied, false if already up to date
+     */
+    public static boolean ensureApplied(EntityManager entityManager, String tenantId) {
+        Applied applied = lastApplied.get();
+        if (applied != null && applied.matches(entityManager, tenantId)) {
+            return false;
+        }
+        apply(entityManager.unwrap(Session.class), tenantId);
+        lastApplied.set(new Applied(entityManager, tenantId));
+        return true;
+    }
+
+    /**
+     * Unconditionally enable or disable the filter on a session.
+     */
+    public static void apply(Session session, String tenantId) {
+        if (tenantId == null || TenantContext.SYSTEM_TENANT_ID.equals(tenantId)) {
+            session.disableFilter(FILTER_NAME);
+        } else {
+            Filter filter = session.enableFilter(FILTER_NAME);
+            filter.setParameter("tenantId", tenantId);
+        }
+    }
+
+    /**
+     * Forget the applied state of the current thread.
+     */
+    public static void reset() {
+        lastApplied.remove();
+    }
+
+    private static final class Applied {
+
+        private final WeakReference<EntityManager> entityManager;
+        private final String tenantId;
+
+        Applied(EntityManager entityManager, String tenantId) {
+            this.entityManager = new WeakReference<>(entityManager);
+            this.tenantId = tenantId;
+        }
+
+        boolean matches(EntityManager candidate, String candidateTenantId) {
+            return entityManager.get() == candidate && Objects.equals(tenantId, candidateTenantId);
+        }
+    }
+}
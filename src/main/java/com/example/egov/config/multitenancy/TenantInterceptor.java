@@ -14,24 +14,30 @@ import org.springframework.web.servlet.HandlerInterceptor;
  * Interceptor to extract and set tenant ID from authenticated user.
  *
  * This interceptor runs before each request to:
- * 1. Extract the tenant ID from the authenticated user's principal
+ * 1. Take the tenant ID resolved by JwtAuthenticationFilter (request attribute),
+ *    or read it from a TenantAware principal
  * 2. Store it in TenantContext for use throughout the request lifecycle
  * 3. Clear the context after request completion to prevent memory leaks
  *
  * Flow:
- * - preHandle: Extract tenant ID from Authentication → Set in TenantContext
+ * - preHandle: Resolve tenant ID → Set in TenantContext
  * - afterCompletion: Clear TenantContext to prevent ThreadLocal leaks
  */
 @Slf4j
 @Component
 public class TenantInterceptor implements HandlerInterceptor {
 
+    /**
+     * Request attribute holding the tenant ID already resolved from the JWT claims
+     */
+    public static final String TENANT_ID_ATTRIBUTE = TenantInterceptor.class.getName() + ".tenantId";
+
     @Value("${app.multi-tenancy.default-tenant:SYSTEM}")
     private String defaultTenant;
 
     /**
      * Called before request handler execution.
-     * Extracts tenant ID from authenticated user and sets it in TenantContext.
+     * Resolves the tenant ID and sets it in TenantContext.
      *
      * @param request  current HTTP request
      * @param response current HTTP response
@@ -43,13 +49,14 @@ public class TenantInterceptor implements HandlerInterceptor {
                             @NonNull HttpServletResponse response,
                             @NonNull Object handler) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String tenantId = extractTenantId(authentication);
+        String tenantId = resolveTenantId(request);
 
         // Set tenant ID in context
         TenantContext.setCurrentTenantId(tenantId);
 
-        log.debug("Tenant ID set for request: {} (URI: {})", tenantId, request.getRequestURI());
+        if (log.isDebugEnabled()) {
+            log.debug("Tenant ID set for request: {} (URI: {})", tenantId, request.getRequestURI());
+        }
 
         return true;
     }
@@ -70,51 +77,39 @@ public class TenantInterceptor implements HandlerInterceptor {
                                 Exception ex) {
         // Clear tenant context to prevent ThreadLocal memory leaks
         TenantContext.clear();
-        log.debug("Tenant context cleared for request: {}", request.getRequestURI());
     }
 
     /**
-     * Extracts tenant ID from authentication principal.
+     * Resolves the tenant ID for the request.
      *
-     * Supports multiple principal types:
-     * - CustomUserDetails (when implemented): extracts tenantId directly
-     * - UserDetails with tenant property: uses reflection to get tenantId
-     * - Fallback: uses default system tenant
+     * Order:
+     * - Tenant ID handed over by JwtAuthenticationFilter (claims already decoded)
+     * - TenantAware principal (e.g. CustomUserDetails) in the SecurityContext
+     * - Fallback: default system tenant
+     */
+    String resolveTenantId(HttpServletRequest request) {
+        if (request.getAttribute(TENANT_ID_ATTRIBUTE) instanceof String tenantId && !tenantId.isEmpty()) {
+            return tenantId;
+        }
+        return extractTenantId(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+     * Extracts tenant ID from authentication principal.
      *
      * @param authentication the authentication object
      * @return extracted tenant ID or default tenant
      */
     private String extractTenantId(Authentication authentication) {
-        if (authentication == null || !authentication.isAuthenticated()) {
-            log.debug("No authentication found, using default tenant: {}", defaultTenant);
-            return defaultTenant;
-        }
-
-        Object principal = authentication.getPrincipal();
-
-        // Handle string principal (e.g., "anonymousUser")
-        if (principal instanceof String) {
-            log.debug("String principal detected: {}, using default tenant", principal);
-            return defaultTenant;
-        }
-
-        // Try to extract tenant ID from principal
-        // When CustomUserDetails is implemented, this will work automatically
-        try {
-            // Use reflection to get tenantId if available
-            var getTenantIdMethod = principal.getClass().getMethod("getTenantId");
-            String tenantId = (String) getTenantIdMethod.invoke(principal);
-
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof TenantAware principal) {
+            String tenantId = principal.getTenantId();
             if (tenantId != null && !tenantId.isEmpty()) {
-                log.debug("Extracted tenant ID from principal: {}", tenantId);
                 return tenantId;
             }
-        } catch (Exception e) {
-            log.debug("Could not extract tenant ID from principal: {}", e.getMessage());
         }
 
-        // Fallback to default tenant
-        log.debug("Using default tenant: {}", defaultTenant);
+        // Anonymous, non tenant-aware principal or no tenant: default tenant
         return defaultTenant;
     }
 }
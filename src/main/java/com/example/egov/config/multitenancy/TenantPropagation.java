@@ -0,0 +1,171 @@
+package com.example.egov.config.multitenancy;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carries the current TenantContext over to work executed on other threads.
+ *
+ * Every wrapper captures the tenant ID when it is created and, on the worker thread,
+ * sets it for the duration of the task and then restores whatever was there before.
+ * Restoring (rather than clearing) keeps it correct when the task runs on the calling
+ * thread itself (caller-runs policy, parallel stream), and nothing is left behind on
+ * pooled or virtual threads.
+ *
+ * Usage:
+ *   executor.execute(TenantPropagation.wrap(() -> ...));
+ *   list.parallelStream().map(TenantPropagation.wrapFunction(this::convert))...
+ *   Executor tenantExecutor = TenantPropagation.wrapExecutor(executor);
+ *   List<R> results = TenantPropagation.invokeAll(executor, tasks);
+ */
+public final class TenantPropagation {
+
+    private TenantPropagation() {
+        // Utility class - prevent instantiation
+    }
+
+    public static Runnable wrap(Runnable task) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        return () -> {
+            String previous = TenantContext.getCurrentTenantId();
+            set(tenantId);
+            try {
+                task.run();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrapCallable(Callable<T> task) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        return () -> {
+            String previous = TenantContext.getCurrentTenantId();
+            set(tenantId);
+            try {
+                return task.call();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        return () -> {
+            String previous = TenantContext.getCurrentTenantId();
+            set(tenantId);
+            try {
+                return task.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    public static <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        return input -> {
+            String previous = TenantContext.getCurrentTenantId();
+            set(tenantId);
+            try {
+                return function.apply(input);
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * Streaming response bodies are written on the MVC async executor after the
+     * controller has returned.
+     */
+    public static StreamingResponseBody wrapStreaming(StreamingResponseBody body) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        return outputStream -> {
+            String previous = TenantContext.getCurrentTenantId();
+            set(tenantId);
+            try {
+                body.writeTo(outputStream);
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * Decorate an Executor so every submitted task runs with the submitter's tenant.
+     */
+    public static Executor wrapExecutor(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * Structured fan-out: run all tasks on the executor with the caller's tenant and
+     * wait for all of them. Results are returned in task order. The first task to fail
+     * cancels the others (interrupting running ones, so they should honour interrupts)
+     * and its failure is rethrown.
+     */
+    public static <T> List<T> invokeAll(Executor executor, Collection<? extends Callable<T>> tasks) {
+        List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        for (Callable<T> task : tasks) {
+            futures.add(new FutureTask<>(wrapCallable(task)) {
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    try {
+                        get();
+                    } catch (ExecutionException e) {
+                        if (firstFailure.compareAndSet(null, e.getCause())) {
+                            futures.forEach(sibling -> sibling.cancel(true));
+                        }
+                    } catch (InterruptedException | CancellationException e) {
+                        // Already complete, get() does not block
+                    }
+                }
+            });
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            futures.forEach(executor::execute);
+            for (FutureTask<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException | CancellationException | RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = firstFailure.get() != null ? firstFailure.get()
+                    : e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Fan-out task failed", cause);
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for fan-out tasks", e);
+        }
+    }
+
+    private static void set(String tenantId) {
+        if (tenantId != null) {
+            TenantContext.setCurrentTenantId(tenantId);
+        } else {
+            TenantContext.clear();
+        }
+    }
+}
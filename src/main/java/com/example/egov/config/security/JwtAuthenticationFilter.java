@@ -1,5 +1,7 @@
 package com.example.egov.config.security;
 
+import com.example.egov.config.multitenancy.TenantAware;
+import com.example.egov.config.multitenancy.TenantInterceptor;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +19,7 @@ import java.io.IOException;
  * JWT Authentication Filter
  * - Extracts JWT from Authorization header
  * - Validates token and sets Authentication in SecurityContext
+ * - Exposes the token's tenant ID as a request attribute for TenantInterceptor
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -36,6 +39,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
             Authentication authentication = jwtTokenProvider.getAuthentication(token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication.getPrincipal() instanceof TenantAware principal) {
+                request.setAttribute(TenantInterceptor.TENANT_ID_ATTRIBUTE, principal.getTenantId());
+            }
             log.debug("Set Authentication to SecurityContext for '{}', uri: {}",
                     authentication.getName(), request.getRequestURI());
         }
@@ -54,6 +60,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
+    /**
+     * Public paths skip token parsing; the reference cache endpoint is role-checked, so it needs the token
+     */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -62,6 +71,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                path.startsWith("/h2-console") ||
                path.startsWith("/swagger-ui") ||
                path.startsWith("/v3/api-docs") ||
-               path.startsWith("/actuator");
+               (path.startsWith("/actuator") && !path.startsWith("/actuator/referencecache"));
     }
 }
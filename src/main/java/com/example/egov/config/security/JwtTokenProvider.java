@@ -1,9 +1,17 @@
 package com.example.egov.config.security;
 
 import com.example.egov.domain.auth.CustomUserDetails;
+import com.example.egov.domain.auth.PermissionDictionary;
+import com.example.egov.service.auth.PermissionDictionaryService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,18 +22,29 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * JWT Token Provider
  * - Handles JWT token generation and validation
  * - Stores userId, tenantId, branchId, groupId, positionId, roleIds, permissions, and roles as claims
+ * - Permissions are encoded as a bitset over the tenant's permission dictionary
+ *   (claims "pd" = dictionary size, "pb" = base64url bitset) unless jwt.compact-permissions is false
+ * - Caches verified tokens (keyed by SHA-256 digest) until their own expiration,
+ *   so the HS512 signature and claims are decoded once per token instead of once per call
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+    private final PermissionDictionaryService permissionDictionaryService;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -35,8 +54,18 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidityInSeconds;
 
+    @Value("${jwt.compact-permissions:true}")
+    private boolean compactPermissions;
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
     private SecretKey key;
 
+    private JwtParser parser;
+
+    private Cache<String, VerifiedToken> verifiedTokens;
+
     private static final String AUTHORITIES_KEY = "roles";
     private static final String USER_ID_KEY = "userId";
     private static final String TENANT_ID_KEY = "tenantId";
@@ -45,11 +74,45 @@ public class JwtTokenProvider {
     private static final String POSITION_ID_KEY = "positionId";
     private static final String ROLE_IDS_KEY = "roleIds";
     private static final String PERMISSIONS_KEY = "permissions";
+    private static final String PERMISSION_DICTIONARY_KEY = "pd";
+    private static final String PERMISSION_BITS_KEY = "pb";
 
     @PostConstruct
     protected void init() {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+
+        // JwtParser is immutable and thread-safe, build it once
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+
+        // Entries live exactly as long as the token itself is valid
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return token.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // Exposes cache.gets{result=hit|miss}, cache.size, cache.evictions under /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
     }
 
     /**
@@ -63,15 +126,27 @@ public class JwtTokenProvider {
         long now = System.currentTimeMillis();
         Date validity = new Date(now + (accessTokenValidityInSeconds * 1000));
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userDetails.getEsntlId())
                 .claim(USER_ID_KEY, userDetails.getUserId())
                 .claim(TENANT_ID_KEY, userDetails.getTenantId())
                 .claim(BRANCH_ID_KEY, userDetails.getBranchId())
                 .claim(GROUP_ID_KEY, userDetails.getGroupId())
                 .claim(POSITION_ID_KEY, userDetails.getPositionId())
-                .claim(ROLE_IDS_KEY, new ArrayList<>(userDetails.getRoleIds()))
-                .claim(PERMISSIONS_KEY, new ArrayList<>(userDetails.getPermissions()))
+                .claim(ROLE_IDS_KEY, new ArrayList<>(userDetails.getRoleIds()));
+
+        Set<String> permissions = userDetails.getPermissions();
+        if (compactPermissions && userDetails.getTenantId() != null) {
+            PermissionDictionary dictionary =
+                    permissionDictionaryService.getDictionaryCovering(userDetails.getTenantId(), permissions);
+            byte[] bits = dictionary.encode(permissions).toByteArray();
+            builder.claim(PERMISSION_DICTIONARY_KEY, dictionary.size())
+                    .claim(PERMISSION_BITS_KEY, Base64.getUrlEncoder().withoutPadding().encodeToString(bits));
+        } else {
+            builder.claim(PERMISSIONS_KEY, new ArrayList<>(permissions));
+        }
+
+        return builder
                 .claim(AUTHORITIES_KEY, authoritiesString)
                 .issuedAt(new Date(now))
                 .expiration(validity)
@@ -121,9 +196,15 @@ public class JwtTokenProvider {
     /**
      * Extract Authentication from token
      */
-    @SuppressWarnings("unchecked")
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        return verify(token).getAuthentication();
+    }
+
+    /**
+     * Build Authentication from verified claims (called once per cached token)
+     */
+    @SuppressWarnings("unchecked")
+    private Authentication buildAuthentication(Claims claims) {
 
         String esntlId = claims.getSubject();
         String userId = claims.get(USER_ID_KEY, String.class);
@@ -133,12 +214,9 @@ public class JwtTokenProvider {
         String positionId = claims.get(POSITION_ID_KEY, String.class);
         String authoritiesString = claims.get(AUTHORITIES_KEY, String.class);
 
-        // Parse roleIds and permissions from JWT claims (stored as JSON arrays)
+        // Parse roleIds from JWT claims (stored as JSON array)
         List<String> roleIdsList = claims.get(ROLE_IDS_KEY, List.class);
-        List<String> permissionsList = claims.get(PERMISSIONS_KEY, List.class);
-
         Set<String> roleIds = roleIdsList != null ? new HashSet<>(roleIdsList) : Collections.emptySet();
-        Set<String> permissions = permissionsList != null ? new HashSet<>(permissionsList) : Collections.emptySet();
 
         Collection<? extends GrantedAuthority> authorities;
         if (authoritiesString != null && !authoritiesString.isEmpty()) {
@@ -149,7 +227,7 @@ public class JwtTokenProvider {
             authorities = Collections.emptyList();
         }
 
-        CustomUserDetails principal = CustomUserDetails.customBuilder()
+        CustomUserDetails.Builder principalBuilder = CustomUserDetails.customBuilder()
                 .userId(userId)
                 .password("")
                 .tenantId(tenantId)
@@ -158,9 +236,21 @@ public class JwtTokenProvider {
                 .groupId(groupId)
                 .positionId(positionId)
                 .roleIds(roleIds)
-                .permissions(permissions)
-                .authorities(authorities)
-                .build();
+                .authorities(authorities);
+
+        // Compact tokens carry a bitset; legacy tokens carry the full permission list
+        String permissionBits = claims.get(PERMISSION_BITS_KEY, String.class);
+        if (permissionBits != null && tenantId != null) {
+            Integer dictionarySize = claims.get(PERMISSION_DICTIONARY_KEY, Integer.class);
+            PermissionDictionary dictionary = permissionDictionaryService.getDictionary(
+                    tenantId, dictionarySize != null ? dictionarySize : 0);
+            principalBuilder.permissions(dictionary, BitSet.valueOf(Base64.getUrlDecoder().decode(permissionBits)));
+        } else {
+            List<String> permissionsList = claims.get(PERMISSIONS_KEY, List.class);
+            principalBuilder.permissions(permissionsList != null ? new HashSet<>(permissionsList) : Collections.emptySet());
+        }
+
+        CustomUserDetails principal = principalBuilder.build();
 
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
@@ -170,10 +260,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            verify(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("Invalid JWT signature: {}", e.getMessage());
@@ -191,11 +278,33 @@ public class JwtTokenProvider {
      * Get claims from token
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verify(token).getClaims();
+    }
+
+    /**
+     * Resolve a token from the verified-token cache, parsing and verifying it on a miss.
+     * Only tokens that passed signature and expiration checks are ever cached.
+     */
+    private VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null && !verified.isExpired()) {
+            return verified;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verified = new VerifiedToken(claims);
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -239,4 +348,44 @@ public class JwtTokenProvider {
     public long getRefreshTokenValidityInSeconds() {
         return refreshTokenValidityInSeconds;
     }
+
+    /**
+     * Verified token entry: decoded claims plus the Authentication built from them on first use.
+     * Authentication is built lazily because refresh tokens only carry subject and tenantId.
+     */
+    private class VerifiedToken {
+
+        private final Claims claims;
+        private final long expiresAtMillis;
+        private volatile Authentication authentication;
+
+        VerifiedToken(Claims claims) {
+            this.claims = claims;
+            this.expiresAtMillis = claims.getExpiration() != null
+                    ? claims.getExpiration().getTime()
+                    : Long.MAX_VALUE;
+        }
+
+        Claims getClaims() {
+            return claims;
+        }
+
+        Authentication getAuthentication() {
+            Authentication result = authentication;
+            if (result == null) {
+                result = buildAuthentication(claims);
+                authentication = result;
+            }
+            return result;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+        long remainingNanos() {
+            long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+    }
 }
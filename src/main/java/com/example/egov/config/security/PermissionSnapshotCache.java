@@ -0,0 +1,132 @@
+package com.example.egov.config.security;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Permission Snapshot Cache
+ * - Tenant-scoped cache of user → role IDs (direct and group/branch inherited)
+ *   and role set → effective permission codes
+ * - Shared by login and token refresh so identical lookups hit memory instead of the DB
+ * - Invalidated after commit by PermissionSnapshotListener (UserRole, RolePermission, Permission)
+ *   and by MenuService when a menu and its generated permissions are deleted
+ * - Entries also expire after a fixed time as a safety net for out-of-band DB changes
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionSnapshotCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.permission-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${security.permission-cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    private Cache<UserKey, Set<String>> userRoles;
+
+    private Cache<RoleSetKey, Set<String>> rolePermissions;
+
+    @PostConstruct
+    protected void init() {
+        this.userRoles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.rolePermissions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userRoles, "security.user-roles");
+        CaffeineCacheMetrics.monitor(meterRegistry, rolePermissions, "security.role-permissions");
+    }
+
+    /**
+     * Get role IDs assigned to a user, loading them on a miss.
+     */
+    public Set<String> getRoleIds(String tenantId, String esntlId, Supplier<Set<String>> loader) {
+        return userRoles.get(new UserKey(tenantId, esntlId), key -> Set.copyOf(loader.get()));
+    }
+
+    /**
+     * Get the effective permission codes of a role set, loading them on a miss.
+     * Users with the same role combination share one entry.
+     */
+    public Set<String> getPermissions(String tenantId, Set<String> roleIds, Supplier<Set<String>> loader) {
+        return rolePermissions.get(new RoleSetKey(tenantId, new TreeSet<>(roleIds)), key -> Set.copyOf(loader.get()));
+    }
+
+    /**
+     * Invalidate the cached role IDs of one user.
+     */
+    public void invalidateUser(String tenantId, String esntlId) {
+        afterCommit(() -> userRoles.invalidate(new UserKey(tenantId, esntlId)));
+    }
+
+    /**
+     * Invalidate the cached role IDs of every user in a tenant
+     * (group or branch role inheritance changed).
+     */
+    public void invalidateUsers(String tenantId) {
+        afterCommit(() -> userRoles.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId)));
+    }
+
+    /**
+     * Invalidate the cached role-set permissions of a tenant.
+     * SYSTEM roles are shared by every tenant, so a SYSTEM change clears all entries.
+     */
+    public void invalidateTenant(String tenantId) {
+        afterCommit(() -> {
+            if (tenantId == null || TenantContext.SYSTEM_TENANT_ID.equals(tenantId)) {
+                rolePermissions.invalidateAll();
+            } else {
+                rolePermissions.asMap().keySet().removeIf(key -> tenantId.equals(key.tenantId()));
+            }
+            log.debug("Permission snapshots invalidated for tenant: {}", tenantId);
+        });
+    }
+
+    /**
+     * Defer the eviction until the surrounding transaction commits, so a concurrent
+     * login cannot re-cache the old state in between.
+     */
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private record UserKey(String tenantId, String esntlId) {
+    }
+
+    private record RoleSetKey(String tenantId, SortedSet<String> roleIds) {
+    }
+}
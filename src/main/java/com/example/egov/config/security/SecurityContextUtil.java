@@ -103,7 +103,7 @@ public final class SecurityContextUtil {
      * @param permissionCode Full permission code (e.g., "API:menu:READ")
      */
     public static boolean hasPermission(String permissionCode) {
-        return getCurrentPermissions().contains(permissionCode);
+        return getCurrentUser().map(user -> user.hasPermission(permissionCode)).orElse(false);
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.example.egov.domain.admin;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "BRANCH_ROLES")
+@Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BranchRole {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "BRANCH_ROLE_ID")
+    private Long branchRoleId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "BRANCH_ID", nullable = false)
+    private Branch branch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ROLE_ID", nullable = false)
+    private Role role;
+
+    @Column(name = "ASSIGNED_AT")
+    @CreatedDate
+    private LocalDateTime assignedAt;
+
+    @Column(name = "TENANT_ID", length = 20, nullable = false)
+    private String tenantId;
+}
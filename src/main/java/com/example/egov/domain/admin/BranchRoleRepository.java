@@ -0,0 +1,17 @@
+package com.example.egov.domain.admin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface BranchRoleRepository extends JpaRepository<BranchRole, Long> {
+
+    Optional<BranchRole> findByBranch_BranchIdAndRole_RoleId(String branchId, String roleId);
+
+    @Query("SELECT br.role.roleId FROM BranchRole br WHERE br.branch.branchId IN :branchIds")
+    Set<String> findRoleIdsByBranchIdIn(@Param("branchIds") Collection<String> branchIds);
+}
@@ -1,10 +1,13 @@
 package com.example.egov.domain.admin;
 
+import com.example.egov.config.cache.ReferenceCacheRegions;
 import com.example.egov.domain.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -12,6 +15,7 @@ import org.hibernate.type.SqlTypes;
 @Entity
 @Table(name = "GROUPS")
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.GROUP)
 @Getter
 @Setter
 @NoArgsConstructor
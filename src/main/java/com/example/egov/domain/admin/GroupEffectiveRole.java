@@ -0,0 +1,37 @@
+package com.example.egov.domain.admin;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+
+/**
+ * GroupEffectiveRole entity - materialised role closure of a group.
+ *
+ * One row per role a group member inherits: the group's own GROUP_ROLES plus the
+ * BRANCH_ROLES of the group's branch and every ancestor branch.
+ * Maintained by RoleInheritanceService; never written directly.
+ */
+@Entity
+@Table(name = "GROUP_EFFECTIVE_ROLES")
+@Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@Getter
+@Setter
+@NoArgsConstructor
+public class GroupEffectiveRole {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "GROUP_EFFECTIVE_ROLE_ID")
+    private Long groupEffectiveRoleId;
+
+    @Column(name = "GROUP_ID", length = 20, nullable = false)
+    private String groupId;
+
+    @Column(name = "ROLE_ID", length = 20, nullable = false)
+    private String roleId;
+
+    @Column(name = "TENANT_ID", length = 20, nullable = false)
+    private String tenantId;
+}
@@ -0,0 +1,10 @@
+package com.example.egov.domain.admin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface GroupEffectiveRoleRepository extends JpaRepository<GroupEffectiveRole, Long> {
+
+    List<GroupEffectiveRole> findByGroupId(String groupId);
+}
@@ -1,13 +1,13 @@
 package com.example.egov.domain.admin;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.egov.domain.common.TenantScopedRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GroupRepository extends JpaRepository<Group, String> {
+public interface GroupRepository extends TenantScopedRepository<Group, String> {
 
     boolean existsByGroupId(String groupId);
 
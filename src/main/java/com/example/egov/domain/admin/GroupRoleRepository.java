@@ -0,0 +1,16 @@
+package com.example.egov.domain.admin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.Set;
+
+public interface GroupRoleRepository extends JpaRepository<GroupRole, Long> {
+
+    Optional<GroupRole> findByGroup_GroupIdAndRole_RoleId(String groupId, String roleId);
+
+    @Query("SELECT gr.role.roleId FROM GroupRole gr WHERE gr.group.groupId = :groupId")
+    Set<String> findRoleIdsByGroupId(@Param("groupId") String groupId);
+}
@@ -1,10 +1,13 @@
 package com.example.egov.domain.admin;
 
+import com.example.egov.config.cache.ReferenceCacheRegions;
 import com.example.egov.domain.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -18,6 +21,7 @@ import org.hibernate.type.SqlTypes;
 @Entity
 @Table(name = "MENUS")
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.MENU)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,13 +1,13 @@
 package com.example.egov.domain.admin;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.egov.domain.common.TenantScopedRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends TenantScopedRepository<Menu, Long> {
 
     List<Menu> findByTenantId(String tenantId);
 
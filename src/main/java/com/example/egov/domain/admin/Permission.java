@@ -1,15 +1,21 @@
 package com.example.egov.domain.admin;
 
+import com.example.egov.config.cache.ReferenceCacheRegions;
+import com.example.egov.domain.admin.listener.PermissionSnapshotListener;
 import com.example.egov.domain.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 
 @Entity
 @Table(name = "PERMISSIONS")
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.PERMISSION)
+@EntityListeners(PermissionSnapshotListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,34 @@
+package com.example.egov.domain.admin;
+
+import com.example.egov.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * PermissionDictionaryEntry entity - one slot of a tenant's permission dictionary.
+ *
+ * The dictionary maps permission codes to bit positions used by compact access tokens.
+ * Entries are append-only: a code keeps its CODE_INDEX forever, so tokens issued
+ * against an older (shorter) dictionary remain decodable.
+ * Not tenant-filtered: lookups are always made with an explicit tenant ID.
+ */
+@Entity
+@Table(name = "PERMISSION_DICTIONARY")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PermissionDictionaryEntry extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ENTRY_ID")
+    private Long entryId;
+
+    @Column(name = "CODE_INDEX", nullable = false)
+    private Integer codeIndex;
+
+    @Column(name = "PERMISSION_CODE", length = 100, nullable = false)
+    private String permissionCode;
+}
@@ -1,13 +1,13 @@
 package com.example.egov.domain.admin;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.egov.domain.common.TenantScopedRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PositionRepository extends JpaRepository<Position, String> {
+public interface PositionRepository extends TenantScopedRepository<Position, String> {
 
     boolean existsByPositionId(String positionId);
 
@@ -12,4 +12,7 @@ public interface RolePermissionRepository extends JpaRepository<RolePermission,
 
     @Query("SELECT rp FROM RolePermission rp JOIN FETCH rp.permission WHERE rp.role.roleId IN :roleIds")
     List<RolePermission> findByRoleIdIn(@Param("roleIds") Set<String> roleIds);
+
+    @Query("SELECT DISTINCT p.permissionCode FROM RolePermission rp JOIN rp.permission p WHERE rp.role.roleId IN :roleIds")
+    Set<String> findPermissionCodesByRoleIdIn(@Param("roleIds") Set<String> roleIds);
 }
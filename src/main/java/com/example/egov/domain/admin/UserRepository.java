@@ -3,6 +3,7 @@ package com.example.egov.domain.admin;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,6 +21,13 @@ public interface UserRepository extends JpaRepository<User, String> {
             nativeQuery = true)
     Optional<User> findByUserIdNative(@Param("userId") String userId);
 
+    /**
+     * Update only the password hash (used for rehash-on-login)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :esntlId")
+    int updatePassword(@Param("esntlId") String esntlId, @Param("password") String password);
+
     /**
      * Check if userId already exists
      */
@@ -1,5 +1,6 @@
 package com.example.egov.domain.admin;
 
+import com.example.egov.domain.admin.listener.PermissionSnapshotListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "USER_ROLES")
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, PermissionSnapshotListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,8 +1,23 @@
 package com.example.egov.domain.admin;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
     List<UserRole> findByUser_Id(String userId); // using User.id (esntlId)
+
+    /**
+     * Direct and inherited role IDs of a user in a single query.
+     * Inherited roles come from the materialised GROUP_EFFECTIVE_ROLES closure,
+     * so no recursive branch walk is needed here.
+     */
+    @Query(value = "SELECT ur.ROLE_ID FROM USER_ROLES ur WHERE ur.USER_ID = :esntlId " +
+            "UNION " +
+            "SELECT ger.ROLE_ID FROM GROUP_EFFECTIVE_ROLES ger " +
+            "JOIN USERS u ON u.GROUP_ID = ger.GROUP_ID WHERE u.ESNTL_ID = :esntlId",
+            nativeQuery = true)
+    List<String> findEffectiveRoleIdsByUserId(@Param("esntlId") String esntlId);
 }
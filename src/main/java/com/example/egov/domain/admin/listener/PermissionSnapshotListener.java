@@ -0,0 +1,52 @@
+package com.example.egov.domain.admin.listener;
+
+import com.example.egov.config.security.PermissionSnapshotCache;
+import com.example.egov.domain.admin.Permission;
+import com.example.egov.domain.admin.RolePermission;
+import com.example.egov.domain.admin.UserRole;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA Entity Listener that invalidates cached permission snapshots.
+ *
+ * Registered on UserRole, RolePermission and Permission:
+ * - UserRole change → the user's cached role IDs
+ * - RolePermission / Permission change → the tenant's cached role-set permissions
+ */
+@Component
+public class PermissionSnapshotListener {
+
+    private static PermissionSnapshotCache permissionSnapshotCache;
+
+    /**
+     * Inject PermissionSnapshotCache via setter (required for JPA Entity Listeners).
+     * Entity listeners are not Spring-managed by default, so we use static injection.
+     */
+    @Autowired
+    public void setPermissionSnapshotCache(PermissionSnapshotCache cache) {
+        PermissionSnapshotListener.permissionSnapshotCache = cache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (permissionSnapshotCache == null) {
+            return;
+        }
+
+        if (entity instanceof UserRole userRole) {
+            if (userRole.getUser() != null) {
+                permissionSnapshotCache.invalidateUser(userRole.getTenantId(), userRole.getUser().getId());
+            }
+        } else if (entity instanceof RolePermission rolePermission) {
+            permissionSnapshotCache.invalidateTenant(rolePermission.getTenantId());
+        } else if (entity instanceof Permission permission) {
+            permissionSnapshotCache.invalidateTenant(permission.getTenantId());
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.egov.domain.auth;
 
+import com.example.egov.config.multitenancy.TenantAware;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 
 @Getter
-public class CustomUserDetails extends User {
+public class CustomUserDetails extends User implements TenantAware {
 
     private final String userId;
     private final String tenantId;
@@ -18,7 +21,11 @@ public class CustomUserDetails extends User {
     private final String groupId;
     private final String positionId;
     private final Set<String> roleIds;
-    private final Set<String> permissions;
+    @Getter(AccessLevel.NONE)
+    private volatile Set<String> permissions;
+    private final PermissionDictionary permissionDictionary;
+    @Getter(AccessLevel.NONE)
+    private final BitSet permissionBits;
 
     private CustomUserDetails(Builder builder) {
         super(builder.userId, builder.password, builder.authorities);
@@ -29,14 +36,35 @@ public class CustomUserDetails extends User {
         this.groupId = builder.groupId;
         this.positionId = builder.positionId;
         this.roleIds = builder.roleIds != null ? builder.roleIds : Collections.emptySet();
-        this.permissions = builder.permissions != null ? builder.permissions : Collections.emptySet();
+        this.permissionDictionary = builder.permissionDictionary;
+        this.permissionBits = builder.permissionBits;
+        if (permissionDictionary == null) {
+            this.permissions = builder.permissions != null ? builder.permissions : Collections.emptySet();
+        }
     }
 
     public static Builder customBuilder() {
         return new Builder();
     }
 
+    /**
+     * Permission codes granted to the user. For users restored from a compact token
+     * the set is decoded from the bitset on first access.
+     */
+    public Set<String> getPermissions() {
+        Set<String> result = permissions;
+        if (result == null) {
+            result = permissionDictionary.decode(permissionBits);
+            permissions = result;
+        }
+        return result;
+    }
+
     public boolean hasPermission(String permissionCode) {
+        if (permissionDictionary != null) {
+            int index = permissionDictionary.indexOf(permissionCode);
+            return index >= 0 && permissionBits.get(index);
+        }
         return permissions.contains(permissionCode);
     }
 
@@ -54,6 +82,8 @@ public class CustomUserDetails extends User {
         private String positionId;
         private Set<String> roleIds;
         private Set<String> permissions;
+        private PermissionDictionary permissionDictionary;
+        private BitSet permissionBits;
         private Collection<? extends GrantedAuthority> authorities;
 
         public Builder userId(String userId) {
@@ -101,6 +131,16 @@ public class CustomUserDetails extends User {
             return this;
         }
 
+        /**
+         * Compact alternative to {@link #permissions(Set)}: bit i set means the user holds
+         * the i-th code of the dictionary.
+         */
+        public Builder permissions(PermissionDictionary dictionary, BitSet bits) {
+            this.permissionDictionary = dictionary;
+            this.permissionBits = bits;
+            return this;
+        }
+
         public Builder authorities(Collection<? extends GrantedAuthority> authorities) {
             this.authorities = authorities;
             return this;
@@ -0,0 +1,82 @@
+package com.example.egov.domain.auth;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of a tenant's permission dictionary.
+ *
+ * Each permission code owns a fixed bit position, so a user's permission set can be
+ * carried as a bitset instead of a list of strings. Dictionaries only ever grow by
+ * appending; a longer snapshot can decode any bitset encoded against a shorter one.
+ */
+public final class PermissionDictionary {
+
+    private final String tenantId;
+    private final List<String> codes;
+    private final Map<String, Integer> indexByCode;
+
+    public PermissionDictionary(String tenantId, List<String> codes) {
+        this.tenantId = tenantId;
+        this.codes = List.copyOf(codes);
+        Map<String, Integer> index = new HashMap<>(this.codes.size() * 2);
+        for (int i = 0; i < this.codes.size(); i++) {
+            index.put(this.codes.get(i), i);
+        }
+        this.indexByCode = index;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * @return the bit position of the code, or -1 if the dictionary does not know it
+     */
+    public int indexOf(String permissionCode) {
+        Integer index = indexByCode.get(permissionCode);
+        return index != null ? index : -1;
+    }
+
+    public boolean containsAll(Collection<String> permissionCodes) {
+        for (String code : permissionCodes) {
+            if (!indexByCode.containsKey(code)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public BitSet encode(Collection<String> permissionCodes) {
+        BitSet bits = new BitSet(codes.size());
+        for (String code : permissionCodes) {
+            int index = indexOf(code);
+            if (index < 0) {
+                throw new IllegalArgumentException("Permission code not in dictionary: " + code);
+            }
+            bits.set(index);
+        }
+        return bits;
+    }
+
+    public Set<String> decode(BitSet bits) {
+        Set<String> result = new HashSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0 && i < codes.size(); i = bits.nextSetBit(i + 1)) {
+            result.add(codes.get(i));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Returns a new snapshot with the given codes appended after the existing ones.
+     */
+    public PermissionDictionary append(Collection<String> newCodes) {
+        List<String> extended = new ArrayList<>(codes.size() + newCodes.size());
+        extended.addAll(codes);
+        extended.addAll(newCodes);
+        return new PermissionDictionary(tenantId, extended);
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.egov.domain.common;
 
+import com.example.egov.config.cache.ReferenceCacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -18,6 +21,7 @@ import org.hibernate.type.SqlTypes;
 @Table(name = "COMMON_CODES")
 
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.COMMON_CODE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,17 @@
+package com.example.egov.domain.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * nextCursor is an opaque token for the following page and is null on the last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext, int size) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor, hasNext, size);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.egov.domain.common;
+
+/**
+ * Cursor page request bound from the query string (?cursor=...&size=...).
+ *
+ * - cursor: opaque nextCursor of the previous page, absent for the first page
+ * - size: requested page size, clamped by KeysetPager to the configured maximum
+ */
+public record CursorRequest(String cursor, Integer size) {
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.egov.domain.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compiles a request FilterSpec into a single Querydsl predicate.
+ *
+ * - Fields are resolved against the FilterFields allow-list; anything else is a 400
+ * - The resolved tree is cached per query shape (field set + fields/operators/nesting),
+ *   so repeated shapes only validate and bind their values
+ * - Values are bound as parameters, so one shape maps to one JPQL string and one
+ *   Hibernate query plan (IN lists are padded by hibernate.query.in_clause_parameter_padding)
+ */
+@Component
+@RequiredArgsConstructor
+public class FilterCompiler {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.filter.shape-cache-size:1000}")
+    private long shapeCacheSize;
+
+    @Value("${app.filter.max-conditions:20}")
+    private int maxConditions;
+
+    @Value("${app.filter.max-in-values:500}")
+    private int maxInValues;
+
+    private Cache<String, Node> shapes;
+
+    @PostConstruct
+    protected void init() {
+        this.shapes = Caffeine.newBuilder()
+                .maximumSize(shapeCacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, shapes, "filter.query-shapes");
+    }
+
+    /**
+     * @return predicate for the filter, or null when there is no filter
+     */
+    public Predicate compile(FilterFields<?> fields, FilterSpec filter) {
+        if (filter == null) {
+            return null;
+        }
+        StringBuilder shape = new StringBuilder(fields.name()).append(':');
+        appendShape(filter, shape, new int[1]);
+        return shapes.get(shape.toString(), key -> compileNode(fields, filter)).bind(filter);
+    }
+
+    /**
+     * Validate the request tree and write its shape, e.g. "opportunity:and(stageId IN,or(branchId EQ,...))".
+     */
+    private void appendShape(FilterSpec spec, StringBuilder shape, int[] conditions) {
+        if (spec.isGroup()) {
+            if (spec.and() != null && spec.or() != null) {
+                throw new IllegalArgumentException("Filter group must be either 'and' or 'or'");
+            }
+            if (spec.field() != null) {
+                throw new IllegalArgumentException("Filter group cannot have a field");
+            }
+            if (spec.children().isEmpty()) {
+                throw new IllegalArgumentException("Filter group must not be empty");
+            }
+            shape.append(spec.and() != null ? "and(" : "or(");
+            for (FilterSpec child : spec.children()) {
+                if (child == null) {
+                    throw new IllegalArgumentException("Filter group must not contain null");
+                }
+                appendShape(child, shape, conditions);
+                shape.append(',');
+            }
+            shape.append(')');
+            return;
+        }
+
+        if (spec.field() == null || spec.field().isBlank()) {
+            throw new IllegalArgumentException("Filter condition requires a field");
+        }
+        if (++conditions[0] > maxConditions) {
+            throw new IllegalArgumentException("Filter has more than " + maxConditions + " conditions");
+        }
+        FilterOperator op = operator(spec);
+        switch (op) {
+            case EQ, PREFIX -> {
+                if (spec.value() == null) {
+                    throw new IllegalArgumentException("Filter on " + spec.field() + " requires a value");
+                }
+            }
+            case IN -> {
+                if (spec.values() == null || spec.values().isEmpty()) {
+                    throw new IllegalArgumentException("Filter on " + spec.field() + " requires values");
+                }
+                if (spec.values().size() > maxInValues) {
+                    throw new IllegalArgumentException("Filter on " + spec.field() + " has more than " + maxInValues + " values");
+                }
+            }
+            case RANGE -> {
+                if (spec.from() == null && spec.to() == null) {
+                    throw new IllegalArgumentException("Filter on " + spec.field() + " requires from or to");
+                }
+            }
+        }
+        shape.append(spec.field()).append(' ').append(op);
+    }
+
+    private Node compileNode(FilterFields<?> fields, FilterSpec spec) {
+        if (spec.isGroup()) {
+            List<Node> children = new ArrayList<>(spec.children().size());
+            for (FilterSpec child : spec.children()) {
+                children.add(compileNode(fields, child));
+            }
+            return new Group(spec.and() != null, List.copyOf(children));
+        }
+
+        FilterFields.Field field = fields.field(spec.field());
+        FilterOperator op = operator(spec);
+        if (op == FilterOperator.PREFIX && field.type() != String.class) {
+            throw new IllegalArgumentException("Prefix filter is not supported on " + field.name());
+        }
+        return new Condition(field.name(), op, field.expression(), converter(field.type()));
+    }
+
+    private static FilterOperator operator(FilterSpec spec) {
+        return spec.op() != null ? spec.op() : FilterOperator.EQ;
+    }
+
+    private static Function<Object, Object> converter(Class<?> type) {
+        if (type == String.class) {
+            return Object::toString;
+        }
+        if (type == Integer.class) {
+            return value -> value instanceof Number number ? number.intValue() : Integer.valueOf(value.toString().trim());
+        }
+        if (type == Long.class) {
+            return value -> value instanceof Number number ? number.longValue() : Long.valueOf(value.toString().trim());
+        }
+        if (type == BigDecimal.class) {
+            return value -> new BigDecimal(value.toString().trim());
+        }
+        if (type == LocalDate.class) {
+            return value -> LocalDate.parse(value.toString().trim());
+        }
+        if (type == LocalDateTime.class) {
+            return value -> LocalDateTime.parse(value.toString().trim());
+        }
+        throw new IllegalStateException("Unsupported filter field type: " + type.getName());
+    }
+
+    /**
+     * Compiled shape; binds the values of a request with the same shape.
+     */
+    private interface Node {
+        Predicate bind(FilterSpec spec);
+    }
+
+    private record Group(boolean and, List<Node> children) implements Node {
+
+        @Override
+        public Predicate bind(FilterSpec spec) {
+            List<FilterSpec> specs = spec.children();
+            BooleanBuilder predicate = new BooleanBuilder();
+            for (int i = 0; i < children.size(); i++) {
+                Predicate child = children.get(i).bind(specs.get(i));
+                if (and) {
+                    predicate.and(child);
+                } else {
+                    predicate.or(child);
+                }
+            }
+            return predicate.getValue();
+        }
+    }
+
+    private record Condition(String field, FilterOperator op, Expression<?> expression,
+                             Function<Object, Object> converter) implements Node {
+
+        @Override
+        public Predicate bind(FilterSpec spec) {
+            return switch (op) {
+                case EQ -> Expressions.booleanOperation(Ops.EQ, expression, constant(spec.value()));
+                case PREFIX -> Expressions.booleanOperation(Ops.STARTS_WITH, expression, constant(spec.value()));
+                case IN -> Expressions.booleanOperation(Ops.IN, expression,
+                        Expressions.constant(spec.values().stream().map(this::convert).toList()));
+                case RANGE -> {
+                    BooleanBuilder range = new BooleanBuilder();
+                    if (spec.from() != null) {
+                        range.and(Expressions.booleanOperation(Ops.GOE, expression, constant(spec.from())));
+                    }
+                    if (spec.to() != null) {
+                        range.and(Expressions.booleanOperation(Ops.LOE, expression, constant(spec.to())));
+                    }
+                    yield range.getValue();
+                }
+            };
+        }
+
+        private Expression<Object> constant(Object value) {
+            return Expressions.constant(convert(value));
+        }
+
+        private Object convert(Object value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Filter on " + field + " has a null value");
+            }
+            try {
+                return converter.apply(value);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for filter field " + field + ": " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.egov.domain.common;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Allow-list of the fields a list query may filter and sort on.
+ *
+ * Only indexed columns are registered, so a client-built filter cannot turn into a
+ * scan of an unindexed column. Sortable fields also carry the row getter KeysetPager
+ * needs for cursors; the default sort is always allowed.
+ */
+public final class FilterFields<R> {
+
+    private final String name;
+    private final KeysetSort<R, ?> defaultSort;
+    private final Map<String, Field> fields;
+    private final Map<String, KeysetSort<R, ?>> sorts;
+
+    private FilterFields(Builder<R> builder) {
+        this.name = builder.name;
+        this.defaultSort = builder.defaultSort;
+        this.fields = Map.copyOf(builder.fields);
+        this.sorts = Map.copyOf(builder.sorts);
+    }
+
+    public static <R> Builder<R> builder(String name, KeysetSort<R, ?> defaultSort) {
+        return new Builder<>(name, defaultSort);
+    }
+
+    /**
+     * Key of this field set in the query-shape cache.
+     */
+    public String name() {
+        return name;
+    }
+
+    public Field field(String fieldName) {
+        Field field = fields.get(fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("Unsupported filter field: " + fieldName);
+        }
+        return field;
+    }
+
+    /**
+     * Sort by an allowed field; null name keeps the default sort, null direction the field's own.
+     */
+    public KeysetSort<R, ?> sort(String sortName, String direction) {
+        KeysetSort<R, ?> sort = sortName == null || sortName.isBlank() ? defaultSort : sorts.get(sortName);
+        if (sort == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortName);
+        }
+        if (direction == null || direction.isBlank()) {
+            return sort;
+        }
+        return switch (direction.trim().toUpperCase()) {
+            case "ASC" -> sort.withDirection(Order.ASC);
+            case "DESC" -> sort.withDirection(Order.DESC);
+            default -> throw new IllegalArgumentException("Unsupported sort direction: " + direction);
+        };
+    }
+
+    public record Field(String name, ComparableExpressionBase<?> expression, Class<?> type) {
+    }
+
+    public static final class Builder<R> {
+
+        private final String name;
+        private final KeysetSort<R, ?> defaultSort;
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+        private final Map<String, KeysetSort<R, ?>> sorts = new LinkedHashMap<>();
+
+        private Builder(String name, KeysetSort<R, ?> defaultSort) {
+            this.name = name;
+            this.defaultSort = defaultSort;
+            fields.put(defaultSort.name(), new Field(defaultSort.name(), defaultSort.expression(), defaultSort.type()));
+            sorts.put(defaultSort.name(), defaultSort);
+        }
+
+        public <V extends Comparable<?>> Builder<R> field(
+                String fieldName, ComparableExpressionBase<V> expression, Class<V> type) {
+            fields.put(fieldName, new Field(fieldName, expression, type));
+            return this;
+        }
+
+        /**
+         * Filterable field that can also be sorted on (ascending unless the request says otherwise).
+         */
+        public <V extends Comparable<? super V>> Builder<R> sortable(
+                String fieldName, ComparableExpressionBase<V> expression, Function<R, V> getter,
+                Class<V> type, boolean nullable) {
+            field(fieldName, expression, type);
+            sorts.put(fieldName, new KeysetSort<>(fieldName, expression, getter, type, Order.ASC, nullable));
+            return this;
+        }
+
+        public FilterFields<R> build() {
+            return new FilterFields<>(this);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.egov.domain.common;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * Comparison of a single filter condition.
+ *
+ * - EQ: field = value
+ * - IN: field in values
+ * - RANGE: from <= field <= to, either bound optional
+ * - PREFIX: field starts with value (string fields only)
+ */
+public enum FilterOperator {
+    EQ,
+    IN,
+    RANGE,
+    PREFIX;
+
+    @JsonCreator
+    public static FilterOperator from(String value) {
+        if (value == null || value.isBlank()) {
+            return EQ;
+        }
+        try {
+            return FilterOperator.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported filter operator: " + value);
+        }
+    }
+}
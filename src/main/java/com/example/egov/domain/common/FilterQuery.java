@@ -0,0 +1,15 @@
+package com.example.egov.domain.common;
+
+/**
+ * Body of a list query endpoint (POST .../query).
+ *
+ * - filter: optional FilterSpec tree over the entity's allow-listed fields
+ * - sort / direction: sortable field and asc|desc, defaults to createdDate DESC
+ * - cursor / size: keyset paging as in CursorRequest; the cursor is bound to the sort
+ */
+public record FilterQuery(FilterSpec filter, String sort, String direction, String cursor, Integer size) {
+
+    public CursorRequest page() {
+        return new CursorRequest(cursor, size);
+    }
+}
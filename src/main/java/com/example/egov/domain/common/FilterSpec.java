@@ -0,0 +1,31 @@
+package com.example.egov.domain.common;
+
+import java.util.List;
+
+/**
+ * Filter tree of a query request; a node is either a condition or a group.
+ *
+ * - condition: field + op with value (EQ, PREFIX), values (IN) or from/to (RANGE)
+ * - group: and / or of child nodes
+ *
+ * Example: {"and": [{"field": "stageId", "op": "in", "values": ["STG001", "STG002"]},
+ *                   {"field": "expectedCloseDate", "op": "range", "from": "2025-01-01"}]}
+ */
+public record FilterSpec(
+        String field,
+        FilterOperator op,
+        Object value,
+        List<Object> values,
+        Object from,
+        Object to,
+        List<FilterSpec> and,
+        List<FilterSpec> or) {
+
+    public boolean isGroup() {
+        return and != null || or != null;
+    }
+
+    public List<FilterSpec> children() {
+        return and != null ? and : or;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.egov.domain.common;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prefixed entity IDs, e.g. "CUS00000000000001234" (3-letter prefix + 17 digits).
+ *
+ * - Hi/lo: blocks of app.id.block-size values are reserved per prefix from ID_BLOCKS,
+ *   in their own transaction, so a rolled-back insert never returns its block
+ * - That transaction runs on a separate small pool (see IdGeneratorConfig), never on a
+ *   second connection from the pool the caller's transaction already holds one of
+ * - Within a block IDs are handed out with an atomic increment; only the thread that
+ *   exhausts a block takes the prefix lock to reserve the next one
+ * - Values unused at shutdown are skipped, never reissued
+ */
+@Slf4j
+public class IdGenerator {
+
+    public static final int ID_LENGTH = 20;
+    private static final int PREFIX_LENGTH = 3;
+    private static final long MAX_VALUE = 99_999_999_999_999_999L;
+
+    private static final String RESERVE_SQL = """
+            UPDATE ID_BLOCKS
+               SET NEXT_VALUE = NEXT_VALUE + :blockSize, UPDATED_DATE = CURRENT_TIMESTAMP
+             WHERE ID_PREFIX = :prefix
+            """;
+    private static final String RESERVED_SQL = "SELECT NEXT_VALUE FROM ID_BLOCKS WHERE ID_PREFIX = :prefix";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.id.block-size:100}")
+    private int blockSize;
+
+    private final Map<String, Sequence> sequences = new ConcurrentHashMap<>();
+    private TransactionTemplate reserveTransaction;
+
+    /**
+     * @param jdbcTemplate       on the reserve pool
+     * @param transactionManager of the reserve pool
+     */
+    public IdGenerator(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+    }
+
+    @PostConstruct
+    protected void init() {
+        if (blockSize < 1) {
+            throw new IllegalStateException("app.id.block-size must be positive: " + blockSize);
+        }
+        reserveTransaction = new TransactionTemplate(transactionManager);
+        reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String nextId(String prefix) {
+        if (prefix == null || prefix.length() != PREFIX_LENGTH) {
+            throw new IllegalArgumentException("ID prefix must be " + PREFIX_LENGTH + " characters: " + prefix);
+        }
+        long value = sequences.computeIfAbsent(prefix, Sequence::new).next();
+        return format(prefix, value);
+    }
+
+    static String format(String prefix, long value) {
+        if (value > MAX_VALUE) {
+            throw new IllegalStateException("ID space exhausted for prefix " + prefix);
+        }
+        StringBuilder id = new StringBuilder(ID_LENGTH).append(prefix);
+        String digits = Long.toString(value);
+        for (int i = PREFIX_LENGTH + digits.length(); i < ID_LENGTH; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+
+    /**
+     * Reserve [next - blockSize, next): the UPDATE row lock serialises nodes, and the
+     * SELECT in the same transaction reads our own increment.
+     */
+    private Block reserve(String prefix) {
+        Map<String, Object> params = Map.of("prefix", prefix, "blockSize", blockSize);
+        Long next = reserveTransaction.execute(status -> {
+            if (jdbcTemplate.update(RESERVE_SQL, params) == 0) {
+                throw new IllegalStateException("Unknown ID prefix (no ID_BLOCKS row): " + prefix);
+            }
+            return jdbcTemplate.queryForObject(RESERVED_SQL, params, Long.class);
+        });
+        log.debug("Reserved ID block {}[{}, {})", prefix, next - blockSize, next);
+        return new Block(new AtomicLong(next - blockSize), next);
+    }
+
+    private record Block(AtomicLong cursor, long limit) {
+
+        static final Block EMPTY = new Block(new AtomicLong(), 0);
+    }
+
+    private final class Sequence {
+
+        private final String prefix;
+        private volatile Block block = Block.EMPTY;
+
+        Sequence(String prefix) {
+            this.prefix = prefix;
+        }
+
+        long next() {
+            while (true) {
+                Block current = block;
+                long value = current.cursor().getAndIncrement();
+                if (value < current.limit()) {
+                    return value;
+                }
+                synchronized (this) {
+                    if (block == current) {
+                        block = reserve(prefix);
+                    }
+                }
+            }
+        }
+    }
+}
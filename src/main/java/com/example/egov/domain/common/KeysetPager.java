@@ -0,0 +1,117 @@
+package com.example.egov.domain.common;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination over Querydsl entity paths.
+ *
+ * Each page is fetched as "WHERE <filter> AND (sort, id) after <cursor>
+ * ORDER BY sort, id LIMIT size + 1"; the extra row only signals that a next page
+ * exists. Unlike offset paging the cost of a page does not grow with its depth.
+ * Page size is clamped to app.pagination.max-size.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPager {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Value("${app.pagination.default-size:50}")
+    private int defaultSize;
+
+    @Value("${app.pagination.max-size:200}")
+    private int maxSize;
+
+    public <T, V extends Comparable<? super V>> CursorPage<T> page(
+            EntityPathBase<T> entity,
+            Predicate filter,
+            KeysetSort<T, V> sort,
+            StringPath id,
+            Function<T, String> idGetter,
+            CursorRequest request) {
+        return page(queryFactory.selectFrom(entity), filter, sort, id, idGetter, request);
+    }
+
+    /**
+     * Page over a prepared select (projection and joins); sort and ID getters read the projected row.
+     */
+    public <R, V extends Comparable<? super V>> CursorPage<R> page(
+            JPAQuery<R> query,
+            Predicate filter,
+            KeysetSort<R, V> sort,
+            StringPath id,
+            Function<R, String> idGetter,
+            CursorRequest request) {
+
+        int size = resolveSize(request);
+        BooleanBuilder where = new BooleanBuilder().and(filter);
+        if (request != null && request.hasCursor()) {
+            where.and(after(sort, id, PageCursor.decode(request.cursor())));
+        }
+
+        List<R> rows = query
+                .where(where)
+                .orderBy(sort.orderSpecifier(), sort.ascending() ? id.asc() : id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, false, size);
+        }
+        List<R> items = rows.subList(0, size);
+        R last = items.get(size - 1);
+        String nextCursor = new PageCursor(sort.name(), sort.getter().apply(last), idGetter.apply(last)).encode();
+        return new CursorPage<>(List.copyOf(items), nextCursor, true, size);
+    }
+
+    int resolveSize(CursorRequest request) {
+        if (request == null || request.size() == null || request.size() < 1) {
+            return Math.min(defaultSize, maxSize);
+        }
+        return Math.min(request.size(), maxSize);
+    }
+
+    /**
+     * Rows strictly after the cursor position in (sort, id) order, nulls last.
+     */
+    private <T, V extends Comparable<? super V>> BooleanExpression after(
+            KeysetSort<T, V> sort, StringPath id, PageCursor cursor) {
+
+        if (!sort.name().equals(cursor.sort())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort: " + sort.name());
+        }
+        BooleanExpression idAfter = sort.ascending() ? id.gt(cursor.id()) : id.lt(cursor.id());
+
+        if (cursor.value() == null) {
+            if (!sort.nullable()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return sort.expression().isNull().and(idAfter);
+        }
+        if (!sort.type().isInstance(cursor.value())) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        V value = sort.type().cast(cursor.value());
+        BooleanExpression valueAfter = Expressions.booleanOperation(
+                sort.ascending() ? Ops.GT : Ops.LT, sort.expression(), Expressions.constant(value));
+        BooleanExpression sameValue = Expressions.booleanOperation(
+                Ops.EQ, sort.expression(), Expressions.constant(value));
+        BooleanExpression after = valueAfter.or(sameValue.and(idAfter));
+        return sort.nullable() ? after.or(sort.expression().isNull()) : after;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.egov.domain.common;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimePath;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Sort key of a keyset-paginated query; rows are ordered by (expression, ID).
+ *
+ * - name: stable key embedded in cursors
+ * - getter: reads the sort value from the last row to build the next cursor
+ * - nullable: null values are ordered last in both directions
+ */
+public record KeysetSort<T, V extends Comparable<? super V>>(
+        String name,
+        ComparableExpressionBase<V> expression,
+        Function<T, V> getter,
+        Class<V> type,
+        Order direction,
+        boolean nullable) {
+
+    /**
+     * Newest first by CREATED_DATE; the default for list endpoints.
+     */
+    public static <T extends BaseEntity> KeysetSort<T, LocalDateTime> newestFirst(DateTimePath<LocalDateTime> createdDate) {
+        return newestFirst(createdDate, BaseEntity::getCreatedDate);
+    }
+
+    /**
+     * Newest first by CREATED_DATE, read from a projected row.
+     */
+    public static <T> KeysetSort<T, LocalDateTime> newestFirst(
+            DateTimePath<LocalDateTime> createdDate, Function<T, LocalDateTime> getter) {
+        return new KeysetSort<>("createdDate", createdDate, getter, LocalDateTime.class, Order.DESC, false);
+    }
+
+    /**
+     * Same key in the given direction; the cursor name is unchanged.
+     */
+    public KeysetSort<T, V> withDirection(Order order) {
+        return order == direction ? this : new KeysetSort<>(name, expression, getter, type, order, nullable);
+    }
+
+    public boolean ascending() {
+        return direction == Order.ASC;
+    }
+
+    public OrderSpecifier<V> orderSpecifier() {
+        return nullable
+                ? new OrderSpecifier<>(direction, expression, OrderSpecifier.NullHandling.NullsLast)
+                : new OrderSpecifier<>(direction, expression);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.egov.domain.common;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Decoded keyset position: the sort key name, the sort column value and the ID
+ * of the last row of a page.
+ *
+ * Encoded as base64url of "sort␟type␟id␟value". Clients must treat the token as
+ * opaque; the sort name is embedded so a cursor cannot be replayed against a
+ * different ordering.
+ */
+public record PageCursor(String sort, Object value, String id) {
+
+    private static final String SEPARATOR = "\u001F";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        String payload = sort + SEPARATOR + typeOf(value) + SEPARATOR + id + SEPARATOR
+                + (value == null ? "" : value.toString());
+        return ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String payload = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] parts = payload.split(SEPARATOR, 4);
+            if (parts.length != 4 || parts[0].isEmpty() || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageCursor(parts[0], parseValue(parts[1], parts[3]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static String typeOf(Object value) {
+        if (value == null) {
+            return "0";
+        }
+        if (value instanceof LocalDateTime) {
+            return "T";
+        }
+        if (value instanceof LocalDate) {
+            return "D";
+        }
+        if (value instanceof String) {
+            return "S";
+        }
+        if (value instanceof Integer) {
+            return "I";
+        }
+        if (value instanceof Long) {
+            return "L";
+        }
+        if (value instanceof BigDecimal) {
+            return "N";
+        }
+        throw new IllegalStateException("Unsupported cursor value type: " + value.getClass().getName());
+    }
+
+    private static Object parseValue(String type, String raw) {
+        return switch (type) {
+            case "0" -> null;
+            case "T" -> LocalDateTime.parse(raw);
+            case "D" -> LocalDate.parse(raw);
+            case "S" -> raw;
+            case "I" -> Integer.valueOf(raw);
+            case "L" -> Long.valueOf(raw);
+            case "N" -> new BigDecimal(raw);
+            default -> throw new IllegalArgumentException("Invalid cursor");
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.egov.domain.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Cheap version of a resource or of a tenant's collection, read without loading rows.
+ *
+ * - lastModified: latest COALESCE(UPDATED_DATE, CREATED_DATE), null for an empty collection
+ * - count: number of rows, so a delete changes the version even though no timestamp moves
+ */
+public record ResourceVersion(long count, LocalDateTime lastModified) {
+
+    /**
+     * Weak ETag, e.g. W/"12-1a2b3c"; weak because it is not derived from the serialised bytes.
+     */
+    public String etag() {
+        long micros = lastModified == null ? 0
+                : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModified);
+        return "W/\"" + count + "-" + Long.toString(micros, 36) + "\"";
+    }
+
+    /**
+     * Last-Modified in epoch millis (server time zone), -1 when unknown.
+     */
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
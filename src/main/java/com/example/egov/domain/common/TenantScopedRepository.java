@@ -0,0 +1,46 @@
+package com.example.egov.domain.common;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Optional;
+
+/**
+ * Repository base for tenant-owned entities.
+ *
+ * findById goes through EntityManager.find, which Hibernate filters never reach,
+ * so a row of another tenant would be loaded and had to be checked afterwards.
+ * The scoped variants put the tenant predicate into the SQL instead:
+ * - WHERE <id> = ? AND TENANT_ID = ?
+ * - SYSTEM tenant: plain primary-key lookup across all tenants
+ * - No tenant in context: nothing is found
+ *
+ * Version probes (conditional GET) read only the row count and timestamps:
+ * - findVersionScoped: same scoping as findByIdScoped
+ * - findCollectionVersion: the rows a findAll of the current tenant would return
+ *
+ * Implemented by TenantScopedRepositoryImpl (repository base class).
+ */
+@NoRepositoryBean
+public interface TenantScopedRepository<T extends BaseEntity, ID> extends JpaRepository<T, ID> {
+
+    /**
+     * Find an entity by ID within the current tenant.
+     */
+    Optional<T> findByIdScoped(ID id);
+
+    /**
+     * Check existence of an entity by ID within the current tenant.
+     */
+    boolean existsByIdScoped(ID id);
+
+    /**
+     * Version of an entity within the current tenant, without loading it.
+     */
+    Optional<ResourceVersion> findVersionScoped(ID id);
+
+    /**
+     * Version of the current tenant's collection: row count and latest modification.
+     */
+    ResourceVersion findCollectionVersion();
+}
@@ -0,0 +1,122 @@
+package com.example.egov.domain.common;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.annotations.Cache;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository base class providing the tenant-scoped lookups of TenantScopedRepository.
+ *
+ * Registered for every repository via JpaRepositoryConfig; the scoped methods are
+ * only exposed on repositories extending TenantScopedRepository. The JPQL is built
+ * once per repository from the entity's ID attribute. For second-level cached
+ * entities the scoped lookup also goes through the query cache.
+ */
+public class TenantScopedRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    private final EntityManager entityManager;
+    private final Class<T> domainClass;
+    private final String findScopedQuery;
+    private final String existsScopedQuery;
+    private final String versionQuery;
+    private final String versionScopedQuery;
+    private final String collectionVersionQuery;
+    private final boolean cacheable;
+
+    public TenantScopedRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+        this.domainClass = entityInformation.getJavaType();
+
+        String entityName = entityInformation.getEntityName();
+        String idAttribute = entityInformation.getIdAttribute() != null
+                ? entityInformation.getIdAttribute().getName()
+                : "id";
+        String where = " WHERE e." + idAttribute + " = :id AND e.tenantId = :tenantId";
+        this.findScopedQuery = "SELECT e FROM " + entityName + " e" + where;
+        this.existsScopedQuery = "SELECT e." + idAttribute + " FROM " + entityName + " e" + where;
+
+        String modified = "COALESCE(e.updatedDate, e.createdDate)";
+        this.versionQuery = "SELECT " + modified + " FROM " + entityName + " e WHERE e." + idAttribute + " = :id";
+        this.versionScopedQuery = "SELECT " + modified + " FROM " + entityName + " e" + where;
+        // No tenant predicate: the tenant filter scopes it exactly like findAll
+        this.collectionVersionQuery = "SELECT COUNT(e), MAX(" + modified + ") FROM " + entityName + " e";
+        this.cacheable = domainClass.isAnnotationPresent(Cache.class);
+    }
+
+    public Optional<T> findByIdScoped(ID id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (TenantContext.isSystemTenant()) {
+            return findById(id);
+        }
+        String tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null) {
+            return Optional.empty();
+        }
+
+        List<T> result = entityManager.createQuery(findScopedQuery, domainClass)
+                .setParameter("id", id)
+                .setParameter("tenantId", tenantId)
+                .setHint(HibernateHints.HINT_CACHEABLE, cacheable)
+                .getResultList();
+        return result.stream().findFirst();
+    }
+
+    public boolean existsByIdScoped(ID id) {
+        if (id == null) {
+            return false;
+        }
+        if (TenantContext.isSystemTenant()) {
+            return existsById(id);
+        }
+        String tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null) {
+            return false;
+        }
+
+        return !entityManager.createQuery(existsScopedQuery)
+                .setParameter("id", id)
+                .setParameter("tenantId", tenantId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    public Optional<ResourceVersion> findVersionScoped(ID id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        TypedQuery<LocalDateTime> query;
+        if (TenantContext.isSystemTenant()) {
+            query = entityManager.createQuery(versionQuery, LocalDateTime.class);
+        } else {
+            String tenantId = TenantContext.getCurrentTenantId();
+            if (tenantId == null) {
+                return Optional.empty();
+            }
+            query = entityManager.createQuery(versionScopedQuery, LocalDateTime.class)
+                    .setParameter("tenantId", tenantId);
+        }
+
+        return query.setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(modified -> new ResourceVersion(1, modified));
+    }
+
+    public ResourceVersion findCollectionVersion() {
+        Object[] row = entityManager.createQuery(collectionVersionQuery, Object[].class).getSingleResult();
+        return new ResourceVersion(((Number) row[0]).longValue(), (LocalDateTime) row[1]);
+    }
+}
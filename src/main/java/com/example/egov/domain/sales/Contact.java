@@ -1,6 +1,7 @@
 package com.example.egov.domain.sales;
 
 import com.example.egov.domain.common.BaseEntity;
+import com.example.egov.domain.sales.listener.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "CONTACTS")
+@EntityListeners(SearchIndexListener.class)
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
 @Getter
 @Setter
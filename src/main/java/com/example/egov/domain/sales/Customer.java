@@ -3,6 +3,7 @@ package com.example.egov.domain.sales;
 import com.example.egov.domain.admin.Branch;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.common.BaseEntity;
+import com.example.egov.domain.sales.listener.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "CUSTOMERS")
+@EntityListeners(SearchIndexListener.class)
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
 @Getter
 @Setter
@@ -2,6 +2,7 @@ package com.example.egov.domain.sales;
 
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.common.BaseEntity;
+import com.example.egov.domain.sales.listener.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "LEADS")
+@EntityListeners(SearchIndexListener.class)
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
 @Getter
 @Setter
@@ -13,6 +13,7 @@ import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,6 +56,9 @@ public class Opportunity extends BaseEntity {
     @Column(name = "ACTUAL_CLOSE_DATE")
     private LocalDate actualCloseDate;
 
+    @Column(name = "STAGE_ENTERED_DATE")
+    private LocalDateTime stageEnteredDate;
+
     @Column(name = "LEAD_SOURCE", length = 50)
     private String leadSource;
 
@@ -1,6 +1,6 @@
 package com.example.egov.domain.sales;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.egov.domain.common.TenantScopedRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PipelineStageRepository extends JpaRepository<PipelineStage, String> {
+public interface PipelineStageRepository extends TenantScopedRepository<PipelineStage, String> {
 
     Optional<PipelineStage> findByStageId(String stageId);
 
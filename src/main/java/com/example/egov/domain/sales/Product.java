@@ -1,10 +1,14 @@
 package com.example.egov.domain.sales;
 
+import com.example.egov.config.cache.ReferenceCacheRegions;
 import com.example.egov.domain.common.BaseEntity;
+import com.example.egov.domain.sales.listener.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -13,7 +17,9 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "PRODUCTS")
+@EntityListeners(SearchIndexListener.class)
 @Filter(name = "tenantFilter", condition = "TENANT_ID = :tenantId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.PRODUCT)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -89,4 +89,9 @@ public class Quote extends BaseEntity {
 
     @OneToMany(mappedBy = "quote", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<QuoteItem> quoteItems = new ArrayList<>();
+
+    // Also incremented by QuoteRepricer's set-based recompute
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
 }
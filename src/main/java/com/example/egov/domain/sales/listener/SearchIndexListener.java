@@ -0,0 +1,73 @@
+package com.example.egov.domain.sales.listener;
+
+import com.example.egov.domain.sales.Contact;
+import com.example.egov.domain.sales.Customer;
+import com.example.egov.domain.sales.Lead;
+import com.example.egov.domain.sales.Product;
+import com.example.egov.service.search.SearchDocument;
+import com.example.egov.service.search.SearchIndexer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA Entity Listener that keeps the search index in step with searchable rows.
+ *
+ * Registered on Customer, Contact, Lead and Product; SearchIndexer applies the
+ * documents after commit.
+ */
+@Component
+public class SearchIndexListener {
+
+    private static SearchIndexer searchIndexer;
+
+    /**
+     * Inject SearchIndexer via setter (required for JPA Entity Listeners).
+     */
+    @Autowired
+    public void setSearchIndexer(SearchIndexer indexer) {
+        SearchIndexListener.searchIndexer = indexer;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (searchIndexer == null) {
+            return;
+        }
+        SearchDocument document = toDocument(entity);
+        if (document != null) {
+            searchIndexer.saved(document);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (searchIndexer == null) {
+            return;
+        }
+        SearchDocument document = toDocument(entity);
+        if (document != null) {
+            searchIndexer.removed(document.type(), document.tenantId(), document.id());
+        }
+    }
+
+    private static SearchDocument toDocument(Object entity) {
+        if (entity instanceof Customer customer) {
+            return SearchDocument.customer(customer.getCustomerId(), customer.getTenantId(),
+                    customer.getCustomerName(), customer.getCustomerCode(), customer.getEmail());
+        } else if (entity instanceof Contact contact) {
+            return SearchDocument.contact(contact.getContactId(), contact.getTenantId(),
+                    contact.getContactName(), contact.getEmail());
+        } else if (entity instanceof Lead lead) {
+            return SearchDocument.lead(lead.getLeadId(), lead.getTenantId(),
+                    lead.getLeadName(), lead.getCompanyName(), lead.getContactName(), lead.getEmail());
+        } else if (entity instanceof Product product) {
+            return SearchDocument.product(product.getProductId(), product.getTenantId(),
+                    product.getProductName(), product.getProductCode());
+        }
+        return null;
+    }
+}
@@ -4,6 +4,8 @@ import com.example.egov.config.multitenancy.TenantContext;
 import com.example.egov.domain.admin.Branch;
 import com.example.egov.domain.admin.BranchRepository;
 import com.example.egov.domain.admin.TenantRepository;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.ResourceVersion;
 import com.example.egov.web.admin.dto.BranchCreateRequest;
 import com.example.egov.web.admin.dto.BranchUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -22,20 +23,10 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class BranchService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
-
     private final BranchRepository branchRepository;
     private final TenantRepository tenantRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyBranchAccess(Branch branch) {
-        if (!isSystemTenant() && !branch.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to branch: " + branch.getBranchId());
-        }
-    }
+    private final RoleInheritanceService roleInheritanceService;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Branch createBranch(BranchCreateRequest request) {
@@ -47,7 +38,7 @@ public class BranchService {
 
         // Determine tenant ID: SYSTEM can specify, others use current tenant
         String tenantId;
-        if (isSystemTenant() && request.getTenantId() != null) {
+        if (TenantContext.isSystemTenant() && request.getTenantId() != null) {
             if (!tenantRepository.existsByTenantId(request.getTenantId())) {
                 throw new IllegalArgumentException("Tenant not found: " + request.getTenantId());
             }
@@ -56,7 +47,7 @@ public class BranchService {
             tenantId = currentTenantId;
         }
 
-        String branchId = generateBranchId();
+        String branchId = idGenerator.nextId("BRN");
         log.info("Creating branch: {} for tenant: {}", branchId, tenantId);
 
         Branch branch = new Branch();
@@ -87,11 +78,9 @@ public class BranchService {
 
     @Transactional
     public Branch updateBranch(String branchId, BranchUpdateRequest request) {
-        Branch branch = branchRepository.findById(branchId)
+        Branch branch = branchRepository.findByIdScoped(branchId)
                 .orElseThrow(() -> new IllegalArgumentException("Branch not found: " + branchId));
 
-        verifyBranchAccess(branch);
-
         log.info("Updating branch: {}", branchId);
 
         if (request.getBranchName() != null) {
@@ -114,6 +103,7 @@ public class BranchService {
         if (request.getUseAt() != null) {
             branch.setUseAt(request.getUseAt());
         }
+        boolean parentChanged = false;
         if (request.getParentBranchId() != null) {
             if (request.getParentBranchId().equals(branchId)) {
                 throw new IllegalArgumentException("Branch cannot be its own parent");
@@ -123,19 +113,37 @@ public class BranchService {
             if (!parentBranch.getTenantId().equals(branch.getTenantId())) {
                 throw new IllegalArgumentException("Parent branch must belong to the same tenant");
             }
+            parentChanged = branch.getParentBranch() == null
+                    || !parentBranch.getBranchId().equals(branch.getParentBranch().getBranchId());
             branch.setParentBranch(parentBranch);
         }
 
         Branch updatedBranch = branchRepository.save(branch);
+        if (parentChanged) {
+            // Groups below this branch now inherit from a different ancestor chain
+            roleInheritanceService.rebuildBranchSubtree(updatedBranch);
+        }
         log.info("Branch updated successfully: {}", updatedBranch.getBranchId());
 
         return updatedBranch;
     }
 
     public Optional<Branch> getBranch(String branchId) {
-        Optional<Branch> branch = branchRepository.findById(branchId);
-        branch.ifPresent(this::verifyBranchAccess);
-        return branch;
+        return branchRepository.findByIdScoped(branchId);
+    }
+
+    /**
+     * Version probe for conditional GET of a single branch.
+     */
+    public Optional<ResourceVersion> getBranchVersion(String branchId) {
+        return branchRepository.findVersionScoped(branchId);
+    }
+
+    /**
+     * Version probe for conditional GET of the branch lists.
+     */
+    public ResourceVersion getBranchesVersion() {
+        return branchRepository.findCollectionVersion();
     }
 
     public List<Branch> getAllBranches() {
@@ -150,7 +158,7 @@ public class BranchService {
     }
 
     public List<Branch> getBranchesByTenant(String tenantId) {
-        if (!isSystemTenant()) {
+        if (!TenantContext.isSystemTenant()) {
             throw new AccessDeniedException("Only SYSTEM tenant can query by tenant ID");
         }
         return branchRepository.findByTenantId(tenantId);
@@ -158,11 +166,9 @@ public class BranchService {
 
     @Transactional
     public void deleteBranch(String branchId) {
-        Branch branch = branchRepository.findById(branchId)
+        Branch branch = branchRepository.findByIdScoped(branchId)
                 .orElseThrow(() -> new IllegalArgumentException("Branch not found: " + branchId));
 
-        verifyBranchAccess(branch);
-
         // Check for child branches
         List<Branch> children = branchRepository.findByParentBranch(branch);
         if (!children.isEmpty()) {
@@ -181,10 +187,4 @@ public class BranchService {
     public boolean existsByBranchCode(String branchCode) {
         return branchRepository.existsByBranchCode(branchCode);
     }
-
-    private String generateBranchId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "BRN" + timestamp.substring(timestamp.length() - 10) + suffix;
-    }
 }
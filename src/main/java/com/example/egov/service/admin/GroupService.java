@@ -6,6 +6,7 @@ import com.example.egov.domain.admin.BranchRepository;
 import com.example.egov.domain.admin.Group;
 import com.example.egov.domain.admin.GroupRepository;
 import com.example.egov.domain.admin.TenantRepository;
+import com.example.egov.domain.common.IdGenerator;
 import com.example.egov.web.admin.dto.GroupCreateRequest;
 import com.example.egov.web.admin.dto.GroupUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -24,21 +24,11 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class GroupService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
-
     private final GroupRepository groupRepository;
     private final BranchRepository branchRepository;
     private final TenantRepository tenantRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyGroupAccess(Group group) {
-        if (!isSystemTenant() && !group.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to group: " + group.getGroupId());
-        }
-    }
+    private final RoleInheritanceService roleInheritanceService;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Group createGroup(GroupCreateRequest request) {
@@ -50,7 +40,7 @@ public class GroupService {
 
         // Determine tenant ID: SYSTEM can specify, others use current tenant
         String tenantId;
-        if (isSystemTenant() && request.getTenantId() != null) {
+        if (TenantContext.isSystemTenant() && request.getTenantId() != null) {
             if (!tenantRepository.existsByTenantId(request.getTenantId())) {
                 throw new IllegalArgumentException("Tenant not found: " + request.getTenantId());
             }
@@ -68,7 +58,7 @@ public class GroupService {
             throw new IllegalArgumentException("Branch must belong to the same tenant");
         }
 
-        String groupId = generateGroupId();
+        String groupId = idGenerator.nextId("GRP");
         log.info("Creating group: {} for tenant: {}", groupId, tenantId);
 
         Group group = new Group();
@@ -81,6 +71,8 @@ public class GroupService {
         group.setTenantId(tenantId);
 
         Group savedGroup = groupRepository.save(group);
+        // New group inherits its branch's roles
+        roleInheritanceService.rebuildGroup(savedGroup);
         log.info("Group created successfully: {}", savedGroup.getGroupId());
 
         return savedGroup;
@@ -88,11 +80,9 @@ public class GroupService {
 
     @Transactional
     public Group updateGroup(String groupId, GroupUpdateRequest request) {
-        Group group = groupRepository.findById(groupId)
+        Group group = groupRepository.findByIdScoped(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found: " + groupId));
 
-        verifyGroupAccess(group);
-
         log.info("Updating group: {}", groupId);
 
         if (request.getGroupName() != null) {
@@ -108,12 +98,14 @@ public class GroupService {
         if (request.getGroupDescription() != null) {
             group.setGroupDescription(request.getGroupDescription());
         }
+        boolean branchChanged = false;
         if (request.getBranchId() != null) {
             Branch branch = branchRepository.findById(request.getBranchId())
                     .orElseThrow(() -> new IllegalArgumentException("Branch not found: " + request.getBranchId()));
             if (!branch.getTenantId().equals(group.getTenantId())) {
                 throw new IllegalArgumentException("Branch must belong to the same tenant");
             }
+            branchChanged = !branch.getBranchId().equals(group.getBranch().getBranchId());
             group.setBranch(branch);
         }
         if (request.getUseAt() != null) {
@@ -121,15 +113,16 @@ public class GroupService {
         }
 
         Group updatedGroup = groupRepository.save(group);
+        if (branchChanged) {
+            roleInheritanceService.rebuildGroup(updatedGroup);
+        }
         log.info("Group updated successfully: {}", updatedGroup.getGroupId());
 
         return updatedGroup;
     }
 
     public Optional<Group> getGroup(String groupId) {
-        Optional<Group> group = groupRepository.findById(groupId);
-        group.ifPresent(this::verifyGroupAccess);
-        return group;
+        return groupRepository.findByIdScoped(groupId);
     }
 
     public List<Group> getAllGroups() {
@@ -141,7 +134,7 @@ public class GroupService {
     }
 
     public List<Group> getGroupsByTenant(String tenantId) {
-        if (!isSystemTenant()) {
+        if (!TenantContext.isSystemTenant()) {
             throw new AccessDeniedException("Only SYSTEM tenant can query by tenant ID");
         }
         return groupRepository.findByTenantId(tenantId);
@@ -153,11 +146,9 @@ public class GroupService {
 
     @Transactional
     public void deleteGroup(String groupId) {
-        Group group = groupRepository.findById(groupId)
+        Group group = groupRepository.findByIdScoped(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("Group not found: " + groupId));
 
-        verifyGroupAccess(group);
-
         log.info("Deleting group: {}", groupId);
         groupRepository.delete(group);
         log.info("Group deleted successfully: {}", groupId);
@@ -170,10 +161,4 @@ public class GroupService {
     public boolean existsByGroupCode(String groupCode) {
         return groupRepository.existsByGroupCode(groupCode);
     }
-
-    private String generateGroupId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "GRP" + timestamp.substring(timestamp.length() - 10) + suffix;
-    }
 }
@@ -1,8 +1,10 @@
 package com.example.egov.service.admin;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.config.security.PermissionSnapshotCache;
 import com.example.egov.domain.admin.Menu;
 import com.example.egov.domain.admin.MenuRepository;
+import com.example.egov.domain.common.ResourceVersion;
 import com.example.egov.web.admin.dto.MenuCreateRequest;
 import com.example.egov.web.admin.dto.MenuUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,7 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final PermissionService permissionService;
+    private final PermissionSnapshotCache permissionSnapshotCache;
 
     /**
      * Create a new menu.
@@ -137,6 +140,25 @@ public class MenuService {
         return menuRepository.findById(menuNo);
     }
 
+    /**
+     * Get the version of a menu for conditional GET, without loading it.
+     *
+     * @param menuNo Menu ID
+     * @return Version if the menu is visible to the current tenant
+     */
+    public Optional<ResourceVersion> getMenuVersion(Long menuNo) {
+        return menuRepository.findVersionScoped(menuNo);
+    }
+
+    /**
+     * Get the version of the current tenant's menus for conditional GET of the menu lists.
+     *
+     * @return Row count and latest modification of the tenant's menus
+     */
+    public ResourceVersion getMenusVersion() {
+        return menuRepository.findCollectionVersion();
+    }
+
     /**
      * Get a menu by code.
      *
@@ -192,6 +214,8 @@ public class MenuService {
 
         log.info("Deleting menu: {} (ID: {})", menu.getMenuCode(), menuNo);
         menuRepository.delete(menu);
+        // Generated permissions and their role grants go with the menu via FK cascade (no entity events)
+        permissionSnapshotCache.invalidateTenant(menu.getTenantId());
         log.info("Menu deleted successfully: {}", menu.getMenuCode());
     }
 
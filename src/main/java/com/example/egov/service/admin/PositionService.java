@@ -4,6 +4,7 @@ import com.example.egov.config.multitenancy.TenantContext;
 import com.example.egov.domain.admin.Position;
 import com.example.egov.domain.admin.PositionRepository;
 import com.example.egov.domain.admin.TenantRepository;
+import com.example.egov.domain.common.IdGenerator;
 import com.example.egov.web.admin.dto.PositionCreateRequest;
 import com.example.egov.web.admin.dto.PositionUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -22,20 +22,9 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class PositionService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
-
     private final PositionRepository positionRepository;
     private final TenantRepository tenantRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyPositionAccess(Position position) {
-        if (!isSystemTenant() && !position.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to position: " + position.getPositionId());
-        }
-    }
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Position createPosition(PositionCreateRequest request) {
@@ -46,7 +35,7 @@ public class PositionService {
         }
 
         String tenantId;
-        if (isSystemTenant() && request.getTenantId() != null) {
+        if (TenantContext.isSystemTenant() && request.getTenantId() != null) {
             if (!tenantRepository.existsByTenantId(request.getTenantId())) {
                 throw new IllegalArgumentException("Tenant not found: " + request.getTenantId());
             }
@@ -55,7 +44,7 @@ public class PositionService {
             tenantId = currentTenantId;
         }
 
-        String positionId = generatePositionId();
+        String positionId = idGenerator.nextId("POS");
         log.info("Creating position: {} for tenant: {}", positionId, tenantId);
 
         Position position = new Position();
@@ -75,11 +64,9 @@ public class PositionService {
 
     @Transactional
     public Position updatePosition(String positionId, PositionUpdateRequest request) {
-        Position position = positionRepository.findById(positionId)
+        Position position = positionRepository.findByIdScoped(positionId)
                 .orElseThrow(() -> new IllegalArgumentException("Position not found: " + positionId));
 
-        verifyPositionAccess(position);
-
         log.info("Updating position: {}", positionId);
 
         if (request.getPositionName() != null) {
@@ -109,9 +96,7 @@ public class PositionService {
     }
 
     public Optional<Position> getPosition(String positionId) {
-        Optional<Position> position = positionRepository.findById(positionId);
-        position.ifPresent(this::verifyPositionAccess);
-        return position;
+        return positionRepository.findByIdScoped(positionId);
     }
 
     public List<Position> getAllPositions() {
@@ -123,7 +108,7 @@ public class PositionService {
     }
 
     public List<Position> getPositionsByTenant(String tenantId) {
-        if (!isSystemTenant()) {
+        if (!TenantContext.isSystemTenant()) {
             throw new AccessDeniedException("Only SYSTEM tenant can query by tenant ID");
         }
         return positionRepository.findByTenantId(tenantId);
@@ -131,11 +116,9 @@ public class PositionService {
 
     @Transactional
     public void deletePosition(String positionId) {
-        Position position = positionRepository.findById(positionId)
+        Position position = positionRepository.findByIdScoped(positionId)
                 .orElseThrow(() -> new IllegalArgumentException("Position not found: " + positionId));
 
-        verifyPositionAccess(position);
-
         log.info("Deleting position: {}", positionId);
         positionRepository.delete(position);
         log.info("Position deleted successfully: {}", positionId);
@@ -148,10 +131,4 @@ public class PositionService {
     public boolean existsByPositionCode(String positionCode) {
         return positionRepository.existsByPositionCode(positionCode);
     }
-
-    private String generatePositionId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "POS" + timestamp.substring(timestamp.length() - 10) + suffix;
-    }
 }
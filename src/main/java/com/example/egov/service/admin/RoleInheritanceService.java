@@ -0,0 +1,209 @@
+package com.example.egov.service.admin;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.config.security.PermissionSnapshotCache;
+import com.example.egov.domain.admin.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Role Inheritance Service
+ * - Users inherit the roles of their Group, and through the group's Branch
+ *   the roles of that branch and every ancestor branch
+ * - The inherited set is materialised per group in GROUP_EFFECTIVE_ROLES, so login
+ *   and token refresh read it with a flat join instead of walking the hierarchy
+ * - Closures are rebuilt incrementally: only the affected group, or the groups
+ *   under the affected branch subtree, are recomputed and diffed
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoleInheritanceService {
+
+    private final GroupRepository groupRepository;
+    private final BranchRepository branchRepository;
+    private final RoleRepository roleRepository;
+    private final GroupRoleRepository groupRoleRepository;
+    private final BranchRoleRepository branchRoleRepository;
+    private final GroupEffectiveRoleRepository groupEffectiveRoleRepository;
+    private final PermissionSnapshotCache permissionSnapshotCache;
+
+    private void verifyTenantAccess(String tenantId, String resource) {
+        if (!TenantContext.isSystemTenant() && !tenantId.equals(TenantContext.getCurrentTenantId())) {
+            throw new AccessDeniedException("Access denied to " + resource);
+        }
+    }
+
+    /**
+     * Roles may be tenant-owned or shared SYSTEM roles
+     */
+    private Role findAssignableRole(String roleId, String tenantId) {
+        Role role = roleRepository.findById(roleId)
+                .orElseThrow(() -> new IllegalArgumentException("Role not found: " + roleId));
+        if (!TenantContext.SYSTEM_TENANT_ID.equals(role.getTenantId()) && !role.getTenantId().equals(tenantId)) {
+            throw new IllegalArgumentException("Role must belong to the same tenant");
+        }
+        return role;
+    }
+
+    /**
+     * Get effective (direct + inherited) role IDs of a group
+     */
+    public Set<String> getGroupEffectiveRoles(String groupId) {
+        Group group = groupRepository.findByIdScoped(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found: " + groupId));
+
+        Set<String> roleIds = new TreeSet<>();
+        groupEffectiveRoleRepository.findByGroupId(groupId)
+                .forEach(effectiveRole -> roleIds.add(effectiveRole.getRoleId()));
+        return roleIds;
+    }
+
+    @Transactional
+    public void assignGroupRole(String groupId, String roleId) {
+        Group group = groupRepository.findByIdScoped(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found: " + groupId));
+
+        if (groupRoleRepository.findByGroup_GroupIdAndRole_RoleId(groupId, roleId).isPresent()) {
+            return;
+        }
+
+        GroupRole groupRole = new GroupRole();
+        groupRole.setGroup(group);
+        groupRole.setRole(findAssignableRole(roleId, group.getTenantId()));
+        groupRole.setTenantId(group.getTenantId());
+        groupRoleRepository.save(groupRole);
+
+        log.info("Role {} assigned to group {}", roleId, groupId);
+        rebuildGroup(group);
+    }
+
+    @Transactional
+    public void revokeGroupRole(String groupId, String roleId) {
+        GroupRole groupRole = groupRoleRepository.findByGroup_GroupIdAndRole_RoleId(groupId, roleId)
+                .orElseThrow(() -> new IllegalArgumentException("Role " + roleId + " not assigned to group: " + groupId));
+        Group group = groupRole.getGroup();
+        verifyTenantAccess(group.getTenantId(), "group: " + groupId);
+
+        groupRoleRepository.delete(groupRole);
+
+        log.info("Role {} revoked from group {}", roleId, groupId);
+        rebuildGroup(group);
+    }
+
+    @Transactional
+    public void assignBranchRole(String branchId, String roleId) {
+        Branch branch = branchRepository.findByIdScoped(branchId)
+                .orElseThrow(() -> new IllegalArgumentException("Branch not found: " + branchId));
+
+        if (branchRoleRepository.findByBranch_BranchIdAndRole_RoleId(branchId, roleId).isPresent()) {
+            return;
+        }
+
+        BranchRole branchRole = new BranchRole();
+        branchRole.setBranch(branch);
+        branchRole.setRole(findAssignableRole(roleId, branch.getTenantId()));
+        branchRole.setTenantId(branch.getTenantId());
+        branchRoleRepository.save(branchRole);
+
+        log.info("Role {} assigned to branch {}", roleId, branchId);
+        rebuildBranchSubtree(branch);
+    }
+
+    @Transactional
+    public void revokeBranchRole(String branchId, String roleId) {
+        BranchRole branchRole = branchRoleRepository.findByBranch_BranchIdAndRole_RoleId(branchId, roleId)
+                .orElseThrow(() -> new IllegalArgumentException("Role " + roleId + " not assigned to branch: " + branchId));
+        Branch branch = branchRole.getBranch();
+        verifyTenantAccess(branch.getTenantId(), "branch: " + branchId);
+
+        branchRoleRepository.delete(branchRole);
+
+        log.info("Role {} revoked from branch {}", roleId, branchId);
+        rebuildBranchSubtree(branch);
+    }
+
+    /**
+     * Recompute one group's closure and apply only the difference.
+     * Call after the group is created or moved to another branch.
+     */
+    @Transactional
+    public void rebuildGroup(Group group) {
+        groupRoleRepository.flush();
+        branchRoleRepository.flush();
+
+        Set<String> target = new HashSet<>(groupRoleRepository.findRoleIdsByGroupId(group.getGroupId()));
+        List<String> ancestorIds = ancestorBranchIds(group.getBranch());
+        if (!ancestorIds.isEmpty()) {
+            target.addAll(branchRoleRepository.findRoleIdsByBranchIdIn(ancestorIds));
+        }
+
+        List<GroupEffectiveRole> current = groupEffectiveRoleRepository.findByGroupId(group.getGroupId());
+        List<GroupEffectiveRole> removed = new ArrayList<>();
+        for (GroupEffectiveRole effectiveRole : current) {
+            if (!target.remove(effectiveRole.getRoleId())) {
+                removed.add(effectiveRole);
+            }
+        }
+
+        // target now holds only the roles that are not materialised yet
+        List<GroupEffectiveRole> added = new ArrayList<>(target.size());
+        for (String roleId : target) {
+            GroupEffectiveRole effectiveRole = new GroupEffectiveRole();
+            effectiveRole.setGroupId(group.getGroupId());
+            effectiveRole.setRoleId(roleId);
+            effectiveRole.setTenantId(group.getTenantId());
+            added.add(effectiveRole);
+        }
+
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        groupEffectiveRoleRepository.deleteAll(removed);
+        groupEffectiveRoleRepository.saveAll(added);
+        permissionSnapshotCache.invalidateUsers(group.getTenantId());
+
+        log.debug("Effective roles of group {} rebuilt: +{} -{}", group.getGroupId(), added.size(), removed.size());
+    }
+
+    /**
+     * Recompute the closures of every group in the branch and its descendants.
+     * Call after a branch role changes or the branch is moved to another parent.
+     */
+    @Transactional
+    public void rebuildBranchSubtree(Branch branch) {
+        Deque<Branch> pending = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        pending.add(branch);
+
+        while (!pending.isEmpty()) {
+            Branch current = pending.poll();
+            if (!visited.add(current.getBranchId())) {
+                continue;
+            }
+            for (Group group : groupRepository.findByBranch(current)) {
+                rebuildGroup(group);
+            }
+            pending.addAll(branchRepository.findByParentBranch(current));
+        }
+    }
+
+    /**
+     * Branch and its ancestors, nearest first (guarded against parent cycles)
+     */
+    private List<String> ancestorBranchIds(Branch branch) {
+        List<String> ids = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        for (Branch current = branch; current != null && visited.add(current.getBranchId());
+             current = current.getParentBranch()) {
+            ids.add(current.getBranchId());
+        }
+        return ids;
+    }
+}
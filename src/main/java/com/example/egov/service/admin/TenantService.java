@@ -3,6 +3,7 @@ package com.example.egov.service.admin;
 import com.example.egov.config.multitenancy.TenantContext;
 import com.example.egov.domain.admin.Tenant;
 import com.example.egov.domain.admin.TenantRepository;
+import com.example.egov.domain.common.IdGenerator;
 import com.example.egov.web.admin.dto.TenantCreateRequest;
 import com.example.egov.web.admin.dto.TenantUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -21,9 +21,8 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class TenantService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
-
     private final TenantRepository tenantRepository;
+    private final IdGenerator idGenerator;
 
     /**
      * Verify that the current user is from the SYSTEM tenant.
@@ -31,7 +30,7 @@ public class TenantService {
      */
     private void verifySystemTenantAccess() {
         String currentTenantId = TenantContext.getCurrentTenantId();
-        if (!SYSTEM_TENANT_ID.equals(currentTenantId)) {
+        if (!TenantContext.SYSTEM_TENANT_ID.equals(currentTenantId)) {
             log.warn("Access denied: Tenant {} attempted to access tenant management", currentTenantId);
             throw new AccessDeniedException("Only SYSTEM tenant can manage tenants");
         }
@@ -41,7 +40,7 @@ public class TenantService {
     public Tenant createTenant(TenantCreateRequest request) {
         verifySystemTenantAccess();
 
-        String tenantId = generateTenantId();
+        String tenantId = idGenerator.nextId("TEN");
         log.info("Creating tenant: {}", tenantId);
 
         Tenant tenant = new Tenant();
@@ -56,12 +55,6 @@ public class TenantService {
         return savedTenant;
     }
 
-    private String generateTenantId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "TEN" + timestamp.substring(timestamp.length() - 10) + suffix;
-    }
-
     @Transactional
     public Tenant updateTenant(String tenantId, TenantUpdateRequest request) {
         verifySystemTenantAccess();
@@ -90,7 +83,7 @@ public class TenantService {
     public Optional<Tenant> getTenant(String tenantId) {
         String currentTenantId = TenantContext.getCurrentTenantId();
         // Allow access to own tenant or if SYSTEM tenant
-        if (!SYSTEM_TENANT_ID.equals(currentTenantId) && !tenantId.equals(currentTenantId)) {
+        if (!TenantContext.SYSTEM_TENANT_ID.equals(currentTenantId) && !tenantId.equals(currentTenantId)) {
             throw new AccessDeniedException("Access denied to tenant: " + tenantId);
         }
         return tenantRepository.findById(tenantId);
@@ -122,7 +115,7 @@ public class TenantService {
     public void deleteTenant(String tenantId) {
         verifySystemTenantAccess();
 
-        if (SYSTEM_TENANT_ID.equals(tenantId)) {
+        if (TenantContext.SYSTEM_TENANT_ID.equals(tenantId)) {
             throw new IllegalArgumentException("Cannot delete SYSTEM tenant");
         }
 
@@ -1,7 +1,9 @@
 package com.example.egov.service.admin;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.config.security.PermissionSnapshotCache;
 import com.example.egov.domain.admin.*;
+import com.example.egov.domain.common.IdGenerator;
 import com.example.egov.web.admin.dto.PasswordChangeRequest;
 import com.example.egov.web.admin.dto.UserCreateRequest;
 import com.example.egov.web.admin.dto.UserUpdateRequest;
@@ -15,8 +17,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * User Service
@@ -36,6 +38,8 @@ public class UserService {
     private final BranchRepository branchRepository;
     private final PositionRepository positionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PermissionSnapshotCache permissionSnapshotCache;
+    private final IdGenerator idGenerator;
 
     /**
      * Create a new user
@@ -52,7 +56,7 @@ public class UserService {
         String tenantId = TenantContext.getCurrentTenantId();
 
         User user = new User();
-        user.setId(generateEsntlId());
+        user.setId(idGenerator.nextId("USR"));
         user.setUserId(request.getUserId());
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setUserName(request.getUserName());
@@ -125,8 +129,14 @@ public class UserService {
         }
 
         // Update relationships
+        String previousGroupId = user.getGroup() != null ? user.getGroup().getGroupId() : null;
         setUserRelationships(user, request.getGroupId(), request.getBranchId(),
                 request.getPositionId(), request.getManagerId());
+        String currentGroupId = user.getGroup() != null ? user.getGroup().getGroupId() : null;
+        if (!Objects.equals(previousGroupId, currentGroupId)) {
+            // Group-inherited roles changed with the group
+            permissionSnapshotCache.invalidateUser(user.getTenantId(), user.getId());
+        }
 
         // Update roles if provided
         if (request.getRoleIds() != null) {
@@ -188,15 +198,6 @@ public class UserService {
 
     // Private helper methods
 
-    /**
-     * Generate unique ESNTL_ID
-     */
-    private String generateEsntlId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "USR" + timestamp.substring(timestamp.length() - 10) + suffix;
-    }
-
     /**
      * Set user relationships (group, branch, position, manager)
      */
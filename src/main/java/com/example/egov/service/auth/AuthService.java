@@ -9,13 +9,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Authentication Service
  * - Handles login, logout, and token refresh operations
+ * - Login is throttled per userId/IP and verifies passwords on a bounded pool
  */
 @Slf4j
 @Service
@@ -25,22 +27,43 @@ public class AuthService {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationService passwordVerificationService;
+    private final LoginThrottle loginThrottle;
 
     /**
-     * Login and generate JWT tokens
+     * Login and generate JWT tokens.
+     * Runs without a surrounding transaction so no connection is held while bcrypt runs.
      */
-    public TokenResponse login(LoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenResponse login(LoginRequest request, String clientIp) {
         log.debug("Login attempt for userId: {}", request.getUserId());
 
+        loginThrottle.checkAllowed(request.getUserId(), clientIp);
+
         // Load user with full context (bypasses tenant filter via native query)
-        CustomUserDetails userDetails = userDetailsService.loadUserByUserIdForLogin(request.getUserId());
+        CustomUserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUserIdForLogin(request.getUserId());
+        } catch (UsernameNotFoundException e) {
+            loginThrottle.recordFailure(request.getUserId(), clientIp);
+            throw e;
+        }
 
-        // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), userDetails.getPassword())) {
+        // Verify password on the bounded verification pool
+        PasswordVerificationService.Result verification =
+                passwordVerificationService.verify(request.getPassword(), userDetails.getPassword());
+        if (!verification.matched()) {
+            loginThrottle.recordFailure(request.getUserId(), clientIp);
             log.warn("Invalid password for userId: {}", request.getUserId());
             throw new BadCredentialsException("Invalid password");
         }
+        loginThrottle.recordSuccess(request.getUserId());
+
+        // Transparently move the stored hash to the configured bcrypt cost
+        if (verification.upgradedHash() != null) {
+            userDetailsService.updatePasswordHash(userDetails.getEsntlId(), verification.upgradedHash());
+            log.info("Password hash upgraded for userId: {}", request.getUserId());
+        }
 
         // Generate tokens with full user context
         String accessToken = jwtTokenProvider.createAccessToken(userDetails);
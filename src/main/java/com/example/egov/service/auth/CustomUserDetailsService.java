@@ -1,9 +1,10 @@
 package com.example.egov.service.auth;
 
+import com.example.egov.config.security.PermissionSnapshotCache;
 import com.example.egov.domain.admin.RolePermissionRepository;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
-import com.example.egov.domain.admin.UserRole;
+import com.example.egov.domain.admin.UserRoleRepository;
 import com.example.egov.domain.auth.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
  * Custom UserDetailsService implementation for Spring Security
  * - Loads user by userId for authentication
  * - Includes tenant, branch, group, position, roles, and permissions in CustomUserDetails
+ * - Role IDs and role-set permissions are served from PermissionSnapshotCache
  */
 @Slf4j
 @Service
@@ -31,7 +34,9 @@ import java.util.stream.Collectors;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserRoleRepository userRoleRepository;
     private final RolePermissionRepository rolePermissionRepository;
+    private final PermissionSnapshotCache permissionSnapshotCache;
 
     /**
      * Load user by username (userId)
@@ -59,24 +64,32 @@ public class CustomUserDetailsService implements UserDetailsService {
         return createUserDetails(user);
     }
 
+    /**
+     * Replace the stored password hash (rehash-on-login after a bcrypt cost change)
+     */
+    @Transactional
+    public void updatePasswordHash(String esntlId, String encodedPassword) {
+        userRepository.updatePassword(esntlId, encodedPassword);
+    }
+
     /**
      * Create CustomUserDetails from User entity with all context information
      */
     private CustomUserDetails createUserDetails(User user) {
-        // Collect role IDs
-        Set<String> roleIds = user.getUserRoles().stream()
-                .map(ur -> ur.getRole().getRoleId())
-                .collect(Collectors.toSet());
+        String tenantId = user.getTenantId();
+
+        // Collect direct and group/branch inherited role IDs (single query on a cache miss)
+        Set<String> roleIds = permissionSnapshotCache.getRoleIds(tenantId, user.getId(),
+                () -> new HashSet<>(userRoleRepository.findEffectiveRoleIdsByUserId(user.getId())));
 
-        // Collect permissions from all roles
+        // Collect permissions from all roles (shared by users with the same role set)
         Set<String> permissions = Collections.emptySet();
         if (!roleIds.isEmpty()) {
-            permissions = rolePermissionRepository.findByRoleIdIn(roleIds).stream()
-                    .map(rp -> rp.getPermission().getPermissionCode())
-                    .collect(Collectors.toSet());
+            permissions = permissionSnapshotCache.getPermissions(tenantId, roleIds,
+                    () -> rolePermissionRepository.findPermissionCodesByRoleIdIn(roleIds));
         }
 
-        Collection<GrantedAuthority> authorities = getAuthorities(user);
+        Collection<GrantedAuthority> authorities = getAuthorities(roleIds);
 
         return CustomUserDetails.customBuilder()
                 .userId(user.getUserId())
@@ -93,12 +106,11 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     /**
-     * Get authorities (roles) from user's UserRole associations
+     * Get authorities (roles) from the user's role IDs
      */
-    private Collection<GrantedAuthority> getAuthorities(User user) {
-        return user.getUserRoles().stream()
-                .map(UserRole::getRole)
-                .map(role -> new SimpleGrantedAuthority(role.getRoleId()))
+    private Collection<GrantedAuthority> getAuthorities(Set<String> roleIds) {
+        return roleIds.stream()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,126 @@
+package com.example.egov.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Login Throttle
+ * - Sliding-window limits on failed logins per userId and per client IP
+ * - Checked before password verification, so throttled attempts never reach bcrypt
+ * - A successful login clears the userId window
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    @Value("${security.login-throttle.user.max-failures:5}")
+    private int userMaxFailures;
+
+    @Value("${security.login-throttle.user.window:5m}")
+    private Duration userWindow;
+
+    @Value("${security.login-throttle.ip.max-failures:20}")
+    private int ipMaxFailures;
+
+    @Value("${security.login-throttle.ip.window:1m}")
+    private Duration ipWindow;
+
+    @Value("${security.login-throttle.maximum-keys:100000}")
+    private long maximumKeys;
+
+    private Cache<String, SlidingWindow> userWindows;
+
+    private Cache<String, SlidingWindow> ipWindows;
+
+    @PostConstruct
+    protected void init() {
+        // Idle windows are dropped once a full window has passed without failures
+        this.userWindows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(userWindow)
+                .build();
+        this.ipWindows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(ipWindow)
+                .build();
+    }
+
+    /**
+     * Reject the attempt if either the userId or the client IP has too many recent failures
+     */
+    public void checkAllowed(String userId, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        long retryAfterMillis = Math.max(
+                retryAfter(userWindows, userId, userWindow, now),
+                retryAfter(ipWindows, clientIp, ipWindow, now));
+
+        if (retryAfterMillis > 0) {
+            log.warn("Login throttled for userId: {}, ip: {}", userId, clientIp);
+            throw new LoginThrottledException("Too many failed login attempts",
+                    Math.max(1, Duration.ofMillis(retryAfterMillis).toSeconds()));
+        }
+    }
+
+    public void recordFailure(String userId, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (userId != null) {
+            userWindows.get(userId, key -> new SlidingWindow(userMaxFailures)).record(now);
+        }
+        if (clientIp != null) {
+            ipWindows.get(clientIp, key -> new SlidingWindow(ipMaxFailures)).record(now);
+        }
+    }
+
+    public void recordSuccess(String userId) {
+        if (userId != null) {
+            userWindows.invalidate(userId);
+        }
+    }
+
+    private static long retryAfter(Cache<String, SlidingWindow> windows, String key, Duration window, long now) {
+        if (key == null) {
+            return 0;
+        }
+        SlidingWindow slidingWindow = windows.getIfPresent(key);
+        return slidingWindow != null ? slidingWindow.retryAfterMillis(now, window.toMillis()) : 0;
+    }
+
+    /**
+     * Ring buffer of the last N failure timestamps. The window is full when it holds
+     * N failures and the oldest is still inside the window.
+     */
+    private static final class SlidingWindow {
+
+        private final long[] timestamps;
+        private int head;
+        private int count;
+
+        SlidingWindow(int capacity) {
+            this.timestamps = new long[Math.max(1, capacity)];
+        }
+
+        synchronized void record(long now) {
+            if (count < timestamps.length) {
+                timestamps[(head + count) % timestamps.length] = now;
+                count++;
+            } else {
+                timestamps[head] = now;
+                head = (head + 1) % timestamps.length;
+            }
+        }
+
+        synchronized long retryAfterMillis(long now, long windowMillis) {
+            if (count < timestamps.length) {
+                return 0;
+            }
+            return Math.max(0, timestamps[head] + windowMillis - now);
+        }
+    }
+}
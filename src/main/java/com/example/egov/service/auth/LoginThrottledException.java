@@ -0,0 +1,19 @@
+package com.example.egov.service.auth;
+
+/**
+ * Thrown when a login attempt is rejected before password verification,
+ * either by the per-userId/per-IP throttle or because the verification pool is saturated.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
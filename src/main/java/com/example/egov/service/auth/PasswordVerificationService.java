@@ -0,0 +1,118 @@
+package com.example.egov.service.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password Verification Service
+ * - Runs bcrypt on a dedicated, size-bounded pool instead of the request thread,
+ *   so login bursts cannot starve Tomcat threads serving regular traffic
+ * - The queue is bounded and rejects immediately when full (fail fast, HTTP 429)
+ * - Re-encodes the password when the stored hash uses a weaker cost than configured
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordVerificationService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    /** 0 = number of available processors */
+    @Value("${security.password.verification.threads:0}")
+    private int threads;
+
+    @Value("${security.password.verification.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${security.password.verification.timeout:5s}")
+    private Duration timeout;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    protected void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "auth.password-verification", Tags.empty()).bindTo(meterRegistry);
+        log.info("Password verification pool started: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verify a raw password against the stored hash on the verification pool.
+     *
+     * @return match result, with a re-encoded hash when the stored one should be upgraded
+     * @throws LoginThrottledException if the pool is saturated or verification times out
+     */
+    public Result verify(String rawPassword, String encodedPassword) {
+        Future<Result> future;
+        try {
+            future = executor.submit(() -> doVerify(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password verification pool saturated, rejecting login");
+            throw new LoginThrottledException("Login service busy, try again shortly", 1);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new LoginThrottledException("Login service busy, try again shortly", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    private Result doVerify(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return new Result(false, null);
+        }
+        String upgradedHash = passwordEncoder.upgradeEncoding(encodedPassword)
+                ? passwordEncoder.encode(rawPassword)
+                : null;
+        return new Result(true, upgradedHash);
+    }
+
+    /**
+     * @param matched      whether the password matched
+     * @param upgradedHash new hash at the configured cost, or null if no rehash is needed
+     */
+    public record Result(boolean matched, String upgradedHash) {
+    }
+}
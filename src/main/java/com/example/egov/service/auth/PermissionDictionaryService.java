@@ -0,0 +1,120 @@
+package com.example.egov.service.auth;
+
+import com.example.egov.domain.admin.PermissionDictionaryEntry;
+import com.example.egov.domain.admin.PermissionDictionaryEntryRepository;
+import com.example.egov.domain.auth.PermissionDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Permission Dictionary Service
+ * - Keeps one append-only permission dictionary per tenant (PERMISSION_DICTIONARY table)
+ * - Dictionaries are cached in memory and reloaded only when a token references
+ *   a longer dictionary than the local copy (e.g. extended by another node)
+ * - New permission codes are appended at token issue time, in their own transaction
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionDictionaryService {
+
+    private static final int MAX_APPEND_ATTEMPTS = 3;
+
+    private final PermissionDictionaryEntryRepository permissionDictionaryEntryRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, PermissionDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    /**
+     * Get a dictionary for decoding: at least minimumSize codes long.
+     */
+    public PermissionDictionary getDictionary(String tenantId, int minimumSize) {
+        PermissionDictionary dictionary = dictionaries.get(tenantId);
+        if (dictionary != null && dictionary.size() >= minimumSize) {
+            return dictionary;
+        }
+
+        dictionary = load(tenantId);
+        if (dictionary.size() < minimumSize) {
+            throw new IllegalStateException("Permission dictionary for tenant " + tenantId
+                    + " has " + dictionary.size() + " entries, token requires " + minimumSize);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Get a dictionary for encoding: containing every given permission code,
+     * appending the missing ones if necessary.
+     */
+    public PermissionDictionary getDictionaryCovering(String tenantId, Collection<String> permissionCodes) {
+        PermissionDictionary dictionary = dictionaries.get(tenantId);
+        if (dictionary != null && dictionary.containsAll(permissionCodes)) {
+            return dictionary;
+        }
+        return extend(tenantId, permissionCodes);
+    }
+
+    private synchronized PermissionDictionary extend(String tenantId, Collection<String> permissionCodes) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int attempt = 1; ; attempt++) {
+            PermissionDictionary current = transaction.execute(status -> load(tenantId));
+            List<String> missing = permissionCodes.stream()
+                    .filter(code -> current.indexOf(code) < 0)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            if (missing.isEmpty()) {
+                return current;
+            }
+
+            try {
+                transaction.executeWithoutResult(status -> {
+                    List<PermissionDictionaryEntry> entries = new ArrayList<>(missing.size());
+                    int codeIndex = current.size();
+                    for (String code : missing) {
+                        PermissionDictionaryEntry entry = new PermissionDictionaryEntry();
+                        entry.setTenantId(tenantId);
+                        entry.setCodeIndex(codeIndex++);
+                        entry.setPermissionCode(code);
+                        entries.add(entry);
+                    }
+                    permissionDictionaryEntryRepository.saveAll(entries);
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another node appended concurrently; reload and retry against its entries
+                if (attempt >= MAX_APPEND_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Concurrent permission dictionary append for tenant {}, retrying", tenantId);
+                continue;
+            }
+
+            PermissionDictionary extended = current.append(missing);
+            dictionaries.put(tenantId, extended);
+            log.info("Permission dictionary for tenant {} extended to {} entries", tenantId, extended.size());
+            return extended;
+        }
+    }
+
+    private PermissionDictionary load(String tenantId) {
+        List<String> codes = permissionDictionaryEntryRepository.findByTenantIdOrderByCodeIndexAsc(tenantId).stream()
+                .map(PermissionDictionaryEntry::getPermissionCode)
+                .toList();
+        PermissionDictionary dictionary = new PermissionDictionary(tenantId, codes);
+        dictionaries.put(tenantId, dictionary);
+        return dictionary;
+    }
+}
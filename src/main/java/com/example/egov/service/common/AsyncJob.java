@@ -0,0 +1,50 @@
+package com.example.egov.service.common;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A background job of one tenant; progress is written by the worker thread and read by
+ * status requests (see AsyncJobs). Subclass counters have that single writer, so plain
+ * increments of volatile fields are safe.
+ */
+@Getter
+public abstract class AsyncJob {
+
+    public enum State { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String tenantId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile State state = State.PENDING;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    protected AsyncJob(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    public void started() {
+        this.startedAt = LocalDateTime.now();
+        this.state = State.RUNNING;
+    }
+
+    public void completed() {
+        this.finishedAt = LocalDateTime.now();
+        this.state = State.COMPLETED;
+    }
+
+    public void failed(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.state = State.FAILED;
+    }
+}
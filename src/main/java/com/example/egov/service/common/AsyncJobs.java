@@ -0,0 +1,67 @@
+package com.example.egov.service.common;
+
+import com.example.egov.config.multitenancy.TenantContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of one kind of AsyncJob, for status requests.
+ *
+ * - Adding a job drops the oldest finished ones beyond retainedJobs
+ * - Jobs are visible to the tenant that started them, and to SYSTEM
+ */
+public class AsyncJobs<J extends AsyncJob> {
+
+    private final int retainedJobs;
+
+    private final Map<String, J> jobs = new ConcurrentHashMap<>();
+
+    public AsyncJobs(int retainedJobs) {
+        this.retainedJobs = retainedJobs;
+    }
+
+    public void add(J job) {
+        jobs.put(job.getJobId(), job);
+        evictFinished();
+    }
+
+    public void remove(J job) {
+        jobs.remove(job.getJobId());
+    }
+
+    public Optional<J> get(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).filter(AsyncJobs::visible);
+    }
+
+    /**
+     * Retained jobs, newest first.
+     */
+    public List<J> list() {
+        return jobs.values().stream()
+                .filter(AsyncJobs::visible)
+                .sorted(Comparator.comparing(AsyncJob::getCreatedAt, Comparator.reverseOrder()))
+                .toList();
+    }
+
+    private static boolean visible(AsyncJob job) {
+        return TenantContext.isSystemTenant() || Objects.equals(job.getTenantId(), TenantContext.getCurrentTenantId());
+    }
+
+    private void evictFinished() {
+        int excess = jobs.size() - retainedJobs;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(AsyncJob::isFinished)
+                .sorted(Comparator.comparing(AsyncJob::getFinishedAt))
+                .limit(excess)
+                .toList()
+                .forEach(this::remove);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.egov.service.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lock for scheduled jobs: every node fires the schedule, one does the work.
+ *
+ * - One SCHEDULED_LOCKS row per job; it is held while LOCKED_UNTIL is in the future
+ * - Taking it is one conditional UPDATE (or the INSERT of a job's first row), so two
+ *   nodes cannot both succeed; statements run outside any transaction
+ * - lockAtMostFor frees the lock of a node that died mid-run; lockAtLeastFor keeps it
+ *   past a short run, so a node whose trigger or clock lags does not run the job again
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLock {
+
+    private static final String NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+    private static final String ACQUIRE_SQL = "UPDATE SCHEDULED_LOCKS"
+            + " SET LOCKED_UNTIL = :lockedUntil, LOCKED_AT = :now, LOCKED_BY = :node"
+            + " WHERE LOCK_NAME = :name AND LOCKED_UNTIL <= :now";
+
+    private static final String INSERT_SQL = "INSERT INTO SCHEDULED_LOCKS (LOCK_NAME, LOCKED_UNTIL, LOCKED_AT, LOCKED_BY)"
+            + " VALUES (:name, :lockedUntil, :now, :node)";
+
+    private static final String RELEASE_SQL = "UPDATE SCHEDULED_LOCKS SET LOCKED_UNTIL = :lockedUntil"
+            + " WHERE LOCK_NAME = :name AND LOCKED_BY = :node";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Run the task if this node takes the lock.
+     *
+     * @return whether the task ran
+     */
+    public boolean runLocked(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("node", NODE)
+                .addValue("now", now)
+                .addValue("lockedUntil", now.plus(lockAtMostFor));
+        if (!acquire(params)) {
+            log.info("Skipping {}: locked by another node", name);
+            return false;
+        }
+
+        try {
+            task.run();
+        } finally {
+            LocalDateTime earliest = now.plus(lockAtLeastFor);
+            LocalDateTime finished = LocalDateTime.now();
+            params.addValue("lockedUntil", earliest.isAfter(finished) ? earliest : finished);
+            jdbcTemplate.update(RELEASE_SQL, params);
+        }
+        return true;
+    }
+
+    private boolean acquire(MapSqlParameterSource params) {
+        if (jdbcTemplate.update(ACQUIRE_SQL, params) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, params) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // The row exists and is held
+            return false;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.service.search.SearchDocument;
+import com.example.egov.web.imports.dto.ImportRowError;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contacts of the tenant's customers.
+ *
+ * - The customer is given as customerId (as in the export) or customerCode
+ * - A contact is a duplicate when its customer already has a contact with the same email
+ *   (case-insensitive); contacts without email are never duplicates
+ */
+@Component
+class ContactImportTarget extends ImportTarget {
+
+    private static final List<ImportColumn> COLUMNS = List.of(
+            ImportColumn.text("contactName", "CONTACT_NAME", 100).mandatory(),
+            ImportColumn.text("customerId", "CUSTOMER_ID", 20),
+            ImportColumn.text("customerCode", null, 50),
+            ImportColumn.text("contactTitle", "CONTACT_TITLE", 100),
+            ImportColumn.text("department", "DEPARTMENT", 100),
+            ImportColumn.text("phone", "PHONE", 30),
+            ImportColumn.text("mobile", "MOBILE", 30),
+            ImportColumn.text("email", "EMAIL", 100),
+            ImportColumn.flag("isPrimary", "IS_PRIMARY", "N"),
+            ImportColumn.flag("useAt", "USE_AT", "Y"));
+
+    static final String EXISTING_CUSTOMERS_SQL =
+            "SELECT CUSTOMER_ID FROM CUSTOMERS WHERE TENANT_ID = :tenantId AND CUSTOMER_ID IN (:keys)";
+    static final String CUSTOMERS_BY_CODE_SQL =
+            "SELECT CUSTOMER_CODE, CUSTOMER_ID FROM CUSTOMERS WHERE TENANT_ID = :tenantId AND CUSTOMER_CODE IN (:keys)";
+    static final String EXISTING_EMAILS_SQL =
+            "SELECT CUSTOMER_ID, LOWER(EMAIL) FROM CONTACTS"
+            + " WHERE TENANT_ID = :tenantId AND CUSTOMER_ID IN (:keys) AND EMAIL IS NOT NULL";
+
+    ContactImportTarget(NamedParameterJdbcTemplate jdbcTemplate, IdGenerator idGenerator) {
+        super(jdbcTemplate, idGenerator);
+    }
+
+    @Override
+    ImportType type() {
+        return ImportType.CONTACT;
+    }
+
+    @Override
+    List<ImportColumn> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    List<ImportRow> resolve(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected) {
+        List<ImportRow> accepted = resolveCustomers(tenantId, rows, rejected);
+        accepted = firstPerKey(accepted, ContactImportTarget::emailKey, "Duplicate contact email", rejected);
+
+        Set<String> stored = new HashSet<>();
+        Set<String> customerIds = keys(accepted, row -> row.text("customerId"));
+        if (!customerIds.isEmpty()) {
+            jdbcTemplate.query(EXISTING_EMAILS_SQL,
+                    new MapSqlParameterSource().addValue("keys", customerIds).addValue("tenantId", tenantId),
+                    rs -> {
+                        stored.add(rs.getString(1) + "|" + rs.getString(2));
+                    });
+        }
+        return without(accepted, ContactImportTarget::emailKey, stored, "Contact email already exists", rejected);
+    }
+
+    /**
+     * Fill customerId from customerCode where only the code is given, and check that the
+     * customer belongs to the tenant.
+     */
+    private List<ImportRow> resolveCustomers(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected) {
+        Set<String> codes = keys(rows, row -> row.text("customerId") == null ? row.text("customerCode") : null);
+        Map<String, String> idsByCode = new HashMap<>();
+        if (!codes.isEmpty()) {
+            jdbcTemplate.query(CUSTOMERS_BY_CODE_SQL,
+                    new MapSqlParameterSource().addValue("keys", codes).addValue("tenantId", tenantId),
+                    rs -> {
+                        idsByCode.put(rs.getString(1), rs.getString(2));
+                    });
+        }
+
+        List<ImportRow> resolved = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.text("customerId") == null) {
+                String code = row.text("customerCode");
+                if (code == null) {
+                    rejected.add(new ImportRowError(row.rowNumber(), "customerId or customerCode is required"));
+                    continue;
+                }
+                String customerId = idsByCode.get(code);
+                if (customerId == null) {
+                    rejected.add(new ImportRowError(row.rowNumber(), "Customer not found: " + code));
+                    continue;
+                }
+                row.values().put("customerId", customerId);
+            }
+            resolved.add(row);
+        }
+        return referencing(resolved, "customerId",
+                lookup(EXISTING_CUSTOMERS_SQL, tenantId, keys(resolved, row -> row.text("customerId"))),
+                "Customer not found", rejected);
+    }
+
+    private static String emailKey(ImportRow row) {
+        String email = row.text("email");
+        return email == null ? null : row.text("customerId") + "|" + email.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    List<String> insert(String tenantId, List<ImportRow> rows) {
+        return batchInsert("CONTACTS", "CONTACT_ID", "CON", tenantId, rows);
+    }
+
+    @Override
+    SearchDocument document(String id, String tenantId, ImportRow row) {
+        return SearchDocument.contact(id, tenantId, row.text("contactName"), row.text("email"));
+    }
+}
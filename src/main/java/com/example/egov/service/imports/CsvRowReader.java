@@ -0,0 +1,99 @@
+package com.example.egov.service.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV (strict UTF-8, optional BOM), parsed character by character so only the
+ * current record is held in memory. Quoted fields may contain commas, quotes ("")
+ * and line breaks; blank lines are skipped.
+ */
+final class CsvRowReader implements RowReader {
+
+    private static final int MAX_CELL_LENGTH = 32 * 1024;
+
+    @Override
+    public void read(Path file, RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            boolean afterQuote = false;
+            int rowNumber = 1;
+
+            int c = reader.read();
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+            for (; c != -1; c = reader.read()) {
+                if (quoted) {
+                    if (c == '"') {
+                        quoted = false;
+                        afterQuote = true;
+                    } else {
+                        append(cell, (char) c, rowNumber);
+                    }
+                    continue;
+                }
+                if (c == '"') {
+                    if (afterQuote) {
+                        // "" inside a quoted field
+                        append(cell, '"', rowNumber);
+                        quoted = true;
+                        afterQuote = false;
+                    } else if (cell.isEmpty()) {
+                        quoted = true;
+                    } else {
+                        append(cell, '"', rowNumber);
+                    }
+                    continue;
+                }
+                afterQuote = false;
+                if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                    emit(handler, rowNumber++, cells);
+                    cells = new ArrayList<>(cells.size());
+                } else {
+                    append(cell, (char) c, rowNumber);
+                }
+            }
+
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted field in row " + rowNumber);
+            }
+            if (!cells.isEmpty() || !cell.isEmpty()) {
+                cells.add(cell.toString());
+                emit(handler, rowNumber, cells);
+            }
+        }
+    }
+
+    private static void emit(RowHandler handler, int rowNumber, List<String> cells) {
+        if (cells.size() == 1 && cells.get(0).isBlank()) {
+            return;
+        }
+        handler.row(rowNumber, cells);
+    }
+
+    private static void append(StringBuilder cell, char c, int rowNumber) {
+        if (cell.length() >= MAX_CELL_LENGTH) {
+            throw new IllegalArgumentException("Cell longer than " + MAX_CELL_LENGTH + " characters in row " + rowNumber);
+        }
+        cell.append(c);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.service.search.SearchDocument;
+import com.example.egov.web.imports.dto.ImportRowError;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Customers keyed by customerCode, unique per tenant (as UNIQUE (CUSTOMER_CODE, TENANT_ID)).
+ */
+@Component
+class CustomerImportTarget extends ImportTarget {
+
+    private static final List<ImportColumn> COLUMNS = List.of(
+            ImportColumn.text("customerName", "CUSTOMER_NAME", 200).mandatory(),
+            ImportColumn.text("customerCode", "CUSTOMER_CODE", 50).mandatory(),
+            ImportColumn.text("customerType", "CUSTOMER_TYPE", 20).withDefault("COMPANY"),
+            ImportColumn.text("industry", "INDUSTRY", 50),
+            ImportColumn.text("companySize", "COMPANY_SIZE", 20),
+            ImportColumn.text("website", "WEBSITE", 255),
+            ImportColumn.text("phone", "PHONE", 30),
+            ImportColumn.text("email", "EMAIL", 100),
+            ImportColumn.text("address", "ADDRESS", 500),
+            ImportColumn.decimal("annualRevenue", "ANNUAL_REVENUE"),
+            ImportColumn.integer("employeeCount", "EMPLOYEE_COUNT"),
+            ImportColumn.text("assignedUserId", "ASSIGNED_USER_ID", 20),
+            ImportColumn.text("branchId", "BRANCH_ID", 20),
+            ImportColumn.flag("useAt", "USE_AT", "Y"));
+
+    static final String EXISTING_CODES_SQL =
+            "SELECT CUSTOMER_CODE FROM CUSTOMERS WHERE TENANT_ID = :tenantId AND CUSTOMER_CODE IN (:keys)";
+    static final String EXISTING_USERS_SQL =
+            "SELECT ESNTL_ID FROM USERS WHERE TENANT_ID = :tenantId AND ESNTL_ID IN (:keys)";
+    static final String EXISTING_BRANCHES_SQL =
+            "SELECT BRANCH_ID FROM BRANCHES WHERE TENANT_ID = :tenantId AND BRANCH_ID IN (:keys)";
+
+    CustomerImportTarget(NamedParameterJdbcTemplate jdbcTemplate, IdGenerator idGenerator) {
+        super(jdbcTemplate, idGenerator);
+    }
+
+    @Override
+    ImportType type() {
+        return ImportType.CUSTOMER;
+    }
+
+    @Override
+    List<ImportColumn> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    List<ImportRow> resolve(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected) {
+        List<ImportRow> accepted = firstPerKey(rows, row -> row.text("customerCode"), "Duplicate customerCode", rejected);
+        accepted = without(accepted, row -> row.text("customerCode"),
+                lookup(EXISTING_CODES_SQL, tenantId, keys(accepted, row -> row.text("customerCode"))),
+                "Customer code already exists", rejected);
+        accepted = referencing(accepted, "assignedUserId",
+                lookup(EXISTING_USERS_SQL, tenantId, keys(accepted, row -> row.text("assignedUserId"))),
+                "User not found", rejected);
+        return referencing(accepted, "branchId",
+                lookup(EXISTING_BRANCHES_SQL, tenantId, keys(accepted, row -> row.text("branchId"))),
+                "Branch not found", rejected);
+    }
+
+    @Override
+    List<String> insert(String tenantId, List<ImportRow> rows) {
+        return batchInsert("CUSTOMERS", "CUSTOMER_ID", "CUS", tenantId, rows);
+    }
+
+    @Override
+    SearchDocument document(String id, String tenantId, ImportRow row) {
+        return SearchDocument.customer(id, tenantId, row.text("customerName"), row.text("customerCode"), row.text("email"));
+    }
+}
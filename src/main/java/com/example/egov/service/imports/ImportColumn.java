@@ -0,0 +1,79 @@
+package com.example.egov.service.imports;
+
+import java.math.BigDecimal;
+
+/**
+ * One importable field: header name (as in the export), database column and value rules.
+ * Blank cells are null, or the default value when one is set.
+ */
+record ImportColumn(String name, String dbColumn, Kind kind, int maxLength, boolean required, Object defaultValue) {
+
+    enum Kind { TEXT, DECIMAL, INTEGER, FLAG }
+
+    static ImportColumn text(String name, String dbColumn, int maxLength) {
+        return new ImportColumn(name, dbColumn, Kind.TEXT, maxLength, false, null);
+    }
+
+    static ImportColumn decimal(String name, String dbColumn) {
+        return new ImportColumn(name, dbColumn, Kind.DECIMAL, 0, false, null);
+    }
+
+    static ImportColumn integer(String name, String dbColumn) {
+        return new ImportColumn(name, dbColumn, Kind.INTEGER, 0, false, null);
+    }
+
+    /** Y/N column. */
+    static ImportColumn flag(String name, String dbColumn, String defaultValue) {
+        return new ImportColumn(name, dbColumn, Kind.FLAG, 1, false, defaultValue);
+    }
+
+    ImportColumn mandatory() {
+        return new ImportColumn(name, dbColumn, kind, maxLength, true, defaultValue);
+    }
+
+    ImportColumn withDefault(Object value) {
+        return new ImportColumn(name, dbColumn, kind, maxLength, required, value);
+    }
+
+    /**
+     * @throws IllegalArgumentException with a row-report message when the value is invalid
+     */
+    Object convert(String cell) {
+        String value = cell != null ? cell.trim() : "";
+        if (value.isEmpty()) {
+            if (required) {
+                throw new IllegalArgumentException(name + " is required");
+            }
+            return defaultValue;
+        }
+        return switch (kind) {
+            case TEXT -> {
+                if (value.length() > maxLength) {
+                    throw new IllegalArgumentException(name + " must not exceed " + maxLength + " characters");
+                }
+                yield value;
+            }
+            case DECIMAL -> {
+                try {
+                    yield new BigDecimal(value.replace(",", ""));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(name + " is not a number: " + value);
+                }
+            }
+            case INTEGER -> {
+                try {
+                    yield new BigDecimal(value.replace(",", "")).intValueExact();
+                } catch (NumberFormatException | ArithmeticException e) {
+                    throw new IllegalArgumentException(name + " is not a whole number: " + value);
+                }
+            }
+            case FLAG -> {
+                String flag = value.toUpperCase();
+                if (!flag.equals("Y") && !flag.equals("N")) {
+                    throw new IllegalArgumentException(name + " must be Y or N");
+                }
+                yield flag;
+            }
+        };
+    }
+}
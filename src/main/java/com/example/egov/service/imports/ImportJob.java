@@ -0,0 +1,75 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.service.common.AsyncJob;
+import com.example.egov.web.common.ImportFormat;
+import com.example.egov.web.imports.dto.ImportJobStatus;
+import com.example.egov.web.imports.dto.ImportRowError;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * One uploaded file being imported. Only the first maxErrors row errors are kept.
+ */
+@Getter
+public class ImportJob extends AsyncJob {
+
+    private final ImportType type;
+    private final String fileName;
+    private final ImportFormat format;
+    private final int maxErrors;
+
+    private volatile int processedRows;
+    private volatile int importedRows;
+    private volatile int rejectedRows;
+
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    ImportJob(String tenantId, ImportType type, String fileName, ImportFormat format, int maxErrors) {
+        super(tenantId);
+        this.type = type;
+        this.fileName = fileName;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    void rowRead() {
+        this.processedRows++;
+    }
+
+    void rejected(Collection<ImportRowError> rowErrors) {
+        if (rowErrors.isEmpty()) {
+            return;
+        }
+        this.rejectedRows += rowErrors.size();
+        synchronized (errors) {
+            for (ImportRowError rowError : rowErrors) {
+                if (errors.size() >= maxErrors) {
+                    break;
+                }
+                errors.add(rowError);
+            }
+        }
+    }
+
+    void imported(int rows) {
+        this.importedRows += rows;
+    }
+
+    /**
+     * Kept row errors in row order of detection.
+     */
+    public List<ImportRowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public ImportJobStatus status() {
+        return new ImportJobStatus(getJobId(), type.name(), fileName, format.name(), getState().name(),
+                processedRows, importedRows, rejectedRows, rejectedRows > maxErrors,
+                getCreatedAt(), getStartedAt(), getFinishedAt(), getError());
+    }
+}
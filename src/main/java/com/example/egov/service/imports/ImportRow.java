@@ -0,0 +1,13 @@
+package com.example.egov.service.imports;
+
+import java.util.Map;
+
+/**
+ * A converted data row, keyed by ImportColumn name; rowNumber points back into the file.
+ */
+record ImportRow(int rowNumber, Map<String, Object> values) {
+
+    String text(String column) {
+        return (String) values.get(column);
+    }
+}
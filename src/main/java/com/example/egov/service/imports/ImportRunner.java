@@ -0,0 +1,186 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.service.search.SearchIndexer;
+import com.example.egov.web.imports.dto.ImportRowError;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams an uploaded file into its target, app.import.chunk-size rows at a time.
+ *
+ * - The header row maps file columns to ImportColumns by name, ignoring case, spaces and
+ *   underscores; unknown columns (e.g. createdDate in an export) are ignored
+ * - Cell conversion errors reject the row straight away; the rest are collected into a
+ *   chunk, which is resolved and inserted in its own transaction
+ * - A chunk that hits a constraint violation (a concurrent insert of the same key) is
+ *   resolved once more; if it still fails, its rows are rejected and the import goes on
+ * - Inserted rows are handed to SearchIndexer, which indexes them once the chunk commits
+ * - Only the current chunk is held in memory; the temp file is deleted when done
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportRunner {
+
+    private static final int MAX_CHUNK_ATTEMPTS = 2;
+
+    private final PlatformTransactionManager transactionManager;
+    private final SearchIndexer searchIndexer;
+
+    @Value("${app.import.chunk-size:1000}")
+    private int chunkSize;
+
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    protected void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    public void runAsync(ImportJob job, ImportTarget target, RowReader reader, Path file) {
+        run(job, target, reader, file);
+    }
+
+    public void run(ImportJob job, ImportTarget target, RowReader reader, Path file) {
+        job.started();
+        try {
+            Pass pass = new Pass(job, target);
+            reader.read(file, pass::row);
+            if (pass.header == null) {
+                throw new IllegalArgumentException("File has no header row");
+            }
+            pass.flush();
+
+            job.completed();
+            log.info("Import job {} ({}) completed: {} row(s), {} imported, {} rejected",
+                    job.getJobId(), job.getType(), job.getProcessedRows(), job.getImportedRows(), job.getRejectedRows());
+        } catch (IOException | RuntimeException e) {
+            job.failed(e.getMessage());
+            log.error("Import job {} ({}) failed", job.getJobId(), job.getType(), e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private void writeChunk(ImportJob job, ImportTarget target, List<ImportRow> rows) {
+        for (int attempt = 1; ; attempt++) {
+            List<ImportRowError> rejected = new ArrayList<>();
+            try {
+                Integer imported = chunkTransaction.execute(status -> {
+                    List<ImportRow> accepted = target.resolve(job.getTenantId(), rows, rejected);
+                    List<String> ids = target.insert(job.getTenantId(), accepted);
+                    for (int i = 0; i < ids.size(); i++) {
+                        searchIndexer.saved(target.document(ids.get(i), job.getTenantId(), accepted.get(i)));
+                    }
+                    return accepted.size();
+                });
+                job.imported(imported != null ? imported : 0);
+                job.rejected(rejected);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    log.warn("Import job {} rejected a chunk of {} row(s)", job.getJobId(), rows.size(), e);
+                    String message = "Not imported, chunk failed: " + e.getMostSpecificCause().getMessage();
+                    job.rejected(rows.stream().map(row -> new ImportRowError(row.rowNumber(), message)).toList());
+                    return;
+                }
+                log.debug("Import job {} chunk conflicted with a concurrent write, retrying", job.getJobId());
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.replace(" ", "").replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * State of one pass over the file.
+     */
+    private class Pass {
+
+        private final ImportJob job;
+        private final ImportTarget target;
+        private List<ImportColumn> columns;
+        private int[] header;
+        private List<ImportRow> chunk = new ArrayList<>();
+
+        Pass(ImportJob job, ImportTarget target) {
+            this.job = job;
+            this.target = target;
+        }
+
+        void row(int rowNumber, List<String> cells) {
+            if (header == null) {
+                readHeader(cells);
+                return;
+            }
+            job.rowRead();
+
+            Map<String, Object> values = new HashMap<>();
+            try {
+                for (int i = 0; i < columns.size(); i++) {
+                    ImportColumn column = columns.get(i);
+                    int index = header[i];
+                    values.put(column.name(), column.convert(index >= 0 && index < cells.size() ? cells.get(index) : null));
+                }
+            } catch (IllegalArgumentException e) {
+                job.rejected(List.of(new ImportRowError(rowNumber, e.getMessage())));
+                return;
+            }
+
+            chunk.add(new ImportRow(rowNumber, values));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!chunk.isEmpty()) {
+                writeChunk(job, target, chunk);
+                chunk = new ArrayList<>();
+            }
+        }
+
+        private void readHeader(List<String> cells) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                positions.putIfAbsent(normalize(cells.get(i)), i);
+            }
+
+            columns = target.columns();
+            header = new int[columns.size()];
+            List<String> missing = new ArrayList<>();
+            for (int i = 0; i < columns.size(); i++) {
+                ImportColumn column = columns.get(i);
+                header[i] = positions.getOrDefault(normalize(column.name()), -1);
+                if (header[i] < 0 && column.required()) {
+                    missing.add(column.name());
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("Missing required column(s): " + String.join(", ", missing));
+            }
+        }
+    }
+}
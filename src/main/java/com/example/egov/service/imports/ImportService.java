@@ -0,0 +1,83 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.service.common.AsyncJobs;
+import com.example.egov.web.common.ImportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Starts and tracks bulk import jobs (see ImportRunner).
+ *
+ * - The upload is copied to a temp file and parsed from there, so the request returns
+ *   as soon as the file is received
+ * - Jobs are kept in AsyncJobs for status requests (app.import.retained-jobs)
+ */
+@Slf4j
+@Service
+public class ImportService {
+
+    private final ImportRunner importRunner;
+    private final Map<ImportType, ImportTarget> targets = new EnumMap<>(ImportType.class);
+    private final Map<ImportFormat, RowReader> readers = new EnumMap<>(Map.of(
+            ImportFormat.CSV, new CsvRowReader(),
+            ImportFormat.XLSX, new XlsxRowReader()));
+
+    private final AsyncJobs<ImportJob> jobs;
+
+    @Value("${app.import.max-errors:1000}")
+    private int maxErrors;
+
+    ImportService(ImportRunner importRunner, List<ImportTarget> targets,
+                  @Value("${app.import.retained-jobs:50}") int retainedJobs) {
+        this.importRunner = importRunner;
+        this.jobs = new AsyncJobs<>(retainedJobs);
+        targets.forEach(target -> this.targets.put(target.type(), target));
+    }
+
+    public ImportJob startImport(ImportType type, ImportFormat format, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        ImportTarget target = targets.get(type);
+        if (target == null) {
+            throw new IllegalArgumentException("Unsupported import type: " + type);
+        }
+
+        Path temp = Files.createTempFile("import-", "." + format.getExtension());
+        try {
+            file.transferTo(temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(TenantContext.getCurrentTenantId(), type, file.getOriginalFilename(), format, maxErrors);
+        jobs.add(job);
+        log.info("Import job {} queued: {} {} ({} bytes)", job.getJobId(), type, file.getOriginalFilename(), file.getSize());
+
+        importRunner.runAsync(job, target, readers.get(format), temp);
+        return job;
+    }
+
+    public Optional<ImportJob> getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * Retained jobs, newest first.
+     */
+    public List<ImportJob> getJobs() {
+        return jobs.list();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.service.search.SearchDocument;
+import com.example.egov.web.imports.dto.ImportRowError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Table an import writes to, with the set-based checks used on each chunk.
+ *
+ * - resolve() drops rows that are duplicates (within the chunk or of stored rows) or
+ *   reference rows the tenant does not have; every lookup is one IN query per chunk
+ * - insert() writes the accepted rows as one JDBC batch; the INSERT covers every column
+ *   with a dbColumn, plus the generated ID, TENANT_ID and CREATED_DATE
+ * - document() maps an inserted row for SearchIndexer, since the batch bypasses the
+ *   entity listeners
+ */
+@RequiredArgsConstructor
+abstract class ImportTarget {
+
+    protected final NamedParameterJdbcTemplate jdbcTemplate;
+    protected final IdGenerator idGenerator;
+
+    abstract ImportType type();
+
+    abstract List<ImportColumn> columns();
+
+    /**
+     * @param rejected receives one error per dropped row
+     * @return rows to insert, in file order
+     */
+    abstract List<ImportRow> resolve(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected);
+
+    /**
+     * @return the generated IDs, in row order
+     */
+    abstract List<String> insert(String tenantId, List<ImportRow> rows);
+
+    abstract SearchDocument document(String id, String tenantId, ImportRow row);
+
+    /**
+     * Keep the first row per key; rows without a key are kept.
+     */
+    protected static List<ImportRow> firstPerKey(List<ImportRow> rows, Function<ImportRow, String> key,
+                                                 String message, List<ImportRowError> rejected) {
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> kept = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String value = key.apply(row);
+            if (value == null || seen.add(value)) {
+                kept.add(row);
+            } else {
+                rejected.add(new ImportRowError(row.rowNumber(), message + " earlier in the file: " + value));
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Drop rows whose key is in {@code stored}.
+     */
+    protected static List<ImportRow> without(List<ImportRow> rows, Function<ImportRow, String> key, Set<String> stored,
+                                             String message, List<ImportRowError> rejected) {
+        return filter(rows, row -> {
+            String value = key.apply(row);
+            return value == null || !stored.contains(value) ? null : message + ": " + value;
+        }, rejected);
+    }
+
+    /**
+     * Drop rows whose (optional) reference is not in {@code existing}.
+     */
+    protected static List<ImportRow> referencing(List<ImportRow> rows, String column, Set<String> existing,
+                                                 String message, List<ImportRowError> rejected) {
+        return filter(rows, row -> {
+            String value = row.text(column);
+            return value == null || existing.contains(value) ? null : message + ": " + value;
+        }, rejected);
+    }
+
+    private static List<ImportRow> filter(List<ImportRow> rows, Function<ImportRow, String> error,
+                                          List<ImportRowError> rejected) {
+        List<ImportRow> kept = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String message = error.apply(row);
+            if (message == null) {
+                kept.add(row);
+            } else {
+                rejected.add(new ImportRowError(row.rowNumber(), message));
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Distinct non-null values of a key over the chunk.
+     */
+    protected static Set<String> keys(List<ImportRow> rows, Function<ImportRow, String> key) {
+        return rows.stream().map(key).filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Run a single-column lookup with :keys and :tenantId bound; no query for an empty key set.
+     */
+    protected Set<String> lookup(String sql, String tenantId, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keys", keys)
+                .addValue("tenantId", tenantId);
+        return new HashSet<>(jdbcTemplate.queryForList(sql, params, String.class));
+    }
+
+    /**
+     * Batch insert the rows with generated IDs.
+     *
+     * @return the generated IDs, in row order
+     */
+    protected List<String> batchInsert(String table, String idColumn, String idPrefix, String tenantId,
+                                       List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<ImportColumn> stored = columns().stream().filter(column -> column.dbColumn() != null).toList();
+        String sql = "INSERT INTO " + table + " (" + idColumn + ", "
+                + stored.stream().map(ImportColumn::dbColumn).collect(Collectors.joining(", "))
+                + ", TENANT_ID, CREATED_DATE) VALUES (:id, "
+                + stored.stream().map(column -> ":" + column.name()).collect(Collectors.joining(", "))
+                + ", :tenantId, CURRENT_TIMESTAMP)";
+
+        List<String> ids = new ArrayList<>(rows.size());
+        SqlParameterSource[] batch = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            String id = idGenerator.nextId(idPrefix);
+            ids.add(id);
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("id", id)
+                    .addValue("tenantId", tenantId);
+            for (ImportColumn column : stored) {
+                params.addValue(column.name(), rows.get(i).values().get(column.name()));
+            }
+            batch[i] = params;
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+        return ids;
+    }
+}
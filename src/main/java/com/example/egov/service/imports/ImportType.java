@@ -0,0 +1,24 @@
+package com.example.egov.service.imports;
+
+/**
+ * Entities that can be bulk imported.
+ */
+public enum ImportType {
+
+    CUSTOMER, CONTACT, LEAD;
+
+    /**
+     * Accepts the singular or plural name in any case, e.g. "customers".
+     */
+    public static ImportType from(String value) {
+        String name = value == null ? "" : value.trim().toUpperCase();
+        if (name.endsWith("S")) {
+            name = name.substring(0, name.length() - 1);
+        }
+        try {
+            return ImportType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported import type: " + value);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.service.search.SearchDocument;
+import com.example.egov.web.imports.dto.ImportRowError;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Leads, deduplicated on email (case-insensitive) within the tenant; leads without email
+ * are never duplicates.
+ */
+@Component
+class LeadImportTarget extends ImportTarget {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 4000;
+
+    private static final List<ImportColumn> COLUMNS = List.of(
+            ImportColumn.text("leadName", "LEAD_NAME", 200).mandatory(),
+            ImportColumn.text("companyName", "COMPANY_NAME", 200),
+            ImportColumn.text("contactName", "CONTACT_NAME", 100),
+            ImportColumn.text("email", "EMAIL", 100),
+            ImportColumn.text("phone", "PHONE", 30),
+            ImportColumn.text("leadSource", "LEAD_SOURCE", 50),
+            ImportColumn.text("leadStatus", "LEAD_STATUS", 20).withDefault("NEW"),
+            ImportColumn.integer("leadScore", "LEAD_SCORE").withDefault(0),
+            ImportColumn.text("industry", "INDUSTRY", 50),
+            ImportColumn.decimal("estimatedRevenue", "ESTIMATED_REVENUE"),
+            ImportColumn.text("description", "DESCRIPTION", MAX_DESCRIPTION_LENGTH),
+            ImportColumn.text("assignedUserId", "ASSIGNED_USER_ID", 20),
+            ImportColumn.flag("useAt", "USE_AT", "Y"));
+
+    static final String EXISTING_EMAILS_SQL =
+            "SELECT LOWER(EMAIL) FROM LEADS WHERE TENANT_ID = :tenantId AND LOWER(EMAIL) IN (:keys)";
+
+    LeadImportTarget(NamedParameterJdbcTemplate jdbcTemplate, IdGenerator idGenerator) {
+        super(jdbcTemplate, idGenerator);
+    }
+
+    @Override
+    ImportType type() {
+        return ImportType.LEAD;
+    }
+
+    @Override
+    List<ImportColumn> columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    List<ImportRow> resolve(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected) {
+        List<ImportRow> accepted = firstPerKey(rows, LeadImportTarget::emailKey, "Duplicate lead email", rejected);
+        accepted = without(accepted, LeadImportTarget::emailKey,
+                lookup(EXISTING_EMAILS_SQL, tenantId, keys(accepted, LeadImportTarget::emailKey)),
+                "Lead email already exists", rejected);
+        return referencing(accepted, "assignedUserId",
+                lookup(CustomerImportTarget.EXISTING_USERS_SQL, tenantId, keys(accepted, row -> row.text("assignedUserId"))),
+                "User not found", rejected);
+    }
+
+    private static String emailKey(ImportRow row) {
+        String email = row.text("email");
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    List<String> insert(String tenantId, List<ImportRow> rows) {
+        return batchInsert("LEADS", "LEAD_ID", "LED", tenantId, rows);
+    }
+
+    @Override
+    SearchDocument document(String id, String tenantId, ImportRow row) {
+        return SearchDocument.lead(id, tenantId, row.text("leadName"), row.text("companyName"),
+                row.text("contactName"), row.text("email"));
+    }
+}
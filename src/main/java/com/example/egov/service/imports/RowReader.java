@@ -0,0 +1,19 @@
+package com.example.egov.service.imports;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Streams the rows of an uploaded file to a handler, one row at a time.
+ * Row numbers are 1-based and include the header row, as a spreadsheet shows them.
+ */
+interface RowReader {
+
+    void read(Path file, RowHandler handler) throws IOException;
+
+    @FunctionalInterface
+    interface RowHandler {
+        void row(int rowNumber, List<String> cells);
+    }
+}
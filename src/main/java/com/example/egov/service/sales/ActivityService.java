@@ -1,22 +1,35 @@
 package com.example.egov.service.sales;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.admin.QUser;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
 import com.example.egov.domain.sales.Activity;
 import com.example.egov.domain.sales.ActivityRepository;
+import com.example.egov.domain.sales.QActivity;
 import com.example.egov.web.sales.dto.ActivityCreateRequest;
+import com.example.egov.web.sales.dto.ActivityResponse;
 import com.example.egov.web.sales.dto.ActivityUpdateRequest;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -24,26 +37,32 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ActivityService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QActivity ACTIVITY = QActivity.activity;
+    private static final QUser ASSIGNED_USER = new QUser("assignedUser");
+    private static final KeysetSort<ActivityResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(ACTIVITY.createdDate, ActivityResponse::getCreatedDate);
+    private static final KeysetSort<ActivityResponse, LocalDateTime> DUE_DATE_FIRST = new KeysetSort<>(
+            "dueDate", ACTIVITY.dueDate, ActivityResponse::getDueDate, LocalDateTime.class, Order.ASC, true);
+    private static final FilterFields<ActivityResponse> FILTER_FIELDS = FilterFields.builder("activity", NEWEST_FIRST)
+            .field("relatedType", ACTIVITY.relatedType, String.class)
+            .field("relatedId", ACTIVITY.relatedId, String.class)
+            .field("assignedUserId", ACTIVITY.assignedUser.id, String.class)
+            .field("activityStatus", ACTIVITY.activityStatus, String.class)
+            .sortable("dueDate", ACTIVITY.dueDate, ActivityResponse::getDueDate, LocalDateTime.class, true)
+            .build();
 
     private final ActivityRepository activityRepository;
     private final UserRepository userRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyActivityAccess(Activity activity) {
-        if (!isSystemTenant() && !activity.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to activity: " + activity.getActivityId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Activity createActivity(ActivityCreateRequest request) {
         String tenantId = TenantContext.getCurrentTenantId();
 
-        String activityId = generateActivityId();
+        String activityId = idGenerator.nextId("ACT");
         log.info("Creating activity: {} for tenant: {}", activityId, tenantId);
 
         Activity activity = new Activity();
@@ -75,10 +94,9 @@ public class ActivityService {
 
     @Transactional
     public Activity updateActivity(String activityId, ActivityUpdateRequest request) {
-        Activity activity = activityRepository.findById(activityId)
+        Activity activity = activityRepository.findByIdScoped(activityId)
                 .orElseThrow(() -> new IllegalArgumentException("Activity not found: " + activityId));
 
-        verifyActivityAccess(activity);
         log.info("Updating activity: {}", activityId);
 
         if (request.getActivityType() != null) {
@@ -131,11 +149,9 @@ public class ActivityService {
 
     @Transactional
     public Activity completeActivity(String activityId) {
-        Activity activity = activityRepository.findById(activityId)
+        Activity activity = activityRepository.findByIdScoped(activityId)
                 .orElseThrow(() -> new IllegalArgumentException("Activity not found: " + activityId));
 
-        verifyActivityAccess(activity);
-
         activity.setActivityStatus("COMPLETED");
         activity.setCompletedDate(LocalDateTime.now());
 
@@ -146,66 +162,94 @@ public class ActivityService {
     }
 
     public Optional<Activity> getActivity(String activityId) {
-        Optional<Activity> activity = activityRepository.findById(activityId);
-        activity.ifPresent(this::verifyActivityAccess);
-        return activity;
+        return activityRepository.findByIdScoped(activityId);
+    }
+
+    public CursorPage<ActivityResponse> getAllActivities(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Activity> getAllActivities() {
-        return activityRepository.findAll();
+    public CursorPage<ActivityResponse> getActivitiesByType(String type, CursorRequest page) {
+        return findPage(ACTIVITY.activityType.eq(type), page);
     }
 
-    public List<Activity> getActivitiesByType(String type) {
-        return activityRepository.findByActivityType(type);
+    public CursorPage<ActivityResponse> getActivitiesByStatus(String status, CursorRequest page) {
+        return findPage(ACTIVITY.activityStatus.eq(status), page);
     }
 
-    public List<Activity> getActivitiesByStatus(String status) {
-        return activityRepository.findByActivityStatus(status);
+    public CursorPage<ActivityResponse> getActivitiesByPriority(String priority, CursorRequest page) {
+        return findPage(ACTIVITY.priority.eq(priority), page);
     }
 
-    public List<Activity> getActivitiesByPriority(String priority) {
-        return activityRepository.findByPriority(priority);
+    public CursorPage<ActivityResponse> getActivitiesByAssignedUser(String userId, CursorRequest page) {
+        return findPage(ACTIVITY.assignedUser.id.eq(userId), page);
     }
 
-    public List<Activity> getActivitiesByAssignedUser(String userId) {
-        return activityRepository.findByAssignedUserId(userId);
+    public CursorPage<ActivityResponse> getActivitiesForEntity(String relatedType, String relatedId, CursorRequest page) {
+        return findPage(ACTIVITY.relatedType.eq(relatedType).and(ACTIVITY.relatedId.eq(relatedId)), page);
     }
 
-    public List<Activity> getActivitiesForEntity(String relatedType, String relatedId) {
-        return activityRepository.findByRelatedEntity(relatedType, relatedId);
+    public CursorPage<ActivityResponse> getActivitiesByDueDateRange(LocalDateTime startDate, LocalDateTime endDate, CursorRequest page) {
+        return findPage(ACTIVITY.dueDate.between(startDate, endDate), page);
     }
 
-    public List<Activity> getActivitiesByDueDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return activityRepository.findByDueDateBetween(startDate, endDate);
+    public CursorPage<ActivityResponse> getOverdueActivities(CursorRequest page) {
+        return findPage(ACTIVITY.activityStatus.eq("PLANNED").and(ACTIVITY.dueDate.lt(LocalDateTime.now())), page);
     }
 
-    public List<Activity> getOverdueActivities() {
-        return activityRepository.findOverdueActivities(LocalDateTime.now());
+    public CursorPage<ActivityResponse> getPendingActivitiesForUser(String userId, CursorRequest page) {
+        return findPage(ACTIVITY.assignedUser.id.eq(userId).and(ACTIVITY.activityStatus.eq("PLANNED")), DUE_DATE_FIRST, page);
     }
 
-    public List<Activity> getPendingActivitiesForUser(String userId) {
-        return activityRepository.findPendingActivitiesByUserId(userId);
+    public CursorPage<ActivityResponse> searchActivities(String keyword, CursorRequest page) {
+        return findPage(ACTIVITY.activitySubject.contains(keyword), page);
     }
 
-    public List<Activity> searchActivities(String keyword) {
-        return activityRepository.searchByKeyword(keyword);
+    public CursorPage<ActivityResponse> queryActivities(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteActivity(String activityId) {
-        Activity activity = activityRepository.findById(activityId)
+        Activity activity = activityRepository.findByIdScoped(activityId)
                 .orElseThrow(() -> new IllegalArgumentException("Activity not found: " + activityId));
 
-        verifyActivityAccess(activity);
-
         log.info("Deleting activity: {}", activityId);
         activityRepository.delete(activity);
         log.info("Activity deleted successfully: {}", activityId);
     }
 
-    private String generateActivityId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "ACT" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<ActivityResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<ActivityResponse> findPage(Predicate filter, KeysetSort<ActivityResponse, ?> sort, CursorRequest page) {
+        return keysetPager.page(listQuery(), filter, sort, ACTIVITY.activityId, ActivityResponse::getActivityId, page);
+    }
+
+    private JPAQuery<ActivityResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(ActivityResponse.class,
+                        ACTIVITY.activityId,
+                        ACTIVITY.activityType,
+                        ACTIVITY.activitySubject,
+                        ACTIVITY.activityDescription,
+                        ACTIVITY.activityStatus,
+                        ACTIVITY.activityDate,
+                        ACTIVITY.dueDate,
+                        ACTIVITY.completedDate,
+                        ACTIVITY.durationMinutes,
+                        ACTIVITY.priority,
+                        ACTIVITY.relatedType,
+                        ACTIVITY.relatedId,
+                        ACTIVITY.assignedUser.id.as("assignedUserId"),
+                        ASSIGNED_USER.userName.as("assignedUserName"),
+                        ACTIVITY.tenantId,
+                        ACTIVITY.useAt,
+                        ACTIVITY.createdDate,
+                        ACTIVITY.updatedDate))
+                .from(ACTIVITY)
+                .leftJoin(ACTIVITY.assignedUser, ASSIGNED_USER);
     }
 }
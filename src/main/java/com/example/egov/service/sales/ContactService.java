@@ -1,21 +1,34 @@
 package com.example.egov.service.sales;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
 import com.example.egov.domain.sales.Contact;
 import com.example.egov.domain.sales.ContactRepository;
 import com.example.egov.domain.sales.Customer;
 import com.example.egov.domain.sales.CustomerRepository;
+import com.example.egov.domain.sales.QContact;
+import com.example.egov.domain.sales.QCustomer;
 import com.example.egov.web.sales.dto.ContactCreateRequest;
+import com.example.egov.web.sales.dto.ContactResponse;
 import com.example.egov.web.sales.dto.ContactUpdateRequest;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -23,20 +36,20 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ContactService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QContact CONTACT = QContact.contact;
+    private static final QCustomer CUSTOMER = new QCustomer("customer");
+    private static final KeysetSort<ContactResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(CONTACT.createdDate, ContactResponse::getCreatedDate);
+    private static final FilterFields<ContactResponse> FILTER_FIELDS = FilterFields.builder("contact", NEWEST_FIRST)
+            .field("customerId", CONTACT.customer.customerId, String.class)
+            .build();
 
     private final ContactRepository contactRepository;
     private final CustomerRepository customerRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyContactAccess(Contact contact) {
-        if (!isSystemTenant() && !contact.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to contact: " + contact.getContactId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Contact createContact(ContactCreateRequest request) {
@@ -45,7 +58,7 @@ public class ContactService {
         Customer customer = customerRepository.findById(request.getCustomerId())
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + request.getCustomerId()));
 
-        String contactId = generateContactId();
+        String contactId = idGenerator.nextId("CON");
         log.info("Creating contact: {} for customer: {}", contactId, request.getCustomerId());
 
         Contact contact = new Contact();
@@ -69,10 +82,9 @@ public class ContactService {
 
     @Transactional
     public Contact updateContact(String contactId, ContactUpdateRequest request) {
-        Contact contact = contactRepository.findById(contactId)
+        Contact contact = contactRepository.findByIdScoped(contactId)
                 .orElseThrow(() -> new IllegalArgumentException("Contact not found: " + contactId));
 
-        verifyContactAccess(contact);
         log.info("Updating contact: {}", contactId);
 
         if (request.getContactName() != null) {
@@ -107,46 +119,70 @@ public class ContactService {
     }
 
     public Optional<Contact> getContact(String contactId) {
-        Optional<Contact> contact = contactRepository.findById(contactId);
-        contact.ifPresent(this::verifyContactAccess);
-        return contact;
+        return contactRepository.findByIdScoped(contactId);
     }
 
-    public List<Contact> getAllContacts() {
-        return contactRepository.findAll();
+    public CursorPage<ContactResponse> getAllContacts(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Contact> getContactsByCustomer(String customerId) {
-        return contactRepository.findByCustomerId(customerId);
+    public CursorPage<ContactResponse> getContactsByCustomer(String customerId, CursorRequest page) {
+        return findPage(CONTACT.customer.customerId.eq(customerId), page);
     }
 
     public Optional<Contact> getPrimaryContactByCustomer(String customerId) {
         return contactRepository.findPrimaryContactByCustomerId(customerId);
     }
 
-    public List<Contact> getActiveContacts() {
-        return contactRepository.findByUseAt("Y");
+    public CursorPage<ContactResponse> getActiveContacts(CursorRequest page) {
+        return findPage(CONTACT.useAt.eq("Y"), page);
+    }
+
+    public CursorPage<ContactResponse> searchContacts(String keyword, CursorRequest page) {
+        return findPage(CONTACT.contactName.contains(keyword).or(CONTACT.email.contains(keyword)), page);
     }
 
-    public List<Contact> searchContacts(String keyword) {
-        return contactRepository.searchByKeyword(keyword);
+    public CursorPage<ContactResponse> queryContacts(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteContact(String contactId) {
-        Contact contact = contactRepository.findById(contactId)
+        Contact contact = contactRepository.findByIdScoped(contactId)
                 .orElseThrow(() -> new IllegalArgumentException("Contact not found: " + contactId));
 
-        verifyContactAccess(contact);
-
         log.info("Deleting contact: {}", contactId);
         contactRepository.delete(contact);
         log.info("Contact deleted successfully: {}", contactId);
     }
 
-    private String generateContactId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "CON" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<ContactResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<ContactResponse> findPage(Predicate filter, KeysetSort<ContactResponse, ?> sort, CursorRequest page) {
+        return keysetPager.page(listQuery(), filter, sort, CONTACT.contactId, ContactResponse::getContactId, page);
+    }
+
+    private JPAQuery<ContactResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(ContactResponse.class,
+                        CONTACT.contactId,
+                        CONTACT.customer.customerId.as("customerId"),
+                        CUSTOMER.customerName.as("customerName"),
+                        CONTACT.contactName,
+                        CONTACT.contactTitle,
+                        CONTACT.department,
+                        CONTACT.phone,
+                        CONTACT.mobile,
+                        CONTACT.email,
+                        CONTACT.isPrimary,
+                        CONTACT.tenantId,
+                        CONTACT.useAt,
+                        CONTACT.createdDate,
+                        CONTACT.updatedDate))
+                .from(CONTACT)
+                .leftJoin(CONTACT.customer, CUSTOMER);
     }
 }
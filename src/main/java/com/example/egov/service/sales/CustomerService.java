@@ -3,21 +3,35 @@ package com.example.egov.service.sales;
 import com.example.egov.config.multitenancy.TenantContext;
 import com.example.egov.domain.admin.Branch;
 import com.example.egov.domain.admin.BranchRepository;
+import com.example.egov.domain.admin.QBranch;
+import com.example.egov.domain.admin.QUser;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
 import com.example.egov.domain.sales.Customer;
 import com.example.egov.domain.sales.CustomerRepository;
+import com.example.egov.domain.sales.QCustomer;
 import com.example.egov.web.sales.dto.CustomerCreateRequest;
+import com.example.egov.web.sales.dto.CustomerResponse;
 import com.example.egov.web.sales.dto.CustomerUpdateRequest;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -25,21 +39,24 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class CustomerService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QCustomer CUSTOMER = QCustomer.customer;
+    private static final QUser ASSIGNED_USER = new QUser("assignedUser");
+    private static final QBranch BRANCH = new QBranch("branch");
+    private static final KeysetSort<CustomerResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(CUSTOMER.createdDate, CustomerResponse::getCreatedDate);
+    private static final FilterFields<CustomerResponse> FILTER_FIELDS = FilterFields.builder("customer", NEWEST_FIRST)
+            .field("assignedUserId", CUSTOMER.assignedUser.id, String.class)
+            .field("branchId", CUSTOMER.branch.branchId, String.class)
+            .field("customerCode", CUSTOMER.customerCode, String.class)
+            .build();
 
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
     private final BranchRepository branchRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyCustomerAccess(Customer customer) {
-        if (!isSystemTenant() && !customer.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to customer: " + customer.getCustomerId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Customer createCustomer(CustomerCreateRequest request) {
@@ -49,7 +66,7 @@ public class CustomerService {
             throw new IllegalArgumentException("Customer code already exists: " + request.getCustomerCode());
         }
 
-        String customerId = generateCustomerId();
+        String customerId = idGenerator.nextId("CUS");
         log.info("Creating customer: {} for tenant: {}", customerId, tenantId);
 
         Customer customer = new Customer();
@@ -88,10 +105,9 @@ public class CustomerService {
 
     @Transactional
     public Customer updateCustomer(String customerId, CustomerUpdateRequest request) {
-        Customer customer = customerRepository.findById(customerId)
+        Customer customer = customerRepository.findByIdScoped(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
 
-        verifyCustomerAccess(customer);
         log.info("Updating customer: {}", customerId);
 
         if (request.getCustomerName() != null) {
@@ -151,46 +167,47 @@ public class CustomerService {
     }
 
     public Optional<Customer> getCustomer(String customerId) {
-        Optional<Customer> customer = customerRepository.findById(customerId);
-        customer.ifPresent(this::verifyCustomerAccess);
-        return customer;
+        return customerRepository.findByIdScoped(customerId);
+    }
+
+    public CursorPage<CustomerResponse> getAllCustomers(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Customer> getAllCustomers() {
-        return customerRepository.findAll();
+    public CursorPage<CustomerResponse> getActiveCustomers(CursorRequest page) {
+        return findPage(CUSTOMER.useAt.eq("Y"), page);
     }
 
-    public List<Customer> getActiveCustomers() {
-        return customerRepository.findByUseAt("Y");
+    public CursorPage<CustomerResponse> getCustomersByType(String customerType, CursorRequest page) {
+        return findPage(CUSTOMER.customerType.eq(customerType), page);
     }
 
-    public List<Customer> getCustomersByType(String customerType) {
-        return customerRepository.findByCustomerType(customerType);
+    public CursorPage<CustomerResponse> getCustomersByIndustry(String industry, CursorRequest page) {
+        return findPage(CUSTOMER.industry.eq(industry), page);
     }
 
-    public List<Customer> getCustomersByIndustry(String industry) {
-        return customerRepository.findByIndustry(industry);
+    public CursorPage<CustomerResponse> getCustomersByAssignedUser(String userId, CursorRequest page) {
+        return findPage(CUSTOMER.assignedUser.id.eq(userId), page);
     }
 
-    public List<Customer> getCustomersByAssignedUser(String userId) {
-        return customerRepository.findByAssignedUserId(userId);
+    public CursorPage<CustomerResponse> getCustomersByBranch(String branchId, CursorRequest page) {
+        return findPage(CUSTOMER.branch.branchId.eq(branchId), page);
     }
 
-    public List<Customer> getCustomersByBranch(String branchId) {
-        return customerRepository.findByBranchId(branchId);
+    public CursorPage<CustomerResponse> searchCustomers(String keyword, CursorRequest page) {
+        return findPage(CUSTOMER.customerName.contains(keyword).or(CUSTOMER.customerCode.contains(keyword)), page);
     }
 
-    public List<Customer> searchCustomers(String keyword) {
-        return customerRepository.searchByKeyword(keyword);
+    public CursorPage<CustomerResponse> queryCustomers(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteCustomer(String customerId) {
-        Customer customer = customerRepository.findById(customerId)
+        Customer customer = customerRepository.findByIdScoped(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
 
-        verifyCustomerAccess(customer);
-
         log.info("Deleting customer: {}", customerId);
         customerRepository.delete(customer);
         log.info("Customer deleted successfully: {}", customerId);
@@ -200,9 +217,39 @@ public class CustomerService {
         return customerRepository.existsByCustomerCode(customerCode);
     }
 
-    private String generateCustomerId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "CUS" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<CustomerResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<CustomerResponse> findPage(Predicate filter, KeysetSort<CustomerResponse, ?> sort, CursorRequest page) {
+        return keysetPager.page(listQuery(), filter, sort, CUSTOMER.customerId, CustomerResponse::getCustomerId, page);
+    }
+
+    private JPAQuery<CustomerResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(CustomerResponse.class,
+                        CUSTOMER.customerId,
+                        CUSTOMER.customerName,
+                        CUSTOMER.customerCode,
+                        CUSTOMER.customerType,
+                        CUSTOMER.industry,
+                        CUSTOMER.companySize,
+                        CUSTOMER.website,
+                        CUSTOMER.phone,
+                        CUSTOMER.email,
+                        CUSTOMER.address,
+                        CUSTOMER.annualRevenue,
+                        CUSTOMER.employeeCount,
+                        CUSTOMER.assignedUser.id.as("assignedUserId"),
+                        ASSIGNED_USER.userName.as("assignedUserName"),
+                        CUSTOMER.branch.branchId.as("branchId"),
+                        BRANCH.branchName.as("branchName"),
+                        CUSTOMER.tenantId,
+                        CUSTOMER.useAt,
+                        CUSTOMER.createdDate,
+                        CUSTOMER.updatedDate))
+                .from(CUSTOMER)
+                .leftJoin(CUSTOMER.assignedUser, ASSIGNED_USER)
+                .leftJoin(CUSTOMER.branch, BRANCH);
     }
 }
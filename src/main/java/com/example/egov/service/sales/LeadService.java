@@ -1,24 +1,36 @@
 package com.example.egov.service.sales;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.admin.QUser;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
 import com.example.egov.domain.sales.Customer;
 import com.example.egov.domain.sales.CustomerRepository;
 import com.example.egov.domain.sales.Lead;
 import com.example.egov.domain.sales.LeadRepository;
+import com.example.egov.domain.sales.QLead;
 import com.example.egov.web.sales.dto.LeadCreateRequest;
+import com.example.egov.web.sales.dto.LeadResponse;
 import com.example.egov.web.sales.dto.LeadUpdateRequest;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -26,27 +38,28 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class LeadService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QLead LEAD = QLead.lead;
+    private static final QUser ASSIGNED_USER = new QUser("assignedUser");
+    private static final KeysetSort<LeadResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(LEAD.createdDate, LeadResponse::getCreatedDate);
+    private static final FilterFields<LeadResponse> FILTER_FIELDS = FilterFields.builder("lead", NEWEST_FIRST)
+            .field("leadStatus", LEAD.leadStatus, String.class)
+            .field("assignedUserId", LEAD.assignedUser.id, String.class)
+            .build();
 
     private final LeadRepository leadRepository;
     private final UserRepository userRepository;
     private final CustomerRepository customerRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyLeadAccess(Lead lead) {
-        if (!isSystemTenant() && !lead.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to lead: " + lead.getLeadId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Lead createLead(LeadCreateRequest request) {
         String tenantId = TenantContext.getCurrentTenantId();
 
-        String leadId = generateLeadId();
+        String leadId = idGenerator.nextId("LED");
         log.info("Creating lead: {} for tenant: {}", leadId, tenantId);
 
         Lead lead = new Lead();
@@ -79,10 +92,9 @@ public class LeadService {
 
     @Transactional
     public Lead updateLead(String leadId, LeadUpdateRequest request) {
-        Lead lead = leadRepository.findById(leadId)
+        Lead lead = leadRepository.findByIdScoped(leadId)
                 .orElseThrow(() -> new IllegalArgumentException("Lead not found: " + leadId));
 
-        verifyLeadAccess(lead);
         log.info("Updating lead: {}", leadId);
 
         if (request.getLeadName() != null) {
@@ -135,11 +147,9 @@ public class LeadService {
 
     @Transactional
     public Customer convertLeadToCustomer(String leadId, String customerCode, String customerName) {
-        Lead lead = leadRepository.findById(leadId)
+        Lead lead = leadRepository.findByIdScoped(leadId)
                 .orElseThrow(() -> new IllegalArgumentException("Lead not found: " + leadId));
 
-        verifyLeadAccess(lead);
-
         if (lead.getConvertedCustomer() != null) {
             throw new IllegalStateException("Lead is already converted");
         }
@@ -151,8 +161,7 @@ public class LeadService {
         log.info("Converting lead: {} to customer", leadId);
 
         // Create new customer from lead data
-        String customerId = "CUS" + String.valueOf(System.currentTimeMillis()).substring(3) +
-                UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        String customerId = idGenerator.nextId("CUS");
 
         Customer customer = new Customer();
         customer.setCustomerId(customerId);
@@ -180,50 +189,82 @@ public class LeadService {
     }
 
     public Optional<Lead> getLead(String leadId) {
-        Optional<Lead> lead = leadRepository.findById(leadId);
-        lead.ifPresent(this::verifyLeadAccess);
-        return lead;
+        return leadRepository.findByIdScoped(leadId);
     }
 
-    public List<Lead> getAllLeads() {
-        return leadRepository.findAll();
+    public CursorPage<LeadResponse> getAllLeads(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Lead> getActiveLeads() {
-        return leadRepository.findActiveLeads();
+    public CursorPage<LeadResponse> getActiveLeads(CursorRequest page) {
+        return findPage(LEAD.leadStatus.notIn("CONVERTED", "LOST"), page);
     }
 
-    public List<Lead> getLeadsByStatus(String status) {
-        return leadRepository.findByLeadStatus(status);
+    public CursorPage<LeadResponse> getLeadsByStatus(String status, CursorRequest page) {
+        return findPage(LEAD.leadStatus.eq(status), page);
     }
 
-    public List<Lead> getLeadsBySource(String source) {
-        return leadRepository.findByLeadSource(source);
+    public CursorPage<LeadResponse> getLeadsBySource(String source, CursorRequest page) {
+        return findPage(LEAD.leadSource.eq(source), page);
     }
 
-    public List<Lead> getLeadsByAssignedUser(String userId) {
-        return leadRepository.findByAssignedUserId(userId);
+    public CursorPage<LeadResponse> getLeadsByAssignedUser(String userId, CursorRequest page) {
+        return findPage(LEAD.assignedUser.id.eq(userId), page);
     }
 
-    public List<Lead> searchLeads(String keyword) {
-        return leadRepository.searchByKeyword(keyword);
+    public CursorPage<LeadResponse> searchLeads(String keyword, CursorRequest page) {
+        return findPage(LEAD.leadName.contains(keyword)
+                .or(LEAD.companyName.contains(keyword))
+                .or(LEAD.email.contains(keyword)), page);
+    }
+
+    public CursorPage<LeadResponse> queryLeads(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteLead(String leadId) {
-        Lead lead = leadRepository.findById(leadId)
+        Lead lead = leadRepository.findByIdScoped(leadId)
                 .orElseThrow(() -> new IllegalArgumentException("Lead not found: " + leadId));
 
-        verifyLeadAccess(lead);
-
         log.info("Deleting lead: {}", leadId);
         leadRepository.delete(lead);
         log.info("Lead deleted successfully: {}", leadId);
     }
 
-    private String generateLeadId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "LED" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<LeadResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<LeadResponse> findPage(Predicate filter, KeysetSort<LeadResponse, ?> sort, CursorRequest page) {
+        return keysetPager.page(listQuery(), filter, sort, LEAD.leadId, LeadResponse::getLeadId, page);
+    }
+
+    private JPAQuery<LeadResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(LeadResponse.class,
+                        LEAD.leadId,
+                        LEAD.leadName,
+                        LEAD.companyName,
+                        LEAD.contactName,
+                        LEAD.email,
+                        LEAD.phone,
+                        LEAD.leadSource,
+                        LEAD.leadStatus,
+                        LEAD.leadScore,
+                        LEAD.industry,
+                        LEAD.estimatedRevenue,
+                        LEAD.description,
+                        LEAD.assignedUser.id.as("assignedUserId"),
+                        ASSIGNED_USER.userName.as("assignedUserName"),
+                        LEAD.convertedCustomer.customerId.as("convertedCustomerId"),
+                        LEAD.convertedDate,
+                        LEAD.tenantId,
+                        LEAD.useAt,
+                        LEAD.createdDate,
+                        LEAD.updatedDate))
+                .from(LEAD)
+                .leftJoin(LEAD.assignedUser, ASSIGNED_USER);
     }
 }
@@ -0,0 +1,154 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.web.sales.dto.PipelineFunnelStage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Funnel conversion and time-in-stage of the current tenant's pipeline.
+ *
+ * Reads only the counters and days-in-stage histograms kept by StageHistoryRecorder
+ * (one row per stage, at most 366 per stage histogram), never the raw history.
+ *
+ * - The stages are the tenant's and SYSTEM's active pipeline stages, the set
+ *   StageHistoryRecorder picks the next stage from, ordered by stageOrder; a stage
+ *   nothing has entered yet is listed with zero counts, so nextStageId is the stage
+ *   an advance is counted towards
+ * - SYSTEM sees the shared stages with the sum over all tenants
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OpportunityFunnelService {
+
+    private static final String STATS_SQL = "SELECT s.STAGE_ID, s.STAGE_NAME, s.STAGE_ORDER, s.IS_WON, s.IS_LOST,"
+            + " COALESCE(SUM(st.ENTERED_COUNT), 0) AS ENTERED, COALESCE(SUM(st.EXITED_COUNT), 0) AS EXITED,"
+            + " COALESCE(SUM(st.ADVANCED_COUNT), 0) AS ADVANCED"
+            + " FROM PIPELINE_STAGES s LEFT JOIN OPPORTUNITY_STAGE_STATS st ON st.STAGE_ID = s.STAGE_ID"
+            + " %s"
+            + " WHERE s.TENANT_ID IN (:tenantId, :systemTenantId) AND s.USE_AT = 'Y'"
+            + " GROUP BY s.STAGE_ID, s.STAGE_NAME, s.STAGE_ORDER, s.IS_WON, s.IS_LOST"
+            + " ORDER BY s.STAGE_ORDER, s.STAGE_ID";
+
+    private static final String DURATIONS_SQL = "SELECT STAGE_ID, DAYS, SUM(EXIT_COUNT) AS EXITS"
+            + " FROM OPPORTUNITY_STAGE_DURATIONS"
+            + " %s"
+            + " GROUP BY STAGE_ID, DAYS"
+            + " ORDER BY STAGE_ID, DAYS";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<PipelineFunnelStage> getFunnel() {
+        String tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null) {
+            return List.of();
+        }
+        boolean allTenants = TenantContext.SYSTEM_TENANT_ID.equals(tenantId);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("systemTenantId", TenantContext.SYSTEM_TENANT_ID);
+
+        Map<String, TreeMap<Integer, Long>> histograms = new HashMap<>();
+        jdbcTemplate.query(String.format(DURATIONS_SQL, allTenants ? "" : "WHERE TENANT_ID = :tenantId"), params,
+                rs -> {
+                    histograms.computeIfAbsent(rs.getString("STAGE_ID"), id -> new TreeMap<>())
+                            .put(rs.getInt("DAYS"), rs.getLong("EXITS"));
+                });
+
+        List<StageRow> rows = jdbcTemplate.query(
+                String.format(STATS_SQL, allTenants ? "" : "AND st.TENANT_ID = :tenantId"), params,
+                (rs, rowNum) -> new StageRow(
+                        rs.getString("STAGE_ID"),
+                        rs.getString("STAGE_NAME"),
+                        rs.getObject("STAGE_ORDER", Integer.class),
+                        "Y".equals(rs.getString("IS_WON")) || "Y".equals(rs.getString("IS_LOST")),
+                        "Y".equals(rs.getString("IS_LOST")),
+                        rs.getLong("ENTERED"),
+                        rs.getLong("EXITED"),
+                        rs.getLong("ADVANCED")));
+
+        List<PipelineFunnelStage> funnel = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            StageRow row = rows.get(i);
+            String nextStageId = row.closed() ? null : nextStage(rows, i);
+            TreeMap<Integer, Long> histogram = histograms.getOrDefault(row.stageId(), new TreeMap<>());
+            funnel.add(PipelineFunnelStage.builder()
+                    .stageId(row.stageId())
+                    .stageName(row.stageName())
+                    .stageOrder(row.stageOrder())
+                    .enteredCount(row.entered())
+                    .exitedCount(row.exited())
+                    .advancedCount(row.advanced())
+                    .nextStageId(nextStageId)
+                    .conversionRate(row.closed() ? null : rate(row.advanced(), row.entered()))
+                    .medianDaysInStage(percentile(histogram, 0.5))
+                    .p90DaysInStage(percentile(histogram, 0.9))
+                    .build());
+        }
+        log.debug("Funnel for tenant {}: {} stages", tenantId, funnel.size());
+        return funnel;
+    }
+
+    /**
+     * The stage with the next higher stageOrder, skipping lost stages (as StageHistoryRecorder does).
+     */
+    private static String nextStage(List<StageRow> rows, int index) {
+        Integer order = rows.get(index).stageOrder();
+        if (order == null) {
+            return null;
+        }
+        for (int i = index + 1; i < rows.size(); i++) {
+            StageRow next = rows.get(i);
+            if (!next.lost() && next.stageOrder() != null && next.stageOrder() > order) {
+                return next.stageId();
+            }
+        }
+        return null;
+    }
+
+    private static BigDecimal rate(long part, long total) {
+        if (total == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(part)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Nearest-rank percentile over a days → exits histogram; null without exits.
+     */
+    static Integer percentile(TreeMap<Integer, Long> histogram, double p) {
+        long total = histogram.values().stream().mapToLong(Long::longValue).sum();
+        if (total == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : histogram.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                return bucket.getKey();
+            }
+        }
+        return histogram.lastKey();
+    }
+
+    private record StageRow(String stageId, String stageName, Integer stageOrder, boolean closed, boolean lost,
+                            long entered, long exited, long advanced) {
+    }
+}
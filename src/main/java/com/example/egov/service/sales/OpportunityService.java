@@ -3,21 +3,35 @@ package com.example.egov.service.sales;
 import com.example.egov.config.multitenancy.TenantContext;
 import com.example.egov.domain.admin.Branch;
 import com.example.egov.domain.admin.BranchRepository;
+import com.example.egov.domain.admin.QBranch;
+import com.example.egov.domain.admin.QUser;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
 import com.example.egov.domain.sales.*;
 import com.example.egov.web.sales.dto.OpportunityCreateRequest;
+import com.example.egov.web.sales.dto.OpportunityResponse;
 import com.example.egov.web.sales.dto.OpportunityUpdateRequest;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -25,7 +39,20 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class OpportunityService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QOpportunity OPPORTUNITY = QOpportunity.opportunity;
+    private static final QCustomer CUSTOMER = new QCustomer("customer");
+    private static final QContact CONTACT = new QContact("contact");
+    private static final QUser ASSIGNED_USER = new QUser("assignedUser");
+    private static final QBranch BRANCH = new QBranch("branch");
+    private static final KeysetSort<OpportunityResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(OPPORTUNITY.createdDate, OpportunityResponse::getCreatedDate);
+    private static final FilterFields<OpportunityResponse> FILTER_FIELDS = FilterFields.builder("opportunity", NEWEST_FIRST)
+            .field("customerId", OPPORTUNITY.customer.customerId, String.class)
+            .field("stageId", OPPORTUNITY.stage.stageId, String.class)
+            .field("assignedUserId", OPPORTUNITY.assignedUser.id, String.class)
+            .field("branchId", OPPORTUNITY.branch.branchId, String.class)
+            .sortable("expectedCloseDate", OPPORTUNITY.expectedCloseDate, OpportunityResponse::getExpectedCloseDate, LocalDate.class, true)
+            .build();
 
     private final OpportunityRepository opportunityRepository;
     private final CustomerRepository customerRepository;
@@ -33,16 +60,13 @@ public class OpportunityService {
     private final PipelineStageRepository pipelineStageRepository;
     private final UserRepository userRepository;
     private final BranchRepository branchRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyOpportunityAccess(Opportunity opportunity) {
-        if (!isSystemTenant() && !opportunity.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to opportunity: " + opportunity.getOpportunityId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final SharedReferenceLoader sharedReferenceLoader;
+    private final SalesTargetAttainmentService attainmentService;
+    private final StageHistoryRecorder stageHistoryRecorder;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public Opportunity createOpportunity(OpportunityCreateRequest request) {
@@ -54,7 +78,7 @@ public class OpportunityService {
         PipelineStage stage = pipelineStageRepository.findById(request.getStageId())
                 .orElseThrow(() -> new IllegalArgumentException("Pipeline stage not found: " + request.getStageId()));
 
-        String opportunityId = generateOpportunityId();
+        String opportunityId = idGenerator.nextId("OPP");
         log.info("Creating opportunity: {} for tenant: {}", opportunityId, tenantId);
 
         Opportunity opportunity = new Opportunity();
@@ -64,6 +88,7 @@ public class OpportunityService {
         opportunity.setStage(stage);
         opportunity.setAmount(request.getAmount());
         opportunity.setProbability(stage.getProbability());
+        opportunity.setStageEnteredDate(LocalDateTime.now());
         opportunity.setExpectedCloseDate(request.getExpectedCloseDate());
         opportunity.setLeadSource(request.getLeadSource());
         opportunity.setDescription(request.getDescription());
@@ -92,17 +117,19 @@ public class OpportunityService {
 
         Opportunity savedOpportunity = opportunityRepository.save(opportunity);
         log.info("Opportunity created successfully: {}", savedOpportunity.getOpportunityId());
+        attainmentService.applyChange(null, SalesTargetAttainmentService.contributionOf(savedOpportunity));
+        stageHistoryRecorder.created(tenantId, opportunityId, stage, savedOpportunity.getStageEnteredDate());
 
         return savedOpportunity;
     }
 
     @Transactional
     public Opportunity updateOpportunity(String opportunityId, OpportunityUpdateRequest request) {
-        Opportunity opportunity = opportunityRepository.findById(opportunityId)
+        Opportunity opportunity = opportunityRepository.findByIdScoped(opportunityId)
                 .orElseThrow(() -> new IllegalArgumentException("Opportunity not found: " + opportunityId));
 
-        verifyOpportunityAccess(opportunity);
         log.info("Updating opportunity: {}", opportunityId);
+        SalesTargetAttainmentService.WonContribution wonBefore = SalesTargetAttainmentService.contributionOf(opportunity);
 
         if (request.getOpportunityName() != null) {
             opportunity.setOpportunityName(request.getOpportunityName());
@@ -110,6 +137,13 @@ public class OpportunityService {
         if (request.getStageId() != null) {
             PipelineStage stage = pipelineStageRepository.findById(request.getStageId())
                     .orElseThrow(() -> new IllegalArgumentException("Pipeline stage not found: " + request.getStageId()));
+            PipelineStage previousStage = opportunity.getStage();
+            if (previousStage != null && !previousStage.getStageId().equals(stage.getStageId())) {
+                LocalDateTime now = LocalDateTime.now();
+                stageHistoryRecorder.moved(opportunity.getTenantId(), opportunityId,
+                        previousStage, opportunity.getStageEnteredDate(), stage, now);
+                opportunity.setStageEnteredDate(now);
+            }
             opportunity.setStage(stage);
             opportunity.setProbability(stage.getProbability());
 
@@ -165,71 +199,125 @@ public class OpportunityService {
 
         Opportunity updatedOpportunity = opportunityRepository.save(opportunity);
         log.info("Opportunity updated successfully: {}", updatedOpportunity.getOpportunityId());
+        attainmentService.applyChange(wonBefore, SalesTargetAttainmentService.contributionOf(updatedOpportunity));
 
         return updatedOpportunity;
     }
 
     public Optional<Opportunity> getOpportunity(String opportunityId) {
-        Optional<Opportunity> opportunity = opportunityRepository.findById(opportunityId);
-        opportunity.ifPresent(this::verifyOpportunityAccess);
-        return opportunity;
+        return opportunityRepository.findByIdScoped(opportunityId);
+    }
+
+    public CursorPage<OpportunityResponse> getAllOpportunities(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Opportunity> getAllOpportunities() {
-        return opportunityRepository.findAll();
+    public CursorPage<OpportunityResponse> getOpportunitiesByCustomer(String customerId, CursorRequest page) {
+        return findPage(OPPORTUNITY.customer.customerId.eq(customerId), page);
     }
 
-    public List<Opportunity> getOpportunitiesByCustomer(String customerId) {
-        return opportunityRepository.findByCustomerId(customerId);
+    public CursorPage<OpportunityResponse> getOpportunitiesByStage(String stageId, CursorRequest page) {
+        return findPage(OPPORTUNITY.stage.stageId.eq(stageId), page);
     }
 
-    public List<Opportunity> getOpportunitiesByStage(String stageId) {
-        return opportunityRepository.findByStageId(stageId);
+    public CursorPage<OpportunityResponse> getOpportunitiesByAssignedUser(String userId, CursorRequest page) {
+        return findPage(OPPORTUNITY.assignedUser.id.eq(userId), page);
     }
 
-    public List<Opportunity> getOpportunitiesByAssignedUser(String userId) {
-        return opportunityRepository.findByAssignedUserId(userId);
+    public CursorPage<OpportunityResponse> getOpportunitiesByBranch(String branchId, CursorRequest page) {
+        return findPage(OPPORTUNITY.branch.branchId.eq(branchId), page);
     }
 
-    public List<Opportunity> getOpportunitiesByBranch(String branchId) {
-        return opportunityRepository.findByBranchId(branchId);
+    public CursorPage<OpportunityResponse> getOpenOpportunities(CursorRequest page) {
+        return findPage(OPPORTUNITY.stage.isWon.eq("N").and(OPPORTUNITY.stage.isLost.eq("N")), page);
     }
 
-    public List<Opportunity> getOpenOpportunities() {
-        return opportunityRepository.findOpenOpportunities();
+    public CursorPage<OpportunityResponse> getWonOpportunities(CursorRequest page) {
+        return findPage(OPPORTUNITY.stage.isWon.eq("Y"), page);
     }
 
-    public List<Opportunity> getWonOpportunities() {
-        return opportunityRepository.findWonOpportunities();
+    public CursorPage<OpportunityResponse> getLostOpportunities(CursorRequest page) {
+        return findPage(OPPORTUNITY.stage.isLost.eq("Y"), page);
     }
 
-    public List<Opportunity> getLostOpportunities() {
-        return opportunityRepository.findLostOpportunities();
+    public CursorPage<OpportunityResponse> getOpportunitiesByCloseDateRange(LocalDate startDate, LocalDate endDate, CursorRequest page) {
+        return findPage(OPPORTUNITY.expectedCloseDate.between(startDate, endDate), page);
     }
 
-    public List<Opportunity> getOpportunitiesByCloseDateRange(LocalDate startDate, LocalDate endDate) {
-        return opportunityRepository.findByExpectedCloseDateBetween(startDate, endDate);
+    public CursorPage<OpportunityResponse> searchOpportunities(String keyword, CursorRequest page) {
+        return findPage(OPPORTUNITY.opportunityName.contains(keyword), page);
     }
 
-    public List<Opportunity> searchOpportunities(String keyword) {
-        return opportunityRepository.searchByKeyword(keyword);
+    public CursorPage<OpportunityResponse> queryOpportunities(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteOpportunity(String opportunityId) {
-        Opportunity opportunity = opportunityRepository.findById(opportunityId)
+        Opportunity opportunity = opportunityRepository.findByIdScoped(opportunityId)
                 .orElseThrow(() -> new IllegalArgumentException("Opportunity not found: " + opportunityId));
 
-        verifyOpportunityAccess(opportunity);
-
         log.info("Deleting opportunity: {}", opportunityId);
+        attainmentService.applyChange(SalesTargetAttainmentService.contributionOf(opportunity), null);
+        if (opportunity.getStage() != null) {
+            stageHistoryRecorder.removed(opportunity.getTenantId(), opportunityId, opportunity.getStage());
+        }
         opportunityRepository.delete(opportunity);
         log.info("Opportunity deleted successfully: {}", opportunityId);
     }
 
-    private String generateOpportunityId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "OPP" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<OpportunityResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<OpportunityResponse> findPage(Predicate filter, KeysetSort<OpportunityResponse, ?> sort, CursorRequest page) {
+        CursorPage<OpportunityResponse> rows = keysetPager.page(
+                listQuery(), filter, sort, OPPORTUNITY.opportunityId, OpportunityResponse::getOpportunityId, page);
+        Map<String, PipelineStage> stages = sharedReferenceLoader.stages(
+                rows.items().stream().map(OpportunityResponse::getStageId).toList());
+        return rows.map(row -> {
+            PipelineStage stage = stages.get(row.getStageId());
+            return stage != null ? row.toBuilder().stageName(stage.getStageName()).build() : row;
+        });
+    }
+
+    /**
+     * Stage is not joined: shared SYSTEM stages would be dropped by the tenant filter,
+     * so stage names are filled in per page by SharedReferenceLoader.
+     */
+    private JPAQuery<OpportunityResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(OpportunityResponse.class,
+                        OPPORTUNITY.opportunityId,
+                        OPPORTUNITY.opportunityName,
+                        OPPORTUNITY.customer.customerId.as("customerId"),
+                        CUSTOMER.customerName.as("customerName"),
+                        OPPORTUNITY.contact.contactId.as("contactId"),
+                        CONTACT.contactName.as("contactName"),
+                        OPPORTUNITY.stage.stageId.as("stageId"),
+                        OPPORTUNITY.amount,
+                        OPPORTUNITY.probability,
+                        OPPORTUNITY.expectedCloseDate,
+                        OPPORTUNITY.actualCloseDate,
+                        OPPORTUNITY.leadSource,
+                        OPPORTUNITY.description,
+                        OPPORTUNITY.nextStep,
+                        OPPORTUNITY.competitorInfo,
+                        OPPORTUNITY.assignedUser.id.as("assignedUserId"),
+                        ASSIGNED_USER.userName.as("assignedUserName"),
+                        OPPORTUNITY.branch.branchId.as("branchId"),
+                        BRANCH.branchName.as("branchName"),
+                        OPPORTUNITY.wonReason,
+                        OPPORTUNITY.lostReason,
+                        OPPORTUNITY.tenantId,
+                        OPPORTUNITY.useAt,
+                        OPPORTUNITY.createdDate,
+                        OPPORTUNITY.updatedDate))
+                .from(OPPORTUNITY)
+                .leftJoin(OPPORTUNITY.customer, CUSTOMER)
+                .leftJoin(OPPORTUNITY.contact, CONTACT)
+                .leftJoin(OPPORTUNITY.assignedUser, ASSIGNED_USER)
+                .leftJoin(OPPORTUNITY.branch, BRANCH);
     }
 }
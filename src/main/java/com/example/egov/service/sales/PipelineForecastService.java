@@ -0,0 +1,118 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.web.sales.dto.PipelineForecastResponse;
+import com.example.egov.web.sales.dto.PipelineForecastRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Weighted pipeline forecast, aggregated by the database.
+ *
+ * - Open opportunities (stage neither won nor lost) with an expected close date in range,
+ *   grouped by stage, branch, assigned user and close month; no entity is loaded
+ * - The close-date range leads the WHERE clause so IDX_OPPORTUNITIES_CLOSE_DATE
+ *   (EXPECTED_CLOSE_DATE, TENANT_ID) serves both predicates
+ * - Plain SQL with an explicit tenant predicate: pipeline stages may be SYSTEM-shared,
+ *   and the Hibernate tenant filter would drop them from a JPQL join
+ * - Default range is the current month and the eleven after it; at most 5 years
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PipelineForecastService {
+
+    private static final int MAX_RANGE_YEARS = 5;
+
+    private static final String CLOSE_YEAR = "EXTRACT(YEAR FROM o.EXPECTED_CLOSE_DATE)";
+    private static final String CLOSE_MONTH = "EXTRACT(MONTH FROM o.EXPECTED_CLOSE_DATE)";
+
+    private static final RowMapper<PipelineForecastRow> ROW_MAPPER = (rs, rowNum) -> PipelineForecastRow.builder()
+            .stageId(rs.getString("STAGE_ID"))
+            .stageName(rs.getString("STAGE_NAME"))
+            .branchId(rs.getString("BRANCH_ID"))
+            .branchName(rs.getString("BRANCH_NAME"))
+            .assignedUserId(rs.getString("ASSIGNED_USER_ID"))
+            .assignedUserName(rs.getString("USER_NAME"))
+            .closeYear(rs.getInt("CLOSE_YEAR"))
+            .closeMonth(rs.getInt("CLOSE_MONTH"))
+            .opportunityCount(rs.getLong("OPPORTUNITY_COUNT"))
+            .totalAmount(scale(rs.getBigDecimal("TOTAL_AMOUNT")))
+            .weightedAmount(scale(rs.getBigDecimal("WEIGHTED_AMOUNT")))
+            .averageProbability(scale(rs.getBigDecimal("AVG_PROBABILITY")))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PipelineForecastResponse getForecast(LocalDate fromDate, LocalDate toDate) {
+        LocalDate from = fromDate != null ? fromDate : LocalDate.now().withDayOfMonth(1);
+        LocalDate to = toDate != null ? toDate : from.plusMonths(12).withDayOfMonth(1).minusDays(1);
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Forecast end date must not be before start date");
+        }
+        if (to.isAfter(from.plusYears(MAX_RANGE_YEARS))) {
+            throw new IllegalArgumentException("Forecast range must not exceed " + MAX_RANGE_YEARS + " years");
+        }
+
+        String tenantId = TenantContext.getCurrentTenantId();
+        List<PipelineForecastRow> rows = tenantId == null ? List.of() : aggregate(tenantId, from, to);
+        log.debug("Forecast {} - {} for tenant {}: {} groups", from, to, tenantId, rows.size());
+
+        return PipelineForecastResponse.builder()
+                .fromDate(from)
+                .toDate(to)
+                .opportunityCount(rows.stream().mapToLong(PipelineForecastRow::getOpportunityCount).sum())
+                .totalAmount(sum(rows, PipelineForecastRow::getTotalAmount))
+                .weightedAmount(sum(rows, PipelineForecastRow::getWeightedAmount))
+                .rows(rows)
+                .build();
+    }
+
+    private List<PipelineForecastRow> aggregate(String tenantId, LocalDate from, LocalDate to) {
+        boolean allTenants = TenantContext.SYSTEM_TENANT_ID.equals(tenantId);
+        String sql = "SELECT o.STAGE_ID, s.STAGE_NAME, s.STAGE_ORDER, o.BRANCH_ID, b.BRANCH_NAME,"
+                + " o.ASSIGNED_USER_ID, u.USER_NAME,"
+                + " " + CLOSE_YEAR + " AS CLOSE_YEAR, " + CLOSE_MONTH + " AS CLOSE_MONTH,"
+                + " COUNT(*) AS OPPORTUNITY_COUNT,"
+                + " COALESCE(SUM(o.AMOUNT), 0) AS TOTAL_AMOUNT,"
+                + " COALESCE(SUM(o.AMOUNT * COALESCE(o.PROBABILITY, 0)), 0) / 100 AS WEIGHTED_AMOUNT,"
+                + " AVG(CAST(COALESCE(o.PROBABILITY, 0) AS DECIMAL(7, 2))) AS AVG_PROBABILITY"
+                + " FROM OPPORTUNITIES o"
+                + " JOIN PIPELINE_STAGES s ON s.STAGE_ID = o.STAGE_ID"
+                + " LEFT JOIN BRANCHES b ON b.BRANCH_ID = o.BRANCH_ID"
+                + " LEFT JOIN USERS u ON u.ESNTL_ID = o.ASSIGNED_USER_ID"
+                + " WHERE o.EXPECTED_CLOSE_DATE BETWEEN :fromDate AND :toDate"
+                + (allTenants ? "" : " AND o.TENANT_ID = :tenantId")
+                + " AND COALESCE(s.IS_WON, 'N') = 'N' AND COALESCE(s.IS_LOST, 'N') = 'N'"
+                + " GROUP BY o.STAGE_ID, s.STAGE_NAME, s.STAGE_ORDER, o.BRANCH_ID, b.BRANCH_NAME,"
+                + " o.ASSIGNED_USER_ID, u.USER_NAME, " + CLOSE_YEAR + ", " + CLOSE_MONTH
+                + " ORDER BY CLOSE_YEAR, CLOSE_MONTH, s.STAGE_ORDER, o.STAGE_ID, o.BRANCH_ID, o.ASSIGNED_USER_ID";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromDate", from)
+                .addValue("toDate", to)
+                .addValue("tenantId", tenantId);
+        return jdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    private static BigDecimal sum(List<PipelineForecastRow> rows,
+                                  Function<PipelineForecastRow, BigDecimal> amount) {
+        return rows.stream().map(amount).reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add);
+    }
+
+    private static BigDecimal scale(BigDecimal value) {
+        return value != null ? value.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO.setScale(2);
+    }
+}
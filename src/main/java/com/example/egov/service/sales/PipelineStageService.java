@@ -1,19 +1,19 @@
 package com.example.egov.service.sales;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.ResourceVersion;
 import com.example.egov.domain.sales.PipelineStage;
 import com.example.egov.domain.sales.PipelineStageRepository;
 import com.example.egov.web.sales.dto.PipelineStageCreateRequest;
 import com.example.egov.web.sales.dto.PipelineStageUpdateRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -21,19 +21,8 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class PipelineStageService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
-
     private final PipelineStageRepository pipelineStageRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyStageAccess(PipelineStage stage) {
-        if (!isSystemTenant() && !stage.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to pipeline stage: " + stage.getStageId());
-        }
-    }
+    private final IdGenerator idGenerator;
 
     @Transactional
     public PipelineStage createStage(PipelineStageCreateRequest request) {
@@ -43,7 +32,7 @@ public class PipelineStageService {
             throw new IllegalArgumentException("Stage code already exists: " + request.getStageCode());
         }
 
-        String stageId = generateStageId();
+        String stageId = idGenerator.nextId("STG");
         log.info("Creating pipeline stage: {} for tenant: {}", stageId, tenantId);
 
         PipelineStage stage = new PipelineStage();
@@ -66,10 +55,9 @@ public class PipelineStageService {
 
     @Transactional
     public PipelineStage updateStage(String stageId, PipelineStageUpdateRequest request) {
-        PipelineStage stage = pipelineStageRepository.findById(stageId)
+        PipelineStage stage = pipelineStageRepository.findByIdScoped(stageId)
                 .orElseThrow(() -> new IllegalArgumentException("Pipeline stage not found: " + stageId));
 
-        verifyStageAccess(stage);
         log.info("Updating pipeline stage: {}", stageId);
 
         if (request.getStageName() != null) {
@@ -107,9 +95,21 @@ public class PipelineStageService {
     }
 
     public Optional<PipelineStage> getStage(String stageId) {
-        Optional<PipelineStage> stage = pipelineStageRepository.findById(stageId);
-        stage.ifPresent(this::verifyStageAccess);
-        return stage;
+        return pipelineStageRepository.findByIdScoped(stageId);
+    }
+
+    /**
+     * Version probe for conditional GET of a single stage.
+     */
+    public Optional<ResourceVersion> getStageVersion(String stageId) {
+        return pipelineStageRepository.findVersionScoped(stageId);
+    }
+
+    /**
+     * Version probe for conditional GET of the stage lists.
+     */
+    public ResourceVersion getStagesVersion() {
+        return pipelineStageRepository.findCollectionVersion();
     }
 
     public List<PipelineStage> getAllStages() {
@@ -130,11 +130,9 @@ public class PipelineStageService {
 
     @Transactional
     public void deleteStage(String stageId) {
-        PipelineStage stage = pipelineStageRepository.findById(stageId)
+        PipelineStage stage = pipelineStageRepository.findByIdScoped(stageId)
                 .orElseThrow(() -> new IllegalArgumentException("Pipeline stage not found: " + stageId));
 
-        verifyStageAccess(stage);
-
         log.info("Deleting pipeline stage: {}", stageId);
         pipelineStageRepository.delete(stage);
         log.info("Pipeline stage deleted successfully: {}", stageId);
@@ -143,10 +141,4 @@ public class PipelineStageService {
     public boolean existsByStageCode(String stageCode) {
         return pipelineStageRepository.existsByStageCode(stageCode);
     }
-
-    private String generateStageId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "STG" + timestamp.substring(timestamp.length() - 10) + suffix;
-    }
 }
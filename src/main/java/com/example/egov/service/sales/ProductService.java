@@ -1,20 +1,33 @@
 package com.example.egov.service.sales;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
+import com.example.egov.domain.common.ResourceVersion;
 import com.example.egov.domain.sales.Product;
 import com.example.egov.domain.sales.ProductRepository;
+import com.example.egov.domain.sales.QProduct;
 import com.example.egov.web.sales.dto.ProductCreateRequest;
+import com.example.egov.web.sales.dto.ProductResponse;
 import com.example.egov.web.sales.dto.ProductUpdateRequest;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -22,19 +35,20 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ProductService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QProduct PRODUCT = QProduct.product;
+    private static final KeysetSort<ProductResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(PRODUCT.createdDate, ProductResponse::getCreatedDate);
+    private static final FilterFields<ProductResponse> FILTER_FIELDS = FilterFields.builder("product", NEWEST_FIRST)
+            .field("productCode", PRODUCT.productCode, String.class)
+            .field("productCategory", PRODUCT.productCategory, String.class)
+            .build();
 
     private final ProductRepository productRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyProductAccess(Product product) {
-        if (!isSystemTenant() && !product.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to product: " + product.getProductId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final IdGenerator idGenerator;
+    private final QuoteRepricingService quoteRepricingService;
 
     @Transactional
     public Product createProduct(ProductCreateRequest request) {
@@ -44,7 +58,7 @@ public class ProductService {
             throw new IllegalArgumentException("Product code already exists: " + request.getProductCode());
         }
 
-        String productId = generateProductId();
+        String productId = idGenerator.nextId("PRD");
         log.info("Creating product: {} for tenant: {}", productId, tenantId);
 
         Product product = new Product();
@@ -71,11 +85,12 @@ public class ProductService {
 
     @Transactional
     public Product updateProduct(String productId, ProductUpdateRequest request) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findByIdScoped(productId)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
 
-        verifyProductAccess(product);
         log.info("Updating product: {}", productId);
+        BigDecimal previousUnitPrice = product.getUnitPrice();
+        BigDecimal previousTaxRate = product.getTaxRate();
 
         if (request.getProductCode() != null && !request.getProductCode().equals(product.getProductCode())) {
             if (productRepository.existsByProductCode(request.getProductCode())) {
@@ -118,44 +133,61 @@ public class ProductService {
         }
 
         Product updatedProduct = productRepository.save(product);
+        quoteRepricingService.productRepriced(productId, previousUnitPrice, updatedProduct.getUnitPrice(),
+                previousTaxRate, updatedProduct.getTaxRate());
         log.info("Product updated successfully: {}", updatedProduct.getProductId());
 
         return updatedProduct;
     }
 
     public Optional<Product> getProduct(String productId) {
-        Optional<Product> product = productRepository.findById(productId);
-        product.ifPresent(this::verifyProductAccess);
-        return product;
+        return productRepository.findByIdScoped(productId);
+    }
+
+    /**
+     * Version probe for conditional GET of a single product.
+     */
+    public Optional<ResourceVersion> getProductVersion(String productId) {
+        return productRepository.findVersionScoped(productId);
+    }
+
+    /**
+     * Version probe for conditional GET of the product lists.
+     */
+    public ResourceVersion getProductsVersion() {
+        return productRepository.findCollectionVersion();
+    }
+
+    public CursorPage<ProductResponse> getAllProducts(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public CursorPage<ProductResponse> getActiveProducts(CursorRequest page) {
+        return findPage(PRODUCT.isActive.eq("Y").and(PRODUCT.useAt.eq("Y")), page);
     }
 
-    public List<Product> getActiveProducts() {
-        return productRepository.findActiveProducts();
+    public CursorPage<ProductResponse> getProductsByCategory(String category, CursorRequest page) {
+        return findPage(PRODUCT.productCategory.eq(category), page);
     }
 
-    public List<Product> getProductsByCategory(String category) {
-        return productRepository.findByProductCategory(category);
+    public CursorPage<ProductResponse> getProductsByType(String type, CursorRequest page) {
+        return findPage(PRODUCT.productType.eq(type), page);
     }
 
-    public List<Product> getProductsByType(String type) {
-        return productRepository.findByProductType(type);
+    public CursorPage<ProductResponse> searchProducts(String keyword, CursorRequest page) {
+        return findPage(PRODUCT.productName.contains(keyword).or(PRODUCT.productCode.contains(keyword)), page);
     }
 
-    public List<Product> searchProducts(String keyword) {
-        return productRepository.searchByKeyword(keyword);
+    public CursorPage<ProductResponse> queryProducts(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteProduct(String productId) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findByIdScoped(productId)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
 
-        verifyProductAccess(product);
-
         log.info("Deleting product: {}", productId);
         productRepository.delete(product);
         log.info("Product deleted successfully: {}", productId);
@@ -165,9 +197,33 @@ public class ProductService {
         return productRepository.existsByProductCode(productCode);
     }
 
-    private String generateProductId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "PRD" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<ProductResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<ProductResponse> findPage(Predicate filter, KeysetSort<ProductResponse, ?> sort, CursorRequest page) {
+        return keysetPager.page(listQuery(), filter, sort, PRODUCT.productId, ProductResponse::getProductId, page);
+    }
+
+    private JPAQuery<ProductResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(ProductResponse.class,
+                        PRODUCT.productId,
+                        PRODUCT.productCode,
+                        PRODUCT.productName,
+                        PRODUCT.productCategory,
+                        PRODUCT.productType,
+                        PRODUCT.description,
+                        PRODUCT.unitPrice,
+                        PRODUCT.costPrice,
+                        PRODUCT.currency,
+                        PRODUCT.taxRate,
+                        PRODUCT.stockQuantity,
+                        PRODUCT.isActive,
+                        PRODUCT.tenantId,
+                        PRODUCT.useAt,
+                        PRODUCT.createdDate,
+                        PRODUCT.updatedDate))
+                .from(PRODUCT);
     }
 }
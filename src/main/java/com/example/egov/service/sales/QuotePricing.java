@@ -0,0 +1,72 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.domain.sales.Quote;
+import com.example.egov.domain.sales.QuoteItem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Line and header amounts of a quote, accumulated in a single pass over its items.
+ *
+ * - Percentages are applied with movePointLeft + setScale(2, HALF_UP), the same
+ *   result as divide(100, 2, HALF_UP) without the division
+ * - Zero discount/tax rates (the common case) skip the multiplication entirely
+ * - Header subtotal is the sum of discounted line amounts; header total subtracts
+ *   the quote-level discount
+ */
+final class QuotePricing {
+
+    private static final BigDecimal ZERO_AMOUNT = BigDecimal.ZERO.setScale(2);
+
+    private BigDecimal subtotal = ZERO_AMOUNT;
+    private BigDecimal taxAmount = ZERO_AMOUNT;
+
+    /**
+     * Compute discount, tax and total of the line from its price, quantity and rates,
+     * then add it to the header.
+     */
+    void price(QuoteItem item) {
+        BigDecimal lineAmount = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+        BigDecimal discount = percentOf(lineAmount, item.getDiscountRate());
+        BigDecimal afterDiscount = discount.signum() == 0 ? lineAmount : lineAmount.subtract(discount);
+        BigDecimal tax = percentOf(afterDiscount, item.getTaxRate());
+
+        item.setDiscountAmount(discount);
+        item.setTaxAmount(tax);
+        item.setTotalAmount(tax.signum() == 0 ? afterDiscount : afterDiscount.add(tax));
+        accumulate(afterDiscount, tax);
+    }
+
+    /**
+     * Add an already priced line to the header as stored.
+     */
+    void add(QuoteItem item) {
+        BigDecimal lineAmount = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+        BigDecimal discount = item.getDiscountAmount();
+        accumulate(discount == null || discount.signum() == 0 ? lineAmount : lineAmount.subtract(discount),
+                item.getTaxAmount() != null ? item.getTaxAmount() : ZERO_AMOUNT);
+    }
+
+    void applyTo(Quote quote) {
+        quote.setSubtotal(subtotal);
+        quote.setTaxAmount(taxAmount);
+        BigDecimal total = subtotal.add(taxAmount);
+        BigDecimal headerDiscount = quote.getDiscountAmount();
+        quote.setTotalAmount(headerDiscount == null || headerDiscount.signum() == 0 ? total : total.subtract(headerDiscount));
+    }
+
+    private void accumulate(BigDecimal lineSubtotal, BigDecimal lineTax) {
+        subtotal = subtotal.add(lineSubtotal);
+        if (lineTax.signum() != 0) {
+            taxAmount = taxAmount.add(lineTax);
+        }
+    }
+
+    private static BigDecimal percentOf(BigDecimal amount, BigDecimal rate) {
+        if (rate == null || rate.signum() == 0 || amount.signum() == 0) {
+            return ZERO_AMOUNT;
+        }
+        return amount.multiply(rate).movePointLeft(2).setScale(2, RoundingMode.HALF_UP);
+    }
+}
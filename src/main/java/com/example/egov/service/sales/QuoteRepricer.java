@@ -0,0 +1,192 @@
+package com.example.egov.service.sales;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based repricing of DRAFT/SENT quotes after a product price or tax rate change.
+ *
+ * - Only lines still carrying the old list price / old tax rate are changed; negotiated
+ *   prices and rates are left alone
+ * - Affected quotes are walked in QUOTE_ID order, app.quote.repricing.chunk-size at a time,
+ *   each chunk in its own short transaction: lock the quotes (key order, status re-checked),
+ *   update the lines, recompute line amounts, recompute header totals - three statements
+ *   and one batch
+ * - The header recompute increments Quote.version and requires the version read under
+ *   the lock, so an editor holding the old version gets an optimistic lock failure
+ * - Item edits (QuoteService.updateQuote) take the same quote row lock before reading the
+ *   lines, so they run strictly before or after a chunk
+ * - A chunk that loses a lock or version conflict with regular traffic is retried
+ * - Amounts use ROUND(.., 2), i.e. HALF_UP like QuotePricing
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteRepricer {
+
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private static final String LINE_MATCH = "((:priceChanged = 1 AND qi.UNIT_PRICE = :oldUnitPrice)"
+            + " OR (:taxChanged = 1 AND qi.TAX_RATE = :oldTaxRate))";
+
+    private static final String OPEN_QUOTE = "q.QUOTE_STATUS IN ('DRAFT', 'SENT')";
+
+    private static final String COUNT_SQL = "SELECT COUNT(DISTINCT qi.QUOTE_ID)"
+            + " FROM QUOTE_ITEMS qi JOIN QUOTES q ON q.QUOTE_ID = qi.QUOTE_ID"
+            + " WHERE qi.PRODUCT_ID = :productId AND " + OPEN_QUOTE + " AND " + LINE_MATCH;
+
+    private static final String NEXT_CHUNK_SQL = "SELECT DISTINCT qi.QUOTE_ID"
+            + " FROM QUOTE_ITEMS qi JOIN QUOTES q ON q.QUOTE_ID = qi.QUOTE_ID"
+            + " WHERE qi.PRODUCT_ID = :productId AND qi.QUOTE_ID > :afterQuoteId"
+            + " AND " + OPEN_QUOTE + " AND " + LINE_MATCH
+            + " ORDER BY qi.QUOTE_ID LIMIT :chunkSize";
+
+    private static final String LOCK_SQL = "SELECT q.QUOTE_ID, q.VERSION FROM QUOTES q"
+            + " WHERE q.QUOTE_ID IN (:quoteIds) AND " + OPEN_QUOTE
+            + " ORDER BY q.QUOTE_ID FOR UPDATE";
+
+    private static final String UPDATE_LINES_SQL = "UPDATE QUOTE_ITEMS qi SET"
+            + " UNIT_PRICE = CASE WHEN :priceChanged = 1 AND qi.UNIT_PRICE = :oldUnitPrice"
+            + " THEN :newUnitPrice ELSE qi.UNIT_PRICE END,"
+            + " TAX_RATE = CASE WHEN :taxChanged = 1 AND qi.TAX_RATE = :oldTaxRate"
+            + " THEN :newTaxRate ELSE qi.TAX_RATE END,"
+            + " UPDATED_DATE = CURRENT_TIMESTAMP"
+            + " WHERE qi.PRODUCT_ID = :productId AND qi.QUOTE_ID IN (:quoteIds) AND " + LINE_MATCH;
+
+    private static final String LINE_AMOUNT = "qi.UNIT_PRICE * qi.QUANTITY";
+    private static final String LINE_DISCOUNT = "ROUND(" + LINE_AMOUNT + " * COALESCE(qi.DISCOUNT_RATE, 0) / 100, 2)";
+    private static final String LINE_TAX = "ROUND((" + LINE_AMOUNT + " - " + LINE_DISCOUNT + ")"
+            + " * COALESCE(qi.TAX_RATE, 0) / 100, 2)";
+
+    private static final String RECOMPUTE_LINES_SQL = "UPDATE QUOTE_ITEMS qi SET"
+            + " DISCOUNT_AMOUNT = " + LINE_DISCOUNT + ","
+            + " TAX_AMOUNT = " + LINE_TAX + ","
+            + " TOTAL_AMOUNT = " + LINE_AMOUNT + " - " + LINE_DISCOUNT + " + " + LINE_TAX
+            + " WHERE qi.PRODUCT_ID = :productId AND qi.QUOTE_ID IN (:quoteIds)";
+
+    private static final String RECOMPUTE_QUOTES_SQL = "UPDATE QUOTES q SET"
+            + " SUBTOTAL = (SELECT COALESCE(SUM(qi.UNIT_PRICE * qi.QUANTITY - COALESCE(qi.DISCOUNT_AMOUNT, 0)), 0)"
+            + " FROM QUOTE_ITEMS qi WHERE qi.QUOTE_ID = q.QUOTE_ID),"
+            + " TAX_AMOUNT = (SELECT COALESCE(SUM(qi.TAX_AMOUNT), 0) FROM QUOTE_ITEMS qi WHERE qi.QUOTE_ID = q.QUOTE_ID),"
+            + " TOTAL_AMOUNT = (SELECT COALESCE(SUM(qi.TOTAL_AMOUNT), 0) FROM QUOTE_ITEMS qi WHERE qi.QUOTE_ID = q.QUOTE_ID)"
+            + " - COALESCE(q.DISCOUNT_AMOUNT, 0),"
+            + " UPDATED_DATE = CURRENT_TIMESTAMP,"
+            + " VERSION = q.VERSION + 1"
+            + " WHERE q.QUOTE_ID = :quoteId AND q.VERSION = :version";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.quote.repricing.chunk-size:200}")
+    private int chunkSize;
+
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    protected void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    public void repriceAsync(QuoteRepricingJob job) {
+        reprice(job);
+    }
+
+    public void reprice(QuoteRepricingJob job) {
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("productId", job.getProductId())
+                    .addValue("priceChanged", job.priceChanged() ? 1 : 0)
+                    .addValue("oldUnitPrice", job.getOldUnitPrice())
+                    .addValue("newUnitPrice", job.getNewUnitPrice())
+                    .addValue("taxChanged", job.taxRateChanged() ? 1 : 0)
+                    .addValue("oldTaxRate", job.getOldTaxRate())
+                    .addValue("newTaxRate", job.getNewTaxRate())
+                    .addValue("chunkSize", chunkSize);
+
+            Integer total = jdbcTemplate.queryForObject(COUNT_SQL, params, Integer.class);
+            job.started(total != null ? total : 0);
+            log.info("Repricing {} open quote(s) for product {} (job {})", job.getTotalQuotes(), job.getProductId(), job.getJobId());
+
+            String afterQuoteId = "";
+            while (true) {
+                params.addValue("afterQuoteId", afterQuoteId);
+                List<String> quoteIds = jdbcTemplate.queryForList(NEXT_CHUNK_SQL, params, String.class);
+                if (quoteIds.isEmpty()) {
+                    break;
+                }
+                repriceChunk(job, params, quoteIds);
+                afterQuoteId = quoteIds.get(quoteIds.size() - 1);
+            }
+
+            job.completed();
+            log.info("Repricing job {} completed: {} quote(s), {} line(s)",
+                    job.getJobId(), job.getRepricedQuotes(), job.getRepricedItems());
+        } catch (RuntimeException e) {
+            job.failed(e.getMessage());
+            log.error("Repricing job {} for product {} failed", job.getJobId(), job.getProductId(), e);
+        }
+    }
+
+    private void repriceChunk(QuoteRepricingJob job, MapSqlParameterSource params, List<String> quoteIds) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int[] counts = chunkTransaction.execute(status -> {
+                    Map<String, Long> locked = new LinkedHashMap<>();
+                    jdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource("quoteIds", quoteIds), rs -> {
+                        locked.put(rs.getString("QUOTE_ID"), rs.getLong("VERSION"));
+                    });
+                    if (locked.isEmpty()) {
+                        return new int[] {0, 0};
+                    }
+                    MapSqlParameterSource chunk = new MapSqlParameterSource(params.getValues())
+                            .addValue("quoteIds", locked.keySet());
+                    int lines = jdbcTemplate.update(UPDATE_LINES_SQL, chunk);
+                    jdbcTemplate.update(RECOMPUTE_LINES_SQL, chunk);
+                    recomputeQuotes(locked);
+                    return new int[] {locked.size(), lines};
+                });
+                job.chunkDone(quoteIds.size(), counts[0], counts[1]);
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Repricing job {} chunk conflicted with a concurrent write, retrying", job.getJobId());
+            }
+        }
+    }
+
+    /**
+     * Header totals of the locked quotes, each checked against the version read under the lock.
+     */
+    private void recomputeQuotes(Map<String, Long> versions) {
+        SqlParameterSource[] batch = versions.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("quoteId", entry.getKey())
+                        .addValue("version", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(RECOMPUTE_QUOTES_SQL, batch);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                throw new OptimisticLockingFailureException("Quote " + batch[i].getValue("quoteId")
+                        + " changed while being repriced");
+            }
+        }
+    }
+}
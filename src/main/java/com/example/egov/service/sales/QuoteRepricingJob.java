@@ -0,0 +1,64 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.service.common.AsyncJob;
+import com.example.egov.web.sales.dto.QuoteRepricingStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * One product change to propagate to open quotes.
+ */
+@Getter
+public class QuoteRepricingJob extends AsyncJob {
+
+    private final String productId;
+    private final BigDecimal oldUnitPrice;
+    private final BigDecimal newUnitPrice;
+    private final BigDecimal oldTaxRate;
+    private final BigDecimal newTaxRate;
+
+    private volatile int totalQuotes;
+    private volatile int processedQuotes;
+    private volatile int repricedQuotes;
+    private volatile int repricedItems;
+
+    QuoteRepricingJob(String tenantId, String productId,
+                      BigDecimal oldUnitPrice, BigDecimal newUnitPrice, BigDecimal oldTaxRate, BigDecimal newTaxRate) {
+        super(tenantId);
+        this.productId = productId;
+        this.oldUnitPrice = oldUnitPrice;
+        this.newUnitPrice = newUnitPrice;
+        this.oldTaxRate = oldTaxRate;
+        this.newTaxRate = newTaxRate;
+    }
+
+    boolean priceChanged() {
+        return !sameAmount(oldUnitPrice, newUnitPrice);
+    }
+
+    boolean taxRateChanged() {
+        return !sameAmount(oldTaxRate, newTaxRate);
+    }
+
+    void started(int totalQuotes) {
+        this.totalQuotes = totalQuotes;
+        started();
+    }
+
+    void chunkDone(int quotes, int locked, int items) {
+        this.processedQuotes += quotes;
+        this.repricedQuotes += locked;
+        this.repricedItems += items;
+    }
+
+    public QuoteRepricingStatus status() {
+        return new QuoteRepricingStatus(getJobId(), productId, getState().name(),
+                oldUnitPrice, newUnitPrice, oldTaxRate, newTaxRate,
+                totalQuotes, processedQuotes, repricedQuotes, repricedItems, getStartedAt(), getFinishedAt(), getError());
+    }
+
+    static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
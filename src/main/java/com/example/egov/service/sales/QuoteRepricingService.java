@@ -0,0 +1,79 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.service.common.AsyncJobs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Starts and tracks open-quote repricing jobs (see QuoteRepricer).
+ *
+ * - A job is started once the product change has committed, so the worker never sees
+ *   the old price and a rolled-back change starts nothing
+ * - Jobs are kept in AsyncJobs for status requests (app.quote.repricing.retained-jobs)
+ */
+@Slf4j
+@Service
+public class QuoteRepricingService {
+
+    private final QuoteRepricer quoteRepricer;
+    private final AsyncJobs<QuoteRepricingJob> jobs;
+
+    QuoteRepricingService(QuoteRepricer quoteRepricer,
+                          @Value("${app.quote.repricing.retained-jobs:100}") int retainedJobs) {
+        this.quoteRepricer = quoteRepricer;
+        this.jobs = new AsyncJobs<>(retainedJobs);
+    }
+
+    /**
+     * Reprice open quotes of the product if its unit price or tax rate changed.
+     *
+     * @return the job, or empty when neither value changed
+     */
+    public Optional<QuoteRepricingJob> productRepriced(String productId,
+                                                       BigDecimal oldUnitPrice, BigDecimal newUnitPrice,
+                                                       BigDecimal oldTaxRate, BigDecimal newTaxRate) {
+        if (QuoteRepricingJob.sameAmount(oldUnitPrice, newUnitPrice) && QuoteRepricingJob.sameAmount(oldTaxRate, newTaxRate)) {
+            return Optional.empty();
+        }
+
+        QuoteRepricingJob job = new QuoteRepricingJob(TenantContext.getCurrentTenantId(),
+                productId, oldUnitPrice, newUnitPrice, oldTaxRate, newTaxRate);
+        jobs.add(job);
+        log.info("Quote repricing job {} queued for product {}", job.getJobId(), productId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        quoteRepricer.repriceAsync(job);
+                    } else {
+                        jobs.remove(job);
+                    }
+                }
+            });
+        } else {
+            quoteRepricer.repriceAsync(job);
+        }
+        return Optional.of(job);
+    }
+
+    public Optional<QuoteRepricingJob> getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * Retained jobs, newest first.
+     */
+    public List<QuoteRepricingJob> getJobs() {
+        return jobs.list();
+    }
+}
@@ -1,24 +1,53 @@
 package com.example.egov.service.sales;
 
 import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.admin.QUser;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
 import com.example.egov.domain.sales.*;
 import com.example.egov.web.sales.dto.QuoteCreateRequest;
 import com.example.egov.web.sales.dto.QuoteItemRequest;
+import com.example.egov.web.sales.dto.QuoteItemResponse;
+import com.example.egov.web.sales.dto.QuoteResponse;
 import com.example.egov.web.sales.dto.QuoteUpdateRequest;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,25 +55,54 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class QuoteService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QQuote QUOTE = QQuote.quote;
+    private static final QOpportunity OPPORTUNITY = new QOpportunity("opportunity");
+    private static final QCustomer CUSTOMER = new QCustomer("customer");
+    private static final QContact CONTACT = new QContact("contact");
+    private static final QUser ASSIGNED_USER = new QUser("assignedUser");
+    private static final QQuoteItem QUOTE_ITEM = QQuoteItem.quoteItem;
+    private static final QBean<QuoteItemResponse> ITEM_COLUMNS = Projections.fields(QuoteItemResponse.class,
+            QUOTE_ITEM.quoteItemId,
+            QUOTE_ITEM.product.productId.as("productId"),
+            QUOTE_ITEM.itemOrder,
+            QUOTE_ITEM.quantity,
+            QUOTE_ITEM.unitPrice,
+            QUOTE_ITEM.discountRate,
+            QUOTE_ITEM.discountAmount,
+            QUOTE_ITEM.taxRate,
+            QUOTE_ITEM.taxAmount,
+            QUOTE_ITEM.totalAmount,
+            QUOTE_ITEM.description);
+    private static final KeysetSort<QuoteResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(QUOTE.createdDate, QuoteResponse::getCreatedDate);
+    private static final FilterFields<QuoteResponse> FILTER_FIELDS = FilterFields.builder("quote", NEWEST_FIRST)
+            .field("customerId", QUOTE.customer.customerId, String.class)
+            .field("opportunityId", QUOTE.opportunity.opportunityId, String.class)
+            .field("quoteStatus", QUOTE.quoteStatus, String.class)
+            .field("assignedUserId", QUOTE.assignedUser.id, String.class)
+            .build();
+
+    private static final String INSERT_ITEM_SQL = "INSERT INTO QUOTE_ITEMS"
+            + " (QUOTE_ID, PRODUCT_ID, ITEM_ORDER, QUANTITY, UNIT_PRICE, DISCOUNT_RATE, DISCOUNT_AMOUNT,"
+            + " TAX_RATE, TAX_AMOUNT, TOTAL_AMOUNT, DESCRIPTION, TENANT_ID, CREATED_DATE)"
+            + " VALUES (:quoteId, :productId, :itemOrder, :quantity, :unitPrice, :discountRate, :discountAmount,"
+            + " :taxRate, :taxAmount, :totalAmount, :description, :tenantId, :createdDate)";
 
     private final QuoteRepository quoteRepository;
     private final QuoteItemRepository quoteItemRepository;
     private final CustomerRepository customerRepository;
     private final ContactRepository contactRepository;
     private final OpportunityRepository opportunityRepository;
-    private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final SharedReferenceLoader sharedReferenceLoader;
+    private final IdGenerator idGenerator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyQuoteAccess(Quote quote) {
-        if (!isSystemTenant() && !quote.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to quote: " + quote.getQuoteId());
-        }
-    }
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Transactional
     public Quote createQuote(QuoteCreateRequest request) {
@@ -57,7 +115,7 @@ public class QuoteService {
         Customer customer = customerRepository.findById(request.getCustomerId())
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + request.getCustomerId()));
 
-        String quoteId = generateQuoteId();
+        String quoteId = idGenerator.nextId("QTE");
         log.info("Creating quote: {} for tenant: {}", quoteId, tenantId);
 
         Quote quote = new Quote();
@@ -96,12 +154,7 @@ public class QuoteService {
 
         // Add quote items if provided
         if (request.getItems() != null && !request.getItems().isEmpty()) {
-            for (int i = 0; i < request.getItems().size(); i++) {
-                QuoteItemRequest itemRequest = request.getItems().get(i);
-                addQuoteItem(savedQuote, itemRequest, i);
-            }
-            calculateQuoteTotals(savedQuote);
-            savedQuote = quoteRepository.save(savedQuote);
+            mergeItems(savedQuote, request.getItems());
         }
 
         log.info("Quote created successfully: {}", savedQuote.getQuoteId());
@@ -110,12 +163,18 @@ public class QuoteService {
 
     @Transactional
     public Quote updateQuote(String quoteId, QuoteUpdateRequest request) {
-        Quote quote = quoteRepository.findById(quoteId)
+        Quote quote = quoteRepository.findByIdScoped(quoteId)
                 .orElseThrow(() -> new IllegalArgumentException("Quote not found: " + quoteId));
 
-        verifyQuoteAccess(quote);
         log.info("Updating quote: {}", quoteId);
 
+        // Item rows carry no version and are written with full-column updates: hold the quote
+        // row before the items are read, as QuoteRepricer does, so a concurrent repricing
+        // chunk is neither overwritten with stale prices nor interleaved
+        if (request.getItems() != null) {
+            entityManager.lock(quote, LockModeType.PESSIMISTIC_WRITE);
+        }
+
         if (request.getQuoteNumber() != null && !request.getQuoteNumber().equals(quote.getQuoteNumber())) {
             if (quoteRepository.existsByQuoteNumber(request.getQuoteNumber())) {
                 throw new IllegalArgumentException("Quote number already exists: " + request.getQuoteNumber());
@@ -162,106 +221,230 @@ public class QuoteService {
 
         // Update items if provided
         if (request.getItems() != null) {
-            quote.getQuoteItems().clear();
-            for (int i = 0; i < request.getItems().size(); i++) {
-                QuoteItemRequest itemRequest = request.getItems().get(i);
-                addQuoteItem(quote, itemRequest, i);
-            }
+            mergeItems(quote, request.getItems());
+        } else {
+            QuotePricing pricing = new QuotePricing();
+            quote.getQuoteItems().forEach(pricing::add);
+            pricing.applyTo(quote);
         }
 
-        calculateQuoteTotals(quote);
         Quote updatedQuote = quoteRepository.save(quote);
         log.info("Quote updated successfully: {}", updatedQuote.getQuoteId());
 
         return updatedQuote;
     }
 
-    private void addQuoteItem(Quote quote, QuoteItemRequest itemRequest, int order) {
-        Product product = productRepository.findById(itemRequest.getProductId())
-                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + itemRequest.getProductId()));
+    /**
+     * Bring the items of a quote in line with the requested lines, writing only the delta.
+     *
+     * - A line with quoteItemId updates that item; a line without one takes over the
+     *   unreferenced item at the same position, if any
+     * - Matched items are updated in place only when a value differs, and re-priced only
+     *   when price, quantity, rates or product changed; the others count towards the
+     *   header totals as stored
+     * - Unmatched items are removed (orphan removal deletes just those rows)
+     * - New lines are inserted as a single JDBC batch (IDENTITY keys rule out Hibernate
+     *   insert batching), after which the quote is refreshed to pick up their IDs
+     *
+     * Products are resolved in one lookup and header totals are computed in the same pass.
+     */
+    private void mergeItems(Quote quote, List<QuoteItemRequest> itemRequests) {
+        Map<String, Product> products = sharedReferenceLoader.products(
+                itemRequests.stream().map(QuoteItemRequest::getProductId).toList());
+
+        List<QuoteItem> existing = quote.getQuoteItems();
+        Map<Long, QuoteItem> byId = new HashMap<>();
+        for (QuoteItem item : existing) {
+            byId.put(item.getQuoteItemId(), item);
+        }
+        Set<Long> referencedIds = new HashSet<>();
+        for (QuoteItemRequest itemRequest : itemRequests) {
+            if (itemRequest.getQuoteItemId() != null && !referencedIds.add(itemRequest.getQuoteItemId())) {
+                throw new IllegalArgumentException("Quote item listed more than once: " + itemRequest.getQuoteItemId());
+            }
+        }
+        Map<Integer, QuoteItem> byPosition = new HashMap<>();
+        for (QuoteItem item : existing) {
+            if (!referencedIds.contains(item.getQuoteItemId())) {
+                byPosition.putIfAbsent(item.getItemOrder(), item);
+            }
+        }
+
+        QuotePricing pricing = new QuotePricing();
+        Set<QuoteItem> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<QuoteItem> added = new ArrayList<>();
+        int updated = 0;
+        for (int i = 0; i < itemRequests.size(); i++) {
+            QuoteItemRequest itemRequest = itemRequests.get(i);
+            Product product = products.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + itemRequest.getProductId());
+            }
+
+            QuoteItem item;
+            if (itemRequest.getQuoteItemId() != null) {
+                item = byId.get(itemRequest.getQuoteItemId());
+                if (item == null) {
+                    throw new IllegalArgumentException("Quote item not found: " + itemRequest.getQuoteItemId());
+                }
+            } else {
+                item = byPosition.get(i);
+            }
+
+            if (item == null) {
+                item = buildItem(quote, itemRequest, product, i);
+                pricing.price(item);
+                added.add(item);
+                continue;
+            }
 
+            kept.add(item);
+            boolean moved = !Objects.equals(item.getItemOrder(), i);
+            if (moved) {
+                item.setItemOrder(i);
+            }
+            boolean described = !Objects.equals(item.getDescription(), itemRequest.getDescription());
+            if (described) {
+                item.setDescription(itemRequest.getDescription());
+            }
+            if (applyPricingInputs(item, itemRequest, product)) {
+                pricing.price(item);
+                updated++;
+            } else {
+                pricing.add(item);
+                if (moved || described) {
+                    updated++;
+                }
+            }
+        }
+
+        int removed = existing.size() - kept.size();
+        if (removed > 0) {
+            existing.removeIf(item -> !kept.contains(item));
+        }
+        pricing.applyTo(quote);
+        log.debug("Quote {} items: {} updated, {} added, {} removed, {} unchanged", quote.getQuoteId(),
+                updated, added.size(), removed, kept.size() - updated);
+
+        if (!added.isEmpty()) {
+            // Quote row and removed items must be written before the batch references them
+            entityManager.flush();
+            insertItems(added);
+            entityManager.refresh(quote);
+        }
+    }
+
+    private QuoteItem buildItem(Quote quote, QuoteItemRequest itemRequest, Product product, int order) {
         QuoteItem item = new QuoteItem();
         item.setQuote(quote);
-        item.setProduct(product);
         item.setItemOrder(order);
-        item.setQuantity(itemRequest.getQuantity() != null ? itemRequest.getQuantity() : 1);
-        item.setUnitPrice(itemRequest.getUnitPrice() != null ? itemRequest.getUnitPrice() : product.getUnitPrice());
-        item.setDiscountRate(itemRequest.getDiscountRate() != null ? itemRequest.getDiscountRate() : BigDecimal.ZERO);
-        item.setTaxRate(itemRequest.getTaxRate() != null ? itemRequest.getTaxRate() : product.getTaxRate());
         item.setDescription(itemRequest.getDescription());
         item.setTenantId(quote.getTenantId());
-
-        // Calculate item amounts
-        BigDecimal subtotal = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
-        BigDecimal discountAmount = subtotal.multiply(item.getDiscountRate()).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        item.setDiscountAmount(discountAmount);
-        BigDecimal afterDiscount = subtotal.subtract(discountAmount);
-        BigDecimal taxAmount = afterDiscount.multiply(item.getTaxRate()).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-        item.setTaxAmount(taxAmount);
-        item.setTotalAmount(afterDiscount.add(taxAmount));
-
-        quote.getQuoteItems().add(item);
+        applyPricingInputs(item, itemRequest, product);
+        return item;
     }
 
-    private void calculateQuoteTotals(Quote quote) {
-        BigDecimal subtotal = BigDecimal.ZERO;
-        BigDecimal taxAmount = BigDecimal.ZERO;
-
-        for (QuoteItem item : quote.getQuoteItems()) {
-            BigDecimal itemSubtotal = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()))
-                    .subtract(item.getDiscountAmount());
-            subtotal = subtotal.add(itemSubtotal);
-            taxAmount = taxAmount.add(item.getTaxAmount());
+    /**
+     * Set product, quantity, price and rates from the request (defaults as on creation).
+     *
+     * @return whether any of them changed, i.e. the line needs re-pricing
+     */
+    private boolean applyPricingInputs(QuoteItem item, QuoteItemRequest itemRequest, Product product) {
+        int quantity = itemRequest.getQuantity() != null ? itemRequest.getQuantity() : 1;
+        BigDecimal unitPrice = itemRequest.getUnitPrice() != null ? itemRequest.getUnitPrice() : product.getUnitPrice();
+        BigDecimal discountRate = itemRequest.getDiscountRate() != null ? itemRequest.getDiscountRate() : BigDecimal.ZERO;
+        BigDecimal taxRate = itemRequest.getTaxRate() != null ? itemRequest.getTaxRate() : product.getTaxRate();
+
+        boolean changed = false;
+        if (item.getProduct() == null || !item.getProduct().getProductId().equals(product.getProductId())) {
+            item.setProduct(product);
+            changed = true;
+        }
+        if (item.getQuantity() == null || item.getQuantity() != quantity) {
+            item.setQuantity(quantity);
+            changed = true;
         }
+        if (!sameAmount(item.getUnitPrice(), unitPrice)) {
+            item.setUnitPrice(unitPrice);
+            changed = true;
+        }
+        if (!sameAmount(item.getDiscountRate(), discountRate)) {
+            item.setDiscountRate(discountRate);
+            changed = true;
+        }
+        if (!sameAmount(item.getTaxRate(), taxRate)) {
+            item.setTaxRate(taxRate);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
 
-        quote.setSubtotal(subtotal);
-        quote.setTaxAmount(taxAmount);
-        BigDecimal totalAmount = subtotal.add(taxAmount).subtract(
-                quote.getDiscountAmount() != null ? quote.getDiscountAmount() : BigDecimal.ZERO);
-        quote.setTotalAmount(totalAmount);
+    private void insertItems(List<QuoteItem> items) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items.stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("quoteId", item.getQuote().getQuoteId())
+                        .addValue("productId", item.getProduct().getProductId())
+                        .addValue("itemOrder", item.getItemOrder())
+                        .addValue("quantity", item.getQuantity())
+                        .addValue("unitPrice", item.getUnitPrice())
+                        .addValue("discountRate", item.getDiscountRate())
+                        .addValue("discountAmount", item.getDiscountAmount())
+                        .addValue("taxRate", item.getTaxRate())
+                        .addValue("taxAmount", item.getTaxAmount())
+                        .addValue("totalAmount", item.getTotalAmount())
+                        .addValue("description", item.getDescription())
+                        .addValue("tenantId", item.getTenantId())
+                        .addValue("createdDate", now))
+                .toArray(SqlParameterSource[]::new));
     }
 
     public Optional<Quote> getQuote(String quoteId) {
-        Optional<Quote> quote = quoteRepository.findById(quoteId);
-        quote.ifPresent(this::verifyQuoteAccess);
-        return quote;
+        return quoteRepository.findByIdScoped(quoteId);
     }
 
-    public List<Quote> getAllQuotes() {
-        return quoteRepository.findAll();
+    public CursorPage<QuoteResponse> getAllQuotes(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<Quote> getQuotesByCustomer(String customerId) {
-        return quoteRepository.findByCustomerId(customerId);
+    public CursorPage<QuoteResponse> getQuotesByCustomer(String customerId, CursorRequest page) {
+        return findPage(QUOTE.customer.customerId.eq(customerId), page);
     }
 
-    public List<Quote> getQuotesByOpportunity(String opportunityId) {
-        return quoteRepository.findByOpportunityId(opportunityId);
+    public CursorPage<QuoteResponse> getQuotesByOpportunity(String opportunityId, CursorRequest page) {
+        return findPage(QUOTE.opportunity.opportunityId.eq(opportunityId), page);
     }
 
-    public List<Quote> getQuotesByStatus(String status) {
-        return quoteRepository.findByQuoteStatus(status);
+    public CursorPage<QuoteResponse> getQuotesByStatus(String status, CursorRequest page) {
+        return findPage(QUOTE.quoteStatus.eq(status), page);
     }
 
-    public List<Quote> getQuotesByAssignedUser(String userId) {
-        return quoteRepository.findByAssignedUserId(userId);
+    public CursorPage<QuoteResponse> getQuotesByAssignedUser(String userId, CursorRequest page) {
+        return findPage(QUOTE.assignedUser.id.eq(userId), page);
     }
 
-    public List<Quote> getExpiredQuotes() {
-        return quoteRepository.findExpiredQuotes(LocalDate.now());
+    public CursorPage<QuoteResponse> getExpiredQuotes(CursorRequest page) {
+        return findPage(QUOTE.validUntil.lt(LocalDate.now()).and(QUOTE.quoteStatus.eq("SENT")), page);
     }
 
-    public List<Quote> searchQuotes(String keyword) {
-        return quoteRepository.searchByKeyword(keyword);
+    public CursorPage<QuoteResponse> searchQuotes(String keyword, CursorRequest page) {
+        return findPage(QUOTE.quoteNumber.contains(keyword), page);
+    }
+
+    public CursorPage<QuoteResponse> queryQuotes(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteQuote(String quoteId) {
-        Quote quote = quoteRepository.findById(quoteId)
+        Quote quote = quoteRepository.findByIdScoped(quoteId)
                 .orElseThrow(() -> new IllegalArgumentException("Quote not found: " + quoteId));
 
-        verifyQuoteAccess(quote);
-
         log.info("Deleting quote: {}", quoteId);
         quoteRepository.delete(quote);
         log.info("Quote deleted successfully: {}", quoteId);
@@ -271,9 +454,84 @@ public class QuoteService {
         return quoteRepository.existsByQuoteNumber(quoteNumber);
     }
 
-    private String generateQuoteId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "QTE" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<QuoteResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<QuoteResponse> findPage(Predicate filter, KeysetSort<QuoteResponse, ?> sort, CursorRequest page) {
+        CursorPage<QuoteResponse> rows = keysetPager.page(
+                listQuery(), filter, sort, QUOTE.quoteId, QuoteResponse::getQuoteId, page);
+        Map<String, List<QuoteItemResponse>> items = findItems(
+                rows.items().stream().map(QuoteResponse::getQuoteId).toList());
+        return rows.map(row -> row.toBuilder()
+                .items(items.getOrDefault(row.getQuoteId(), List.of()))
+                .build());
+    }
+
+    /**
+     * Items of a whole page in one statement, grouped by quote in item order.
+     * Product code/name come from SharedReferenceLoader since products may be SYSTEM-owned.
+     */
+    private Map<String, List<QuoteItemResponse>> findItems(List<String> quoteIds) {
+        if (quoteIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = queryFactory
+                .select(QUOTE_ITEM.quote.quoteId, ITEM_COLUMNS)
+                .from(QUOTE_ITEM)
+                .where(QUOTE_ITEM.quote.quoteId.in(quoteIds))
+                .orderBy(QUOTE_ITEM.quote.quoteId.asc(), QUOTE_ITEM.itemOrder.asc())
+                .fetch();
+        Map<String, Product> products = sharedReferenceLoader.products(
+                rows.stream().map(row -> row.get(ITEM_COLUMNS).getProductId()).toList());
+
+        Map<String, List<QuoteItemResponse>> itemsByQuote = new HashMap<>();
+        for (Tuple row : rows) {
+            QuoteItemResponse item = row.get(ITEM_COLUMNS);
+            Product product = products.get(item.getProductId());
+            if (product != null) {
+                item = item.toBuilder()
+                        .productCode(product.getProductCode())
+                        .productName(product.getProductName())
+                        .build();
+            }
+            itemsByQuote.computeIfAbsent(row.get(QUOTE_ITEM.quote.quoteId), quoteId -> new ArrayList<>()).add(item);
+        }
+        return itemsByQuote;
+    }
+
+    private JPAQuery<QuoteResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(QuoteResponse.class,
+                        QUOTE.quoteId,
+                        QUOTE.quoteNumber,
+                        QUOTE.opportunity.opportunityId.as("opportunityId"),
+                        OPPORTUNITY.opportunityName.as("opportunityName"),
+                        QUOTE.customer.customerId.as("customerId"),
+                        CUSTOMER.customerName.as("customerName"),
+                        QUOTE.contact.contactId.as("contactId"),
+                        CONTACT.contactName.as("contactName"),
+                        QUOTE.quoteStatus,
+                        QUOTE.quoteDate,
+                        QUOTE.validUntil,
+                        QUOTE.subtotal,
+                        QUOTE.discountAmount,
+                        QUOTE.taxAmount,
+                        QUOTE.totalAmount,
+                        QUOTE.currency,
+                        QUOTE.paymentTerms,
+                        QUOTE.deliveryTerms,
+                        QUOTE.notes,
+                        QUOTE.assignedUser.id.as("assignedUserId"),
+                        ASSIGNED_USER.userName.as("assignedUserName"),
+                        QUOTE.tenantId,
+                        QUOTE.useAt,
+                        QUOTE.createdDate,
+                        QUOTE.updatedDate))
+                .from(QUOTE)
+                .leftJoin(QUOTE.opportunity, OPPORTUNITY)
+                .leftJoin(QUOTE.customer, CUSTOMER)
+                .leftJoin(QUOTE.contact, CONTACT)
+                .leftJoin(QUOTE.assignedUser, ASSIGNED_USER);
     }
 }
@@ -0,0 +1,230 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.domain.sales.Activity;
+import com.example.egov.domain.sales.Contact;
+import com.example.egov.domain.sales.Customer;
+import com.example.egov.domain.sales.Lead;
+import com.example.egov.domain.sales.Opportunity;
+import com.example.egov.web.common.ExportFormat;
+import com.example.egov.web.sales.dto.ActivityResponse;
+import com.example.egov.web.sales.dto.ContactResponse;
+import com.example.egov.web.sales.dto.CustomerResponse;
+import com.example.egov.web.sales.dto.LeadResponse;
+import com.example.egov.web.sales.dto.OpportunityResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Sales Export Service
+ * - Full-tenant dumps of customers, contacts, leads, opportunities and activities
+ * - Rows are read with a forward-only ScrollableResults (JDBC fetch size, read-only)
+ *   and written one by one; the persistence context is cleared periodically so
+ *   memory stays flat regardless of tenant size
+ * - Row shape is the corresponding *Response DTO; ManyToOne associations used by
+ *   the DTO are fetch-joined so each row costs no extra query
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesExportService {
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${app.export.clear-interval:1000}")
+    private int clearInterval;
+
+    public long exportCustomers(OutputStream outputStream, ExportFormat format) throws IOException {
+        return export("SELECT c FROM Customer c"
+                        + " LEFT JOIN FETCH c.assignedUser LEFT JOIN FETCH c.branch"
+                        + " ORDER BY c.customerId",
+                Customer.class, CustomerResponse::from, outputStream, format);
+    }
+
+    public long exportContacts(OutputStream outputStream, ExportFormat format) throws IOException {
+        return export("SELECT c FROM Contact c"
+                        + " LEFT JOIN FETCH c.customer"
+                        + " ORDER BY c.contactId",
+                Contact.class, ContactResponse::from, outputStream, format);
+    }
+
+    public long exportLeads(OutputStream outputStream, ExportFormat format) throws IOException {
+        return export("SELECT l FROM Lead l"
+                        + " LEFT JOIN FETCH l.assignedUser LEFT JOIN FETCH l.convertedCustomer"
+                        + " ORDER BY l.leadId",
+                Lead.class, LeadResponse::from, outputStream, format);
+    }
+
+    public long exportOpportunities(OutputStream outputStream, ExportFormat format) throws IOException {
+        return export("SELECT o FROM Opportunity o"
+                        + " LEFT JOIN FETCH o.customer LEFT JOIN FETCH o.contact LEFT JOIN FETCH o.stage"
+                        + " LEFT JOIN FETCH o.assignedUser LEFT JOIN FETCH o.branch"
+                        + " ORDER BY o.opportunityId",
+                Opportunity.class, OpportunityResponse::from, outputStream, format);
+    }
+
+    public long exportActivities(OutputStream outputStream, ExportFormat format) throws IOException {
+        return export("SELECT a FROM Activity a"
+                        + " LEFT JOIN FETCH a.assignedUser"
+                        + " ORDER BY a.activityId",
+                Activity.class, ActivityResponse::from, outputStream, format);
+    }
+
+    private <T, R> long export(String hql, Class<T> type, Function<T, R> mapper,
+                               OutputStream outputStream, ExportFormat format) throws IOException {
+        Session session = entityManager.unwrap(Session.class);
+        RowWriter writer = format == ExportFormat.CSV
+                ? new CsvRowWriter(objectMapper, outputStream)
+                : new NdjsonRowWriter(objectMapper, outputStream);
+
+        long count = 0;
+        try (ScrollableResults<T> rows = session.createSelectionQuery(hql, type)
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                writer.write(mapper.apply(rows.get()));
+                if (++count % clearInterval == 0) {
+                    session.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.finish();
+        log.info("Exported {} {} rows as {}", count, type.getSimpleName(), format);
+        return count;
+    }
+
+    private interface RowWriter {
+        void write(Object row) throws IOException;
+
+        void flush() throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * One JSON object per line.
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Object row) throws IOException {
+            generator.writeObject(row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV; the header is taken from the DTO's JSON property names.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final ObjectMapper objectMapper;
+        private final Writer writer;
+        private List<String> header;
+
+        CsvRowWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+            this.objectMapper = objectMapper;
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(Object row) throws IOException {
+            JsonNode node = objectMapper.valueToTree(row);
+            if (header == null) {
+                header = new ArrayList<>();
+                node.fieldNames().forEachRemaining(header::add);
+                writeLine(header.iterator());
+            }
+            List<String> values = new ArrayList<>(header.size());
+            for (String column : header) {
+                values.add(text(node.get(column)));
+            }
+            writeLine(values.iterator());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(Iterator<String> values) throws IOException {
+            while (values.hasNext()) {
+                writer.write(escape(values.next()));
+                if (values.hasNext()) {
+                    writer.write(',');
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String text(JsonNode value) {
+            if (value == null || value.isNull()) {
+                return "";
+            }
+            return value.isValueNode() ? value.asText() : value.toString();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.sales.Opportunity;
+import com.example.egov.web.sales.dto.AttainmentReconcileReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps SalesTarget.achievedAmount in step with closed-won opportunities.
+ *
+ * A won opportunity counts towards every REVENUE (amount) and DEALS (count) target of its
+ * tenant whose period holds its close month (ACTUAL_CLOSE_DATE, else EXPECTED_CLOSE_DATE)
+ * and whose user/branch is either unset or equal to the opportunity's:
+ * - user targets (USER_ID), branch targets (BRANCH_ID), company targets (neither)
+ * - monthly targets (TARGET_MONTH) and yearly targets (TARGET_MONTH NULL)
+ *
+ * OpportunityService reports each write as before/after contributions; the difference is
+ * applied with set-based UPDATEs in the caller's transaction, no target is loaded.
+ * reconcile() recomputes every total in one aggregate and corrects drift (stage flags
+ * changed after the fact, writes that bypassed the service). Achieved amounts are not
+ * editable through the API, so there is no manual value for reconcile to overwrite.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesTargetAttainmentService {
+
+    private static final String WON_STAGE = "Y";
+
+    private static final String APPLY_DELTA_SQL = "UPDATE SALES_TARGETS"
+            + " SET ACHIEVED_AMOUNT = COALESCE(ACHIEVED_AMOUNT, 0)"
+            + " + CASE WHEN TARGET_TYPE = 'DEALS' THEN :dealDelta ELSE :amountDelta END,"
+            + " UPDATED_DATE = CURRENT_TIMESTAMP"
+            + " WHERE TARGET_YEAR = :year AND (TARGET_MONTH IS NULL OR TARGET_MONTH = :month)"
+            + " AND TENANT_ID = :tenantId"
+            + " AND (USER_ID IS NULL OR USER_ID = :userId)"
+            + " AND (BRANCH_ID IS NULL OR BRANCH_ID = :branchId)"
+            + " AND TARGET_TYPE IN ('REVENUE', 'DEALS')";
+
+    private static final String CLOSE_DATE = "COALESCE(o.ACTUAL_CLOSE_DATE, o.EXPECTED_CLOSE_DATE)";
+
+    private static final String RECONCILE_SQL = "WITH WON AS ("
+            + " SELECT o.TENANT_ID, o.ASSIGNED_USER_ID, o.BRANCH_ID,"
+            + " EXTRACT(YEAR FROM " + CLOSE_DATE + ") AS CLOSE_YEAR,"
+            + " EXTRACT(MONTH FROM " + CLOSE_DATE + ") AS CLOSE_MONTH,"
+            + " COUNT(*) AS DEALS, SUM(COALESCE(o.AMOUNT, 0)) AS AMOUNT"
+            + " FROM OPPORTUNITIES o JOIN PIPELINE_STAGES s ON s.STAGE_ID = o.STAGE_ID"
+            + " WHERE s.IS_WON = 'Y' AND " + CLOSE_DATE + " IS NOT NULL"
+            + " GROUP BY o.TENANT_ID, o.ASSIGNED_USER_ID, o.BRANCH_ID,"
+            + " EXTRACT(YEAR FROM " + CLOSE_DATE + "), EXTRACT(MONTH FROM " + CLOSE_DATE + "))"
+            + " SELECT t.TARGET_ID, t.TENANT_ID, COALESCE(t.ACHIEVED_AMOUNT, 0) AS STORED,"
+            + " COALESCE(SUM(CASE WHEN t.TARGET_TYPE = 'DEALS' THEN w.DEALS ELSE w.AMOUNT END), 0) AS EXPECTED"
+            + " FROM SALES_TARGETS t LEFT JOIN WON w ON w.TENANT_ID = t.TENANT_ID"
+            + " AND w.CLOSE_YEAR = t.TARGET_YEAR"
+            + " AND (t.TARGET_MONTH IS NULL OR w.CLOSE_MONTH = t.TARGET_MONTH)"
+            + " AND (t.USER_ID IS NULL OR w.ASSIGNED_USER_ID = t.USER_ID)"
+            + " AND (t.BRANCH_ID IS NULL OR w.BRANCH_ID = t.BRANCH_ID)"
+            + " WHERE t.TARGET_TYPE IN ('REVENUE', 'DEALS')"
+            + " %s"
+            + " GROUP BY t.TARGET_ID, t.TENANT_ID, t.ACHIEVED_AMOUNT"
+            + " ORDER BY t.TARGET_ID";
+
+    // Only overwrite a total nobody changed since it was read; a concurrent delta wins
+    private static final String CORRECT_SQL = "UPDATE SALES_TARGETS"
+            + " SET ACHIEVED_AMOUNT = :expected, UPDATED_DATE = CURRENT_TIMESTAMP"
+            + " WHERE TARGET_ID = :targetId AND COALESCE(ACHIEVED_AMOUNT, 0) = :stored";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Contribution of an opportunity to its targets, or null when it is not closed-won.
+     */
+    public static WonContribution contributionOf(Opportunity opportunity) {
+        if (opportunity == null || opportunity.getStage() == null
+                || !WON_STAGE.equals(opportunity.getStage().getIsWon())) {
+            return null;
+        }
+        LocalDate closeDate = opportunity.getActualCloseDate() != null
+                ? opportunity.getActualCloseDate()
+                : opportunity.getExpectedCloseDate();
+        if (closeDate == null) {
+            return null;
+        }
+        return new WonContribution(
+                opportunity.getTenantId(),
+                opportunity.getAssignedUser() != null ? opportunity.getAssignedUser().getId() : null,
+                opportunity.getBranch() != null ? opportunity.getBranch().getBranchId() : null,
+                closeDate.getYear(),
+                closeDate.getMonthValue(),
+                opportunity.getAmount() != null ? opportunity.getAmount() : BigDecimal.ZERO);
+    }
+
+    /**
+     * Move the targets from the "before" to the "after" contribution; either may be null.
+     */
+    @Transactional
+    public void applyChange(WonContribution before, WonContribution after) {
+        if (before != null && after != null && before.sameTargets(after)) {
+            BigDecimal amountDelta = after.amount().subtract(before.amount());
+            if (amountDelta.signum() != 0) {
+                applyDelta(after, amountDelta, BigDecimal.ZERO);
+            }
+            return;
+        }
+        if (before != null) {
+            applyDelta(before, before.amount().negate(), BigDecimal.ONE.negate());
+        }
+        if (after != null) {
+            applyDelta(after, after.amount(), BigDecimal.ONE);
+        }
+    }
+
+    private void applyDelta(WonContribution contribution, BigDecimal amountDelta, BigDecimal dealDelta) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("amountDelta", amountDelta)
+                .addValue("dealDelta", dealDelta)
+                .addValue("year", contribution.year())
+                .addValue("month", contribution.month())
+                .addValue("tenantId", contribution.tenantId())
+                .addValue("userId", contribution.userId())
+                .addValue("branchId", contribution.branchId());
+        int updated = jdbcTemplate.update(APPLY_DELTA_SQL, params);
+        log.debug("Attainment delta {} / {} deals applied to {} target(s) for {}",
+                amountDelta, dealDelta, updated, contribution);
+    }
+
+    /**
+     * Recompute achieved amounts of the current tenant (SYSTEM: all tenants) and correct drift.
+     */
+    @Transactional
+    public AttainmentReconcileReport reconcile() {
+        String tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null) {
+            throw new IllegalArgumentException("Tenant context is required for reconciliation");
+        }
+        return reconcile(TenantContext.SYSTEM_TENANT_ID.equals(tenantId) ? null : tenantId);
+    }
+
+    /**
+     * @param tenantId tenant to reconcile, null for every tenant
+     */
+    @Transactional
+    public AttainmentReconcileReport reconcile(String tenantId) {
+        String sql = String.format(RECONCILE_SQL, tenantId != null ? "AND t.TENANT_ID = :tenantId" : "");
+        List<AttainmentReconcileReport.Drift> drifts = new ArrayList<>();
+        int[] checked = new int[1];
+        jdbcTemplate.query(sql, new MapSqlParameterSource("tenantId", tenantId), rs -> {
+            checked[0]++;
+            BigDecimal stored = rs.getBigDecimal("STORED");
+            BigDecimal expected = rs.getBigDecimal("EXPECTED");
+            if (stored.compareTo(expected) != 0) {
+                drifts.add(new AttainmentReconcileReport.Drift(
+                        rs.getString("TARGET_ID"), rs.getString("TENANT_ID"), stored, expected));
+            }
+        });
+
+        int corrected = 0;
+        if (!drifts.isEmpty()) {
+            SqlParameterSource[] batch = drifts.stream()
+                    .map(drift -> new MapSqlParameterSource()
+                            .addValue("targetId", drift.targetId())
+                            .addValue("stored", drift.storedAmount())
+                            .addValue("expected", drift.expectedAmount()))
+                    .toArray(SqlParameterSource[]::new);
+            for (int count : jdbcTemplate.batchUpdate(CORRECT_SQL, batch)) {
+                corrected += count > 0 ? 1 : 0;
+            }
+            for (AttainmentReconcileReport.Drift drift : drifts) {
+                log.warn("Sales target attainment drift: {} (tenant {}) stored {} expected {}",
+                        drift.targetId(), drift.tenantId(), drift.storedAmount(), drift.expectedAmount());
+            }
+        }
+
+        log.info("Sales target attainment reconciled for {}: {} checked, {} drifted, {} corrected",
+                tenantId != null ? tenantId : "all tenants", checked[0], drifts.size(), corrected);
+        return new AttainmentReconcileReport(checked[0], drifts.size(), corrected, drifts);
+    }
+
+    /**
+     * What a closed-won opportunity adds to its targets: amount (REVENUE) and one deal (DEALS).
+     */
+    public record WonContribution(String tenantId, String userId, String branchId,
+                                  int year, int month, BigDecimal amount) {
+
+        boolean sameTargets(WonContribution other) {
+            return Objects.equals(tenantId, other.tenantId)
+                    && Objects.equals(userId, other.userId)
+                    && Objects.equals(branchId, other.branchId)
+                    && year == other.year
+                    && month == other.month;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.service.common.ScheduledJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Nightly reconciliation of sales-target attainment across all tenants
+ * (app.sales-target.reconcile-cron, "-" to disable).
+ *
+ * Every node fires the schedule; ScheduledJobLock lets one of them run it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesTargetReconcileJob {
+
+    private static final String LOCK_NAME = "sales-target-reconcile";
+
+    private final SalesTargetAttainmentService attainmentService;
+    private final ScheduledJobLock scheduledJobLock;
+
+    @Value("${app.sales-target.reconcile-lock-at-most:1h}")
+    private Duration lockAtMostFor;
+
+    @Value("${app.sales-target.reconcile-lock-at-least:5m}")
+    private Duration lockAtLeastFor;
+
+    @Scheduled(cron = "${app.sales-target.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            scheduledJobLock.runLocked(LOCK_NAME, lockAtMostFor, lockAtLeastFor, () -> attainmentService.reconcile(null));
+        } catch (RuntimeException e) {
+            log.error("Sales target reconciliation failed", e);
+        }
+    }
+}
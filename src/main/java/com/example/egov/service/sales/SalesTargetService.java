@@ -3,22 +3,36 @@ package com.example.egov.service.sales;
 import com.example.egov.config.multitenancy.TenantContext;
 import com.example.egov.domain.admin.Branch;
 import com.example.egov.domain.admin.BranchRepository;
+import com.example.egov.domain.admin.QBranch;
+import com.example.egov.domain.admin.QUser;
 import com.example.egov.domain.admin.User;
 import com.example.egov.domain.admin.UserRepository;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterCompiler;
+import com.example.egov.domain.common.FilterFields;
+import com.example.egov.domain.common.FilterQuery;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.domain.common.KeysetPager;
+import com.example.egov.domain.common.KeysetSort;
+import com.example.egov.domain.sales.QSalesTarget;
 import com.example.egov.domain.sales.SalesTarget;
 import com.example.egov.domain.sales.SalesTargetRepository;
 import com.example.egov.web.sales.dto.SalesTargetCreateRequest;
+import com.example.egov.web.sales.dto.SalesTargetResponse;
 import com.example.egov.web.sales.dto.SalesTargetUpdateRequest;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -26,27 +40,31 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class SalesTargetService {
 
-    private static final String SYSTEM_TENANT_ID = "SYSTEM";
+    private static final QSalesTarget SALES_TARGET = QSalesTarget.salesTarget;
+    private static final QUser TARGET_USER = new QUser("targetUser");
+    private static final QBranch BRANCH = new QBranch("branch");
+    private static final KeysetSort<SalesTargetResponse, LocalDateTime> NEWEST_FIRST =
+            KeysetSort.newestFirst(SALES_TARGET.createdDate, SalesTargetResponse::getCreatedDate);
+    private static final FilterFields<SalesTargetResponse> FILTER_FIELDS = FilterFields.builder("salesTarget", NEWEST_FIRST)
+            .field("targetYear", SALES_TARGET.targetYear, Integer.class)
+            .field("targetMonth", SALES_TARGET.targetMonth, Integer.class)
+            .field("userId", SALES_TARGET.user.id, String.class)
+            .field("branchId", SALES_TARGET.branch.branchId, String.class)
+            .build();
 
     private final SalesTargetRepository salesTargetRepository;
     private final UserRepository userRepository;
     private final BranchRepository branchRepository;
-
-    private boolean isSystemTenant() {
-        return SYSTEM_TENANT_ID.equals(TenantContext.getCurrentTenantId());
-    }
-
-    private void verifyTargetAccess(SalesTarget target) {
-        if (!isSystemTenant() && !target.getTenantId().equals(TenantContext.getCurrentTenantId())) {
-            throw new AccessDeniedException("Access denied to sales target: " + target.getTargetId());
-        }
-    }
+    private final KeysetPager keysetPager;
+    private final JPAQueryFactory queryFactory;
+    private final FilterCompiler filterCompiler;
+    private final IdGenerator idGenerator;
 
     @Transactional
     public SalesTarget createTarget(SalesTargetCreateRequest request) {
         String tenantId = TenantContext.getCurrentTenantId();
 
-        String targetId = generateTargetId();
+        String targetId = idGenerator.nextId("TGT");
         log.info("Creating sales target: {} for tenant: {}", targetId, tenantId);
 
         SalesTarget target = new SalesTarget();
@@ -54,7 +72,8 @@ public class SalesTargetService {
         target.setTargetYear(request.getTargetYear());
         target.setTargetMonth(request.getTargetMonth());
         target.setTargetAmount(request.getTargetAmount());
-        target.setAchievedAmount(request.getAchievedAmount() != null ? request.getAchievedAmount() : BigDecimal.ZERO);
+        // Achieved amount is maintained by SalesTargetAttainmentService only
+        target.setAchievedAmount(BigDecimal.ZERO);
         target.setTargetType(request.getTargetType() != null ? request.getTargetType() : "REVENUE");
         target.setTenantId(tenantId);
 
@@ -78,10 +97,9 @@ public class SalesTargetService {
 
     @Transactional
     public SalesTarget updateTarget(String targetId, SalesTargetUpdateRequest request) {
-        SalesTarget target = salesTargetRepository.findById(targetId)
+        SalesTarget target = salesTargetRepository.findByIdScoped(targetId)
                 .orElseThrow(() -> new IllegalArgumentException("Sales target not found: " + targetId));
 
-        verifyTargetAccess(target);
         log.info("Updating sales target: {}", targetId);
 
         if (request.getTargetYear() != null) {
@@ -93,9 +111,6 @@ public class SalesTargetService {
         if (request.getTargetAmount() != null) {
             target.setTargetAmount(request.getTargetAmount());
         }
-        if (request.getAchievedAmount() != null) {
-            target.setAchievedAmount(request.getAchievedAmount());
-        }
         if (request.getTargetType() != null) {
             target.setTargetType(request.getTargetType());
         }
@@ -116,78 +131,92 @@ public class SalesTargetService {
         return updatedTarget;
     }
 
-    @Transactional
-    public SalesTarget updateAchievedAmount(String targetId, BigDecimal achievedAmount) {
-        SalesTarget target = salesTargetRepository.findById(targetId)
-                .orElseThrow(() -> new IllegalArgumentException("Sales target not found: " + targetId));
-
-        verifyTargetAccess(target);
-
-        target.setAchievedAmount(achievedAmount);
-
-        SalesTarget updatedTarget = salesTargetRepository.save(target);
-        log.info("Sales target achieved amount updated: {} -> {}", targetId, achievedAmount);
-
-        return updatedTarget;
+    public Optional<SalesTarget> getTarget(String targetId) {
+        return salesTargetRepository.findByIdScoped(targetId);
     }
 
-    public Optional<SalesTarget> getTarget(String targetId) {
-        Optional<SalesTarget> target = salesTargetRepository.findById(targetId);
-        target.ifPresent(this::verifyTargetAccess);
-        return target;
+    public CursorPage<SalesTargetResponse> getAllTargets(CursorRequest page) {
+        return findPage(null, page);
     }
 
-    public List<SalesTarget> getAllTargets() {
-        return salesTargetRepository.findAll();
+    public CursorPage<SalesTargetResponse> getTargetsByYear(Integer year, CursorRequest page) {
+        return findPage(SALES_TARGET.targetYear.eq(year), page);
     }
 
-    public List<SalesTarget> getTargetsByYear(Integer year) {
-        return salesTargetRepository.findByTargetYear(year);
+    public CursorPage<SalesTargetResponse> getTargetsByYearAndMonth(Integer year, Integer month, CursorRequest page) {
+        return findPage(SALES_TARGET.targetYear.eq(year).and(SALES_TARGET.targetMonth.eq(month)), page);
     }
 
-    public List<SalesTarget> getTargetsByYearAndMonth(Integer year, Integer month) {
-        return salesTargetRepository.findByTargetYearAndTargetMonth(year, month);
+    public CursorPage<SalesTargetResponse> getTargetsByType(String type, CursorRequest page) {
+        return findPage(SALES_TARGET.targetType.eq(type), page);
     }
 
-    public List<SalesTarget> getTargetsByType(String type) {
-        return salesTargetRepository.findByTargetType(type);
+    public CursorPage<SalesTargetResponse> getTargetsByUser(String userId, CursorRequest page) {
+        return findPage(SALES_TARGET.user.id.eq(userId), page);
     }
 
-    public List<SalesTarget> getTargetsByUser(String userId) {
-        return salesTargetRepository.findByUserId(userId);
+    public CursorPage<SalesTargetResponse> getTargetsByBranch(String branchId, CursorRequest page) {
+        return findPage(SALES_TARGET.branch.branchId.eq(branchId), page);
     }
 
-    public List<SalesTarget> getTargetsByBranch(String branchId) {
-        return salesTargetRepository.findByBranchId(branchId);
+    public CursorPage<SalesTargetResponse> getTargetsByUserAndYear(String userId, Integer year, CursorRequest page) {
+        return findPage(SALES_TARGET.user.id.eq(userId).and(SALES_TARGET.targetYear.eq(year)), page);
     }
 
-    public List<SalesTarget> getTargetsByUserAndYear(String userId, Integer year) {
-        return salesTargetRepository.findByUserIdAndYear(userId, year);
+    public CursorPage<SalesTargetResponse> getTargetsByBranchAndYear(String branchId, Integer year, CursorRequest page) {
+        return findPage(SALES_TARGET.branch.branchId.eq(branchId).and(SALES_TARGET.targetYear.eq(year)), page);
     }
 
-    public List<SalesTarget> getTargetsByBranchAndYear(String branchId, Integer year) {
-        return salesTargetRepository.findByBranchIdAndYear(branchId, year);
+    public CursorPage<SalesTargetResponse> getCompanyTargetsByYear(Integer year, CursorRequest page) {
+        return findPage(SALES_TARGET.user.isNull()
+                .and(SALES_TARGET.branch.isNull())
+                .and(SALES_TARGET.targetYear.eq(year)), page);
     }
 
-    public List<SalesTarget> getCompanyTargetsByYear(Integer year) {
-        return salesTargetRepository.findCompanyTargetsByYear(year);
+    public CursorPage<SalesTargetResponse> queryTargets(FilterQuery query) {
+        Predicate filter = filterCompiler.compile(FILTER_FIELDS, query.filter());
+        return findPage(filter, FILTER_FIELDS.sort(query.sort(), query.direction()), query.page());
     }
 
     @Transactional
     public void deleteTarget(String targetId) {
-        SalesTarget target = salesTargetRepository.findById(targetId)
+        SalesTarget target = salesTargetRepository.findByIdScoped(targetId)
                 .orElseThrow(() -> new IllegalArgumentException("Sales target not found: " + targetId));
 
-        verifyTargetAccess(target);
-
         log.info("Deleting sales target: {}", targetId);
         salesTargetRepository.delete(target);
         log.info("Sales target deleted successfully: {}", targetId);
     }
 
-    private String generateTargetId() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
-        return "TGT" + timestamp.substring(timestamp.length() - 10) + suffix;
+    private CursorPage<SalesTargetResponse> findPage(Predicate filter, CursorRequest page) {
+        return findPage(filter, NEWEST_FIRST, page);
+    }
+
+    private CursorPage<SalesTargetResponse> findPage(Predicate filter, KeysetSort<SalesTargetResponse, ?> sort, CursorRequest page) {
+        return keysetPager.page(listQuery(), filter, sort, SALES_TARGET.targetId, SalesTargetResponse::getTargetId, page)
+                .map(row -> row.toBuilder()
+                        .achievementRate(SalesTargetResponse.calculateAchievementRate(row.getTargetAmount(), row.getAchievedAmount()))
+                        .build());
+    }
+
+    private JPAQuery<SalesTargetResponse> listQuery() {
+        return queryFactory
+                .select(Projections.fields(SalesTargetResponse.class,
+                        SALES_TARGET.targetId,
+                        SALES_TARGET.targetYear,
+                        SALES_TARGET.targetMonth,
+                        SALES_TARGET.targetAmount,
+                        SALES_TARGET.achievedAmount,
+                        SALES_TARGET.targetType,
+                        SALES_TARGET.user.id.as("userId"),
+                        TARGET_USER.userName.as("userName"),
+                        SALES_TARGET.branch.branchId.as("branchId"),
+                        BRANCH.branchName.as("branchName"),
+                        SALES_TARGET.tenantId,
+                        SALES_TARGET.createdDate,
+                        SALES_TARGET.updatedDate))
+                .from(SALES_TARGET)
+                .leftJoin(SALES_TARGET.user, TARGET_USER)
+                .leftJoin(SALES_TARGET.branch, BRANCH);
     }
 }
@@ -0,0 +1,54 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.domain.sales.PipelineStage;
+import com.example.egov.domain.sales.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch lookup of reference rows that list projections cannot join.
+ *
+ * Pipeline stages and products may be owned by the SYSTEM tenant and shared, so a
+ * join would lose them to the tenant filter. multiLoad is an ID lookup (unfiltered,
+ * like the lazy association it replaces), serves hits from the second-level cache
+ * and fetches the misses in a single statement.
+ */
+@Component
+public class SharedReferenceLoader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Map<String, PipelineStage> stages(Collection<String> stageIds) {
+        return load(PipelineStage.class, stageIds, PipelineStage::getStageId);
+    }
+
+    public Map<String, Product> products(Collection<String> productIds) {
+        return load(Product.class, productIds, Product::getProductId);
+    }
+
+    private <T> Map<String, T> load(Class<T> type, Collection<String> ids, Function<T, String> idGetter) {
+        List<String> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(type)
+                .multiLoad(distinctIds)
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.sales.PipelineStage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Appends opportunity stage transitions to OPPORTUNITY_STAGE_HISTORY and folds them
+ * into the funnel counters and days-in-stage histograms.
+ *
+ * - Transitions are buffered per transaction and written just before commit: one JDBC
+ *   batch for the history rows, one per counter table (deltas summed per key first)
+ * - Counter rows are updated in key order; a key seen for the first time gets an empty
+ *   row first (ON CONFLICT DO NOTHING on PostgreSQL, so concurrent writers cannot collide)
+ * - Without a transaction the transition is written immediately
+ * - A move counts as advanced only into the next open-or-won stage of the tenant's pipeline
+ *   (lowest higher stageOrder, lost stages skipped); skips and moves into lost stages do not
+ * - A deleted opportunity exits its stage without a history row or days-in-stage sample
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StageHistoryRecorder {
+
+    /** Last histogram bucket; holds every stay of this many days or more. */
+    static final int MAX_TRACKED_DAYS = 365;
+
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO OPPORTUNITY_STAGE_HISTORY"
+            + " (OPPORTUNITY_ID, FROM_STAGE_ID, TO_STAGE_ID, DAYS_IN_FROM_STAGE, CHANGED_DATE, TENANT_ID)"
+            + " VALUES (:opportunityId, :fromStageId, :toStageId, :days, :changedDate, :tenantId)";
+
+    // Stages visible to the tenant: its own and the shared SYSTEM ones
+    private static final String NEXT_STAGE_ORDER_SQL = "SELECT MIN(STAGE_ORDER) FROM PIPELINE_STAGES"
+            + " WHERE TENANT_ID IN (:tenantId, :systemTenantId) AND USE_AT = 'Y' AND IS_LOST = 'N'"
+            + " AND STAGE_ORDER > :stageOrder";
+
+    private static final String UPDATE_STATS_SQL = "UPDATE OPPORTUNITY_STAGE_STATS"
+            + " SET ENTERED_COUNT = ENTERED_COUNT + :entered, EXITED_COUNT = EXITED_COUNT + :exited,"
+            + " ADVANCED_COUNT = ADVANCED_COUNT + :advanced, UPDATED_DATE = CURRENT_TIMESTAMP"
+            + " WHERE TENANT_ID = :tenantId AND STAGE_ID = :stageId";
+
+    private static final String UPDATE_DURATION_SQL = "UPDATE OPPORTUNITY_STAGE_DURATIONS"
+            + " SET EXIT_COUNT = EXIT_COUNT + :exits"
+            + " WHERE TENANT_ID = :tenantId AND STAGE_ID = :stageId AND DAYS = :days";
+
+    // Zero rows created on first use of a key; PostgreSQL ignores a concurrent duplicate
+    private static final String PG_ENSURE_STATS_SQL = "INSERT INTO OPPORTUNITY_STAGE_STATS (TENANT_ID, STAGE_ID)"
+            + " VALUES (:tenantId, :stageId) ON CONFLICT DO NOTHING";
+
+    private static final String PG_ENSURE_DURATION_SQL = "INSERT INTO OPPORTUNITY_STAGE_DURATIONS"
+            + " (TENANT_ID, STAGE_ID, DAYS) VALUES (:tenantId, :stageId, :days) ON CONFLICT DO NOTHING";
+
+    private static final String ENSURE_STATS_SQL = "INSERT INTO OPPORTUNITY_STAGE_STATS (TENANT_ID, STAGE_ID)"
+            + " SELECT CAST(:tenantId AS VARCHAR(20)), CAST(:stageId AS VARCHAR(20))"
+            + " FROM (VALUES (1)) AS ONE_ROW(X) WHERE NOT EXISTS"
+            + " (SELECT 1 FROM OPPORTUNITY_STAGE_STATS WHERE TENANT_ID = :tenantId AND STAGE_ID = :stageId)";
+
+    private static final String ENSURE_DURATION_SQL = "INSERT INTO OPPORTUNITY_STAGE_DURATIONS (TENANT_ID, STAGE_ID, DAYS)"
+            + " SELECT CAST(:tenantId AS VARCHAR(20)), CAST(:stageId AS VARCHAR(20)), CAST(:days AS INT)"
+            + " FROM (VALUES (1)) AS ONE_ROW(X) WHERE NOT EXISTS"
+            + " (SELECT 1 FROM OPPORTUNITY_STAGE_DURATIONS"
+            + " WHERE TENANT_ID = :tenantId AND STAGE_ID = :stageId AND DAYS = :days)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @PostConstruct
+    protected void init() {
+        String product = jdbcTemplate.getJdbcTemplate().execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * Record a new opportunity entering its first stage.
+     */
+    public void created(String tenantId, String opportunityId, PipelineStage stage, LocalDateTime at) {
+        record(new Transition(tenantId, opportunityId, null, null, stage.getStageId(), null, at));
+    }
+
+    /**
+     * Record a move between two different stages.
+     *
+     * @param enteredAt when the opportunity entered the "from" stage
+     */
+    public void moved(String tenantId, String opportunityId, PipelineStage from, LocalDateTime enteredAt,
+                      PipelineStage to, LocalDateTime at) {
+        Integer days = enteredAt != null
+                ? (int) Math.max(0, ChronoUnit.DAYS.between(enteredAt, at))
+                : null;
+        record(new Transition(tenantId, opportunityId, from.getStageId(), days, to.getStageId(),
+                isNextStage(tenantId, from, to), at));
+    }
+
+    /**
+     * Record an opportunity leaving its stage because it was deleted.
+     */
+    public void removed(String tenantId, String opportunityId, PipelineStage stage) {
+        record(new Transition(tenantId, opportunityId, stage.getStageId(), null, null, false, LocalDateTime.now()));
+    }
+
+    private boolean isNextStage(String tenantId, PipelineStage from, PipelineStage to) {
+        if ("Y".equals(to.getIsLost()) || from.getStageOrder() == null || to.getStageOrder() == null
+                || to.getStageOrder() <= from.getStageOrder()) {
+            return false;
+        }
+        Integer nextOrder = jdbcTemplate.queryForObject(NEXT_STAGE_ORDER_SQL, new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("systemTenantId", TenantContext.SYSTEM_TENANT_ID)
+                .addValue("stageOrder", from.getStageOrder()), Integer.class);
+        return to.getStageOrder().equals(nextOrder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void record(Transition transition) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(transition));
+            return;
+        }
+        List<Transition> pending = (List<Transition>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Transition> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StageHistoryRecorder.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(transition);
+    }
+
+    private void write(List<Transition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, transitions.stream()
+                .filter(transition -> transition.toStageId() != null)
+                .map(transition -> new MapSqlParameterSource()
+                        .addValue("opportunityId", transition.opportunityId())
+                        .addValue("fromStageId", transition.fromStageId())
+                        .addValue("toStageId", transition.toStageId())
+                        .addValue("days", transition.daysInFromStage())
+                        .addValue("changedDate", transition.changedAt())
+                        .addValue("tenantId", transition.tenantId()))
+                .toArray(SqlParameterSource[]::new));
+
+        Map<StageKey, long[]> stats = new TreeMap<>();
+        Map<DurationKey, Long> durations = new TreeMap<>();
+        for (Transition transition : transitions) {
+            if (transition.toStageId() != null) {
+                stats.computeIfAbsent(new StageKey(transition.tenantId(), transition.toStageId()), key -> new long[3])[0]++;
+            }
+            if (transition.fromStageId() == null) {
+                continue;
+            }
+            long[] from = stats.computeIfAbsent(new StageKey(transition.tenantId(), transition.fromStageId()),
+                    key -> new long[3]);
+            from[1]++;
+            if (Boolean.TRUE.equals(transition.advanced())) {
+                from[2]++;
+            }
+            if (transition.daysInFromStage() != null) {
+                int days = Math.min(transition.daysInFromStage(), MAX_TRACKED_DAYS);
+                durations.merge(new DurationKey(transition.tenantId(), transition.fromStageId(), days), 1L, Long::sum);
+            }
+        }
+
+        upsert(UPDATE_STATS_SQL, postgres ? PG_ENSURE_STATS_SQL : ENSURE_STATS_SQL, stats.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("tenantId", entry.getKey().tenantId())
+                        .addValue("stageId", entry.getKey().stageId())
+                        .addValue("entered", entry.getValue()[0])
+                        .addValue("exited", entry.getValue()[1])
+                        .addValue("advanced", entry.getValue()[2]))
+                .toArray(SqlParameterSource[]::new));
+        upsert(UPDATE_DURATION_SQL, postgres ? PG_ENSURE_DURATION_SQL : ENSURE_DURATION_SQL, durations.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("tenantId", entry.getKey().tenantId())
+                        .addValue("stageId", entry.getKey().stageId())
+                        .addValue("days", entry.getKey().days())
+                        .addValue("exits", entry.getValue()))
+                .toArray(SqlParameterSource[]::new));
+
+        log.debug("Recorded {} stage transition(s)", transitions.size());
+    }
+
+    /**
+     * Batch-update the counter rows; rows that did not exist yet are created empty and updated again.
+     */
+    private void upsert(String updateSql, String ensureSql, SqlParameterSource[] rows) {
+        if (rows.length == 0) {
+            return;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(updateSql, rows);
+        List<SqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(rows[i]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            SqlParameterSource[] retry = missing.toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(ensureSql, retry);
+            jdbcTemplate.batchUpdate(updateSql, retry);
+        }
+    }
+
+    private record Transition(String tenantId, String opportunityId, String fromStageId, Integer daysInFromStage,
+                              String toStageId, Boolean advanced, LocalDateTime changedAt) {
+    }
+
+    private record StageKey(String tenantId, String stageId) implements Comparable<StageKey> {
+
+        @Override
+        public int compareTo(StageKey other) {
+            int tenant = tenantId.compareTo(other.tenantId);
+            return tenant != 0 ? tenant : stageId.compareTo(other.stageId);
+        }
+    }
+
+    private record DurationKey(String tenantId, String stageId, int days) implements Comparable<DurationKey> {
+
+        @Override
+        public int compareTo(DurationKey other) {
+            int tenant = tenantId.compareTo(other.tenantId);
+            if (tenant != 0) {
+                return tenant;
+            }
+            int stage = stageId.compareTo(other.stageId);
+            return stage != 0 ? stage : Integer.compare(days, other.days);
+        }
+    }
+}
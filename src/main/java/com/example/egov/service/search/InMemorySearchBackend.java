@@ -0,0 +1,200 @@
+package com.example.egov.service.search;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process trigram inverted index; the search backend for databases without pg_trgm (H2).
+ *
+ * - One index per tenant (see TenantIndexes), loaded from the database on the first
+ *   search of that tenant, kept current by SearchIndexer and rebuilt after
+ *   app.search.refresh-interval
+ * - Same match rule as TrigramSearchBackend: share of the query's trigrams found in the
+ *   document >= 0.6, or the document contains the query; title prefix adds 0.5
+ * - Trigram postings find every containing document when a query word has 3+ characters;
+ *   shorter queries (e.g. "ab" in "xaby") fall back to a substring scan of the index
+ */
+@Slf4j
+public class InMemorySearchBackend implements SearchBackend {
+
+    private static final double MATCH_THRESHOLD = 0.6;
+    private static final double TITLE_PREFIX_BONUS = 0.5;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TenantIndexes<TrigramIndex> indexes;
+
+    public InMemorySearchBackend(NamedParameterJdbcTemplate jdbcTemplate, Duration refreshInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.indexes = new TenantIndexes<>(TrigramIndex::new, this::load, refreshInterval);
+    }
+
+    @Override
+    public List<SearchHit> search(String tenantId, String query, Set<SearchType> types, int limit) {
+        return indexes.get(tenantId).search(query, types, limit);
+    }
+
+    @Override
+    public void onSaved(SearchDocument document) {
+        indexes.update(document.tenantId(), index -> index.put(document));
+    }
+
+    @Override
+    public void onRemoved(SearchType type, String tenantId, String id) {
+        DocumentKey key = new DocumentKey(type, id);
+        indexes.update(tenantId, index -> index.remove(key));
+    }
+
+    private void load(String tenantId, TrigramIndex index) {
+        boolean allTenants = TenantContext.SYSTEM_TENANT_ID.equals(tenantId);
+        for (SearchType type : SearchType.values()) {
+            String sql = "SELECT " + type.getIdColumn() + " AS ID, TENANT_ID, "
+                    + type.getTitleColumn() + " AS TITLE, "
+                    + type.getSubtitleColumn() + " AS SUBTITLE, "
+                    + type.documentSql() + " AS DOCUMENT"
+                    + " FROM " + type.getTable()
+                    + (allTenants ? "" : " WHERE TENANT_ID IN (:tenantId, :systemTenantId)");
+            jdbcTemplate.query(sql, Map.of("tenantId", tenantId, "systemTenantId", TenantContext.SYSTEM_TENANT_ID), rs -> {
+                index.put(new SearchDocument(type, rs.getString("ID"), rs.getString("TENANT_ID"),
+                        rs.getString("TITLE"), rs.getString("SUBTITLE"), rs.getString("DOCUMENT")));
+            });
+        }
+        log.info("Search index loaded for tenant {}: {} documents", tenantId, index.size());
+    }
+
+    /**
+     * Length of the longest word, as split by trigrams().
+     */
+    static int longestWord(String text) {
+        int longest = 0;
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            longest = Math.max(longest, word.length());
+        }
+        return longest;
+    }
+
+    /**
+     * Lower-cased text to its word trigrams, padded like pg_trgm ("  w", " wo", "wor", "ord", "rd ").
+     */
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private record DocumentKey(SearchType type, String id) {
+    }
+
+    private static final class TrigramIndex {
+
+        private final Map<DocumentKey, SearchDocument> documents = new HashMap<>();
+        private final Map<DocumentKey, Set<String>> documentTrigrams = new HashMap<>();
+        private final Map<String, Set<DocumentKey>> postings = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(SearchDocument document) {
+            DocumentKey key = new DocumentKey(document.type(), document.id());
+            Set<String> trigrams = trigrams(document.text());
+            lock.writeLock().lock();
+            try {
+                removeLocked(key);
+                documents.put(key, document);
+                documentTrigrams.put(key, trigrams);
+                for (String trigram : trigrams) {
+                    postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(key);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(DocumentKey key) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(key);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(DocumentKey key) {
+            documents.remove(key);
+            Set<String> trigrams = documentTrigrams.remove(key);
+            if (trigrams == null) {
+                return;
+            }
+            for (String trigram : trigrams) {
+                Set<DocumentKey> keys = postings.get(trigram);
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return documents.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<SearchHit> search(String query, Set<SearchType> types, int limit) {
+            Set<String> queryTrigrams = trigrams(query);
+            List<SearchHit> hits = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                Map<DocumentKey, Integer> shared = new HashMap<>();
+                for (String trigram : queryTrigrams) {
+                    for (DocumentKey key : postings.getOrDefault(trigram, Set.of())) {
+                        if (types.contains(key.type())) {
+                            shared.merge(key, 1, Integer::sum);
+                        }
+                    }
+                }
+                if (longestWord(query) < 3) {
+                    for (Map.Entry<DocumentKey, SearchDocument> entry : documents.entrySet()) {
+                        if (types.contains(entry.getKey().type()) && entry.getValue().text().contains(query)) {
+                            shared.putIfAbsent(entry.getKey(), 0);
+                        }
+                    }
+                }
+                for (Map.Entry<DocumentKey, Integer> candidate : shared.entrySet()) {
+                    SearchDocument document = documents.get(candidate.getKey());
+                    double similarity = queryTrigrams.isEmpty() ? 0 : (double) candidate.getValue() / queryTrigrams.size();
+                    if (similarity < MATCH_THRESHOLD && !document.text().contains(query)) {
+                        continue;
+                    }
+                    boolean titlePrefix = document.title() != null && document.title().toLowerCase().startsWith(query);
+                    hits.add(new SearchHit(document.type(), document.id(), document.title(), document.subtitle(),
+                            similarity + (titlePrefix ? TITLE_PREFIX_BONUS : 0)));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed().thenComparing(SearchHit::id));
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.egov.service.search;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ranked text search over SearchType documents of one tenant.
+ *
+ * - TrigramSearchBackend: pg_trgm GIN indexes (PostgreSQL)
+ * - InMemorySearchBackend: in-process trigram inverted index (H2 and other databases)
+ */
+public interface SearchBackend {
+
+    /**
+     * @param tenantId tenant to search, including the shared SYSTEM rows; SYSTEM searches every tenant
+     * @param query    lower-cased, trimmed query text
+     */
+    List<SearchHit> search(String tenantId, String query, Set<SearchType> types, int limit);
+
+    /**
+     * A searchable row was inserted or updated (called after commit).
+     */
+    default void onSaved(SearchDocument document) {
+    }
+
+    /**
+     * A searchable row was deleted (called after commit).
+     */
+    default void onRemoved(SearchType type, String tenantId, String id) {
+    }
+}
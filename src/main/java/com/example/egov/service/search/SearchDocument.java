@@ -0,0 +1,42 @@
+package com.example.egov.service.search;
+
+/**
+ * Searchable text of one row, as indexed by the in-memory backend.
+ *
+ * text is the lower-cased document (see SearchType.documentSql()).
+ */
+public record SearchDocument(SearchType type, String id, String tenantId, String title, String subtitle, String text) {
+
+    // Document values mirror SearchType's document columns
+
+    public static SearchDocument customer(String id, String tenantId, String name, String code, String email) {
+        return of(SearchType.CUSTOMER, id, tenantId, name, code, name, code, email);
+    }
+
+    public static SearchDocument contact(String id, String tenantId, String name, String email) {
+        return of(SearchType.CONTACT, id, tenantId, name, email, name, email);
+    }
+
+    public static SearchDocument lead(String id, String tenantId, String name, String companyName,
+                                      String contactName, String email) {
+        return of(SearchType.LEAD, id, tenantId, name, companyName, name, companyName, contactName, email);
+    }
+
+    public static SearchDocument product(String id, String tenantId, String name, String code) {
+        return of(SearchType.PRODUCT, id, tenantId, name, code, name, code);
+    }
+
+    public static SearchDocument of(SearchType type, String id, String tenantId, String title, String subtitle,
+                                    String... documentValues) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < documentValues.length; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            if (documentValues[i] != null) {
+                text.append(documentValues[i]);
+            }
+        }
+        return new SearchDocument(type, id, tenantId, title, subtitle, text.toString().toLowerCase());
+    }
+}
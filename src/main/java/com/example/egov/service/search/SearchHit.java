@@ -0,0 +1,7 @@
+package com.example.egov.service.search;
+
+/**
+ * One ranked search result; score is in [0, 1] plus a title-prefix bonus.
+ */
+public record SearchHit(SearchType type, String id, String title, String subtitle, double score) {
+}
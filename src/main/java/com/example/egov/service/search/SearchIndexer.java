@@ -0,0 +1,47 @@
+package com.example.egov.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Forwards searchable row changes to the SearchBackend and the SuggestIndex once the
+ * transaction commits, so a rolled-back write never reaches either index.
+ *
+ * Fed by SearchIndexListener for entity writes and by ImportRunner for batch inserts.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private final SearchBackend searchBackend;
+    private final SuggestIndex suggestIndex;
+
+    public void saved(SearchDocument document) {
+        afterCommit(() -> {
+            searchBackend.onSaved(document);
+            suggestIndex.onSaved(document);
+        });
+    }
+
+    public void removed(SearchType type, String tenantId, String id) {
+        afterCommit(() -> {
+            searchBackend.onRemoved(type, tenantId, id);
+            suggestIndex.onRemoved(type, tenantId, id);
+        });
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
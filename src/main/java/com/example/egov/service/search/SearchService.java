@@ -0,0 +1,91 @@
+package com.example.egov.service.search;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cross-entity search of the current tenant.
+ *
+ * - query is trimmed, lower-cased and whitespace-collapsed; length between
+ *   app.search.min-query-length and 100
+ * - limit defaults to app.search.default-limit and is clamped to app.search.max-limit
+ * - no types means every SearchType
+ *
+ * Type-ahead suggestions come from the in-memory SuggestIndex instead: name prefix
+ * only, limit defaults to app.search.suggest.default-limit (max app.search.suggest.max-limit).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final SearchBackend searchBackend;
+    private final SuggestIndex suggestIndex;
+
+    @Value("${app.search.min-query-length:2}")
+    private int minQueryLength;
+
+    @Value("${app.search.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${app.search.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${app.search.suggest.default-limit:10}")
+    private int suggestDefaultLimit;
+
+    @Value("${app.search.suggest.max-limit:50}")
+    private int suggestMaxLimit;
+
+    public List<SearchHit> search(String query, Set<SearchType> types, Integer limit) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null) {
+            return List.of();
+        }
+
+        String normalized = normalize(query);
+        Set<SearchType> searchTypes = types == null || types.isEmpty() ? EnumSet.allOf(SearchType.class) : types;
+        int resolvedLimit = limit == null || limit < 1 ? defaultLimit : Math.min(limit, maxLimit);
+
+        log.debug("Searching {} for tenant {} in {}", normalized, tenantId, searchTypes);
+        return searchBackend.search(tenantId, normalized, searchTypes, resolvedLimit);
+    }
+
+    public List<Suggestion> suggest(SearchType type, String prefix, Integer limit) {
+        if (!SuggestIndex.SUPPORTED_TYPES.contains(type)) {
+            throw new IllegalArgumentException("Suggestions are not supported for " + type);
+        }
+        String tenantId = TenantContext.getCurrentTenantId();
+        String normalized = SuggestIndex.normalize(prefix);
+        if (tenantId == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Suggest prefix must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int resolvedLimit = limit == null || limit < 1 ? suggestDefaultLimit : Math.min(limit, suggestMaxLimit);
+        return suggestIndex.suggest(tenantId, type, normalized, resolvedLimit);
+    }
+
+    private String normalize(String query) {
+        String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase();
+        if (normalized.length() < minQueryLength) {
+            throw new IllegalArgumentException("Search query must be at least " + minQueryLength + " characters");
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.egov.service.search;
+
+import java.util.List;
+
+/**
+ * Searchable entity types and the columns their search document is built from.
+ *
+ * The document is LOWER(col1 || ' ' || col2 ...) with NULLs as ''; the trigram
+ * indexes in db/vendor/postgresql are built on exactly this expression, so
+ * documentSql() must stay in sync with the migration.
+ */
+public enum SearchType {
+    CUSTOMER("CUSTOMERS", "CUSTOMER_ID", "CUSTOMER_NAME", "CUSTOMER_CODE",
+            List.of("CUSTOMER_NAME", "CUSTOMER_CODE", "EMAIL")),
+    CONTACT("CONTACTS", "CONTACT_ID", "CONTACT_NAME", "EMAIL",
+            List.of("CONTACT_NAME", "EMAIL")),
+    LEAD("LEADS", "LEAD_ID", "LEAD_NAME", "COMPANY_NAME",
+            List.of("LEAD_NAME", "COMPANY_NAME", "CONTACT_NAME", "EMAIL")),
+    PRODUCT("PRODUCTS", "PRODUCT_ID", "PRODUCT_NAME", "PRODUCT_CODE",
+            List.of("PRODUCT_NAME", "PRODUCT_CODE"));
+
+    private final String table;
+    private final String idColumn;
+    private final String titleColumn;
+    private final String subtitleColumn;
+    private final List<String> documentColumns;
+
+    SearchType(String table, String idColumn, String titleColumn, String subtitleColumn, List<String> documentColumns) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.titleColumn = titleColumn;
+        this.subtitleColumn = subtitleColumn;
+        this.documentColumns = documentColumns;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getTitleColumn() {
+        return titleColumn;
+    }
+
+    public String getSubtitleColumn() {
+        return subtitleColumn;
+    }
+
+    public String documentSql() {
+        return "LOWER(" + String.join(" || ' ' || ",
+                documentColumns.stream().map(column -> "COALESCE(" + column + ", '')").toList()) + ")";
+    }
+
+    public static SearchType from(String value) {
+        try {
+            return SearchType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported search type: " + value);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.egov.service.search;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Per-tenant prefix index of customer, contact and product names for type-ahead.
+ *
+ * - One sorted map per tenant and type, keyed by normalised name; a prefix lookup is a
+ *   range scan that stops after limit entries, so no query reaches the database
+ * - One index per tenant and type (see TenantIndexes), loaded on the first lookup, kept
+ *   current by SearchIndexer (labelled with the document title) and rebuilt after
+ *   app.search.refresh-interval
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+    public static final Set<SearchType> SUPPORTED_TYPES =
+            EnumSet.of(SearchType.CUSTOMER, SearchType.CONTACT, SearchType.PRODUCT);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Map<SearchType, TenantIndexes<PrefixIndex>> indexes = new EnumMap<>(SearchType.class);
+
+    public SuggestIndex(NamedParameterJdbcTemplate jdbcTemplate,
+                        @Value("${app.search.refresh-interval:5m}") Duration refreshInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (SearchType type : SUPPORTED_TYPES) {
+            indexes.put(type, new TenantIndexes<>(PrefixIndex::new,
+                    (tenantId, index) -> load(type, tenantId, index), refreshInterval));
+        }
+    }
+
+    /**
+     * @param prefix normalised prefix (see normalize)
+     */
+    public List<Suggestion> suggest(String tenantId, SearchType type, String prefix, int limit) {
+        TenantIndexes<PrefixIndex> typeIndexes = indexes.get(type);
+        if (typeIndexes == null) {
+            throw new IllegalArgumentException("Suggestions are not supported for " + type);
+        }
+        return typeIndexes.get(tenantId).suggest(prefix, limit);
+    }
+
+    void onSaved(SearchDocument document) {
+        TenantIndexes<PrefixIndex> typeIndexes = indexes.get(document.type());
+        if (typeIndexes != null) {
+            typeIndexes.update(document.tenantId(), index -> index.put(document.id(), document.title()));
+        }
+    }
+
+    void onRemoved(SearchType type, String tenantId, String id) {
+        TenantIndexes<PrefixIndex> typeIndexes = indexes.get(type);
+        if (typeIndexes != null) {
+            typeIndexes.update(tenantId, index -> index.remove(id));
+        }
+    }
+
+    /**
+     * Index form of a name: NFKC, trimmed, whitespace-collapsed and lower-cased.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private void load(SearchType type, String tenantId, PrefixIndex index) {
+        boolean allTenants = TenantContext.SYSTEM_TENANT_ID.equals(tenantId);
+        String sql = "SELECT " + type.getIdColumn() + " AS ID, " + type.getTitleColumn() + " AS LABEL"
+                + " FROM " + type.getTable()
+                + (allTenants ? "" : " WHERE TENANT_ID IN (:tenantId, :systemTenantId)");
+        jdbcTemplate.query(sql, Map.of("tenantId", tenantId, "systemTenantId", TenantContext.SYSTEM_TENANT_ID), rs -> {
+            index.put(rs.getString("ID"), rs.getString("LABEL"));
+        });
+        log.info("Suggest index loaded for tenant {} ({}): {} names", tenantId, type, index.size());
+    }
+
+    /**
+     * Names sorted by "normalised name \0 id"; the ID suffix keeps duplicate names apart.
+     * Reads are lock-free, writes are serialised to keep both maps in step.
+     */
+    private static final class PrefixIndex {
+
+        private static final char SEPARATOR = '\0';
+
+        private final ConcurrentSkipListMap<String, Suggestion> byName = new ConcurrentSkipListMap<>();
+        private final ConcurrentMap<String, String> keyById = new ConcurrentHashMap<>();
+
+        synchronized void put(String id, String label) {
+            String key = normalize(label) + SEPARATOR + id;
+            String previous = keyById.put(id, key);
+            if (previous != null && !previous.equals(key)) {
+                byName.remove(previous);
+            }
+            byName.put(key, new Suggestion(id, label));
+        }
+
+        synchronized void remove(String id) {
+            String key = keyById.remove(id);
+            if (key != null) {
+                byName.remove(key);
+            }
+        }
+
+        int size() {
+            return keyById.size();
+        }
+
+        List<Suggestion> suggest(String prefix, int limit) {
+            List<Suggestion> suggestions = new ArrayList<>(limit);
+            for (Map.Entry<String, Suggestion> entry : byName.tailMap(prefix).entrySet()) {
+                if (!entry.getKey().startsWith(prefix) || suggestions.size() == limit) {
+                    break;
+                }
+                suggestions.add(entry.getValue());
+            }
+            return suggestions;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.egov.service.search;
+
+/**
+ * Type-ahead suggestion: the row ID and the display name to pick it by.
+ */
+public record Suggestion(String id, String label) {
+}
@@ -0,0 +1,151 @@
+package com.example.egov.service.search;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * One in-memory index per tenant, loaded on the first lookup of that tenant.
+ *
+ * - An index holds the tenant's rows and the shared SYSTEM rows; the SYSTEM index holds
+ *   every tenant's rows. A change goes to its tenant's index and the SYSTEM one, or to
+ *   every index for a SYSTEM row
+ * - Only this node's after-commit changes reach an index, so each one is rebuilt from the
+ *   database once it is older than the refresh interval: writes on other nodes or outside
+ *   JPA show up within that interval
+ * - A (re)load fills a fresh index that is published only when complete; changes that
+ *   arrive meanwhile are queued and replayed onto it. During a rebuild the other callers
+ *   keep reading the current index; after a failed first load the next lookup loads again
+ */
+@Slf4j
+final class TenantIndexes<I> {
+
+    private final Supplier<I> factory;
+    private final BiConsumer<String, I> loader;
+    private final long refreshNanos;
+
+    private final ConcurrentMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader fills a fresh index with the rows of a tenant
+     * @param refreshInterval age after which a lookup rebuilds the index
+     */
+    TenantIndexes(Supplier<I> factory, BiConsumer<String, I> loader, Duration refreshInterval) {
+        this.factory = factory;
+        this.loader = loader;
+        this.refreshNanos = refreshInterval.toNanos();
+    }
+
+    /**
+     * The tenant's index, loading it first if needed; concurrent callers wait for a first load.
+     */
+    I get(String tenantId) {
+        return slots.computeIfAbsent(tenantId, id -> new Slot()).loaded(tenantId);
+    }
+
+    /**
+     * Apply a change of one of the tenant's rows to every index that holds it.
+     */
+    void update(String tenantId, Consumer<I> change) {
+        for (Slot slot : affectedSlots(tenantId)) {
+            slot.update(change);
+        }
+    }
+
+    private List<Slot> affectedSlots(String tenantId) {
+        if (TenantContext.SYSTEM_TENANT_ID.equals(tenantId)) {
+            return List.copyOf(slots.values());
+        }
+        List<Slot> affected = new ArrayList<>(2);
+        Slot own = tenantId != null ? slots.get(tenantId) : null;
+        if (own != null) {
+            affected.add(own);
+        }
+        Slot system = slots.get(TenantContext.SYSTEM_TENANT_ID);
+        if (system != null && system != own) {
+            affected.add(system);
+        }
+        return affected;
+    }
+
+    private final class Slot {
+
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private final Object pendingLock = new Object();
+        private volatile I index;
+        private volatile long loadedAt;
+        // Non-null while a load runs
+        private List<Consumer<I>> pending;
+
+        I loaded(String tenantId) {
+            I current = index;
+            if (current == null) {
+                loadLock.lock();
+                try {
+                    return index != null ? index : load(tenantId);
+                } finally {
+                    loadLock.unlock();
+                }
+            }
+            if (expired() && loadLock.tryLock()) {
+                try {
+                    if (expired()) {
+                        return load(tenantId);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Refreshing the index of tenant {} failed, keeping the current one", tenantId, e);
+                } finally {
+                    loadLock.unlock();
+                }
+            }
+            return index;
+        }
+
+        private boolean expired() {
+            return System.nanoTime() - loadedAt >= refreshNanos;
+        }
+
+        private I load(String tenantId) {
+            synchronized (pendingLock) {
+                pending = new ArrayList<>();
+            }
+            try {
+                I fresh = factory.get();
+                loader.accept(tenantId, fresh);
+                synchronized (pendingLock) {
+                    pending.forEach(change -> change.accept(fresh));
+                    index = fresh;
+                    loadedAt = System.nanoTime();
+                }
+                return fresh;
+            } finally {
+                synchronized (pendingLock) {
+                    pending = null;
+                }
+            }
+        }
+
+        void update(Consumer<I> change) {
+            I current;
+            synchronized (pendingLock) {
+                if (pending != null) {
+                    pending.add(change);
+                }
+                current = index;
+            }
+            // Not loaded and not loading: the next load reads the committed change
+            if (current != null) {
+                change.accept(current);
+            }
+        }
+    }
+}
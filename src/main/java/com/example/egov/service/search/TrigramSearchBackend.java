@@ -0,0 +1,71 @@
+package com.example.egov.service.search;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL search on pg_trgm GIN indexes (V9 in db/vendor/postgresql).
+ *
+ * - Match: word similarity above pg_trgm.word_similarity_threshold (query <% document)
+ *   or substring (document LIKE %query%); both operators are served by the index
+ * - Rank: word_similarity, +0.5 when the title starts with the query
+ * - One UNION ALL statement; each type is limited before the merge
+ * - A tenant sees its own rows and the shared SYSTEM rows
+ */
+public class TrigramSearchBackend implements SearchBackend {
+
+    private static final double TITLE_PREFIX_BONUS = 0.5;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TrigramSearchBackend(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SearchHit> search(String tenantId, String query, Set<SearchType> types, int limit) {
+        boolean allTenants = TenantContext.SYSTEM_TENANT_ID.equals(tenantId);
+        String sql = types.stream()
+                .map(type -> typeQuery(type, allTenants))
+                .collect(Collectors.joining(" UNION ALL ", "", " ORDER BY SCORE DESC, ID LIMIT :limit"));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("systemTenantId", TenantContext.SYSTEM_TENANT_ID)
+                .addValue("query", query)
+                .addValue("contains", "%" + escapeLike(query) + "%")
+                .addValue("prefix", escapeLike(query) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new SearchHit(
+                SearchType.valueOf(rs.getString("SEARCH_TYPE")),
+                rs.getString("ID"),
+                rs.getString("TITLE"),
+                rs.getString("SUBTITLE"),
+                rs.getDouble("SCORE")));
+    }
+
+    private static String typeQuery(SearchType type, boolean allTenants) {
+        String document = type.documentSql();
+        return "(SELECT '" + type.name() + "' AS SEARCH_TYPE, "
+                + type.getIdColumn() + " AS ID, "
+                + type.getTitleColumn() + " AS TITLE, "
+                + type.getSubtitleColumn() + " AS SUBTITLE, "
+                + "word_similarity(:query, " + document + ")"
+                + " + CASE WHEN LOWER(" + type.getTitleColumn() + ") LIKE :prefix ESCAPE '\\' THEN "
+                + TITLE_PREFIX_BONUS + " ELSE 0 END AS SCORE"
+                + " FROM " + type.getTable()
+                + " WHERE " + (allTenants ? "" : "TENANT_ID IN (:tenantId, :systemTenantId) AND ")
+                + "(:query <% " + document + " OR " + document + " LIKE :contains ESCAPE '\\')"
+                + " ORDER BY SCORE DESC LIMIT :limit)";
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
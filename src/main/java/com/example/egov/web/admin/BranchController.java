@@ -2,15 +2,18 @@ package com.example.egov.web.admin;
 
 import com.example.egov.domain.admin.Branch;
 import com.example.egov.service.admin.BranchService;
+import com.example.egov.service.admin.RoleInheritanceService;
 import com.example.egov.web.admin.dto.BranchCreateRequest;
 import com.example.egov.web.admin.dto.BranchResponse;
 import com.example.egov.web.admin.dto.BranchUpdateRequest;
+import com.example.egov.web.common.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,6 +31,7 @@ import java.util.List;
 public class BranchController {
 
     private final BranchService branchService;
+    private final RoleInheritanceService roleInheritanceService;
 
     @PostMapping
     public ResponseEntity<BranchResponse> createBranch(@Valid @RequestBody BranchCreateRequest request) {
@@ -52,32 +56,27 @@ public class BranchController {
     }
 
     @GetMapping("/{branchId}")
-    public ResponseEntity<BranchResponse> getBranch(@PathVariable String branchId) {
+    public ResponseEntity<BranchResponse> getBranch(@PathVariable String branchId, WebRequest webRequest) {
         log.debug("Fetching branch: {}", branchId);
 
-        return branchService.getBranch(branchId)
-                .map(branch -> ResponseEntity.ok(BranchResponse.from(branch)))
-                .orElse(ResponseEntity.notFound().build());
+        return ConditionalGet.single(webRequest, branchService.getBranchVersion(branchId),
+                () -> branchService.getBranch(branchId).map(BranchResponse::from));
     }
 
     @GetMapping
-    public ResponseEntity<List<BranchResponse>> getAllBranches() {
+    public ResponseEntity<List<BranchResponse>> getAllBranches(WebRequest webRequest) {
         log.debug("Fetching all branches");
 
-        List<Branch> branches = branchService.getAllBranches();
-        List<BranchResponse> responses = BranchResponse.fromList(branches);
-
-        return ResponseEntity.ok(responses);
+        return ConditionalGet.collection(webRequest, branchService.getBranchesVersion(),
+                () -> BranchResponse.fromList(branchService.getAllBranches()));
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<BranchResponse>> getActiveBranches() {
+    public ResponseEntity<List<BranchResponse>> getActiveBranches(WebRequest webRequest) {
         log.debug("Fetching active branches");
 
-        List<Branch> branches = branchService.getActiveBranches();
-        List<BranchResponse> responses = BranchResponse.fromList(branches);
-
-        return ResponseEntity.ok(responses);
+        return ConditionalGet.collection(webRequest, branchService.getBranchesVersion(),
+                () -> BranchResponse.fromList(branchService.getActiveBranches()));
     }
 
     /**
@@ -119,4 +118,25 @@ public class BranchController {
 
         return ResponseEntity.ok(exists);
     }
+
+    /**
+     * Assign a role to a branch; inherited by all groups in the branch subtree.
+     */
+    @PostMapping("/{branchId}/roles/{roleId}")
+    public ResponseEntity<Void> assignBranchRole(@PathVariable String branchId, @PathVariable String roleId) {
+        log.info("Assigning role {} to branch: {}", roleId, branchId);
+
+        roleInheritanceService.assignBranchRole(branchId, roleId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    @DeleteMapping("/{branchId}/roles/{roleId}")
+    public ResponseEntity<Void> revokeBranchRole(@PathVariable String branchId, @PathVariable String roleId) {
+        log.info("Revoking role {} from branch: {}", roleId, branchId);
+
+        roleInheritanceService.revokeBranchRole(branchId, roleId);
+
+        return ResponseEntity.noContent().build();
+    }
 }
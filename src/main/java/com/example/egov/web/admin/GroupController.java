@@ -2,6 +2,7 @@ package com.example.egov.web.admin;
 
 import com.example.egov.domain.admin.Group;
 import com.example.egov.service.admin.GroupService;
+import com.example.egov.service.admin.RoleInheritanceService;
 import com.example.egov.web.admin.dto.GroupCreateRequest;
 import com.example.egov.web.admin.dto.GroupResponse;
 import com.example.egov.web.admin.dto.GroupUpdateRequest;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST Controller for Group management.
@@ -28,6 +30,7 @@ import java.util.List;
 public class GroupController {
 
     private final GroupService groupService;
+    private final RoleInheritanceService roleInheritanceService;
 
     @PostMapping
     public ResponseEntity<GroupResponse> createGroup(@Valid @RequestBody GroupCreateRequest request) {
@@ -132,4 +135,32 @@ public class GroupController {
 
         return ResponseEntity.ok(exists);
     }
+
+    /**
+     * Get effective role IDs of a group (own roles + roles inherited from its branch hierarchy).
+     */
+    @GetMapping("/{groupId}/roles")
+    public ResponseEntity<Set<String>> getGroupRoles(@PathVariable String groupId) {
+        log.debug("Fetching effective roles for group: {}", groupId);
+
+        return ResponseEntity.ok(roleInheritanceService.getGroupEffectiveRoles(groupId));
+    }
+
+    @PostMapping("/{groupId}/roles/{roleId}")
+    public ResponseEntity<Void> assignGroupRole(@PathVariable String groupId, @PathVariable String roleId) {
+        log.info("Assigning role {} to group: {}", roleId, groupId);
+
+        roleInheritanceService.assignGroupRole(groupId, roleId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    @DeleteMapping("/{groupId}/roles/{roleId}")
+    public ResponseEntity<Void> revokeGroupRole(@PathVariable String groupId, @PathVariable String roleId) {
+        log.info("Revoking role {} from group: {}", roleId, groupId);
+
+        roleInheritanceService.revokeGroupRole(groupId, roleId);
+
+        return ResponseEntity.noContent().build();
+    }
 }
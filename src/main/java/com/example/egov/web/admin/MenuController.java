@@ -5,12 +5,14 @@ import com.example.egov.service.admin.MenuService;
 import com.example.egov.web.admin.dto.MenuCreateRequest;
 import com.example.egov.web.admin.dto.MenuResponse;
 import com.example.egov.web.admin.dto.MenuUpdateRequest;
+import com.example.egov.web.common.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -73,17 +75,19 @@ public class MenuController {
     /**
      * Get a menu by ID.
      *
+     * Answers 304 when If-None-Match / If-Modified-Since still match.
+     *
      * @param menuNo Menu ID
+     * @param webRequest Request carrying the conditional headers
      * @return Menu response
      */
     @GetMapping("/{menuNo}")
     // @PreAuthorize("hasAuthority('API:menu-management:READ')")
-    public ResponseEntity<MenuResponse> getMenu(@PathVariable Long menuNo) {
+    public ResponseEntity<MenuResponse> getMenu(@PathVariable Long menuNo, WebRequest webRequest) {
         log.debug("Fetching menu ID: {}", menuNo);
 
-        return menuService.getMenu(menuNo)
-                .map(menu -> ResponseEntity.ok(MenuResponse.from(menu)))
-                .orElse(ResponseEntity.notFound().build());
+        return ConditionalGet.single(webRequest, menuService.getMenuVersion(menuNo),
+                () -> menuService.getMenu(menuNo).map(MenuResponse::from));
     }
 
     /**
@@ -106,36 +110,36 @@ public class MenuController {
      * Get all menus for the current tenant.
      *
      * Results are automatically filtered by tenant.
+     * Answers 304 when If-None-Match still matches the tenant's menu version.
      *
+     * @param webRequest Request carrying the conditional headers
      * @return List of menu responses
      */
     @GetMapping
     // @PreAuthorize("hasAuthority('API:menu-management:READ')")
-    public ResponseEntity<List<MenuResponse>> getAllMenus() {
+    public ResponseEntity<List<MenuResponse>> getAllMenus(WebRequest webRequest) {
         log.debug("Fetching all menus");
 
-        List<Menu> menus = menuService.getAllMenus();
-        List<MenuResponse> responses = MenuResponse.fromList(menus);
-
-        return ResponseEntity.ok(responses);
+        return ConditionalGet.collection(webRequest, menuService.getMenusVersion(),
+                () -> MenuResponse.fromList(menuService.getAllMenus()));
     }
 
     /**
      * Get all visible and active menus for the current tenant.
      *
      * This endpoint is typically used for rendering user menus.
+     * Answers 304 when If-None-Match still matches the tenant's menu version.
      *
+     * @param webRequest Request carrying the conditional headers
      * @return List of visible menu responses
      */
     @GetMapping("/visible")
     // @PreAuthorize("hasAuthority('API:menu-management:READ')")
-    public ResponseEntity<List<MenuResponse>> getVisibleMenus() {
+    public ResponseEntity<List<MenuResponse>> getVisibleMenus(WebRequest webRequest) {
         log.debug("Fetching visible menus");
 
-        List<Menu> menus = menuService.getVisibleMenus();
-        List<MenuResponse> responses = MenuResponse.fromList(menus);
-
-        return ResponseEntity.ok(responses);
+        return ConditionalGet.collection(webRequest, menuService.getMenusVersion(),
+                () -> MenuResponse.fromList(menuService.getVisibleMenus()));
     }
 
     /**
@@ -8,6 +8,7 @@ import com.example.egov.web.auth.dto.TokenResponse;
 import com.example.egov.web.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,9 +37,11 @@ public class AuthController {
      */
     @PostMapping("/login")
     @Operation(summary = "Login", description = "Authenticate user and return JWT tokens")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                            HttpServletRequest httpRequest) {
         log.debug("Login request for userId: {}", request.getUserId());
-        TokenResponse tokenResponse = authService.login(request);
+        // Behind a proxy, set server.forward-headers-strategy so this is the real client address
+        TokenResponse tokenResponse = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(ApiResponse.success(tokenResponse));
     }
 
@@ -0,0 +1,54 @@
+package com.example.egov.web.common;
+
+import com.example.egov.domain.common.ResourceVersion;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET (If-None-Match / If-Modified-Since) answered from a ResourceVersion probe.
+ *
+ * - Validators match → 304 with an empty body; the resource is neither loaded nor serialised
+ * - Otherwise the body is loaded and returned with ETag (and Last-Modified for single resources)
+ * - The version is read before the body, so a concurrent write can only make the
+ *   ETag older than the body, which costs the client one extra 200 and never a stale 304
+ *
+ * Collections carry no Last-Modified: a delete changes the row count but not the
+ * latest timestamp, so If-Modified-Since alone could not detect it.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> collection(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        String etag = version.etag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
+    /**
+     * @param version empty when the resource is not visible; the body supplier then decides (usually 404)
+     */
+    public static <T> ResponseEntity<T> single(WebRequest request, Optional<ResourceVersion> version,
+                                               Supplier<Optional<T>> body) {
+        if (version.isEmpty()) {
+            return body.get()
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        }
+        String etag = version.get().etag();
+        long lastModified = version.get().lastModifiedMillis();
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return body.get()
+                .map(found -> ResponseEntity.ok().eTag(etag).lastModified(lastModified).body(found))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
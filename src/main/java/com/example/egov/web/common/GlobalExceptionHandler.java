@@ -1,7 +1,10 @@
 package com.example.egov.web.common;
 
+import com.example.egov.service.auth.LoginThrottledException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -50,6 +53,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(401, "Invalid credentials"));
     }
 
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLoginThrottledException(LoginThrottledException e) {
+        log.warn("Login throttled: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(429, e.getMessage()));
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleUsernameNotFoundException(UsernameNotFoundException e) {
         log.warn("User not found: {}", e.getMessage());
@@ -84,4 +95,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(400, e.getMessage()));
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("Concurrent modification: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(409, "The record was changed by another request; reload and retry"));
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.egov.web.common;
+
+/**
+ * Input formats of the bulk import endpoints.
+ */
+public enum ImportFormat {
+
+    CSV("csv"),
+    XLSX("xlsx");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Explicit format if given, otherwise the upload's file extension.
+     */
+    public static ImportFormat from(String value, String filename) {
+        if (value != null && !value.isBlank()) {
+            try {
+                return ImportFormat.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported import format: " + value);
+            }
+        }
+        if (filename != null) {
+            String lower = filename.toLowerCase();
+            for (ImportFormat format : values()) {
+                if (lower.endsWith("." + format.extension)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cannot tell the import format of " + filename + "; pass format=csv|xlsx");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.egov.web.common;
+
+import com.example.egov.config.multitenancy.TenantPropagation;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds streaming export responses.
+ *
+ * - The body is written on the MVC async executor with the caller's tenant
+ * - Gzip-encoded when the client accepts it; rows go straight to the socket,
+ *   so memory use does not depend on the number of exported rows
+ */
+public final class StreamingExport {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private StreamingExport() {
+        // Utility class - prevent instantiation
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    public static ResponseEntity<StreamingResponseBody> of(
+            HttpServletRequest request, String name, ExportFormat format, BodyWriter writer) {
+
+        boolean gzip = acceptsGzip(request);
+        StreamingResponseBody body = TenantPropagation.wrapStreaming(outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                writer.write(gzipStream);
+                gzipStream.finish();
+            } else {
+                writer.write(outputStream);
+            }
+        });
+
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.egov.web.imports;
+
+import com.example.egov.service.imports.ImportJob;
+import com.example.egov.service.imports.ImportService;
+import com.example.egov.service.imports.ImportType;
+import com.example.egov.web.common.ImportFormat;
+import com.example.egov.web.imports.dto.ImportJobStatus;
+import com.example.egov.web.imports.dto.ImportRowError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Bulk import of customers, contacts and leads from CSV or XLSX.
+ *
+ * - The header row uses the export's field names (e.g. customerName, customerCode)
+ * - The upload returns 202 with the job; poll /{jobId} for progress and /{jobId}/errors
+ *   for the rejected rows
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final ImportService importService;
+
+    /**
+     * @param type   customers, contacts or leads
+     * @param format csv or xlsx; taken from the file extension when omitted
+     */
+    @PostMapping(value = "/{type}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobStatus> startImport(
+            @PathVariable String type,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        ImportType importType = ImportType.from(type);
+        ImportFormat importFormat = ImportFormat.from(format, file.getOriginalFilename());
+        log.info("Importing {} from {} ({})", importType, file.getOriginalFilename(), importFormat);
+        ImportJob job = importService.startImport(importType, importFormat, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.status());
+    }
+
+    /**
+     * Retained import jobs, newest first.
+     */
+    @GetMapping
+    public ResponseEntity<List<ImportJobStatus>> getImports() {
+        log.debug("Fetching import jobs");
+        return ResponseEntity.ok(importService.getJobs().stream()
+                .map(ImportJob::status)
+                .toList());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobStatus> getImport(@PathVariable String jobId) {
+        log.debug("Fetching import job: {}", jobId);
+        return importService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.status()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<ImportRowError>> getImportErrors(@PathVariable String jobId) {
+        log.debug("Fetching import job errors: {}", jobId);
+        return importService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.getErrors()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.egov.web.imports.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk import job. processedRows = importedRows + rejectedRows + rows still
+ * in the chunk being written; the first errors are listed at /api/v1/imports/{jobId}/errors.
+ */
+public record ImportJobStatus(String jobId, String type, String fileName, String format, String state,
+                              int processedRows, int importedRows, int rejectedRows, boolean errorsTruncated,
+                              LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime finishedAt,
+                              String error) {
+}
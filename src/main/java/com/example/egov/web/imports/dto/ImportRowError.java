@@ -0,0 +1,7 @@
+package com.example.egov.web.imports.dto;
+
+/**
+ * A rejected import row; rowNumber is as shown by a spreadsheet (header = row 1).
+ */
+public record ImportRowError(int rowNumber, String message) {
+}
@@ -1,20 +1,28 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Activity;
 import com.example.egov.service.sales.ActivityService;
+import com.example.egov.service.sales.SalesExportService;
+import com.example.egov.web.common.ExportFormat;
+import com.example.egov.web.common.StreamingExport;
 import com.example.egov.web.sales.dto.ActivityCreateRequest;
 import com.example.egov.web.sales.dto.ActivityResponse;
 import com.example.egov.web.sales.dto.ActivityUpdateRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @RestController
@@ -23,6 +31,7 @@ import java.util.List;
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final SalesExportService salesExportService;
 
     @PostMapping
     public ResponseEntity<ActivityResponse> createActivity(@Valid @RequestBody ActivityCreateRequest request) {
@@ -56,77 +65,108 @@ public class ActivityController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ActivityResponse>> getAllActivities() {
+    public ResponseEntity<CursorPage<ActivityResponse>> getAllActivities(@ParameterObject CursorRequest page) {
         log.debug("Fetching all activities");
-        List<Activity> activities = activityService.getAllActivities();
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getAllActivities(page);
+        return ResponseEntity.ok(activities);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<ActivityResponse>> queryActivities(@RequestBody FilterQuery query) {
+        log.debug("Querying activities with filter: {}", query.filter());
+        CursorPage<ActivityResponse> activities = activityService.queryActivities(query);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<ActivityResponse>> getActivitiesByType(@PathVariable String type) {
+    public ResponseEntity<CursorPage<ActivityResponse>> getActivitiesByType(
+            @PathVariable String type,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching activities by type: {}", type);
-        List<Activity> activities = activityService.getActivitiesByType(type);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getActivitiesByType(type, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<ActivityResponse>> getActivitiesByStatus(@PathVariable String status) {
+    public ResponseEntity<CursorPage<ActivityResponse>> getActivitiesByStatus(
+            @PathVariable String status,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching activities by status: {}", status);
-        List<Activity> activities = activityService.getActivitiesByStatus(status);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getActivitiesByStatus(status, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<ActivityResponse>> getActivitiesByPriority(@PathVariable String priority) {
+    public ResponseEntity<CursorPage<ActivityResponse>> getActivitiesByPriority(
+            @PathVariable String priority,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching activities by priority: {}", priority);
-        List<Activity> activities = activityService.getActivitiesByPriority(priority);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getActivitiesByPriority(priority, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/assigned/{userId}")
-    public ResponseEntity<List<ActivityResponse>> getActivitiesByAssignedUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<ActivityResponse>> getActivitiesByAssignedUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching activities assigned to user: {}", userId);
-        List<Activity> activities = activityService.getActivitiesByAssignedUser(userId);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getActivitiesByAssignedUser(userId, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/assigned/{userId}/pending")
-    public ResponseEntity<List<ActivityResponse>> getPendingActivitiesForUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<ActivityResponse>> getPendingActivitiesForUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching pending activities for user: {}", userId);
-        List<Activity> activities = activityService.getPendingActivitiesForUser(userId);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getPendingActivitiesForUser(userId, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/related/{relatedType}/{relatedId}")
-    public ResponseEntity<List<ActivityResponse>> getActivitiesForEntity(
+    public ResponseEntity<CursorPage<ActivityResponse>> getActivitiesForEntity(
             @PathVariable String relatedType,
-            @PathVariable String relatedId) {
+            @PathVariable String relatedId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching activities for entity: {} - {}", relatedType, relatedId);
-        List<Activity> activities = activityService.getActivitiesForEntity(relatedType, relatedId);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getActivitiesForEntity(relatedType, relatedId, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/due-date")
-    public ResponseEntity<List<ActivityResponse>> getActivitiesByDueDateRange(
+    public ResponseEntity<CursorPage<ActivityResponse>> getActivitiesByDueDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching activities by due date range: {} - {}", startDate, endDate);
-        List<Activity> activities = activityService.getActivitiesByDueDateRange(startDate, endDate);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getActivitiesByDueDateRange(startDate, endDate, page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/overdue")
-    public ResponseEntity<List<ActivityResponse>> getOverdueActivities() {
+    public ResponseEntity<CursorPage<ActivityResponse>> getOverdueActivities(@ParameterObject CursorRequest page) {
         log.debug("Fetching overdue activities");
-        List<Activity> activities = activityService.getOverdueActivities();
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.getOverdueActivities(page);
+        return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ActivityResponse>> searchActivities(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<ActivityResponse>> searchActivities(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching activities with keyword: {}", keyword);
-        List<Activity> activities = activityService.searchActivities(keyword);
-        return ResponseEntity.ok(ActivityResponse.fromList(activities));
+        CursorPage<ActivityResponse> activities = activityService.searchActivities(keyword, page);
+        return ResponseEntity.ok(activities);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportActivities(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        log.info("Exporting activities as {}", format);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return StreamingExport.of(request, "activities", exportFormat,
+                outputStream -> salesExportService.exportActivities(outputStream, exportFormat));
     }
 
     @DeleteMapping("/{activityId}")
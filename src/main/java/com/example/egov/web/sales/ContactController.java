@@ -1,18 +1,25 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Contact;
 import com.example.egov.service.sales.ContactService;
+import com.example.egov.service.sales.SalesExportService;
+import com.example.egov.web.common.ExportFormat;
+import com.example.egov.web.common.StreamingExport;
 import com.example.egov.web.sales.dto.ContactCreateRequest;
 import com.example.egov.web.sales.dto.ContactResponse;
 import com.example.egov.web.sales.dto.ContactUpdateRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -21,6 +28,7 @@ import java.util.List;
 public class ContactController {
 
     private final ContactService contactService;
+    private final SalesExportService salesExportService;
 
     @PostMapping
     public ResponseEntity<ContactResponse> createContact(@Valid @RequestBody ContactCreateRequest request) {
@@ -47,17 +55,26 @@ public class ContactController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ContactResponse>> getAllContacts() {
+    public ResponseEntity<CursorPage<ContactResponse>> getAllContacts(@ParameterObject CursorRequest page) {
         log.debug("Fetching all contacts");
-        List<Contact> contacts = contactService.getAllContacts();
-        return ResponseEntity.ok(ContactResponse.fromList(contacts));
+        CursorPage<ContactResponse> contacts = contactService.getAllContacts(page);
+        return ResponseEntity.ok(contacts);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<ContactResponse>> queryContacts(@RequestBody FilterQuery query) {
+        log.debug("Querying contacts with filter: {}", query.filter());
+        CursorPage<ContactResponse> contacts = contactService.queryContacts(query);
+        return ResponseEntity.ok(contacts);
     }
 
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<ContactResponse>> getContactsByCustomer(@PathVariable String customerId) {
+    public ResponseEntity<CursorPage<ContactResponse>> getContactsByCustomer(
+            @PathVariable String customerId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching contacts for customer: {}", customerId);
-        List<Contact> contacts = contactService.getContactsByCustomer(customerId);
-        return ResponseEntity.ok(ContactResponse.fromList(contacts));
+        CursorPage<ContactResponse> contacts = contactService.getContactsByCustomer(customerId, page);
+        return ResponseEntity.ok(contacts);
     }
 
     @GetMapping("/customer/{customerId}/primary")
@@ -69,17 +86,29 @@ public class ContactController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<ContactResponse>> getActiveContacts() {
+    public ResponseEntity<CursorPage<ContactResponse>> getActiveContacts(@ParameterObject CursorRequest page) {
         log.debug("Fetching active contacts");
-        List<Contact> contacts = contactService.getActiveContacts();
-        return ResponseEntity.ok(ContactResponse.fromList(contacts));
+        CursorPage<ContactResponse> contacts = contactService.getActiveContacts(page);
+        return ResponseEntity.ok(contacts);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ContactResponse>> searchContacts(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<ContactResponse>> searchContacts(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching contacts with keyword: {}", keyword);
-        List<Contact> contacts = contactService.searchContacts(keyword);
-        return ResponseEntity.ok(ContactResponse.fromList(contacts));
+        CursorPage<ContactResponse> contacts = contactService.searchContacts(keyword, page);
+        return ResponseEntity.ok(contacts);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContacts(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        log.info("Exporting contacts as {}", format);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return StreamingExport.of(request, "contacts", exportFormat,
+                outputStream -> salesExportService.exportContacts(outputStream, exportFormat));
     }
 
     @DeleteMapping("/{contactId}")
@@ -1,18 +1,25 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Customer;
 import com.example.egov.service.sales.CustomerService;
+import com.example.egov.service.sales.SalesExportService;
+import com.example.egov.web.common.ExportFormat;
+import com.example.egov.web.common.StreamingExport;
 import com.example.egov.web.sales.dto.CustomerCreateRequest;
 import com.example.egov.web.sales.dto.CustomerResponse;
 import com.example.egov.web.sales.dto.CustomerUpdateRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -21,6 +28,7 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final SalesExportService salesExportService;
 
     @PostMapping
     public ResponseEntity<CustomerResponse> createCustomer(@Valid @RequestBody CustomerCreateRequest request) {
@@ -47,52 +55,79 @@ public class CustomerController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CustomerResponse>> getAllCustomers() {
+    public ResponseEntity<CursorPage<CustomerResponse>> getAllCustomers(@ParameterObject CursorRequest page) {
         log.debug("Fetching all customers");
-        List<Customer> customers = customerService.getAllCustomers();
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.getAllCustomers(page);
+        return ResponseEntity.ok(customers);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<CustomerResponse>> queryCustomers(@RequestBody FilterQuery query) {
+        log.debug("Querying customers with filter: {}", query.filter());
+        CursorPage<CustomerResponse> customers = customerService.queryCustomers(query);
+        return ResponseEntity.ok(customers);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<CustomerResponse>> getActiveCustomers() {
+    public ResponseEntity<CursorPage<CustomerResponse>> getActiveCustomers(@ParameterObject CursorRequest page) {
         log.debug("Fetching active customers");
-        List<Customer> customers = customerService.getActiveCustomers();
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.getActiveCustomers(page);
+        return ResponseEntity.ok(customers);
     }
 
     @GetMapping("/type/{customerType}")
-    public ResponseEntity<List<CustomerResponse>> getCustomersByType(@PathVariable String customerType) {
+    public ResponseEntity<CursorPage<CustomerResponse>> getCustomersByType(
+            @PathVariable String customerType,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching customers by type: {}", customerType);
-        List<Customer> customers = customerService.getCustomersByType(customerType);
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.getCustomersByType(customerType, page);
+        return ResponseEntity.ok(customers);
     }
 
     @GetMapping("/industry/{industry}")
-    public ResponseEntity<List<CustomerResponse>> getCustomersByIndustry(@PathVariable String industry) {
+    public ResponseEntity<CursorPage<CustomerResponse>> getCustomersByIndustry(
+            @PathVariable String industry,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching customers by industry: {}", industry);
-        List<Customer> customers = customerService.getCustomersByIndustry(industry);
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.getCustomersByIndustry(industry, page);
+        return ResponseEntity.ok(customers);
     }
 
     @GetMapping("/assigned/{userId}")
-    public ResponseEntity<List<CustomerResponse>> getCustomersByAssignedUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<CustomerResponse>> getCustomersByAssignedUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching customers assigned to user: {}", userId);
-        List<Customer> customers = customerService.getCustomersByAssignedUser(userId);
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.getCustomersByAssignedUser(userId, page);
+        return ResponseEntity.ok(customers);
     }
 
     @GetMapping("/branch/{branchId}")
-    public ResponseEntity<List<CustomerResponse>> getCustomersByBranch(@PathVariable String branchId) {
+    public ResponseEntity<CursorPage<CustomerResponse>> getCustomersByBranch(
+            @PathVariable String branchId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching customers by branch: {}", branchId);
-        List<Customer> customers = customerService.getCustomersByBranch(branchId);
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.getCustomersByBranch(branchId, page);
+        return ResponseEntity.ok(customers);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<CustomerResponse>> searchCustomers(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<CustomerResponse>> searchCustomers(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching customers with keyword: {}", keyword);
-        List<Customer> customers = customerService.searchCustomers(keyword);
-        return ResponseEntity.ok(CustomerResponse.fromList(customers));
+        CursorPage<CustomerResponse> customers = customerService.searchCustomers(keyword, page);
+        return ResponseEntity.ok(customers);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        log.info("Exporting customers as {}", format);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return StreamingExport.of(request, "customers", exportFormat,
+                outputStream -> salesExportService.exportCustomers(outputStream, exportFormat));
     }
 
     @DeleteMapping("/{customerId}")
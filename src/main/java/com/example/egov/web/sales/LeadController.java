@@ -1,20 +1,27 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Customer;
 import com.example.egov.domain.sales.Lead;
 import com.example.egov.service.sales.LeadService;
+import com.example.egov.service.sales.SalesExportService;
+import com.example.egov.web.common.ExportFormat;
+import com.example.egov.web.common.StreamingExport;
 import com.example.egov.web.sales.dto.CustomerResponse;
 import com.example.egov.web.sales.dto.LeadCreateRequest;
 import com.example.egov.web.sales.dto.LeadResponse;
 import com.example.egov.web.sales.dto.LeadUpdateRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -23,6 +30,7 @@ import java.util.List;
 public class LeadController {
 
     private final LeadService leadService;
+    private final SalesExportService salesExportService;
 
     @PostMapping
     public ResponseEntity<LeadResponse> createLead(@Valid @RequestBody LeadCreateRequest request) {
@@ -59,45 +67,70 @@ public class LeadController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LeadResponse>> getAllLeads() {
+    public ResponseEntity<CursorPage<LeadResponse>> getAllLeads(@ParameterObject CursorRequest page) {
         log.debug("Fetching all leads");
-        List<Lead> leads = leadService.getAllLeads();
-        return ResponseEntity.ok(LeadResponse.fromList(leads));
+        CursorPage<LeadResponse> leads = leadService.getAllLeads(page);
+        return ResponseEntity.ok(leads);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<LeadResponse>> queryLeads(@RequestBody FilterQuery query) {
+        log.debug("Querying leads with filter: {}", query.filter());
+        CursorPage<LeadResponse> leads = leadService.queryLeads(query);
+        return ResponseEntity.ok(leads);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<LeadResponse>> getActiveLeads() {
+    public ResponseEntity<CursorPage<LeadResponse>> getActiveLeads(@ParameterObject CursorRequest page) {
         log.debug("Fetching active leads");
-        List<Lead> leads = leadService.getActiveLeads();
-        return ResponseEntity.ok(LeadResponse.fromList(leads));
+        CursorPage<LeadResponse> leads = leadService.getActiveLeads(page);
+        return ResponseEntity.ok(leads);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<LeadResponse>> getLeadsByStatus(@PathVariable String status) {
+    public ResponseEntity<CursorPage<LeadResponse>> getLeadsByStatus(
+            @PathVariable String status,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching leads by status: {}", status);
-        List<Lead> leads = leadService.getLeadsByStatus(status);
-        return ResponseEntity.ok(LeadResponse.fromList(leads));
+        CursorPage<LeadResponse> leads = leadService.getLeadsByStatus(status, page);
+        return ResponseEntity.ok(leads);
     }
 
     @GetMapping("/source/{source}")
-    public ResponseEntity<List<LeadResponse>> getLeadsBySource(@PathVariable String source) {
+    public ResponseEntity<CursorPage<LeadResponse>> getLeadsBySource(
+            @PathVariable String source,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching leads by source: {}", source);
-        List<Lead> leads = leadService.getLeadsBySource(source);
-        return ResponseEntity.ok(LeadResponse.fromList(leads));
+        CursorPage<LeadResponse> leads = leadService.getLeadsBySource(source, page);
+        return ResponseEntity.ok(leads);
     }
 
     @GetMapping("/assigned/{userId}")
-    public ResponseEntity<List<LeadResponse>> getLeadsByAssignedUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<LeadResponse>> getLeadsByAssignedUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching leads assigned to user: {}", userId);
-        List<Lead> leads = leadService.getLeadsByAssignedUser(userId);
-        return ResponseEntity.ok(LeadResponse.fromList(leads));
+        CursorPage<LeadResponse> leads = leadService.getLeadsByAssignedUser(userId, page);
+        return ResponseEntity.ok(leads);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<LeadResponse>> searchLeads(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<LeadResponse>> searchLeads(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching leads with keyword: {}", keyword);
-        List<Lead> leads = leadService.searchLeads(keyword);
-        return ResponseEntity.ok(LeadResponse.fromList(leads));
+        CursorPage<LeadResponse> leads = leadService.searchLeads(keyword, page);
+        return ResponseEntity.ok(leads);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLeads(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        log.info("Exporting leads as {}", format);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return StreamingExport.of(request, "leads", exportFormat,
+                outputStream -> salesExportService.exportLeads(outputStream, exportFormat));
     }
 
     @DeleteMapping("/{leadId}")
@@ -1,17 +1,30 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Opportunity;
+import com.example.egov.service.sales.OpportunityFunnelService;
 import com.example.egov.service.sales.OpportunityService;
+import com.example.egov.service.sales.PipelineForecastService;
+import com.example.egov.service.sales.SalesExportService;
+import com.example.egov.web.common.ExportFormat;
+import com.example.egov.web.common.StreamingExport;
 import com.example.egov.web.sales.dto.OpportunityCreateRequest;
 import com.example.egov.web.sales.dto.OpportunityResponse;
 import com.example.egov.web.sales.dto.OpportunityUpdateRequest;
+import com.example.egov.web.sales.dto.PipelineForecastResponse;
+import com.example.egov.web.sales.dto.PipelineFunnelStage;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +36,9 @@ import java.util.List;
 public class OpportunityController {
 
     private final OpportunityService opportunityService;
+    private final SalesExportService salesExportService;
+    private final PipelineForecastService pipelineForecastService;
+    private final OpportunityFunnelService opportunityFunnelService;
 
     @PostMapping
     public ResponseEntity<OpportunityResponse> createOpportunity(@Valid @RequestBody OpportunityCreateRequest request) {
@@ -49,75 +65,126 @@ public class OpportunityController {
     }
 
     @GetMapping
-    public ResponseEntity<List<OpportunityResponse>> getAllOpportunities() {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getAllOpportunities(@ParameterObject CursorRequest page) {
         log.debug("Fetching all opportunities");
-        List<Opportunity> opportunities = opportunityService.getAllOpportunities();
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getAllOpportunities(page);
+        return ResponseEntity.ok(opportunities);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<OpportunityResponse>> queryOpportunities(@RequestBody FilterQuery query) {
+        log.debug("Querying opportunities with filter: {}", query.filter());
+        CursorPage<OpportunityResponse> opportunities = opportunityService.queryOpportunities(query);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<OpportunityResponse>> getOpportunitiesByCustomer(@PathVariable String customerId) {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getOpportunitiesByCustomer(
+            @PathVariable String customerId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching opportunities for customer: {}", customerId);
-        List<Opportunity> opportunities = opportunityService.getOpportunitiesByCustomer(customerId);
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getOpportunitiesByCustomer(customerId, page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/stage/{stageId}")
-    public ResponseEntity<List<OpportunityResponse>> getOpportunitiesByStage(@PathVariable String stageId) {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getOpportunitiesByStage(
+            @PathVariable String stageId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching opportunities by stage: {}", stageId);
-        List<Opportunity> opportunities = opportunityService.getOpportunitiesByStage(stageId);
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getOpportunitiesByStage(stageId, page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/assigned/{userId}")
-    public ResponseEntity<List<OpportunityResponse>> getOpportunitiesByAssignedUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getOpportunitiesByAssignedUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching opportunities assigned to user: {}", userId);
-        List<Opportunity> opportunities = opportunityService.getOpportunitiesByAssignedUser(userId);
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getOpportunitiesByAssignedUser(userId, page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/branch/{branchId}")
-    public ResponseEntity<List<OpportunityResponse>> getOpportunitiesByBranch(@PathVariable String branchId) {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getOpportunitiesByBranch(
+            @PathVariable String branchId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching opportunities by branch: {}", branchId);
-        List<Opportunity> opportunities = opportunityService.getOpportunitiesByBranch(branchId);
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getOpportunitiesByBranch(branchId, page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/open")
-    public ResponseEntity<List<OpportunityResponse>> getOpenOpportunities() {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getOpenOpportunities(@ParameterObject CursorRequest page) {
         log.debug("Fetching open opportunities");
-        List<Opportunity> opportunities = opportunityService.getOpenOpportunities();
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getOpenOpportunities(page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/won")
-    public ResponseEntity<List<OpportunityResponse>> getWonOpportunities() {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getWonOpportunities(@ParameterObject CursorRequest page) {
         log.debug("Fetching won opportunities");
-        List<Opportunity> opportunities = opportunityService.getWonOpportunities();
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getWonOpportunities(page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/lost")
-    public ResponseEntity<List<OpportunityResponse>> getLostOpportunities() {
+    public ResponseEntity<CursorPage<OpportunityResponse>> getLostOpportunities(@ParameterObject CursorRequest page) {
         log.debug("Fetching lost opportunities");
-        List<Opportunity> opportunities = opportunityService.getLostOpportunities();
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getLostOpportunities(page);
+        return ResponseEntity.ok(opportunities);
     }
 
     @GetMapping("/close-date")
-    public ResponseEntity<List<OpportunityResponse>> getOpportunitiesByCloseDateRange(
+    public ResponseEntity<CursorPage<OpportunityResponse>> getOpportunitiesByCloseDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching opportunities by close date range: {} - {}", startDate, endDate);
-        List<Opportunity> opportunities = opportunityService.getOpportunitiesByCloseDateRange(startDate, endDate);
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.getOpportunitiesByCloseDateRange(startDate, endDate, page);
+        return ResponseEntity.ok(opportunities);
+    }
+
+    /**
+     * Weighted forecast of open opportunities by stage, branch, assigned user and
+     * expected-close month; defaults to the next twelve months.
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<PipelineForecastResponse> getForecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        log.debug("Fetching pipeline forecast: {} - {}", fromDate, toDate);
+        PipelineForecastResponse forecast = pipelineForecastService.getForecast(fromDate, toDate);
+        return ResponseEntity.ok(forecast);
+    }
+
+    /**
+     * Stage-to-stage conversion and median/p90 days in stage, from the recorded stage history.
+     */
+    @GetMapping("/funnel")
+    public ResponseEntity<List<PipelineFunnelStage>> getFunnel() {
+        log.debug("Fetching pipeline funnel");
+        List<PipelineFunnelStage> funnel = opportunityFunnelService.getFunnel();
+        return ResponseEntity.ok(funnel);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<OpportunityResponse>> searchOpportunities(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<OpportunityResponse>> searchOpportunities(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching opportunities with keyword: {}", keyword);
-        List<Opportunity> opportunities = opportunityService.searchOpportunities(keyword);
-        return ResponseEntity.ok(OpportunityResponse.fromList(opportunities));
+        CursorPage<OpportunityResponse> opportunities = opportunityService.searchOpportunities(keyword, page);
+        return ResponseEntity.ok(opportunities);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOpportunities(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        log.info("Exporting opportunities as {}", format);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return StreamingExport.of(request, "opportunities", exportFormat,
+                outputStream -> salesExportService.exportOpportunities(outputStream, exportFormat));
     }
 
     @DeleteMapping("/{opportunityId}")
@@ -2,6 +2,7 @@ package com.example.egov.web.sales;
 
 import com.example.egov.domain.sales.PipelineStage;
 import com.example.egov.service.sales.PipelineStageService;
+import com.example.egov.web.common.ConditionalGet;
 import com.example.egov.web.sales.dto.PipelineStageCreateRequest;
 import com.example.egov.web.sales.dto.PipelineStageResponse;
 import com.example.egov.web.sales.dto.PipelineStageUpdateRequest;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -39,25 +41,24 @@ public class PipelineStageController {
     }
 
     @GetMapping("/{stageId}")
-    public ResponseEntity<PipelineStageResponse> getStage(@PathVariable String stageId) {
+    public ResponseEntity<PipelineStageResponse> getStage(@PathVariable String stageId, WebRequest webRequest) {
         log.debug("Fetching pipeline stage: {}", stageId);
-        return pipelineStageService.getStage(stageId)
-                .map(stage -> ResponseEntity.ok(PipelineStageResponse.from(stage)))
-                .orElse(ResponseEntity.notFound().build());
+        return ConditionalGet.single(webRequest, pipelineStageService.getStageVersion(stageId),
+                () -> pipelineStageService.getStage(stageId).map(PipelineStageResponse::from));
     }
 
     @GetMapping
-    public ResponseEntity<List<PipelineStageResponse>> getAllStages() {
+    public ResponseEntity<List<PipelineStageResponse>> getAllStages(WebRequest webRequest) {
         log.debug("Fetching all pipeline stages");
-        List<PipelineStage> stages = pipelineStageService.getAllStages();
-        return ResponseEntity.ok(PipelineStageResponse.fromList(stages));
+        return ConditionalGet.collection(webRequest, pipelineStageService.getStagesVersion(),
+                () -> PipelineStageResponse.fromList(pipelineStageService.getAllStages()));
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<PipelineStageResponse>> getActiveStagesOrdered() {
+    public ResponseEntity<List<PipelineStageResponse>> getActiveStagesOrdered(WebRequest webRequest) {
         log.debug("Fetching active pipeline stages ordered");
-        List<PipelineStage> stages = pipelineStageService.getActiveStagesOrdered();
-        return ResponseEntity.ok(PipelineStageResponse.fromList(stages));
+        return ConditionalGet.collection(webRequest, pipelineStageService.getStagesVersion(),
+                () -> PipelineStageResponse.fromList(pipelineStageService.getActiveStagesOrdered()));
     }
 
     @GetMapping("/won")
@@ -1,18 +1,22 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Product;
 import com.example.egov.service.sales.ProductService;
+import com.example.egov.web.common.ConditionalGet;
 import com.example.egov.web.sales.dto.ProductCreateRequest;
 import com.example.egov.web.sales.dto.ProductResponse;
 import com.example.egov.web.sales.dto.ProductUpdateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -39,46 +43,62 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable String productId) {
+    public ResponseEntity<ProductResponse> getProduct(@PathVariable String productId, WebRequest webRequest) {
         log.debug("Fetching product: {}", productId);
-        return productService.getProduct(productId)
-                .map(product -> ResponseEntity.ok(ProductResponse.from(product)))
-                .orElse(ResponseEntity.notFound().build());
+        return ConditionalGet.single(webRequest, productService.getProductVersion(productId),
+                () -> productService.getProduct(productId).map(ProductResponse::from));
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
+    public ResponseEntity<CursorPage<ProductResponse>> getAllProducts(@ParameterObject CursorRequest page,
+                                                                      WebRequest webRequest) {
         log.debug("Fetching all products");
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(ProductResponse.fromList(products));
+        return ConditionalGet.collection(webRequest, productService.getProductsVersion(),
+                () -> productService.getAllProducts(page));
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<ProductResponse>> queryProducts(@RequestBody FilterQuery query) {
+        log.debug("Querying products with filter: {}", query.filter());
+        CursorPage<ProductResponse> products = productService.queryProducts(query);
+        return ResponseEntity.ok(products);
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<ProductResponse>> getActiveProducts() {
+    public ResponseEntity<CursorPage<ProductResponse>> getActiveProducts(@ParameterObject CursorRequest page,
+                                                                         WebRequest webRequest) {
         log.debug("Fetching active products");
-        List<Product> products = productService.getActiveProducts();
-        return ResponseEntity.ok(ProductResponse.fromList(products));
+        return ConditionalGet.collection(webRequest, productService.getProductsVersion(),
+                () -> productService.getActiveProducts(page));
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<ProductResponse>> getProductsByCategory(@PathVariable String category) {
+    public ResponseEntity<CursorPage<ProductResponse>> getProductsByCategory(
+            @PathVariable String category,
+            @ParameterObject CursorRequest page,
+            WebRequest webRequest) {
         log.debug("Fetching products by category: {}", category);
-        List<Product> products = productService.getProductsByCategory(category);
-        return ResponseEntity.ok(ProductResponse.fromList(products));
+        return ConditionalGet.collection(webRequest, productService.getProductsVersion(),
+                () -> productService.getProductsByCategory(category, page));
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<ProductResponse>> getProductsByType(@PathVariable String type) {
+    public ResponseEntity<CursorPage<ProductResponse>> getProductsByType(
+            @PathVariable String type,
+            @ParameterObject CursorRequest page,
+            WebRequest webRequest) {
         log.debug("Fetching products by type: {}", type);
-        List<Product> products = productService.getProductsByType(type);
-        return ResponseEntity.ok(ProductResponse.fromList(products));
+        return ConditionalGet.collection(webRequest, productService.getProductsVersion(),
+                () -> productService.getProductsByType(type, page));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ProductResponse>> searchProducts(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<ProductResponse>> searchProducts(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching products with keyword: {}", keyword);
-        List<Product> products = productService.searchProducts(keyword);
-        return ResponseEntity.ok(ProductResponse.fromList(products));
+        CursorPage<ProductResponse> products = productService.searchProducts(keyword, page);
+        return ResponseEntity.ok(products);
     }
 
     @DeleteMapping("/{productId}")
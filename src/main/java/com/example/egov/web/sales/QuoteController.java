@@ -1,13 +1,20 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.Quote;
+import com.example.egov.service.sales.QuoteRepricingJob;
+import com.example.egov.service.sales.QuoteRepricingService;
 import com.example.egov.service.sales.QuoteService;
 import com.example.egov.web.sales.dto.QuoteCreateRequest;
+import com.example.egov.web.sales.dto.QuoteRepricingStatus;
 import com.example.egov.web.sales.dto.QuoteResponse;
 import com.example.egov.web.sales.dto.QuoteUpdateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +28,7 @@ import java.util.List;
 public class QuoteController {
 
     private final QuoteService quoteService;
+    private final QuoteRepricingService quoteRepricingService;
 
     @PostMapping
     public ResponseEntity<QuoteResponse> createQuote(@Valid @RequestBody QuoteCreateRequest request) {
@@ -47,52 +55,88 @@ public class QuoteController {
     }
 
     @GetMapping
-    public ResponseEntity<List<QuoteResponse>> getAllQuotes() {
+    public ResponseEntity<CursorPage<QuoteResponse>> getAllQuotes(@ParameterObject CursorRequest page) {
         log.debug("Fetching all quotes");
-        List<Quote> quotes = quoteService.getAllQuotes();
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.getAllQuotes(page);
+        return ResponseEntity.ok(quotes);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<QuoteResponse>> queryQuotes(@RequestBody FilterQuery query) {
+        log.debug("Querying quotes with filter: {}", query.filter());
+        CursorPage<QuoteResponse> quotes = quoteService.queryQuotes(query);
+        return ResponseEntity.ok(quotes);
+    }
+
+    /**
+     * Open-quote repricing jobs started by product price or tax rate changes, newest first.
+     */
+    @GetMapping("/repricing-jobs")
+    public ResponseEntity<List<QuoteRepricingStatus>> getRepricingJobs() {
+        log.debug("Fetching quote repricing jobs");
+        return ResponseEntity.ok(quoteRepricingService.getJobs().stream()
+                .map(QuoteRepricingJob::status)
+                .toList());
+    }
+
+    @GetMapping("/repricing-jobs/{jobId}")
+    public ResponseEntity<QuoteRepricingStatus> getRepricingJob(@PathVariable String jobId) {
+        log.debug("Fetching quote repricing job: {}", jobId);
+        return quoteRepricingService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.status()))
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<QuoteResponse>> getQuotesByCustomer(@PathVariable String customerId) {
+    public ResponseEntity<CursorPage<QuoteResponse>> getQuotesByCustomer(
+            @PathVariable String customerId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching quotes for customer: {}", customerId);
-        List<Quote> quotes = quoteService.getQuotesByCustomer(customerId);
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.getQuotesByCustomer(customerId, page);
+        return ResponseEntity.ok(quotes);
     }
 
     @GetMapping("/opportunity/{opportunityId}")
-    public ResponseEntity<List<QuoteResponse>> getQuotesByOpportunity(@PathVariable String opportunityId) {
+    public ResponseEntity<CursorPage<QuoteResponse>> getQuotesByOpportunity(
+            @PathVariable String opportunityId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching quotes for opportunity: {}", opportunityId);
-        List<Quote> quotes = quoteService.getQuotesByOpportunity(opportunityId);
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.getQuotesByOpportunity(opportunityId, page);
+        return ResponseEntity.ok(quotes);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<QuoteResponse>> getQuotesByStatus(@PathVariable String status) {
+    public ResponseEntity<CursorPage<QuoteResponse>> getQuotesByStatus(
+            @PathVariable String status,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching quotes by status: {}", status);
-        List<Quote> quotes = quoteService.getQuotesByStatus(status);
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.getQuotesByStatus(status, page);
+        return ResponseEntity.ok(quotes);
     }
 
     @GetMapping("/assigned/{userId}")
-    public ResponseEntity<List<QuoteResponse>> getQuotesByAssignedUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<QuoteResponse>> getQuotesByAssignedUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching quotes assigned to user: {}", userId);
-        List<Quote> quotes = quoteService.getQuotesByAssignedUser(userId);
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.getQuotesByAssignedUser(userId, page);
+        return ResponseEntity.ok(quotes);
     }
 
     @GetMapping("/expired")
-    public ResponseEntity<List<QuoteResponse>> getExpiredQuotes() {
+    public ResponseEntity<CursorPage<QuoteResponse>> getExpiredQuotes(@ParameterObject CursorRequest page) {
         log.debug("Fetching expired quotes");
-        List<Quote> quotes = quoteService.getExpiredQuotes();
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.getExpiredQuotes(page);
+        return ResponseEntity.ok(quotes);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<QuoteResponse>> searchQuotes(@RequestParam String keyword) {
+    public ResponseEntity<CursorPage<QuoteResponse>> searchQuotes(
+            @RequestParam String keyword,
+            @ParameterObject CursorRequest page) {
         log.debug("Searching quotes with keyword: {}", keyword);
-        List<Quote> quotes = quoteService.searchQuotes(keyword);
-        return ResponseEntity.ok(QuoteResponse.fromList(quotes));
+        CursorPage<QuoteResponse> quotes = quoteService.searchQuotes(keyword, page);
+        return ResponseEntity.ok(quotes);
     }
 
     @DeleteMapping("/{quoteId}")
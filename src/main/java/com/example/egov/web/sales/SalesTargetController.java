@@ -1,20 +1,23 @@
 package com.example.egov.web.sales;
 
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.domain.common.FilterQuery;
 import com.example.egov.domain.sales.SalesTarget;
+import com.example.egov.service.sales.SalesTargetAttainmentService;
 import com.example.egov.service.sales.SalesTargetService;
+import com.example.egov.web.sales.dto.AttainmentReconcileReport;
 import com.example.egov.web.sales.dto.SalesTargetCreateRequest;
 import com.example.egov.web.sales.dto.SalesTargetResponse;
 import com.example.egov.web.sales.dto.SalesTargetUpdateRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
-import java.util.List;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/sales-targets")
@@ -22,6 +25,7 @@ import java.util.List;
 public class SalesTargetController {
 
     private final SalesTargetService salesTargetService;
+    private final SalesTargetAttainmentService attainmentService;
 
     @PostMapping
     public ResponseEntity<SalesTargetResponse> createTarget(@Valid @RequestBody SalesTargetCreateRequest request) {
@@ -39,13 +43,14 @@ public class SalesTargetController {
         return ResponseEntity.ok(SalesTargetResponse.from(target));
     }
 
-    @PatchMapping("/{targetId}/achieved")
-    public ResponseEntity<SalesTargetResponse> updateAchievedAmount(
-            @PathVariable String targetId,
-            @RequestParam BigDecimal achievedAmount) {
-        log.info("Updating achieved amount for target: {}", targetId);
-        SalesTarget target = salesTargetService.updateAchievedAmount(targetId, achievedAmount);
-        return ResponseEntity.ok(SalesTargetResponse.from(target));
+    /**
+     * Recompute achieved amounts from closed-won opportunities and correct any drift.
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<AttainmentReconcileReport> reconcileAttainment() {
+        log.info("Reconciling sales target attainment");
+        AttainmentReconcileReport report = attainmentService.reconcile();
+        return ResponseEntity.ok(report);
     }
 
     @GetMapping("/{targetId}")
@@ -57,72 +62,92 @@ public class SalesTargetController {
     }
 
     @GetMapping
-    public ResponseEntity<List<SalesTargetResponse>> getAllTargets() {
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getAllTargets(@ParameterObject CursorRequest page) {
         log.debug("Fetching all sales targets");
-        List<SalesTarget> targets = salesTargetService.getAllTargets();
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getAllTargets(page);
+        return ResponseEntity.ok(targets);
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<CursorPage<SalesTargetResponse>> queryTargets(@RequestBody FilterQuery query) {
+        log.debug("Querying sales targets with filter: {}", query.filter());
+        CursorPage<SalesTargetResponse> targets = salesTargetService.queryTargets(query);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/year/{year}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByYear(@PathVariable Integer year) {
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByYear(
+            @PathVariable Integer year,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets for year: {}", year);
-        List<SalesTarget> targets = salesTargetService.getTargetsByYear(year);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByYear(year, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/year/{year}/month/{month}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByYearAndMonth(
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByYearAndMonth(
             @PathVariable Integer year,
-            @PathVariable Integer month) {
+            @PathVariable Integer month,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets for year: {}, month: {}", year, month);
-        List<SalesTarget> targets = salesTargetService.getTargetsByYearAndMonth(year, month);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByYearAndMonth(year, month, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByType(@PathVariable String type) {
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByType(
+            @PathVariable String type,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets by type: {}", type);
-        List<SalesTarget> targets = salesTargetService.getTargetsByType(type);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByType(type, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByUser(@PathVariable String userId) {
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByUser(
+            @PathVariable String userId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets for user: {}", userId);
-        List<SalesTarget> targets = salesTargetService.getTargetsByUser(userId);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByUser(userId, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/user/{userId}/year/{year}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByUserAndYear(
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByUserAndYear(
             @PathVariable String userId,
-            @PathVariable Integer year) {
+            @PathVariable Integer year,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets for user: {} and year: {}", userId, year);
-        List<SalesTarget> targets = salesTargetService.getTargetsByUserAndYear(userId, year);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByUserAndYear(userId, year, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/branch/{branchId}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByBranch(@PathVariable String branchId) {
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByBranch(
+            @PathVariable String branchId,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets for branch: {}", branchId);
-        List<SalesTarget> targets = salesTargetService.getTargetsByBranch(branchId);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByBranch(branchId, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/branch/{branchId}/year/{year}")
-    public ResponseEntity<List<SalesTargetResponse>> getTargetsByBranchAndYear(
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getTargetsByBranchAndYear(
             @PathVariable String branchId,
-            @PathVariable Integer year) {
+            @PathVariable Integer year,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching sales targets for branch: {} and year: {}", branchId, year);
-        List<SalesTarget> targets = salesTargetService.getTargetsByBranchAndYear(branchId, year);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getTargetsByBranchAndYear(branchId, year, page);
+        return ResponseEntity.ok(targets);
     }
 
     @GetMapping("/company/year/{year}")
-    public ResponseEntity<List<SalesTargetResponse>> getCompanyTargetsByYear(@PathVariable Integer year) {
+    public ResponseEntity<CursorPage<SalesTargetResponse>> getCompanyTargetsByYear(
+            @PathVariable Integer year,
+            @ParameterObject CursorRequest page) {
         log.debug("Fetching company sales targets for year: {}", year);
-        List<SalesTarget> targets = salesTargetService.getCompanyTargetsByYear(year);
-        return ResponseEntity.ok(SalesTargetResponse.fromList(targets));
+        CursorPage<SalesTargetResponse> targets = salesTargetService.getCompanyTargetsByYear(year, page);
+        return ResponseEntity.ok(targets);
     }
 
     @DeleteMapping("/{targetId}")
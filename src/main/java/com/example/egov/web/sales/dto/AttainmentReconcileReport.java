@@ -0,0 +1,14 @@
+package com.example.egov.web.sales.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Outcome of a sales-target attainment reconciliation.
+ * corrected can be lower than drifted when a target changed while it was being reconciled.
+ */
+public record AttainmentReconcileReport(int checked, int drifted, int corrected, List<Drift> drifts) {
+
+    public record Drift(String targetId, String tenantId, BigDecimal storedAmount, BigDecimal expectedAmount) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.egov.web.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Weighted pipeline forecast over an expected-close date range.
+ * weightedAmount = SUM(amount * probability / 100); totals are the sums of the rows.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineForecastResponse {
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Long opportunityCount;
+    private BigDecimal totalAmount;
+    private BigDecimal weightedAmount;
+    private List<PipelineForecastRow> rows;
+}
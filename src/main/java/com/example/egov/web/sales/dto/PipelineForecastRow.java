@@ -0,0 +1,31 @@
+package com.example.egov.web.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One forecast group: open opportunities of a stage, branch, assigned user and expected-close month.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineForecastRow {
+
+    private String stageId;
+    private String stageName;
+    private String branchId;
+    private String branchName;
+    private String assignedUserId;
+    private String assignedUserName;
+    private Integer closeYear;
+    private Integer closeMonth;
+    private Long opportunityCount;
+    private BigDecimal totalAmount;
+    private BigDecimal weightedAmount;
+    private BigDecimal averageProbability;
+}
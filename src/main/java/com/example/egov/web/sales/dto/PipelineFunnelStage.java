@@ -0,0 +1,33 @@
+package com.example.egov.web.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Funnel statistics of one pipeline stage.
+ *
+ * conversionRate: share (%) of entries into this stage that later moved on to nextStageId,
+ * the next stage by stageOrder that is not a lost stage; null for won/lost stages.
+ * Days in stage are whole days over the exits seen so far; 365 means "365 or more".
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineFunnelStage {
+
+    private String stageId;
+    private String stageName;
+    private Integer stageOrder;
+    private Long enteredCount;
+    private Long exitedCount;
+    private Long advancedCount;
+    private String nextStageId;
+    private BigDecimal conversionRate;
+    private Integer medianDaysInStage;
+    private Integer p90DaysInStage;
+}
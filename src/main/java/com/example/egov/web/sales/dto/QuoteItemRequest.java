@@ -10,6 +10,9 @@ import java.math.BigDecimal;
 @Setter
 public class QuoteItemRequest {
 
+    // Existing item to update (quote update only); lines without it are matched by position
+    private Long quoteItemId;
+
     @NotBlank(message = "Product ID is required")
     private String productId;
 
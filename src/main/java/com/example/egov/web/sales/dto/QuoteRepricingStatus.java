@@ -0,0 +1,15 @@
+package com.example.egov.web.sales.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an open-quote repricing job started by a product price or tax rate change.
+ * totalQuotes is counted when the job starts; quotes that leave DRAFT/SENT meanwhile are skipped.
+ */
+public record QuoteRepricingStatus(String jobId, String productId, String state,
+                                   BigDecimal oldUnitPrice, BigDecimal newUnitPrice,
+                                   BigDecimal oldTaxRate, BigDecimal newTaxRate,
+                                   int totalQuotes, int processedQuotes, int repricedQuotes, int repricedItems,
+                                   LocalDateTime startedAt, LocalDateTime finishedAt, String error) {
+}
@@ -19,8 +19,6 @@ public class SalesTargetCreateRequest {
     @NotNull(message = "Target amount is required")
     private BigDecimal targetAmount;
 
-    private BigDecimal achievedAmount;
-
     @Size(max = 20, message = "Target type must not exceed 20 characters")
     private String targetType;
 
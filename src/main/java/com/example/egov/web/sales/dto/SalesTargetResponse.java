@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SalesTargetResponse {
@@ -38,21 +38,13 @@ public class SalesTargetResponse {
             return null;
         }
 
-        BigDecimal achievementRate = BigDecimal.ZERO;
-        if (target.getTargetAmount() != null && target.getTargetAmount().compareTo(BigDecimal.ZERO) > 0
-                && target.getAchievedAmount() != null) {
-            achievementRate = target.getAchievedAmount()
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(target.getTargetAmount(), 2, RoundingMode.HALF_UP);
-        }
-
         return SalesTargetResponse.builder()
                 .targetId(target.getTargetId())
                 .targetYear(target.getTargetYear())
                 .targetMonth(target.getTargetMonth())
                 .targetAmount(target.getTargetAmount())
                 .achievedAmount(target.getAchievedAmount())
-                .achievementRate(achievementRate)
+                .achievementRate(calculateAchievementRate(target.getTargetAmount(), target.getAchievedAmount()))
                 .targetType(target.getTargetType())
                 .userId(target.getUser() != null ? target.getUser().getId() : null)
                 .userName(target.getUser() != null ? target.getUser().getUserName() : null)
@@ -64,6 +56,18 @@ public class SalesTargetResponse {
                 .build();
     }
 
+    /**
+     * Achieved amount as a percentage of the target, 2 decimals; zero when no target is set.
+     */
+    public static BigDecimal calculateAchievementRate(BigDecimal targetAmount, BigDecimal achievedAmount) {
+        if (targetAmount == null || targetAmount.compareTo(BigDecimal.ZERO) <= 0 || achievedAmount == null) {
+            return BigDecimal.ZERO;
+        }
+        return achievedAmount
+                .multiply(BigDecimal.valueOf(100))
+                .divide(targetAmount, 2, RoundingMode.HALF_UP);
+    }
+
     public static List<SalesTargetResponse> fromList(List<SalesTarget> targets) {
         if (targets == null) {
             return null;
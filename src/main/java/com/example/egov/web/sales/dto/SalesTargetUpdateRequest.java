@@ -16,8 +16,6 @@ public class SalesTargetUpdateRequest {
 
     private BigDecimal targetAmount;
 
-    private BigDecimal achievedAmount;
-
     @Size(max = 20, message = "Target type must not exceed 20 characters")
     private String targetType;
 
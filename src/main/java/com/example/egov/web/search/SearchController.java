@@ -0,0 +1,64 @@
+package com.example.egov.web.search;
+
+import com.example.egov.service.search.SearchHit;
+import com.example.egov.service.search.SearchService;
+import com.example.egov.service.search.SearchType;
+import com.example.egov.service.search.Suggestion;
+import com.example.egov.web.search.dto.SearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Search customers, contacts, leads and products of the current tenant.
+     *
+     * @param q     query text (name, code, company or e-mail)
+     * @param types optional subset, e.g. types=customer,product
+     * @param limit maximum number of hits
+     */
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Searching: {} in {}", q, types);
+        Set<SearchType> searchTypes = EnumSet.noneOf(SearchType.class);
+        if (types != null) {
+            types.stream().map(SearchType::from).forEach(searchTypes::add);
+        }
+        List<SearchHit> hits = searchService.search(q, searchTypes, limit);
+        return ResponseEntity.ok(new SearchResponse(q, hits));
+    }
+
+    /**
+     * Type-ahead name suggestions for customer, contact and product pickers.
+     *
+     * @param type  customer, contact or product
+     * @param q     typed name prefix
+     * @param limit maximum number of suggestions
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Suggestion>> suggest(
+            @RequestParam String type,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        List<Suggestion> suggestions = searchService.suggest(SearchType.from(type), q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.egov.web.search.dto;
+
+import com.example.egov.service.search.SearchHit;
+
+import java.util.List;
+
+/**
+ * Ranked hits of a cross-entity search, best first.
+ */
+public record SearchResponse(String query, List<SearchHit> hits) {
+}
@@ -0,0 +1,58 @@
+-- =====================================================
+-- CRM Project - Opportunity Stage History
+-- Version: V10
+-- Description: Append-only stage transitions of opportunities and the funnel
+--              counters/duration histograms maintained from them, so funnel
+--              analytics never read the raw history
+-- =====================================================
+
+-- When the opportunity entered its current stage (days-in-stage on the next move)
+ALTER TABLE OPPORTUNITIES ADD COLUMN STAGE_ENTERED_DATE TIMESTAMP;
+UPDATE OPPORTUNITIES SET STAGE_ENTERED_DATE = COALESCE(UPDATED_DATE, CREATED_DATE);
+
+-- One row per transition; FROM_STAGE_ID is NULL when the opportunity was created.
+-- No FK to OPPORTUNITIES: history outlives deleted opportunities.
+CREATE TABLE OPPORTUNITY_STAGE_HISTORY (
+    HISTORY_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    OPPORTUNITY_ID VARCHAR(20) NOT NULL,
+    FROM_STAGE_ID VARCHAR(20),
+    TO_STAGE_ID VARCHAR(20) NOT NULL,
+    DAYS_IN_FROM_STAGE INT,
+    CHANGED_DATE TIMESTAMP NOT NULL,
+    TENANT_ID VARCHAR(20) NOT NULL,
+    FOREIGN KEY (TENANT_ID) REFERENCES TENANTS(TENANT_ID) ON DELETE CASCADE
+);
+CREATE INDEX IDX_OPP_STAGE_HISTORY_OPP ON OPPORTUNITY_STAGE_HISTORY(OPPORTUNITY_ID, CHANGED_DATE);
+CREATE INDEX IDX_OPP_STAGE_HISTORY_TENANT ON OPPORTUNITY_STAGE_HISTORY(TENANT_ID, CHANGED_DATE);
+
+-- Funnel counters per tenant and stage
+CREATE TABLE OPPORTUNITY_STAGE_STATS (
+    TENANT_ID VARCHAR(20) NOT NULL,
+    STAGE_ID VARCHAR(20) NOT NULL,
+    ENTERED_COUNT BIGINT DEFAULT 0 NOT NULL,
+    EXITED_COUNT BIGINT DEFAULT 0 NOT NULL,
+    ADVANCED_COUNT BIGINT DEFAULT 0 NOT NULL,
+    UPDATED_DATE TIMESTAMP,
+    PRIMARY KEY (TENANT_ID, STAGE_ID),
+    FOREIGN KEY (TENANT_ID) REFERENCES TENANTS(TENANT_ID) ON DELETE CASCADE
+);
+
+-- Days-in-stage histogram per tenant and stage (DAYS capped, last bucket = "or more")
+CREATE TABLE OPPORTUNITY_STAGE_DURATIONS (
+    TENANT_ID VARCHAR(20) NOT NULL,
+    STAGE_ID VARCHAR(20) NOT NULL,
+    DAYS INT NOT NULL,
+    EXIT_COUNT BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (TENANT_ID, STAGE_ID, DAYS),
+    FOREIGN KEY (TENANT_ID) REFERENCES TENANTS(TENANT_ID) ON DELETE CASCADE
+);
+
+-- Backfill: existing opportunities entered their current stage once
+INSERT INTO OPPORTUNITY_STAGE_HISTORY (OPPORTUNITY_ID, FROM_STAGE_ID, TO_STAGE_ID, DAYS_IN_FROM_STAGE, CHANGED_DATE, TENANT_ID)
+SELECT OPPORTUNITY_ID, NULL, STAGE_ID, NULL, STAGE_ENTERED_DATE, TENANT_ID
+FROM OPPORTUNITIES;
+
+INSERT INTO OPPORTUNITY_STAGE_STATS (TENANT_ID, STAGE_ID, ENTERED_COUNT, EXITED_COUNT, ADVANCED_COUNT, UPDATED_DATE)
+SELECT TENANT_ID, STAGE_ID, COUNT(*), 0, 0, CURRENT_TIMESTAMP
+FROM OPPORTUNITIES
+GROUP BY TENANT_ID, STAGE_ID;
@@ -0,0 +1,20 @@
+-- =====================================================
+-- CRM Project - ID Blocks
+-- Version: V11
+-- Description: Hi/lo counters for prefixed entity IDs. Each node reserves a
+--              block of values per prefix and hands them out from memory
+-- =====================================================
+
+-- NEXT_VALUE is the first value of the next unreserved block
+CREATE TABLE ID_BLOCKS (
+    ID_PREFIX VARCHAR(3) NOT NULL PRIMARY KEY,
+    NEXT_VALUE BIGINT NOT NULL,
+    UPDATED_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Generated IDs are prefix + 17 digits (20 characters); the earlier
+-- timestamp/UUID IDs are 17 characters long, so the two never collide
+INSERT INTO ID_BLOCKS (ID_PREFIX, NEXT_VALUE) VALUES
+    ('TEN', 1), ('BRN', 1), ('GRP', 1), ('POS', 1), ('USR', 1),
+    ('CUS', 1), ('CON', 1), ('LED', 1), ('OPP', 1), ('STG', 1),
+    ('PRD', 1), ('QTE', 1), ('ACT', 1), ('TGT', 1);
@@ -0,0 +1,13 @@
+-- =====================================================
+-- CRM Project - Scheduled Job Locks
+-- Version: V12
+-- Description: One row per scheduled job; the node that moves LOCKED_UNTIL
+--              into the future runs the job, the others skip it
+-- =====================================================
+
+CREATE TABLE SCHEDULED_LOCKS (
+    LOCK_NAME VARCHAR(64) NOT NULL PRIMARY KEY,
+    LOCKED_UNTIL TIMESTAMP NOT NULL,
+    LOCKED_AT TIMESTAMP NOT NULL,
+    LOCKED_BY VARCHAR(255) NOT NULL
+);
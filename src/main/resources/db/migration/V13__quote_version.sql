@@ -0,0 +1,8 @@
+-- =====================================================
+-- CRM Project - Quote Version
+-- Version: V13
+-- Description: Optimistic locking for quotes. JPA updates and the repricing
+--              recompute both increment VERSION and require the value they read
+-- =====================================================
+
+ALTER TABLE QUOTES ADD COLUMN VERSION BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,18 @@
+-- =====================================================
+-- CRM Project - Permission Dictionary
+-- Version: V5
+-- Description: Per-tenant, append-only permission code dictionary used to
+--              encode access-token permissions as a bitset
+-- =====================================================
+
+CREATE TABLE PERMISSION_DICTIONARY (
+    ENTRY_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    CODE_INDEX INT NOT NULL,
+    PERMISSION_CODE VARCHAR(100) NOT NULL,
+    TENANT_ID VARCHAR(20) NOT NULL,
+    CREATED_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_DATE TIMESTAMP,
+    FOREIGN KEY (TENANT_ID) REFERENCES TENANTS(TENANT_ID) ON DELETE CASCADE,
+    UNIQUE (TENANT_ID, CODE_INDEX),
+    UNIQUE (TENANT_ID, PERMISSION_CODE)
+);
@@ -0,0 +1,39 @@
+-- =====================================================
+-- CRM Project - Role Inheritance
+-- Version: V6
+-- Description: Branch-level role grants and the materialised effective role
+--              closure per group (GROUP_ROLES + roles of the group's branch
+--              and all its ancestor branches)
+-- =====================================================
+
+-- Branch-Role junction table (roles inherited by every group in the branch subtree)
+CREATE TABLE BRANCH_ROLES (
+    BRANCH_ROLE_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    BRANCH_ID VARCHAR(20) NOT NULL,
+    ROLE_ID VARCHAR(20) NOT NULL,
+    ASSIGNED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    TENANT_ID VARCHAR(20) NOT NULL,
+    FOREIGN KEY (BRANCH_ID) REFERENCES BRANCHES(BRANCH_ID) ON DELETE CASCADE,
+    FOREIGN KEY (ROLE_ID) REFERENCES ROLES(ROLE_ID) ON DELETE CASCADE,
+    FOREIGN KEY (TENANT_ID) REFERENCES TENANTS(TENANT_ID) ON DELETE CASCADE,
+    UNIQUE (BRANCH_ID, ROLE_ID, TENANT_ID)
+);
+CREATE INDEX IDX_BRANCH_ROLES_BRANCH ON BRANCH_ROLES(BRANCH_ID);
+CREATE INDEX IDX_BRANCH_ROLES_TENANT ON BRANCH_ROLES(TENANT_ID);
+
+-- Materialised effective roles per group (maintained by RoleInheritanceService)
+CREATE TABLE GROUP_EFFECTIVE_ROLES (
+    GROUP_EFFECTIVE_ROLE_ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    GROUP_ID VARCHAR(20) NOT NULL,
+    ROLE_ID VARCHAR(20) NOT NULL,
+    TENANT_ID VARCHAR(20) NOT NULL,
+    FOREIGN KEY (GROUP_ID) REFERENCES GROUPS(GROUP_ID) ON DELETE CASCADE,
+    FOREIGN KEY (ROLE_ID) REFERENCES ROLES(ROLE_ID) ON DELETE CASCADE,
+    FOREIGN KEY (TENANT_ID) REFERENCES TENANTS(TENANT_ID) ON DELETE CASCADE,
+    UNIQUE (GROUP_ID, ROLE_ID)
+);
+CREATE INDEX IDX_GROUP_EFFECTIVE_ROLES_TENANT ON GROUP_EFFECTIVE_ROLES(TENANT_ID);
+
+-- Backfill from existing direct group grants (no branch grants exist yet)
+INSERT INTO GROUP_EFFECTIVE_ROLES (GROUP_ID, ROLE_ID, TENANT_ID)
+SELECT DISTINCT GROUP_ID, ROLE_ID, TENANT_ID FROM GROUP_ROLES;
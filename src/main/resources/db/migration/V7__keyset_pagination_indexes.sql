@@ -0,0 +1,16 @@
+-- =====================================================
+-- CRM Project - Keyset Pagination Indexes
+-- Version: V7
+-- Description: (TENANT_ID, CREATED_DATE, <PK>) indexes backing the cursor-paged
+--              sales list endpoints (newest first), so each page is an index
+--              range scan instead of a sort over the tenant's whole table
+-- =====================================================
+
+CREATE INDEX IDX_CUSTOMERS_KEYSET ON CUSTOMERS(TENANT_ID, CREATED_DATE DESC, CUSTOMER_ID DESC);
+CREATE INDEX IDX_CONTACTS_KEYSET ON CONTACTS(TENANT_ID, CREATED_DATE DESC, CONTACT_ID DESC);
+CREATE INDEX IDX_LEADS_KEYSET ON LEADS(TENANT_ID, CREATED_DATE DESC, LEAD_ID DESC);
+CREATE INDEX IDX_OPPORTUNITIES_KEYSET ON OPPORTUNITIES(TENANT_ID, CREATED_DATE DESC, OPPORTUNITY_ID DESC);
+CREATE INDEX IDX_PRODUCTS_KEYSET ON PRODUCTS(TENANT_ID, CREATED_DATE DESC, PRODUCT_ID DESC);
+CREATE INDEX IDX_QUOTES_KEYSET ON QUOTES(TENANT_ID, CREATED_DATE DESC, QUOTE_ID DESC);
+CREATE INDEX IDX_ACTIVITIES_KEYSET ON ACTIVITIES(TENANT_ID, CREATED_DATE DESC, ACTIVITY_ID DESC);
+CREATE INDEX IDX_SALES_TARGETS_KEYSET ON SALES_TARGETS(TENANT_ID, CREATED_DATE DESC, TARGET_ID DESC);
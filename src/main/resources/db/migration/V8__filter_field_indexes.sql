@@ -0,0 +1,10 @@
+-- =====================================================
+-- CRM Project - Filter Field Indexes
+-- Version: V8
+-- Description: Indexes for the FK columns in the list query filter allow-lists
+--              that V3 left unindexed (opportunity/target branch, quote owner)
+-- =====================================================
+
+CREATE INDEX IDX_OPPORTUNITIES_BRANCH ON OPPORTUNITIES(BRANCH_ID);
+CREATE INDEX IDX_QUOTES_ASSIGNED ON QUOTES(ASSIGNED_USER_ID);
+CREATE INDEX IDX_SALES_TARGETS_BRANCH ON SALES_TARGETS(BRANCH_ID);
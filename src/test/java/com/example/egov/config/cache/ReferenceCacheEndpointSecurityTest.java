@@ -0,0 +1,74 @@
+package com.example.egov.config.cache;
+
+import com.example.egov.config.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Access to the reference cache actuator endpoint.
+ *
+ * Only a ROLE_SUPER_ADMIN token may read the stats or evict a region; other tokens get
+ * 403, and requests without a token are rejected before reaching the endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReferenceCacheEndpointSecurityTest {
+
+    private static final String ENDPOINT = "/actuator/referencecache";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    public void testSuperAdminReadsAndEvicts() throws Exception {
+        String token = token("SYS_USER001", "SYSTEM", "ROLE_SUPER_ADMIN");
+
+        mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(ENDPOINT + "/" + ReferenceCacheRegions.QUERY_RESULTS)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    public void testOtherRolesForbidden() throws Exception {
+        for (String role : List.of("ROLE_TENANT_ADMIN", "ROLE_USER")) {
+            String token = token("USER_" + role, "TENANT_A", role);
+
+            mockMvc.perform(get(ENDPOINT).header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(delete(ENDPOINT + "/" + ReferenceCacheRegions.QUERY_RESULTS)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Test
+    public void testAnonymousRejected() throws Exception {
+        mockMvc.perform(get(ENDPOINT))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    public void testOtherActuatorEndpointsStayPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private String token(String esntlId, String tenantId, String role) {
+        return jwtTokenProvider.createAccessToken(esntlId, esntlId, tenantId, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.egov.config.multitenancy;
+
+import com.example.egov.domain.sales.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Filter;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tenant filter enablement: the filter is applied once per session and tenant, not on
+ * every repository call.
+ */
+@SpringBootTest
+@Transactional
+public class TenantFilterAspectTest {
+
+    private static final int REPOSITORY_CALLS = 50;
+
+    @Autowired
+    private TenantFilterAspect tenantFilterAspect;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+        TenantFilterSupport.reset();
+    }
+
+    @Test
+    public void testFilterAppliedOncePerSession() {
+        Session session = entityManager.unwrap(Session.class);
+
+        tenantFilterAspect.applyFilter("TENANT_A");
+        assertFalse(tenantFilterAspect.applyFilter("TENANT_A"), "Same session and tenant should not re-apply");
+        assertNotNull(session.getEnabledFilter(TenantFilterSupport.FILTER_NAME));
+
+        // Tenant switch inside the same transaction re-applies the filter
+        assertTrue(tenantFilterAspect.applyFilter("TENANT_B"));
+        assertNotNull(session.getEnabledFilter(TenantFilterSupport.FILTER_NAME));
+
+        // SYSTEM tenant bypass: filter disabled
+        assertTrue(tenantFilterAspect.applyFilter(TenantContext.SYSTEM_TENANT_ID));
+        assertNull(session.getEnabledFilter(TenantFilterSupport.FILTER_NAME));
+    }
+
+    @Test
+    public void testRepositoryCallsReuseTheAppliedFilter() {
+        TenantContext.setCurrentTenantId("TENANT_A");
+        Session session = entityManager.unwrap(Session.class);
+
+        customerRepository.count();
+        // enableFilter creates a new Filter instance, so an unchanged instance means no re-enable
+        Filter applied = session.getEnabledFilter(TenantFilterSupport.FILTER_NAME);
+        assertNotNull(applied, "First repository call applies the filter");
+
+        int reapplied = 0;
+        for (int i = 0; i < REPOSITORY_CALLS; i++) {
+            customerRepository.count();
+            if (tenantFilterAspect.applyFilter("TENANT_A")) {
+                reapplied++;
+            }
+        }
+        assertEquals(0, reapplied, "Filter re-applied within the same session and tenant");
+        assertSame(applied, session.getEnabledFilter(TenantFilterSupport.FILTER_NAME));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.egov.config.multitenancy;
+
+import com.example.egov.support.Benchmark;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-repository-call overhead of tenant filter enablement (opt-in, see Benchmark).
+ *
+ * "before" = previous aspect body (unwrap Session + enableFilter + setParameter on every call)
+ * "after"  = TenantFilterAspect.applyFilter fast path (filter already applied for this session)
+ */
+@Tag(Benchmark.TAG)
+@SpringBootTest
+@Transactional
+public class TenantFilterBenchmarkTest {
+
+    private static final int WARMUP_RUNS = 20_000;
+    private static final int MEASURED_RUNS = 200_000;
+
+    @Autowired
+    private TenantFilterAspect tenantFilterAspect;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+        TenantFilterSupport.reset();
+    }
+
+    @Test
+    public void benchmarkPerCallOverhead() {
+        String tenantId = "TENANT_A";
+
+        double before = Benchmark.nanosPerRun(WARMUP_RUNS, MEASURED_RUNS,
+                () -> TenantFilterSupport.apply(entityManager.unwrap(Session.class), tenantId));
+        double after = Benchmark.nanosPerRun(WARMUP_RUNS, MEASURED_RUNS,
+                () -> tenantFilterAspect.applyFilter(tenantId));
+
+        Benchmark.report("Tenant filter per repository call", before, after, "ns");
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.egov.config.multitenancy;
+
+import com.example.egov.domain.auth.CustomUserDetails;
+import com.example.egov.support.Benchmark;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+/**
+ * Per-request cost of TenantInterceptor tenant resolution (opt-in, see Benchmark).
+ *
+ * "before" = previous reflective getMethod("getTenantId") + invoke on the principal
+ * "after"  = preHandle with the JwtAuthenticationFilter request attribute / TenantAware fast path
+ */
+@Tag(Benchmark.TAG)
+public class TenantInterceptorBenchmarkTest {
+
+    private static final int WARMUP_RUNS = 50_000;
+    private static final int MEASURED_RUNS = 500_000;
+
+    private TenantInterceptor interceptor;
+    private Authentication authentication;
+
+    @BeforeEach
+    public void setup() {
+        interceptor = new TenantInterceptor();
+        ReflectionTestUtils.setField(interceptor, "defaultTenant", "SYSTEM");
+
+        CustomUserDetails principal = CustomUserDetails.customBuilder()
+                .userId("user_a")
+                .password("")
+                .tenantId("TENANT_A")
+                .esntlId("USR-001")
+                .build();
+        authentication = new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+        TenantContext.clear();
+    }
+
+    @Test
+    public void benchmarkPerRequestCost() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(TenantInterceptor.TENANT_ID_ATTRIBUTE, "TENANT_A");
+        MockHttpServletRequest principalOnly = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Object handler = new Object();
+
+        double before = Benchmark.nanosPerRun(WARMUP_RUNS, MEASURED_RUNS,
+                () -> TenantContext.setCurrentTenantId(reflectiveTenantId(authentication)));
+        double afterAttribute = Benchmark.nanosPerRun(WARMUP_RUNS, MEASURED_RUNS,
+                () -> interceptor.preHandle(request, response, handler));
+        double afterPrincipal = Benchmark.nanosPerRun(WARMUP_RUNS, MEASURED_RUNS,
+                () -> interceptor.preHandle(principalOnly, response, handler));
+
+        Benchmark.report("TenantInterceptor per request (request attribute)", before, afterAttribute, "ns");
+        Benchmark.report("TenantInterceptor per request (TenantAware principal)", before, afterPrincipal, "ns");
+    }
+
+    /**
+     * Previous TenantInterceptor.extractTenantId implementation
+     */
+    private static String reflectiveTenantId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        try {
+            var getTenantIdMethod = principal.getClass().getMethod("getTenantId");
+            return (String) getTenantIdMethod.invoke(principal);
+        } catch (Exception e) {
+            return "SYSTEM";
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.egov.config.multitenancy;
+
+import com.example.egov.domain.auth.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TenantInterceptor tenant resolution: request attribute first, then the typed
+ * TenantAware principal, then the default tenant.
+ */
+public class TenantInterceptorTest {
+
+    private static final int REQUESTS = 100;
+
+    private TenantInterceptor interceptor;
+
+    @BeforeEach
+    public void setup() {
+        interceptor = new TenantInterceptor();
+        ReflectionTestUtils.setField(interceptor, "defaultTenant", "SYSTEM");
+
+        CustomUserDetails principal = CustomUserDetails.customBuilder()
+                .userId("user_a")
+                .password("")
+                .tenantId("TENANT_A")
+                .esntlId("USR-001")
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList()));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+        TenantContext.clear();
+    }
+
+    @Test
+    public void testResolvesTenantFromRequestAttributeAndPrincipal() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertEquals("TENANT_A", interceptor.resolveTenantId(request), "TenantAware principal");
+
+        request.setAttribute(TenantInterceptor.TENANT_ID_ATTRIBUTE, "TENANT_B");
+        assertEquals("TENANT_B", interceptor.resolveTenantId(request), "Attribute set by JwtAuthenticationFilter");
+
+        SecurityContextHolder.clearContext();
+        assertEquals("SYSTEM", interceptor.resolveTenantId(new MockHttpServletRequest()), "Default tenant");
+    }
+
+    @Test
+    public void testPrincipalConsultedOnlyWithoutRequestAttribute() {
+        CountingPrincipal principal = new CountingPrincipal("TENANT_C");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Object handler = new Object();
+
+        MockHttpServletRequest withAttribute = new MockHttpServletRequest();
+        withAttribute.setAttribute(TenantInterceptor.TENANT_ID_ATTRIBUTE, "TENANT_A");
+        for (int i = 0; i < REQUESTS; i++) {
+            interceptor.preHandle(withAttribute, response, handler);
+        }
+        assertEquals("TENANT_A", TenantContext.getCurrentTenantId());
+        assertEquals(0, principal.calls, "Principal read although JwtAuthenticationFilter resolved the tenant");
+
+        for (int i = 0; i < REQUESTS; i++) {
+            interceptor.preHandle(new MockHttpServletRequest(), response, handler);
+        }
+        assertEquals("TENANT_C", TenantContext.getCurrentTenantId());
+        assertEquals(REQUESTS, principal.calls, "One typed getTenantId call per request");
+    }
+
+    /**
+     * TenantAware principal that counts tenant lookups.
+     */
+    private static final class CountingPrincipal implements TenantAware {
+
+        private final String tenantId;
+        private int calls;
+
+        CountingPrincipal(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public String getTenantId() {
+            calls++;
+            return tenantId;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.egov.domain.common;
+
+import com.example.egov.domain.sales.QOpportunity;
+import com.querydsl.core.types.Predicate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FilterCompiler validation and binding over an opportunity field set, with small
+ * max-conditions / max-in-values limits.
+ */
+public class FilterCompilerTest {
+
+    private static final QOpportunity OPPORTUNITY = QOpportunity.opportunity;
+    private static final int MAX_CONDITIONS = 3;
+    private static final int MAX_IN_VALUES = 4;
+
+    private static final FilterFields<Object> FIELDS = FilterFields.builder("opportunity",
+                    KeysetSort.<Object>newestFirst(OPPORTUNITY.createdDate, row -> (LocalDateTime) null))
+            .field("stageId", OPPORTUNITY.stage.stageId, String.class)
+            .field("probability", OPPORTUNITY.probability, Integer.class)
+            .field("amount", OPPORTUNITY.amount, BigDecimal.class)
+            .field("expectedCloseDate", OPPORTUNITY.expectedCloseDate, LocalDate.class)
+            .build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private FilterCompiler filterCompiler;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        filterCompiler = new FilterCompiler(meterRegistry);
+        ReflectionTestUtils.setField(filterCompiler, "shapeCacheSize", 100L);
+        ReflectionTestUtils.setField(filterCompiler, "maxConditions", MAX_CONDITIONS);
+        ReflectionTestUtils.setField(filterCompiler, "maxInValues", MAX_IN_VALUES);
+        filterCompiler.init();
+    }
+
+    @Test
+    public void testNoFilter() {
+        assertNull(filterCompiler.compile(FIELDS, null));
+    }
+
+    @Test
+    public void testFieldOutsideAllowListRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> filterCompiler.compile(FIELDS, eq("description", "x")));
+        assertEquals("Unsupported filter field: description", e.getMessage());
+
+        // Also inside a group, next to allowed fields
+        assertThrows(IllegalArgumentException.class,
+                () -> filterCompiler.compile(FIELDS, and(eq("stageId", "STG001"), eq("lostReason", "x"))));
+    }
+
+    @Test
+    public void testGroupValidation() {
+        FilterSpec andAndOr = new FilterSpec(null, null, null, null, null, null,
+                List.of(eq("stageId", "STG001")), List.of(eq("stageId", "STG002")));
+        assertMessage("Filter group must be either 'and' or 'or'", andAndOr);
+
+        FilterSpec groupWithField = new FilterSpec("stageId", null, null, null, null, null,
+                List.of(eq("stageId", "STG001")), null);
+        assertMessage("Filter group cannot have a field", groupWithField);
+
+        assertMessage("Filter group must not be empty", and());
+        assertMessage("Filter group must not contain null", and(eq("stageId", "STG001"), null));
+    }
+
+    @Test
+    public void testConditionValidation() {
+        assertMessage("Filter condition requires a field", eq(" ", "STG001"));
+        assertMessage("Filter on stageId requires a value", eq("stageId", null));
+        assertMessage("Filter on stageId requires a value", condition("stageId", FilterOperator.PREFIX, null));
+        assertMessage("Filter on stageId requires values", in("stageId"));
+        assertMessage("Filter on expectedCloseDate requires from or to", range("expectedCloseDate", null, null));
+        assertMessage("Filter on stageId has a null value", in("stageId", "STG001", null));
+    }
+
+    @Test
+    public void testMaxConditions() {
+        // Counted across the whole tree, not per group
+        assertNotNull(filterCompiler.compile(FIELDS,
+                and(eq("stageId", "STG001"), or(eq("probability", 10), eq("probability", 20)))));
+        assertMessage("Filter has more than 3 conditions",
+                and(eq("stageId", "STG001"), or(eq("probability", 10), eq("probability", 20), eq("probability", 30))));
+    }
+
+    @Test
+    public void testMaxInValues() {
+        assertNotNull(filterCompiler.compile(FIELDS, in("stageId", "A", "B", "C", "D")));
+        assertMessage("Filter on stageId has more than 4 values", in("stageId", "A", "B", "C", "D", "E"));
+    }
+
+    @Test
+    public void testPrefixOnlyOnStringFields() {
+        assertNotNull(filterCompiler.compile(FIELDS, condition("stageId", FilterOperator.PREFIX, "STG")));
+        assertMessage("Prefix filter is not supported on probability",
+                condition("probability", FilterOperator.PREFIX, "1"));
+        assertMessage("Prefix filter is not supported on expectedCloseDate",
+                condition("expectedCloseDate", FilterOperator.PREFIX, "2025"));
+    }
+
+    @Test
+    public void testValueConversionErrors() {
+        assertMessage("Invalid value for filter field probability: ten", eq("probability", "ten"));
+        assertMessage("Invalid value for filter field amount: 1,000", eq("amount", "1,000"));
+        assertMessage("Invalid value for filter field expectedCloseDate: 2025-13-01",
+                range("expectedCloseDate", "2025-13-01", null));
+        assertMessage("Invalid value for filter field probability: x", in("probability", 10, "x"));
+    }
+
+    @Test
+    public void testValuesConverted() {
+        Predicate predicate = filterCompiler.compile(FIELDS, and(
+                eq("probability", " 50 "),
+                eq("amount", 1500),
+                range("expectedCloseDate", "2025-01-01", "2025-03-31")));
+
+        assertEquals("opportunity.probability = 50 && opportunity.amount = 1500"
+                + " && opportunity.expectedCloseDate >= 2025-01-01 && opportunity.expectedCloseDate <= 2025-03-31",
+                predicate.toString());
+    }
+
+    @Test
+    public void testSameShapeBindsOwnValues() {
+        FilterSpec first = and(in("stageId", "STG001", "STG002"), or(eq("probability", 10), range("amount", "100", null)));
+        FilterSpec second = and(in("stageId", "STG003", "STG004"), or(eq("probability", 90), range("amount", "500", null)));
+
+        Predicate firstPredicate = filterCompiler.compile(FIELDS, first);
+        Predicate secondPredicate = filterCompiler.compile(FIELDS, second);
+
+        assertEquals("opportunity.stage.stageId in [STG001, STG002]"
+                + " && (opportunity.probability = 10 || opportunity.amount >= 100)", firstPredicate.toString());
+        assertEquals("opportunity.stage.stageId in [STG003, STG004]"
+                + " && (opportunity.probability = 90 || opportunity.amount >= 500)", secondPredicate.toString());
+        assertEquals(1, shapeCacheCount("miss"), "One shape compiled");
+        assertEquals(1, shapeCacheCount("hit"), "Second request reused it");
+    }
+
+    @Test
+    public void testDifferentShapesCachedSeparately() {
+        filterCompiler.compile(FIELDS, eq("stageId", "STG001"));
+        filterCompiler.compile(FIELDS, in("stageId", "STG001"));
+        filterCompiler.compile(FIELDS, eq("probability", 10));
+
+        assertEquals(3, shapeCacheCount("miss"));
+        assertEquals(0, shapeCacheCount("hit"));
+    }
+
+    private double shapeCacheCount(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "filter.query-shapes")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private void assertMessage(String message, FilterSpec filter) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> filterCompiler.compile(FIELDS, filter));
+        assertEquals(message, e.getMessage());
+    }
+
+    private static FilterSpec eq(String field, Object value) {
+        return condition(field, null, value);
+    }
+
+    private static FilterSpec condition(String field, FilterOperator op, Object value) {
+        return new FilterSpec(field, op, value, null, null, null, null, null);
+    }
+
+    private static FilterSpec in(String field, Object... values) {
+        return new FilterSpec(field, FilterOperator.IN, null, new ArrayList<>(Arrays.asList(values)), null, null, null, null);
+    }
+
+    private static FilterSpec range(String field, Object from, Object to) {
+        return new FilterSpec(field, FilterOperator.RANGE, null, null, from, to, null, null);
+    }
+
+    private static FilterSpec and(FilterSpec... children) {
+        return new FilterSpec(null, null, null, null, null, null, Arrays.asList(children), null);
+    }
+
+    private static FilterSpec or(FilterSpec... children) {
+        return new FilterSpec(null, null, null, null, null, null, null, Arrays.asList(children));
+    }
+}
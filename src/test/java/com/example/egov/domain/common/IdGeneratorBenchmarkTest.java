@@ -0,0 +1,118 @@
+package com.example.egov.domain.common;
+
+import com.example.egov.support.Benchmark;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Multi-threaded ID generation throughput (opt-in, see Benchmark), against an embedded
+ * H2 ID_BLOCKS table.
+ *
+ * "before" = previous last-10-millis-digits + 4 UUID hex characters per ID
+ * "after"  = nextId from in-memory blocks (one ID_BLOCKS round trip per block)
+ */
+@Tag(Benchmark.TAG)
+public class IdGeneratorBenchmarkTest {
+
+    private static final int BLOCK_SIZE = 1000;
+    private static final int THREADS = 8;
+    private static final int WARMUP_IDS_PER_THREAD = 20_000;
+    private static final int MEASURED_IDS_PER_THREAD = 100_000;
+
+    private EmbeddedDatabase database;
+    private IdGenerator idGenerator;
+
+    @BeforeEach
+    public void setup() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        jdbcTemplate.getJdbcTemplate().execute("""
+                CREATE TABLE ID_BLOCKS (
+                    ID_PREFIX VARCHAR(3) NOT NULL PRIMARY KEY,
+                    NEXT_VALUE BIGINT NOT NULL,
+                    UPDATED_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )""");
+        jdbcTemplate.getJdbcTemplate().execute("INSERT INTO ID_BLOCKS (ID_PREFIX, NEXT_VALUE) VALUES ('CUS', 1)");
+
+        idGenerator = new IdGenerator(jdbcTemplate, new DataSourceTransactionManager(database));
+        ReflectionTestUtils.setField(idGenerator, "blockSize", BLOCK_SIZE);
+        idGenerator.init();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        database.shutdown();
+    }
+
+    @Test
+    public void benchmarkThroughput() throws InterruptedException {
+        Supplier<String> before = () -> {
+            String timestamp = String.valueOf(System.currentTimeMillis());
+            String suffix = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+            return "CUS" + timestamp.substring(timestamp.length() - 10) + suffix;
+        };
+        Supplier<String> after = () -> idGenerator.nextId("CUS");
+
+        runConcurrently(before, WARMUP_IDS_PER_THREAD, null);
+        runConcurrently(after, WARMUP_IDS_PER_THREAD, null);
+
+        Set<String> beforeIds = ConcurrentHashMap.newKeySet();
+        long beforeNanos = runConcurrently(before, MEASURED_IDS_PER_THREAD, beforeIds);
+        long afterNanos = runConcurrently(after, MEASURED_IDS_PER_THREAD, null);
+
+        int total = THREADS * MEASURED_IDS_PER_THREAD;
+        Benchmark.reportThroughput("ID generation on " + THREADS + " threads",
+                total / (beforeNanos / 1e9), total / (afterNanos / 1e9), "ids/s");
+        System.out.println(String.format(Locale.ROOT, "[benchmark] Timestamp+UUID IDs: %d duplicate(s) in %d",
+                total - beforeIds.size(), total));
+    }
+
+    /**
+     * @return elapsed nanoseconds from the common start to the last thread finishing
+     */
+    private static long runConcurrently(Supplier<String> generator, int idsPerThread, Set<String> sink)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        String id = generator.get();
+                        if (sink != null) {
+                            sink.add(id);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        done.await();
+        return System.nanoTime() - started;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.egov.domain.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdGenerator block reservation against an embedded H2 ID_BLOCKS table, single- and
+ * multi-threaded.
+ */
+public class IdGeneratorTest {
+
+    private static final int BLOCK_SIZE = 100;
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 10_000;
+
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private IdGenerator idGenerator;
+
+    @BeforeEach
+    public void setup() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        jdbcTemplate.getJdbcTemplate().execute("""
+                CREATE TABLE ID_BLOCKS (
+                    ID_PREFIX VARCHAR(3) NOT NULL PRIMARY KEY,
+                    NEXT_VALUE BIGINT NOT NULL,
+                    UPDATED_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )""");
+        jdbcTemplate.getJdbcTemplate().execute("INSERT INTO ID_BLOCKS (ID_PREFIX, NEXT_VALUE) VALUES ('CUS', 1), ('QTE', 1)");
+
+        idGenerator = new IdGenerator(jdbcTemplate, new DataSourceTransactionManager(database));
+        ReflectionTestUtils.setField(idGenerator, "blockSize", BLOCK_SIZE);
+        idGenerator.init();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        database.shutdown();
+    }
+
+    @Test
+    public void testFormatAndBlockReservation() {
+        assertEquals("CUS00000000000000001", idGenerator.nextId("CUS"));
+        assertEquals("CUS00000000000000002", idGenerator.nextId("CUS"));
+        assertEquals("QTE00000000000000001", idGenerator.nextId("QTE"), "Prefixes count independently");
+        assertEquals(IdGenerator.ID_LENGTH, idGenerator.nextId("CUS").length());
+
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            idGenerator.nextId("CUS");
+        }
+        // 104 CUS IDs -> two blocks reserved
+        assertEquals(2L * BLOCK_SIZE + 1, nextValue("CUS"));
+
+        assertThrows(IllegalStateException.class, () -> idGenerator.nextId("XXX"), "Prefix without ID_BLOCKS row");
+        assertThrows(IllegalArgumentException.class, () -> idGenerator.nextId("CUST"));
+    }
+
+    @Test
+    public void testNoDuplicatesOrGapsAcrossThreads() throws InterruptedException {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        runConcurrently(() -> idGenerator.nextId("CUS"), ids);
+
+        int total = THREADS * IDS_PER_THREAD;
+        assertEquals(total, ids.size(), "Duplicate IDs handed out");
+        long blocks = (nextValue("CUS") - 1) / BLOCK_SIZE;
+        assertEquals((total + BLOCK_SIZE - 1) / BLOCK_SIZE, blocks, "One reservation per exhausted block");
+
+        // Every reserved value is used exactly once: the IDs are 1..total
+        for (long value = 1; value <= total; value++) {
+            String id = "CUS" + String.format("%0" + (IdGenerator.ID_LENGTH - 3) + "d", value);
+            assertTrue(ids.contains(id), "Gap at " + id);
+        }
+    }
+
+    private void runConcurrently(Supplier<String> generator, Set<String> sink) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Map<Integer, Throwable> failures = new ConcurrentHashMap<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        sink.add(generator.get());
+                    }
+                } catch (Throwable e) {
+                    failures.put(thread, e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        start.countDown();
+        done.await();
+        assertTrue(failures.isEmpty(), () -> "Generator failed: " + failures);
+    }
+
+    private long nextValue(String prefix) {
+        return jdbcTemplate.queryForObject("SELECT NEXT_VALUE FROM ID_BLOCKS WHERE ID_PREFIX = :prefix",
+                Map.of("prefix", prefix), Long.class);
+    }
+}
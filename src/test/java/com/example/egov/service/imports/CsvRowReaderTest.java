@@ -0,0 +1,104 @@
+package com.example.egov.service.imports;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvRowReader parsing of RFC 4180 quoting, line endings and the UTF-8 BOM.
+ */
+public class CsvRowReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final CsvRowReader reader = new CsvRowReader();
+
+    @Test
+    public void testPlainRows() throws IOException {
+        List<Row> rows = read("customerName,customerCode\nAcme,AC-1\nGlobex,GX-1\n");
+
+        assertEquals(List.of(
+                new Row(1, List.of("customerName", "customerCode")),
+                new Row(2, List.of("Acme", "AC-1")),
+                new Row(3, List.of("Globex", "GX-1"))), rows);
+    }
+
+    @Test
+    public void testQuotedComma() throws IOException {
+        List<Row> rows = read("name,address\n\"Acme, Inc.\",\"Seoul, Gangnam-gu\"\n");
+
+        assertEquals(List.of("Acme, Inc.", "Seoul, Gangnam-gu"), rows.get(1).cells());
+    }
+
+    @Test
+    public void testEscapedQuotes() throws IOException {
+        List<Row> rows = read("name,note\n\"The \"\"Best\"\" Co\",\"\"\"\"\nA \"raw\" quote,x\n");
+
+        assertEquals(List.of("The \"Best\" Co", "\""), rows.get(1).cells());
+        // A quote inside an unquoted field is kept as is
+        assertEquals(List.of("A \"raw\" quote", "x"), rows.get(2).cells());
+    }
+
+    @Test
+    public void testEmbeddedNewlines() throws IOException {
+        List<Row> rows = read("name,address\n\"Acme\",\"Line 1\nLine 2\r\nLine 3\"\nGlobex,Busan\n");
+
+        assertEquals(List.of("Acme", "Line 1\nLine 2\r\nLine 3"), rows.get(1).cells());
+        assertEquals(new Row(3, List.of("Globex", "Busan")), rows.get(2), "Row numbers count records, not lines");
+    }
+
+    @Test
+    public void testCrlfAndCrLineEndings() throws IOException {
+        List<Row> rows = read("name,code\r\nAcme,AC-1\r\nGlobex,GX-1\rInitech,IN-1");
+
+        assertEquals(List.of(
+                new Row(1, List.of("name", "code")),
+                new Row(2, List.of("Acme", "AC-1")),
+                new Row(3, List.of("Globex", "GX-1")),
+                new Row(4, List.of("Initech", "IN-1"))), rows);
+    }
+
+    @Test
+    public void testBomSkipped() throws IOException {
+        List<Row> rows = read("\uFEFFcustomerName,customerCode\n한글 상사,KR-1\n");
+
+        assertEquals(List.of("customerName", "customerCode"), rows.get(0).cells());
+        assertEquals(List.of("한글 상사", "KR-1"), rows.get(1).cells());
+    }
+
+    @Test
+    public void testEmptyCellsAndBlankLines() throws IOException {
+        List<Row> rows = read("a,b,c\n\n,,\n1,,3\n\r\n");
+
+        assertEquals(List.of(
+                new Row(1, List.of("a", "b", "c")),
+                new Row(3, List.of("", "", "")),
+                new Row(4, List.of("1", "", "3"))), rows);
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> read("name,address\nAcme,\"Seoul\nGlobex,Busan\n"));
+        assertEquals("Unterminated quoted field in row 2", e.getMessage());
+    }
+
+    private List<Row> read(String content) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("import.csv"), content, StandardCharsets.UTF_8);
+        List<Row> rows = new ArrayList<>();
+        reader.read(file, (rowNumber, cells) -> rows.add(new Row(rowNumber, List.copyOf(cells))));
+        return rows;
+    }
+
+    private record Row(int rowNumber, List<String> cells) {
+    }
+}
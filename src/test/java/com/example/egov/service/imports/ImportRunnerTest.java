@@ -0,0 +1,199 @@
+package com.example.egov.service.imports;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.common.IdGenerator;
+import com.example.egov.service.common.AsyncJob;
+import com.example.egov.service.search.SearchIndexer;
+import com.example.egov.web.common.ImportFormat;
+import com.example.egov.web.imports.dto.ImportRowError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ImportRunner importing customer CSV files into the SYSTEM tenant, in chunks of three rows.
+ *
+ * Not transactional: each chunk commits on its own; the imported rows are removed afterwards.
+ * TC-001 is the code of the seeded customer CUS001.
+ */
+@SpringBootTest
+public class ImportRunnerTest {
+
+    private static final String TENANT_ID = TenantContext.SYSTEM_TENANT_ID;
+    private static final String HEADER = "Customer Name,customer_code,employeeCount\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SearchIndexer searchIndexer;
+
+    @Autowired
+    private CustomerImportTarget customerImportTarget;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM CUSTOMERS WHERE CUSTOMER_CODE LIKE 'IMPTEST-%'", Map.of());
+    }
+
+    @Test
+    public void testImport() throws IOException {
+        Path file = csv(HEADER
+                + "Acme,IMPTEST-A,250\n"
+                + "Globex,IMPTEST-B,\n");
+
+        ImportJob job = run(customerImportTarget, file);
+
+        assertEquals(AsyncJob.State.COMPLETED, job.getState());
+        assertEquals(2, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(0, job.getRejectedRows());
+        assertEquals(List.of("IMPTEST-A", "IMPTEST-B"), importedCodes());
+        assertFalse(Files.exists(file), "Temp file deleted");
+    }
+
+    @Test
+    public void testMissingRequiredHeader() throws IOException {
+        Path file = csv("customerName,email\nAcme,contact@acme.example.com\n");
+
+        ImportJob job = run(customerImportTarget, file);
+
+        assertEquals(AsyncJob.State.FAILED, job.getState());
+        assertEquals("Missing required column(s): customerCode", job.getError());
+        assertEquals(0, job.getProcessedRows());
+        assertFalse(Files.exists(file), "Temp file deleted after a failure too");
+    }
+
+    @Test
+    public void testInFileAndStoredDuplicates() throws IOException {
+        Path file = csv(HEADER
+                + "Acme,IMPTEST-A,\n"          // row 2
+                + "Acme again,IMPTEST-A,\n"    // row 3: same chunk
+                + "TechCorp,TC-001,\n"         // row 4: stored
+                + "Globex,IMPTEST-B,\n"        // row 5: next chunk
+                + "Acme third,IMPTEST-A,\n"    // row 6: imported by the first chunk
+                + "Initech,IMPTEST-C,many\n"); // row 7: conversion error
+
+        ImportJob job = run(customerImportTarget, file);
+
+        assertEquals(AsyncJob.State.COMPLETED, job.getState());
+        assertEquals(6, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(4, job.getRejectedRows());
+        assertEquals(List.of(
+                new ImportRowError(3, "Duplicate customerCode earlier in the file: IMPTEST-A"),
+                new ImportRowError(4, "Customer code already exists: TC-001"),
+                new ImportRowError(7, "employeeCount is not a whole number: many"),
+                new ImportRowError(6, "Customer code already exists: IMPTEST-A")), job.getErrors());
+        assertEquals(List.of("IMPTEST-A", "IMPTEST-B"), importedCodes());
+    }
+
+    @Test
+    public void testChunkConflictRetried() throws IOException {
+        // A concurrent import commits IMPTEST-B after this chunk checked for stored codes
+        AtomicInteger resolves = new AtomicInteger();
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        CustomerImportTarget target = new CustomerImportTarget(jdbcTemplate, idGenerator) {
+            @Override
+            List<ImportRow> resolve(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected) {
+                List<ImportRow> accepted = super.resolve(tenantId, rows, rejected);
+                if (resolves.incrementAndGet() == 1) {
+                    concurrent.executeWithoutResult(status -> jdbcTemplate.update(
+                            "INSERT INTO CUSTOMERS (CUSTOMER_ID, CUSTOMER_NAME, CUSTOMER_CODE, TENANT_ID)"
+                                    + " VALUES ('CUSIMPTEST', 'Globex', 'IMPTEST-B', :tenantId)",
+                            Map.of("tenantId", tenantId)));
+                }
+                return accepted;
+            }
+        };
+        Path file = csv(HEADER
+                + "Acme,IMPTEST-A,\n"
+                + "Globex,IMPTEST-B,\n");
+
+        ImportJob job = run(target, file);
+
+        assertEquals(2, resolves.get(), "Chunk resolved again after the conflict");
+        assertEquals(AsyncJob.State.COMPLETED, job.getState());
+        assertEquals(1, job.getImportedRows());
+        assertEquals(List.of(new ImportRowError(3, "Customer code already exists: IMPTEST-B")), job.getErrors());
+        assertEquals(List.of("IMPTEST-A", "IMPTEST-B"), importedCodes());
+    }
+
+    @Test
+    public void testChunkConstraintViolationRejectsChunk() throws IOException {
+        // Skips the stored-code check, so TC-001 fails the insert on every attempt
+        AtomicInteger resolves = new AtomicInteger();
+        CustomerImportTarget target = new CustomerImportTarget(jdbcTemplate, idGenerator) {
+            @Override
+            List<ImportRow> resolve(String tenantId, List<ImportRow> rows, List<ImportRowError> rejected) {
+                resolves.incrementAndGet();
+                return rows;
+            }
+        };
+        Path file = csv(HEADER
+                + "Acme,IMPTEST-A,\n"   // row 2
+                + "TechCorp,TC-001,\n"  // row 3
+                + "Globex,IMPTEST-B,\n" // row 4
+                + "Initech,IMPTEST-C,\n");
+
+        ImportJob job = run(target, file);
+
+        assertEquals(3, resolves.get(), "Failing chunk tried twice, next chunk once");
+        assertEquals(AsyncJob.State.COMPLETED, job.getState(), "Import goes on after a rejected chunk");
+        assertEquals(4, job.getProcessedRows());
+        assertEquals(1, job.getImportedRows());
+        assertEquals(3, job.getRejectedRows());
+        assertEquals(List.of(2, 3, 4), job.getErrors().stream().map(ImportRowError::rowNumber).toList());
+        job.getErrors().forEach(error ->
+                assertTrue(error.message().startsWith("Not imported, chunk failed: "), error.message()));
+        assertEquals(List.of("IMPTEST-C"), importedCodes(), "Failed chunk rolled back as a whole");
+    }
+
+    private ImportJob run(ImportTarget target, Path file) {
+        ImportRunner importRunner = new ImportRunner(transactionManager, searchIndexer);
+        ReflectionTestUtils.setField(importRunner, "chunkSize", 3);
+        importRunner.init();
+
+        ImportJob job = new ImportJob(TENANT_ID, target.type(), file.getFileName().toString(), ImportFormat.CSV, 100);
+        importRunner.run(job, target, new CsvRowReader(), file);
+        return job;
+    }
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("customers.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    private List<String> importedCodes() {
+        return jdbcTemplate.queryForList(
+                "SELECT CUSTOMER_CODE FROM CUSTOMERS WHERE TENANT_ID = :tenantId AND CUSTOMER_CODE LIKE 'IMPTEST-%'"
+                        + " ORDER BY CUSTOMER_CODE",
+                Map.of("tenantId", TENANT_ID), String.class);
+    }
+}
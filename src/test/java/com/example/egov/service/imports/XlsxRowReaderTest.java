@@ -0,0 +1,98 @@
+package com.example.egov.service.imports;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * XlsxRowReader on workbooks written with POI: sparse cells keep their column positions
+ * and row numbers match the spreadsheet.
+ */
+public class XlsxRowReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final XlsxRowReader reader = new XlsxRowReader();
+
+    @Test
+    public void testSparseCells() throws IOException {
+        Path file = write(sheet -> {
+            cells(sheet.createRow(0), "customerName", "customerCode", "industry", "phone");
+            // B and C missing: no cell elements in the sheet XML
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("Acme");
+            row.createCell(3).setCellValue("02-123-4567");
+            // Only D
+            sheet.createRow(2).createCell(3).setCellValue("051-000-0000");
+            // Row 4 missing entirely, row 5 has only empty strings
+            cells(sheet.createRow(4), "", " ");
+            cells(sheet.createRow(5), "Globex", "GX-1");
+        });
+
+        List<RowRead> rows = read(file);
+
+        assertEquals(List.of(
+                new RowRead(1, List.of("customerName", "customerCode", "industry", "phone")),
+                new RowRead(2, List.of("Acme", "", "", "02-123-4567")),
+                new RowRead(3, List.of("", "", "", "051-000-0000")),
+                new RowRead(6, List.of("Globex", "GX-1"))), rows);
+    }
+
+    @Test
+    public void testFormattedValues() throws IOException {
+        Path file = write(sheet -> {
+            cells(sheet.createRow(0), "annualRevenue", "employeeCount", "useAt");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(1500000.5);
+            row.createCell(1).setCellValue(250);
+            row.createCell(2).setCellValue("Y");
+        });
+
+        assertEquals(List.of("1500000.5", "250", "Y"), read(file).get(1).cells());
+    }
+
+    @Test
+    public void testNotAWorkbook() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("import.xlsx"), "name,code\n");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> read(file));
+        assertTrue(e.getMessage().startsWith("Not a readable XLSX workbook"), e.getMessage());
+    }
+
+    private Path write(Consumer<Sheet> content) throws IOException {
+        Path file = tempDir.resolve("import.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            content.accept(workbook.createSheet("Customers"));
+            workbook.write(out);
+        }
+        return file;
+    }
+
+    private static void cells(Row row, String... values) {
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
+
+    private List<RowRead> read(Path file) throws IOException {
+        List<RowRead> rows = new ArrayList<>();
+        reader.read(file, (rowNumber, cells) -> rows.add(new RowRead(rowNumber, List.copyOf(cells))));
+        return rows;
+    }
+
+    private record RowRead(int rowNumber, List<String> cells) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.config.multitenancy.TenantFilterSupport;
+import com.example.egov.domain.common.CursorPage;
+import com.example.egov.domain.common.CursorRequest;
+import com.example.egov.web.sales.dto.ActivityResponse;
+import com.example.egov.web.sales.dto.ContactResponse;
+import com.example.egov.web.sales.dto.CustomerResponse;
+import com.example.egov.web.sales.dto.LeadResponse;
+import com.example.egov.web.sales.dto.OpportunityResponse;
+import com.example.egov.web.sales.dto.ProductResponse;
+import com.example.egov.web.sales.dto.QuoteItemResponse;
+import com.example.egov.web.sales.dto.QuoteResponse;
+import com.example.egov.web.sales.dto.SalesTargetResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statements issued per list endpoint, as a regular tenant with the tenant filter on.
+ *
+ * Each page is one projection query; opportunities add one stage lookup and quotes
+ * add one item query plus one product lookup, regardless of page size. Two tenants
+ * get the same rows, which reference the shared SYSTEM stages and products; each
+ * must see only its own.
+ */
+@SpringBootTest
+@Transactional
+public class ListProjectionStatementCountTest {
+
+    private static final CursorRequest FIRST_PAGE = new CursorRequest(null, null);
+    private static final String TENANT_A = "STMT_A";
+    private static final String TENANT_B = "STMT_B";
+    private static final int ROWS = 3;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private LeadService leadService;
+
+    @Autowired
+    private OpportunityService opportunityService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private SalesTargetService salesTargetService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        seedTenant(TENANT_A);
+        seedTenant(TENANT_B);
+        useTenant(TENANT_A);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+        TenantFilterSupport.reset();
+    }
+
+    @Test
+    public void testSingleStatementListEndpoints() {
+        assertStatements("customers", 1, () -> customerService.getAllCustomers(FIRST_PAGE));
+        assertStatements("contacts", 1, () -> contactService.getAllContacts(FIRST_PAGE));
+        assertStatements("leads", 1, () -> leadService.getAllLeads(FIRST_PAGE));
+        assertStatements("products", 1, () -> productService.getAllProducts(FIRST_PAGE));
+        assertStatements("activities", 1, () -> activityService.getAllActivities(FIRST_PAGE));
+        assertStatements("sales targets", 1, () -> salesTargetService.getAllTargets(FIRST_PAGE));
+    }
+
+    @Test
+    public void testListsReturnOnlyTheTenantsRows() {
+        for (String tenantId : List.of(TENANT_A, TENANT_B)) {
+            useTenant(tenantId);
+            assertRows(tenantId, "CUS", customerService.getAllCustomers(FIRST_PAGE), CustomerResponse::getCustomerId);
+            assertRows(tenantId, "CON", contactService.getAllContacts(FIRST_PAGE), ContactResponse::getContactId);
+            assertRows(tenantId, "LED", leadService.getAllLeads(FIRST_PAGE), LeadResponse::getLeadId);
+            assertRows(tenantId, "PRD", productService.getAllProducts(FIRST_PAGE), ProductResponse::getProductId);
+            assertRows(tenantId, "ACT", activityService.getAllActivities(FIRST_PAGE), ActivityResponse::getActivityId);
+            assertRows(tenantId, "TGT", salesTargetService.getAllTargets(FIRST_PAGE), SalesTargetResponse::getTargetId);
+            assertRows(tenantId, "OPP", opportunityService.getAllOpportunities(FIRST_PAGE), OpportunityResponse::getOpportunityId);
+            assertRows(tenantId, "QUO", quoteService.getAllQuotes(FIRST_PAGE), QuoteResponse::getQuoteId);
+        }
+    }
+
+    @Test
+    public void testOpportunityStagesResolvedPerPage() {
+        CursorPage<OpportunityResponse> page = assertStatements("opportunities", 2,
+                () -> opportunityService.getAllOpportunities(FIRST_PAGE));
+
+        assertEquals(ROWS, page.items().size());
+        for (OpportunityResponse opportunity : page.items()) {
+            assertNotNull(opportunity.getStageName(), "Stage name missing for " + opportunity.getOpportunityId());
+        }
+    }
+
+    @Test
+    public void testQuoteItemsResolvedPerPage() {
+        CursorPage<QuoteResponse> page = assertStatements("quotes", 3,
+                () -> quoteService.getAllQuotes(FIRST_PAGE));
+
+        assertEquals(ROWS, page.items().size());
+        for (QuoteResponse quote : page.items()) {
+            assertEquals(2, quote.getItems().size(), "Items of " + quote.getQuoteId());
+            for (QuoteItemResponse item : quote.getItems()) {
+                assertNotNull(item.getProductName(), "Product name missing on " + quote.getQuoteId());
+            }
+        }
+    }
+
+    private <T> CursorPage<T> assertStatements(String endpoint, long maxStatements, Supplier<CursorPage<T>> call) {
+        entityManager.clear();
+        statistics.clear();
+
+        CursorPage<T> page = call.get();
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= maxStatements,
+                "List " + endpoint + " issued " + statements + " statements, expected at most " + maxStatements);
+        return page;
+    }
+
+    private static <T> void assertRows(String tenantId, String kind, CursorPage<T> page, Function<T, String> id) {
+        assertEquals(seededIds(tenantId, kind), page.items().stream().map(id).collect(Collectors.toSet()),
+                kind + " rows visible to " + tenantId);
+    }
+
+    private static Set<String> seededIds(String tenantId, String kind) {
+        return IntStream.rangeClosed(1, ROWS).mapToObj(i -> seededId(tenantId, kind, i)).collect(Collectors.toSet());
+    }
+
+    private static String seededId(String tenantId, String kind, int i) {
+        return tenantId + "_" + kind + i;
+    }
+
+    /**
+     * Switch tenant inside the test transaction; outside tests the filter is applied when
+     * the request's transaction begins.
+     */
+    private void useTenant(String tenantId) {
+        TenantContext.setCurrentTenantId(tenantId);
+        TenantFilterSupport.reset();
+        TenantFilterSupport.apply(entityManager.unwrap(Session.class), tenantId);
+    }
+
+    /**
+     * ROWS of each listed entity; opportunities use the SYSTEM stage STG001 and every quote
+     * has one line of an own product and one of the SYSTEM product PRD001.
+     */
+    private void seedTenant(String tenantId) {
+        jdbcTemplate.update("INSERT INTO TENANTS (TENANT_ID, TENANT_NAME) VALUES (?, ?)", tenantId, tenantId);
+        for (int i = 1; i <= ROWS; i++) {
+            String customerId = seededId(tenantId, "CUS", i);
+            String productId = seededId(tenantId, "PRD", i);
+            String quoteId = seededId(tenantId, "QUO", i);
+            jdbcTemplate.update("INSERT INTO CUSTOMERS (CUSTOMER_ID, CUSTOMER_NAME, CUSTOMER_CODE, TENANT_ID)"
+                    + " VALUES (?, ?, ?, ?)", customerId, "Customer " + i, "C-" + i, tenantId);
+            jdbcTemplate.update("INSERT INTO CONTACTS (CONTACT_ID, CUSTOMER_ID, CONTACT_NAME, TENANT_ID)"
+                    + " VALUES (?, ?, ?, ?)", seededId(tenantId, "CON", i), customerId, "Contact " + i, tenantId);
+            jdbcTemplate.update("INSERT INTO LEADS (LEAD_ID, LEAD_NAME, TENANT_ID) VALUES (?, ?, ?)",
+                    seededId(tenantId, "LED", i), "Lead " + i, tenantId);
+            jdbcTemplate.update("INSERT INTO PRODUCTS (PRODUCT_ID, PRODUCT_CODE, PRODUCT_NAME, UNIT_PRICE, TENANT_ID)"
+                    + " VALUES (?, ?, ?, 1000, ?)", productId, "P-" + i, "Product " + i, tenantId);
+            jdbcTemplate.update("INSERT INTO ACTIVITIES (ACTIVITY_ID, ACTIVITY_TYPE, ACTIVITY_SUBJECT, TENANT_ID)"
+                    + " VALUES (?, 'CALL', ?, ?)", seededId(tenantId, "ACT", i), "Activity " + i, tenantId);
+            jdbcTemplate.update("INSERT INTO SALES_TARGETS (TARGET_ID, TARGET_YEAR, TARGET_MONTH, TARGET_AMOUNT, TENANT_ID)"
+                    + " VALUES (?, 2026, ?, 1000000, ?)", seededId(tenantId, "TGT", i), i, tenantId);
+            jdbcTemplate.update("INSERT INTO OPPORTUNITIES (OPPORTUNITY_ID, OPPORTUNITY_NAME, CUSTOMER_ID, STAGE_ID, TENANT_ID)"
+                    + " VALUES (?, ?, ?, 'STG001', ?)", seededId(tenantId, "OPP", i), "Opportunity " + i, customerId, tenantId);
+            jdbcTemplate.update("INSERT INTO QUOTES (QUOTE_ID, QUOTE_NUMBER, CUSTOMER_ID, QUOTE_DATE, TENANT_ID)"
+                    + " VALUES (?, ?, ?, CURRENT_DATE, ?)", quoteId, "Q-" + i, customerId, tenantId);
+            for (String lineProductId : List.of(productId, "PRD001")) {
+                jdbcTemplate.update("INSERT INTO QUOTE_ITEMS (QUOTE_ID, PRODUCT_ID, UNIT_PRICE, TOTAL_AMOUNT, TENANT_ID)"
+                        + " VALUES (?, ?, 1000, 1000, ?)", quoteId, lineProductId, tenantId);
+            }
+        }
+    }
+}
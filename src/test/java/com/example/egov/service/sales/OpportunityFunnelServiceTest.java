@@ -0,0 +1,113 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.web.sales.dto.PipelineFunnelStage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Funnel stages of a tenant that has only seen some of the shared SYSTEM stages (STG001-STG005),
+ * plus a lost and an inactive stage of its own at order 2.
+ */
+@SpringBootTest
+@Transactional
+public class OpportunityFunnelServiceTest {
+
+    private static final String TENANT_ID = "FNL_TEST";
+
+    @Autowired
+    private OpportunityFunnelService opportunityFunnelService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO TENANTS (TENANT_ID, TENANT_NAME, USE_AT) VALUES (?, 'Funnel test', 'Y')", TENANT_ID);
+        insertStage("STGFNLLOST", "Lost", 2, "Y", "Y");
+        insertStage("STGFNLOFF", "Retired", 2, "N", "N");
+
+        // Nothing has entered STG002 or STG004 yet
+        insertStats("STG001", 4, 3, 2);
+        insertStats("STG003", 2, 1, 1);
+        insertStats("STGFNLLOST", 1, 0, 0);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    public void testStagesWithoutStatsListed() {
+        TenantContext.setCurrentTenantId(TENANT_ID);
+
+        List<PipelineFunnelStage> funnel = opportunityFunnelService.getFunnel();
+
+        assertEquals(List.of("STG001", "STG002", "STGFNLLOST", "STG003", "STG004", "STG005"),
+                funnel.stream().map(PipelineFunnelStage::getStageId).toList(),
+                "Every active stage of the tenant and SYSTEM, by stageOrder");
+        Map<String, PipelineFunnelStage> stages = byId(funnel);
+
+        // Advances out of STG001 are counted towards STG002, even though nothing is there yet
+        assertEquals("STG002", stages.get("STG001").getNextStageId());
+        assertEquals(4L, stages.get("STG001").getEnteredCount());
+        assertEquals(2L, stages.get("STG001").getAdvancedCount());
+        assertEquals(new BigDecimal("50.00"), stages.get("STG001").getConversionRate());
+
+        PipelineFunnelStage empty = stages.get("STG002");
+        assertEquals(0L, empty.getEnteredCount());
+        assertEquals(0L, empty.getExitedCount());
+        assertEquals(0L, empty.getAdvancedCount());
+        assertEquals("STG003", empty.getNextStageId(), "Lost stage skipped");
+        assertNull(empty.getConversionRate());
+        assertNull(empty.getMedianDaysInStage());
+
+        assertEquals(2L, stages.get("STG003").getEnteredCount(), "Only this tenant's counts");
+        assertEquals("STG004", stages.get("STG003").getNextStageId());
+        assertEquals("STG005", stages.get("STG004").getNextStageId());
+        assertNull(stages.get("STGFNLLOST").getNextStageId());
+        assertNull(stages.get("STG005").getNextStageId());
+    }
+
+    @Test
+    public void testSystemSeesSharedStagesOverAllTenants() {
+        TenantContext.setCurrentTenantId(TenantContext.SYSTEM_TENANT_ID);
+        long systemEntered = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(ENTERED_COUNT), 0)"
+                + " FROM OPPORTUNITY_STAGE_STATS WHERE STAGE_ID = 'STG001' AND TENANT_ID <> ?", Long.class, TENANT_ID);
+
+        Map<String, PipelineFunnelStage> stages = byId(opportunityFunnelService.getFunnel());
+
+        assertEquals(List.of("STG001", "STG002", "STG003", "STG004", "STG005"),
+                stages.values().stream().map(PipelineFunnelStage::getStageId).sorted().toList(),
+                "Tenant stages are not part of the shared funnel");
+        assertEquals(systemEntered + 4, stages.get("STG001").getEnteredCount());
+    }
+
+    private void insertStage(String stageId, String name, int order, String lost, String useAt) {
+        jdbcTemplate.update("INSERT INTO PIPELINE_STAGES (STAGE_ID, STAGE_NAME, STAGE_CODE, STAGE_ORDER, IS_WON, IS_LOST,"
+                + " TENANT_ID, USE_AT) VALUES (?, ?, ?, ?, 'N', ?, ?, ?)", stageId, name, stageId, order, lost, TENANT_ID, useAt);
+    }
+
+    private void insertStats(String stageId, long entered, long exited, long advanced) {
+        jdbcTemplate.update("INSERT INTO OPPORTUNITY_STAGE_STATS (TENANT_ID, STAGE_ID, ENTERED_COUNT, EXITED_COUNT,"
+                + " ADVANCED_COUNT) VALUES (?, ?, ?, ?, ?)", TENANT_ID, stageId, entered, exited, advanced);
+    }
+
+    private static Map<String, PipelineFunnelStage> byId(List<PipelineFunnelStage> funnel) {
+        return funnel.stream().collect(Collectors.toMap(PipelineFunnelStage::getStageId, Function.identity()));
+    }
+}
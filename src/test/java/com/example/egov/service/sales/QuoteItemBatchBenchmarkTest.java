@@ -0,0 +1,163 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.sales.CustomerRepository;
+import com.example.egov.domain.sales.Product;
+import com.example.egov.domain.sales.ProductRepository;
+import com.example.egov.domain.sales.Quote;
+import com.example.egov.domain.sales.QuoteItem;
+import com.example.egov.support.Benchmark;
+import com.example.egov.web.sales.dto.QuoteCreateRequest;
+import com.example.egov.web.sales.dto.QuoteItemRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Creating large quotes against the seeded products and customer (opt-in, see Benchmark).
+ *
+ * "before" = previous per-line productRepository.findById + cascaded IDENTITY inserts
+ * "after"  = QuoteService.createQuote (one product lookup, one JDBC batch)
+ *
+ * Everything runs in one rolled-back transaction; each quote is flushed so its inserts
+ * are part of the measurement.
+ */
+@Tag(Benchmark.TAG)
+@SpringBootTest
+@Transactional
+public class QuoteItemBatchBenchmarkTest {
+
+    private static final List<String> PRODUCT_IDS = List.of("PRD001", "PRD002", "PRD003");
+    private static final String CUSTOMER_ID = "CUS001";
+    private static final List<Integer> LINE_COUNTS = List.of(200, 1000);
+    private static final int WARMUP_QUOTES = 3;
+    private static final int MEASURED_QUOTES = 10;
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private int quoteNumber;
+
+    @BeforeEach
+    public void setup() {
+        // Seed data belongs to SYSTEM
+        TenantContext.setCurrentTenantId(TenantContext.SYSTEM_TENANT_ID);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    public void benchmarkCreateLargeQuote() {
+        for (int lines : LINE_COUNTS) {
+            double before = millisPerQuote(lines, this::createBefore);
+            double after = millisPerQuote(lines, request -> {
+                quoteService.createQuote(request);
+                entityManager.flush();
+            });
+            Benchmark.report("Create quote with " + lines + " lines", before, after, "ms");
+        }
+    }
+
+    private double millisPerQuote(int lines, Consumer<QuoteCreateRequest> create) {
+        for (int i = 0; i < WARMUP_QUOTES; i++) {
+            create.accept(createRequest(lines));
+            entityManager.clear();
+        }
+        long nanos = 0;
+        for (int i = 0; i < MEASURED_QUOTES; i++) {
+            QuoteCreateRequest request = createRequest(lines);
+            long started = System.nanoTime();
+            create.accept(request);
+            nanos += System.nanoTime() - started;
+            entityManager.clear();
+        }
+        return nanos / 1e6 / MEASURED_QUOTES;
+    }
+
+    /**
+     * The previous item building, kept here as the baseline.
+     */
+    private void createBefore(QuoteCreateRequest request) {
+        Quote quote = new Quote();
+        quote.setQuoteId("QTB" + String.format("%017d", System.nanoTime() % 100_000_000_000_000_000L));
+        quote.setQuoteNumber(request.getQuoteNumber());
+        quote.setCustomer(customerRepository.findById(CUSTOMER_ID).orElseThrow());
+        quote.setQuoteStatus("DRAFT");
+        quote.setQuoteDate(LocalDate.now());
+        quote.setCurrency("KRW");
+        quote.setUseAt("Y");
+        quote.setTenantId(TenantContext.SYSTEM_TENANT_ID);
+        entityManager.persist(quote);
+
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal taxAmount = BigDecimal.ZERO;
+        for (int i = 0; i < request.getItems().size(); i++) {
+            QuoteItemRequest itemRequest = request.getItems().get(i);
+            Product product = productRepository.findById(itemRequest.getProductId()).orElseThrow();
+            QuoteItem item = new QuoteItem();
+            item.setQuote(quote);
+            item.setProduct(product);
+            item.setItemOrder(i);
+            item.setQuantity(itemRequest.getQuantity());
+            item.setUnitPrice(product.getUnitPrice());
+            item.setDiscountRate(itemRequest.getDiscountRate());
+            item.setTaxRate(product.getTaxRate());
+            item.setTenantId(quote.getTenantId());
+            BigDecimal lineSubtotal = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+            BigDecimal discount = lineSubtotal.multiply(item.getDiscountRate()).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            item.setDiscountAmount(discount);
+            BigDecimal afterDiscount = lineSubtotal.subtract(discount);
+            BigDecimal tax = afterDiscount.multiply(item.getTaxRate()).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            item.setTaxAmount(tax);
+            item.setTotalAmount(afterDiscount.add(tax));
+            quote.getQuoteItems().add(item);
+            subtotal = subtotal.add(afterDiscount);
+            taxAmount = taxAmount.add(tax);
+        }
+        quote.setSubtotal(subtotal);
+        quote.setTaxAmount(taxAmount);
+        quote.setTotalAmount(subtotal.add(taxAmount));
+        entityManager.flush();
+    }
+
+    private QuoteCreateRequest createRequest(int lines) {
+        QuoteCreateRequest request = new QuoteCreateRequest();
+        request.setQuoteNumber("BENCH-" + System.nanoTime() + "-" + quoteNumber++);
+        request.setCustomerId(CUSTOMER_ID);
+        List<QuoteItemRequest> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            QuoteItemRequest item = new QuoteItemRequest();
+            item.setProductId(PRODUCT_IDS.get(i % PRODUCT_IDS.size()));
+            item.setQuantity(1 + i % 7);
+            item.setDiscountRate(i % 4 == 0 ? new BigDecimal("5.00") : BigDecimal.ZERO);
+            items.add(item);
+        }
+        request.setItems(items);
+        return request;
+    }
+}
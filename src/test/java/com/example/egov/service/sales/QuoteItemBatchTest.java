@@ -0,0 +1,124 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.sales.Quote;
+import com.example.egov.domain.sales.QuoteItem;
+import com.example.egov.web.sales.dto.QuoteCreateRequest;
+import com.example.egov.web.sales.dto.QuoteItemRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creating large quotes against the seeded products and customer: one product lookup
+ * and one JDBC batch for the items, whatever the line count.
+ *
+ * Hibernate statistics do not see the JDBC batch, so the statement count covers the
+ * product lookup, quote insert and refresh only.
+ */
+@SpringBootTest
+@Transactional
+public class QuoteItemBatchTest {
+
+    private static final List<String> PRODUCT_IDS = List.of("PRD001", "PRD002", "PRD003");
+    private static final String CUSTOMER_ID = "CUS001";
+    private static final int SMALL_QUOTE_LINES = 20;
+    private static final int LARGE_QUOTE_LINES = 200;
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private int quoteNumber;
+
+    @BeforeEach
+    public void setup() {
+        // Seed data belongs to SYSTEM
+        TenantContext.setCurrentTenantId(TenantContext.SYSTEM_TENANT_ID);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    public void testStatementCountIndependentOfLineCount() {
+        // Warm the reference cache so both measured runs see the same cache state
+        statementsToCreate(SMALL_QUOTE_LINES);
+
+        long small = statementsToCreate(SMALL_QUOTE_LINES);
+        long large = statementsToCreate(LARGE_QUOTE_LINES);
+
+        assertEquals(small, large, "Statements for " + LARGE_QUOTE_LINES + " lines vs " + SMALL_QUOTE_LINES);
+    }
+
+    @Test
+    public void testLargeQuoteItemsAndTotals() {
+        Quote quote = quoteService.createQuote(createRequest(LARGE_QUOTE_LINES));
+
+        List<QuoteItem> items = quote.getQuoteItems();
+        assertEquals(LARGE_QUOTE_LINES, items.size());
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal tax = BigDecimal.ZERO;
+        for (QuoteItem item : items) {
+            assertNotNull(item.getQuoteItemId(), "Generated item ID");
+            BigDecimal line = item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
+            BigDecimal discount = line.multiply(item.getDiscountRate()).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            assertEquals(0, discount.compareTo(item.getDiscountAmount()), "Discount of line " + item.getItemOrder());
+            subtotal = subtotal.add(line.subtract(discount));
+            tax = tax.add(item.getTaxAmount());
+            assertEquals(0, line.subtract(discount).add(item.getTaxAmount()).compareTo(item.getTotalAmount()));
+        }
+        assertEquals(0, subtotal.compareTo(quote.getSubtotal()), "Header subtotal");
+        assertEquals(0, tax.compareTo(quote.getTaxAmount()), "Header tax");
+    }
+
+    private long statementsToCreate(int lines) {
+        QuoteCreateRequest request = createRequest(lines);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        quoteService.createQuote(request);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private QuoteCreateRequest createRequest(int lines) {
+        QuoteCreateRequest request = new QuoteCreateRequest();
+        request.setQuoteNumber("BATCH-" + System.nanoTime() + "-" + quoteNumber++);
+        request.setCustomerId(CUSTOMER_ID);
+        List<QuoteItemRequest> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            QuoteItemRequest item = new QuoteItemRequest();
+            item.setProductId(PRODUCT_IDS.get(i % PRODUCT_IDS.size()));
+            item.setQuantity(1 + i % 7);
+            item.setDiscountRate(i % 4 == 0 ? new BigDecimal("5.00") : BigDecimal.ZERO);
+            items.add(item);
+        }
+        request.setItems(items);
+        return request;
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.sales.Product;
+import com.example.egov.domain.sales.Quote;
+import com.example.egov.domain.sales.QuoteItem;
+import com.example.egov.web.sales.dto.QuoteCreateRequest;
+import com.example.egov.web.sales.dto.QuoteItemRequest;
+import com.example.egov.web.sales.dto.QuoteUpdateRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * How a quote update merges the requested lines into the stored items, against the
+ * seeded products and customer.
+ *
+ * Every test starts from a quote with one line each of PRD001 (quantity 1), PRD002 (2)
+ * and PRD003 (3), and counts the item rows Hibernate updates.
+ */
+@SpringBootTest
+@Transactional
+public class QuoteItemMergeTest {
+
+    private static final List<String> PRODUCT_IDS = List.of("PRD001", "PRD002", "PRD003");
+    private static final String CUSTOMER_ID = "CUS001";
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private String quoteId;
+    private List<QuoteItem> original;
+
+    @BeforeEach
+    public void setup() {
+        // Seed data belongs to SYSTEM
+        TenantContext.setCurrentTenantId(TenantContext.SYSTEM_TENANT_ID);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        QuoteCreateRequest request = new QuoteCreateRequest();
+        request.setQuoteNumber("MERGE-" + System.nanoTime());
+        request.setCustomerId(CUSTOMER_ID);
+        List<QuoteItemRequest> lines = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_IDS.size(); i++) {
+            lines.add(line(null, PRODUCT_IDS.get(i), i + 1));
+        }
+        request.setItems(lines);
+        quoteId = quoteService.createQuote(request).getQuoteId();
+        original = items();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        TenantContext.clear();
+    }
+
+    @Test
+    public void testUnchangedLinesLeftAlone() {
+        long updates = update(List.of(
+                line(original.get(0).getQuoteItemId(), "PRD001", 1),
+                line(original.get(1).getQuoteItemId(), "PRD002", 2),
+                line(original.get(2).getQuoteItemId(), "PRD003", 3)));
+
+        assertEquals(0, updates, "Item updates");
+        assertEquals(ids(original), ids(items()));
+    }
+
+    @Test
+    public void testReusedIdUpdatesOnlyThatLine() {
+        BigDecimal totalBefore = quote().getTotalAmount();
+
+        long updates = update(List.of(
+                line(original.get(0).getQuoteItemId(), "PRD001", 1),
+                line(original.get(1).getQuoteItemId(), "PRD002", 5),
+                line(original.get(2).getQuoteItemId(), "PRD003", 3)));
+
+        List<QuoteItem> items = items();
+        assertEquals(1, updates, "Item updates");
+        assertEquals(ids(original), ids(items));
+        assertEquals(5, items.get(1).getQuantity());
+        assertTrue(quote().getTotalAmount().compareTo(totalBefore) > 0, "Header total re-priced");
+        assertTotals();
+    }
+
+    @Test
+    public void testLinesWithoutIdMatchedByPosition() {
+        long updates = update(List.of(
+                line(null, "PRD001", 1),
+                line(null, "PRD002", 2),
+                line(null, "PRD003", 3)));
+
+        assertEquals(0, updates, "Item updates");
+        assertEquals(ids(original), ids(items()));
+    }
+
+    @Test
+    public void testAppendedLineInserted() {
+        long updates = update(List.of(
+                line(original.get(0).getQuoteItemId(), "PRD001", 1),
+                line(original.get(1).getQuoteItemId(), "PRD002", 2),
+                line(original.get(2).getQuoteItemId(), "PRD003", 3),
+                line(null, "PRD001", 4)));
+
+        List<QuoteItem> items = items();
+        assertEquals(0, updates, "Item updates");
+        assertEquals(4, items.size());
+        assertEquals(ids(original), ids(items.subList(0, 3)));
+        assertNotNull(items.get(3).getQuoteItemId());
+        assertFalse(ids(original).contains(items.get(3).getQuoteItemId()), "New item ID");
+        assertEquals(4, items.get(3).getQuantity());
+        assertEquals(3, items.get(3).getItemOrder());
+        assertTotals();
+    }
+
+    @Test
+    public void testRemovedLineDeleted() {
+        long updates = update(List.of(
+                line(original.get(0).getQuoteItemId(), "PRD001", 1),
+                line(original.get(2).getQuoteItemId(), "PRD003", 3)));
+
+        List<QuoteItem> items = items();
+        assertEquals(List.of(original.get(0).getQuoteItemId(), original.get(2).getQuoteItemId()), ids(items));
+        assertEquals(List.of(0, 1), items.stream().map(QuoteItem::getItemOrder).toList());
+        assertEquals(1, updates, "Item updates (the moved line)");
+        assertEquals(1, statistics.getEntityStatistics(QuoteItem.class.getName()).getDeleteCount(), "Item deletes");
+        assertTotals();
+    }
+
+    @Test
+    public void testReorderingKeepsItems() {
+        long updates = update(List.of(
+                line(original.get(2).getQuoteItemId(), "PRD003", 3),
+                line(original.get(0).getQuoteItemId(), "PRD001", 1),
+                line(original.get(1).getQuoteItemId(), "PRD002", 2)));
+
+        List<QuoteItem> items = items();
+        assertEquals(List.of(original.get(2).getQuoteItemId(), original.get(0).getQuoteItemId(),
+                original.get(1).getQuoteItemId()), ids(items));
+        assertEquals(List.of("PRD003", "PRD001", "PRD002"),
+                items.stream().map(item -> item.getProduct().getProductId()).toList());
+        assertEquals(3, updates, "Item updates (order only)");
+        assertTotals();
+    }
+
+    @Test
+    public void testChangedProductRepricesExistingLine() {
+        Product product = entityManager.find(Product.class, "PRD003");
+
+        long updates = update(List.of(
+                line(original.get(0).getQuoteItemId(), "PRD003", 1),
+                line(original.get(1).getQuoteItemId(), "PRD002", 2),
+                line(original.get(2).getQuoteItemId(), "PRD003", 3)));
+
+        QuoteItem changed = items().get(0);
+        assertEquals(1, updates, "Item updates");
+        assertEquals(original.get(0).getQuoteItemId(), changed.getQuoteItemId());
+        assertEquals("PRD003", changed.getProduct().getProductId());
+        assertEquals(0, product.getUnitPrice().compareTo(changed.getUnitPrice()), "List price of the new product");
+        assertTotals();
+    }
+
+    /**
+     * Apply the lines and flush.
+     *
+     * @return item rows updated
+     */
+    private long update(List<QuoteItemRequest> lines) {
+        QuoteUpdateRequest request = new QuoteUpdateRequest();
+        request.setItems(lines);
+        entityManager.clear();
+        statistics.clear();
+        quoteService.updateQuote(quoteId, request);
+        entityManager.flush();
+        return statistics.getEntityStatistics(QuoteItem.class.getName()).getUpdateCount();
+    }
+
+    /**
+     * Header totals match the stored lines.
+     */
+    private void assertTotals() {
+        Quote quote = quote();
+        BigDecimal total = quote.getQuoteItems().stream()
+                .map(QuoteItem::getTotalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal discount = quote.getDiscountAmount() != null ? quote.getDiscountAmount() : BigDecimal.ZERO;
+        assertEquals(0, total.subtract(discount).compareTo(quote.getTotalAmount()), "Header total");
+    }
+
+    private Quote quote() {
+        entityManager.flush();
+        entityManager.clear();
+        return quoteService.getQuote(quoteId).orElseThrow();
+    }
+
+    /**
+     * Stored items in item order.
+     */
+    private List<QuoteItem> items() {
+        return quote().getQuoteItems().stream()
+                .sorted(Comparator.comparing(QuoteItem::getItemOrder))
+                .toList();
+    }
+
+    private static List<Long> ids(List<QuoteItem> items) {
+        return items.stream().map(QuoteItem::getQuoteItemId).toList();
+    }
+
+    private static QuoteItemRequest line(Long quoteItemId, String productId, int quantity) {
+        QuoteItemRequest line = new QuoteItemRequest();
+        line.setQuoteItemId(quoteItemId);
+        line.setProductId(productId);
+        line.setQuantity(quantity);
+        return line;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.egov.service.sales;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import com.example.egov.domain.sales.Quote;
+import com.example.egov.domain.sales.QuoteItem;
+import com.example.egov.service.common.AsyncJob;
+import com.example.egov.web.sales.dto.QuoteCreateRequest;
+import com.example.egov.web.sales.dto.QuoteItemRequest;
+import com.example.egov.web.sales.dto.QuoteUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An item edit racing a repricing chunk of the same quote.
+ *
+ * The edit only reorders and re-describes the lines, so the quote header stays clean;
+ * the lines must still end up with the repriced values once both have committed.
+ * Not transactional: both sides commit, and the rows are removed afterwards.
+ */
+@SpringBootTest
+public class QuoteRepricingConcurrencyTest {
+
+    private static final String PRODUCT_ID = "PRD_RPC_TEST";
+    private static final BigDecimal OLD_PRICE = new BigDecimal("1000");
+    private static final BigDecimal NEW_PRICE = new BigDecimal("1200");
+    private static final BigDecimal TAX_RATE = new BigDecimal("10");
+
+    @Autowired
+    private QuoteService quoteService;
+
+    @Autowired
+    private QuoteRepricer quoteRepricer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String quoteId;
+
+    @BeforeEach
+    public void setup() {
+        // Seed customer belongs to SYSTEM
+        TenantContext.setCurrentTenantId(TenantContext.SYSTEM_TENANT_ID);
+        jdbcTemplate.update("INSERT INTO PRODUCTS (PRODUCT_ID, PRODUCT_CODE, PRODUCT_NAME, UNIT_PRICE, TAX_RATE, TENANT_ID)"
+                + " VALUES (?, ?, 'Repricing test product', ?, ?, ?)",
+                PRODUCT_ID, PRODUCT_ID, OLD_PRICE, TAX_RATE, TenantContext.SYSTEM_TENANT_ID);
+
+        QuoteCreateRequest request = new QuoteCreateRequest();
+        request.setQuoteNumber("RPC-" + System.nanoTime());
+        request.setCustomerId("CUS001");
+        request.setItems(List.of(line(null, 1, null), line(null, 2, null)));
+        quoteId = quoteService.createQuote(request).getQuoteId();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM QUOTE_ITEMS WHERE QUOTE_ID = ?", quoteId);
+        jdbcTemplate.update("DELETE FROM QUOTES WHERE QUOTE_ID = ?", quoteId);
+        jdbcTemplate.update("DELETE FROM PRODUCTS WHERE PRODUCT_ID = ?", PRODUCT_ID);
+        TenantContext.clear();
+    }
+
+    @Test
+    public void testItemEditDoesNotOverwriteRepricedLines() throws Exception {
+        List<QuoteItem> before = items();
+        QuoteRepricingJob job = new QuoteRepricingJob(TenantContext.SYSTEM_TENANT_ID, PRODUCT_ID,
+                OLD_PRICE, NEW_PRICE, TAX_RATE, TAX_RATE);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> repricing = new TransactionTemplate(transactionManager).execute(status -> {
+                // Reorder and re-describe only: no pricing input changes
+                QuoteUpdateRequest request = new QuoteUpdateRequest();
+                request.setItems(List.of(
+                        line(before.get(1).getQuoteItemId(), 2, "second"),
+                        line(before.get(0).getQuoteItemId(), 1, "first")));
+                quoteService.updateQuote(quoteId, request);
+
+                // The chunk runs while the edit is still open
+                Future<?> chunk = executor.submit(() -> quoteRepricer.reprice(job));
+                assertThrows(TimeoutException.class, () -> chunk.get(500, TimeUnit.MILLISECONDS),
+                        "Repricing waits for the open item edit");
+                return chunk;
+            });
+            repricing.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(AsyncJob.State.COMPLETED, job.getState(), job.getError());
+        assertEquals(2, job.getRepricedItems());
+
+        List<QuoteItem> after = items();
+        assertEquals(List.of(before.get(1).getQuoteItemId(), before.get(0).getQuoteItemId()),
+                after.stream().map(QuoteItem::getQuoteItemId).toList(), "Edit kept");
+        assertEquals(List.of("second", "first"), after.stream().map(QuoteItem::getDescription).toList());
+        BigDecimal total = BigDecimal.ZERO;
+        for (QuoteItem item : after) {
+            assertEquals(0, NEW_PRICE.compareTo(item.getUnitPrice()), "Repriced unit price");
+            BigDecimal expected = NEW_PRICE.multiply(BigDecimal.valueOf(item.getQuantity()))
+                    .multiply(new BigDecimal("1.1"));
+            assertEquals(0, expected.compareTo(item.getTotalAmount()), "Repriced line total");
+            total = total.add(item.getTotalAmount());
+        }
+        assertEquals(0, total.compareTo(quote().getTotalAmount()), "Header total");
+    }
+
+    private Quote quote() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Quote quote = quoteService.getQuote(quoteId).orElseThrow();
+            quote.getQuoteItems().size();
+            return quote;
+        });
+    }
+
+    /**
+     * Stored items in item order.
+     */
+    private List<QuoteItem> items() {
+        return quote().getQuoteItems().stream()
+                .sorted(Comparator.comparing(QuoteItem::getItemOrder))
+                .toList();
+    }
+
+    private static QuoteItemRequest line(Long quoteItemId, int quantity, String description) {
+        QuoteItemRequest line = new QuoteItemRequest();
+        line.setQuoteItemId(quoteItemId);
+        line.setProductId(PRODUCT_ID);
+        line.setQuantity(quantity);
+        line.setDescription(description);
+        return line;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.egov.service.search;
+
+import com.example.egov.config.multitenancy.TenantContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TenantIndexes loading, refresh and change routing, with a set of row IDs as the index
+ * and a map of tenant to rows standing in for the database.
+ */
+public class TenantIndexesTest {
+
+    private final Map<String, Set<String>> database = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testLoadedOnceWithinRefreshInterval() {
+        TenantIndexes<Set<String>> indexes = indexes(Duration.ofHours(1));
+        rows("TENANT_A", "A1");
+
+        assertEquals(Set.of("A1"), indexes.get("TENANT_A"));
+        rows("TENANT_A", "A1", "A2");
+        assertEquals(Set.of("A1"), indexes.get("TENANT_A"), "Write outside this node not seen yet");
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testRebuiltAfterRefreshInterval() {
+        TenantIndexes<Set<String>> indexes = indexes(Duration.ZERO);
+        rows("TENANT_A", "A1");
+        indexes.get("TENANT_A");
+
+        // Written by another node: no local change event
+        rows("TENANT_A", "A1", "A2");
+        assertEquals(Set.of("A1", "A2"), indexes.get("TENANT_A"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testChangesDuringReloadReplayed() {
+        AtomicReference<TenantIndexes<Set<String>>> self = new AtomicReference<>();
+        TenantIndexes<Set<String>> indexes = new TenantIndexes<>(ConcurrentHashMap::newKeySet, (tenantId, index) -> {
+            index.addAll(database.getOrDefault(tenantId, Set.of()));
+            if (loads.incrementAndGet() == 2) {
+                // Committed after the reload read the rows
+                self.get().update("TENANT_A", set -> set.add("A2"));
+            }
+        }, Duration.ZERO);
+        self.set(indexes);
+        rows("TENANT_A", "A1");
+
+        Set<String> first = indexes.get("TENANT_A");
+        Set<String> reloaded = indexes.get("TENANT_A");
+        assertTrue(reloaded.contains("A2"), "Queued change replayed onto the rebuilt index");
+        assertTrue(first.contains("A2"), "Change also applied to the index being replaced");
+    }
+
+    @Test
+    public void testFailedRefreshKeepsCurrentIndex() {
+        TenantIndexes<Set<String>> indexes = new TenantIndexes<>(ConcurrentHashMap::newKeySet, (tenantId, index) -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            index.add("A1");
+        }, Duration.ZERO);
+
+        Set<String> loaded = indexes.get("TENANT_A");
+        assertSame(loaded, indexes.get("TENANT_A"));
+        indexes.update("TENANT_A", set -> set.add("A2"));
+        assertEquals(Set.of("A1", "A2"), indexes.get("TENANT_A"), "Changes still applied after a failed refresh");
+    }
+
+    @Test
+    public void testFailedFirstLoadRetried() {
+        TenantIndexes<Set<String>> indexes = new TenantIndexes<>(ConcurrentHashMap::newKeySet, (tenantId, index) -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            index.add("A1");
+        }, Duration.ofHours(1));
+
+        assertThrows(IllegalStateException.class, () -> indexes.get("TENANT_A"));
+        assertEquals(Set.of("A1"), indexes.get("TENANT_A"));
+    }
+
+    @Test
+    public void testChangesRoutedToTenantAndSystemIndexes() {
+        TenantIndexes<Set<String>> indexes = indexes(Duration.ofHours(1));
+        Set<String> a = indexes.get("TENANT_A");
+        Set<String> b = indexes.get("TENANT_B");
+        Set<String> system = indexes.get(TenantContext.SYSTEM_TENANT_ID);
+
+        indexes.update("TENANT_A", set -> set.add("A1"));
+        assertEquals(Set.of("A1"), a);
+        assertEquals(Set.of(), b);
+        assertEquals(Set.of("A1"), system);
+
+        indexes.update(TenantContext.SYSTEM_TENANT_ID, set -> set.add("S1"));
+        assertTrue(a.contains("S1") && b.contains("S1") && system.contains("S1"), "SYSTEM rows reach every index");
+    }
+
+    private TenantIndexes<Set<String>> indexes(Duration refreshInterval) {
+        return new TenantIndexes<>(ConcurrentHashMap::newKeySet, (tenantId, index) -> {
+            loads.incrementAndGet();
+            index.addAll(database.getOrDefault(tenantId, Set.of()));
+        }, refreshInterval);
+    }
+
+    private void rows(String tenantId, String... ids) {
+        database.put(tenantId, Set.of(ids));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.egov.support;
+
+import java.util.Locale;
+
+/**
+ * Timing helper for the opt-in benchmarks.
+ *
+ * - Classes tagged @Tag(Benchmark.TAG) are excluded from the test task and run with
+ *   ./gradlew benchmark
+ * - Benchmarks print a before/after report and never assert on timings; their results
+ *   depend on the machine and are read, not gated on
+ */
+public final class Benchmark {
+
+    public static final String TAG = "benchmark";
+
+    private Benchmark() {
+    }
+
+    /**
+     * Run the task warmupRuns times, then time measuredRuns runs.
+     *
+     * @return nanoseconds per run
+     */
+    public static double nanosPerRun(int warmupRuns, int measuredRuns, Runnable task) {
+        for (int i = 0; i < warmupRuns; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < measuredRuns; i++) {
+            task.run();
+        }
+        return (double) (System.nanoTime() - start) / measuredRuns;
+    }
+
+    /**
+     * Print one report line for a cost, e.g. "Tenant filter per call: before=120.0 ns, after=3.5 ns (34.3x)".
+     */
+    public static void report(String name, double before, double after, String unit) {
+        print(name, before, after, unit, before / after);
+    }
+
+    /**
+     * Print one report line for a rate (higher is better), e.g. "IDs: before=1.0 ids/s, after=4.0 ids/s (4.0x)".
+     */
+    public static void reportThroughput(String name, double before, double after, String unit) {
+        print(name, before, after, unit, after / before);
+    }
+
+    private static void print(String name, double before, double after, String unit, double speedup) {
+        System.out.println(String.format(Locale.ROOT, "[benchmark] %s: before=%.1f %s, after=%.1f %s (%.1fx)",
+                name, before, unit, after, unit, speedup));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.egov.web.sales;
+
+import com.example.egov.config.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Rejected filters on POST /api/v1/opportunities/query come back as 400 with the
+ * FilterCompiler message (see FilterCompilerTest for the rules themselves).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OpportunityQueryFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    public void testValidFilter() throws Exception {
+        query("""
+                {"filter": {"and": [{"field": "stageId", "op": "in", "values": ["STG001", "STG002"]},
+                                    {"field": "expectedCloseDate", "op": "range", "from": "2025-01-01"}]}}""")
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testInvalidValueIsBadRequest() throws Exception {
+        query("""
+                {"filter": {"field": "expectedCloseDate", "op": "range", "from": "2025-13-01"}}""")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value for filter field expectedCloseDate: 2025-13-01"));
+    }
+
+    @Test
+    public void testUnsupportedFieldIsBadRequest() throws Exception {
+        query("""
+                {"filter": {"field": "description", "value": "x"}}""")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported filter field: description"));
+    }
+
+    private ResultActions query(String body) throws Exception {
+        String token = jwtTokenProvider.createAccessToken("SYS_USER001", "SYS_USER001", "SYSTEM",
+                List.of(new SimpleGrantedAuthority("ROLE_SUPER_ADMIN")));
+        return mockMvc.perform(post("/api/v1/opportunities/query")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}